@@ -2,6 +2,9 @@ package com.skapp.community.common.component;
 
 import com.skapp.community.common.constant.AuthConstants;
 import com.skapp.community.common.service.JwtService;
+import com.skapp.community.common.service.UserDetailsCacheService;
+import com.skapp.community.common.service.UserVersionService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -32,6 +35,10 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
 	private final UserDetailsService userDetailsService;
 
+	private final UserDetailsCacheService userDetailsCacheService;
+
+	private final UserVersionService userVersionService;
+
 	private final ProfileActivator profileActivator;
 
 	@Override
@@ -54,19 +61,20 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 		}
 
 		accessToken = authHeader.substring(7);
-		if (jwtService.isRefreshToken(accessToken)) {
+		Claims claims = jwtService.extractAllClaims(accessToken);
+		if (jwtService.isRefreshToken(claims)) {
 			response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
 			return;
 		}
 
-		userEmail = jwtService.extractUserEmail(accessToken);
-		Long userId = jwtService.extractUserId(accessToken);
+		userEmail = claims.getSubject();
+		Long userId = claims.get(AuthConstants.USER_ID, Long.class);
 
-		jwtService.checkVersionMismatch(userId, accessToken);
+		jwtService.checkVersionMismatch(userId, claims);
 
 		if (StringUtils.isNotEmpty(userEmail) && SecurityContextHolder.getContext().getAuthentication() == null) {
-			UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
-			if (jwtService.isTokenValid(accessToken, userDetails)) {
+			UserDetails userDetails = loadUserDetails(userId, userEmail);
+			if (jwtService.isTokenValid(claims, userDetails)) {
 				SecurityContext context = SecurityContextHolder.createEmptyContext();
 				UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails,
 						userId, userDetails.getAuthorities());
@@ -80,4 +88,13 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 		log.info("doFilterInternal: execution ended");
 	}
 
+	private UserDetails loadUserDetails(Long userId, String userEmail) {
+		if (userId == null) {
+			return userDetailsService.loadUserByUsername(userEmail);
+		}
+
+		return userDetailsCacheService.getUserDetails(userId, userVersionService.getUserVersion(userId), userEmail,
+				() -> userDetailsService.loadUserByUsername(userEmail));
+	}
+
 }
@@ -0,0 +1,268 @@
+package com.skapp.community.common.component;
+
+import com.skapp.community.common.model.Notification;
+import com.skapp.community.common.service.BulkContextService;
+import com.skapp.community.common.service.PushNotificationService;
+import com.skapp.community.common.type.NotificationType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Persists notifications and pushes them to connected users from a single background
+ * worker. Notifications are queued by the caller, written with one JDBC batch insert per
+ * flush and pushed grouped by user, so a bulk action that notifies many employees does
+ * not issue one insert and one socket write per notification. A flush that fails to save
+ * is retried with a backoff before its notifications are given up. When the queue is full
+ * the caller flushes its own notification, which slows producers down instead of dropping
+ * notifications. Queued notifications are drained on shutdown.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationPipeline {
+
+	private static final int QUEUE_CAPACITY = 10_000;
+
+	private static final int MAX_BATCH_SIZE = 500;
+
+	private static final long POLL_TIMEOUT_MILLIS = 200;
+
+	private static final long SHUTDOWN_TIMEOUT_MILLIS = 30_000;
+
+	private static final int MAX_SAVE_ATTEMPTS = 3;
+
+	private static final long SAVE_RETRY_BACKOFF_MILLIS = 500;
+
+	private static final String INSERT_NOTIFICATION_SQL = "INSERT INTO notification (created_by, created_date, "
+			+ "last_modified_by, last_modified_date, body, is_viewed, is_type_viewed, notification_type, resource_id, "
+			+ "employee_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final PlatformTransactionManager transactionManager;
+
+	private final PushNotificationService pushNotificationService;
+
+	private final BulkContextService bulkContextService;
+
+	private final BlockingQueue<PendingNotification> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+	private final LongAdder flushedNotifications = new LongAdder();
+
+	private final LongAdder flushCount = new LongAdder();
+
+	private final LongAdder flushNanos = new LongAdder();
+
+	private volatile boolean running;
+
+	private Thread worker;
+
+	@PostConstruct
+	public void start() {
+		running = true;
+		worker = new Thread(this::processQueue, "Notification-Pipeline");
+		worker.setDaemon(true);
+		worker.start();
+	}
+
+	@PreDestroy
+	public void stop() {
+		running = false;
+		try {
+			worker.join(SHUTDOWN_TIMEOUT_MILLIS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		if (!queue.isEmpty()) {
+			log.warn("stop: {} notifications left in the queue after shutdown timeout", queue.size());
+		}
+	}
+
+	public void enqueue(PendingNotification pendingNotification) {
+		if (!running || !queue.offer(pendingNotification)) {
+			log.warn("enqueue: notification queue is full, flushing on the caller thread");
+			String callerContext = bulkContextService.getContext();
+			try {
+				flush(List.of(pendingNotification));
+			}
+			finally {
+				bulkContextService.setContext(callerContext);
+			}
+		}
+	}
+
+	public int getQueueDepth() {
+		return queue.size();
+	}
+
+	public long getFlushedNotifications() {
+		return flushedNotifications.sum();
+	}
+
+	public double getAverageBatchSize() {
+		long flushes = flushCount.sum();
+		return flushes == 0 ? 0 : (double) flushedNotifications.sum() / flushes;
+	}
+
+	public double getAverageFlushMillis() {
+		long flushes = flushCount.sum();
+		return flushes == 0 ? 0 : flushNanos.sum() / 1_000_000.0 / flushes;
+	}
+
+	private void processQueue() {
+		List<PendingNotification> batch = new ArrayList<>(MAX_BATCH_SIZE);
+		while (running || !queue.isEmpty()) {
+			try {
+				PendingNotification first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+
+				batch.add(first);
+				queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+				flush(batch);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			catch (Exception e) {
+				log.error("processQueue: failed to flush {} notifications", batch.size(), e);
+			}
+			finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private void flush(List<PendingNotification> batch) {
+		long startTime = System.nanoTime();
+
+		Map<String, List<PendingNotification>> batchesByContext = batch.stream()
+			.collect(Collectors.groupingBy(notification -> Objects.toString(notification.context(), ""),
+					LinkedHashMap::new, Collectors.toList()));
+
+		for (List<PendingNotification> contextBatch : batchesByContext.values()) {
+			bulkContextService.setContext(contextBatch.getFirst().context());
+
+			if (saveNotifications(contextBatch)) {
+				pushNotifications(contextBatch);
+			}
+		}
+
+		long elapsed = System.nanoTime() - startTime;
+		flushedNotifications.add(batch.size());
+		flushCount.increment();
+		flushNanos.add(elapsed);
+		log.debug("flush: notifications={}, queueDepth={}, flushMillis={}", batch.size(), queue.size(),
+				elapsed / 1_000_000);
+	}
+
+	private boolean saveNotifications(List<PendingNotification> notifications) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		for (int attempt = 1; attempt <= MAX_SAVE_ATTEMPTS; attempt++) {
+			try {
+				transactionTemplate.executeWithoutResult(status -> insertNotifications(notifications));
+				return true;
+			}
+			catch (Exception e) {
+				if (attempt == MAX_SAVE_ATTEMPTS) {
+					log.error("saveNotifications: dropping {} notifications after {} attempts", notifications.size(),
+							attempt, e);
+					return false;
+				}
+
+				log.warn("saveNotifications: attempt {} to save {} notifications failed, retrying: {}", attempt,
+						notifications.size(), e.getMessage());
+				try {
+					Thread.sleep(SAVE_RETRY_BACKOFF_MILLIS * attempt);
+				}
+				catch (InterruptedException interruptedException) {
+					Thread.currentThread().interrupt();
+					log.error("saveNotifications: interrupted, dropping {} notifications", notifications.size());
+					return false;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Writes the rows with one JDBC batch, because IDENTITY ids keep Hibernate from
+	 * batching entity inserts. JPA auditing does not run for these rows, so the audit
+	 * columns are set here: the dates from the same system clock the auditing uses and
+	 * the auditor recorded on the request thread, as the worker has no security context.
+	 */
+	private void insertNotifications(List<PendingNotification> notifications) {
+		Timestamp createdDate = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.batchUpdate(INSERT_NOTIFICATION_SQL, notifications, notifications.size(), (ps, notification) -> {
+			ps.setString(1, notification.createdBy());
+			ps.setTimestamp(2, createdDate);
+			ps.setString(3, notification.createdBy());
+			ps.setTimestamp(4, createdDate);
+			ps.setString(5, notification.body());
+			ps.setBoolean(6, false);
+			ps.setBoolean(7, false);
+			ps.setString(8, notification.notificationType() != null ? notification.notificationType().name() : null);
+			ps.setString(9, notification.resourceId());
+			if (notification.employeeId() != null) {
+				ps.setLong(10, notification.employeeId());
+			}
+			else {
+				ps.setNull(10, Types.BIGINT);
+			}
+		});
+	}
+
+	private void pushNotifications(List<PendingNotification> notifications) {
+		Map<Long, List<Notification>> notificationsByUser = new LinkedHashMap<>();
+		for (PendingNotification pendingNotification : notifications) {
+			if (pendingNotification.employeeId() == null) {
+				continue;
+			}
+
+			Notification notification = new Notification();
+			notification.setBody(pendingNotification.body());
+			notification.setNotificationType(pendingNotification.notificationType());
+			notification.setResourceId(pendingNotification.resourceId());
+			notificationsByUser.computeIfAbsent(pendingNotification.employeeId(), id -> new ArrayList<>())
+				.add(notification);
+		}
+
+		notificationsByUser.forEach((userId, userNotifications) -> {
+			try {
+				pushNotificationService.sendNotifications(userId, userNotifications);
+			}
+			catch (Exception e) {
+				log.error("pushNotifications: unable to push notifications to user {}", userId, e);
+			}
+		});
+	}
+
+	public record PendingNotification(String context, Long employeeId, String resourceId, String body,
+			NotificationType notificationType, String createdBy) {
+	}
+
+}
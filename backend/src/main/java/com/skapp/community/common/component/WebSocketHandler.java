@@ -11,6 +11,7 @@ import org.springframework.web.socket.handler.TextWebSocketHandler;
 
 import java.io.IOException;
 import java.security.Principal;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
@@ -55,13 +56,30 @@ public class WebSocketHandler extends TextWebSocketHandler {
 	}
 
 	public void sendNotificationToUser(String userId, String message) {
+		sendNotificationsToUser(userId, List.of(message));
+	}
+
+	/**
+	 * Writes all messages to the user's session in one go. Sessions do not allow
+	 * concurrent sends, so writes are serialized on the session.
+	 * @param userId The user to notify.
+	 * @param messages The messages to send, in order.
+	 */
+	public void sendNotificationsToUser(String userId, List<String> messages) {
 		WebSocketSession session = sessions.get(userId);
-		if (session != null && session.isOpen()) {
-			try {
-				session.sendMessage(new TextMessage(message));
-			}
-			catch (IOException e) {
-				log.error("sendNotificationToUser: Unable to send the message: {}", e.getMessage());
+		if (session == null || !session.isOpen()) {
+			return;
+		}
+
+		synchronized (session) {
+			for (String message : messages) {
+				try {
+					session.sendMessage(new TextMessage(message));
+				}
+				catch (IOException e) {
+					log.error("sendNotificationsToUser: Unable to send the message: {}", e.getMessage());
+					return;
+				}
 			}
 		}
 	}
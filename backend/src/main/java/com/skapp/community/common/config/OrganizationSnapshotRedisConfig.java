@@ -0,0 +1,34 @@
+package com.skapp.community.common.config;
+
+import com.skapp.community.common.constant.CommonConstants;
+import com.skapp.community.common.service.OrganizationSnapshotService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Subscribes to organization snapshot invalidations published by other nodes, so every
+ * node drops its snapshot after a configuration change made on any node.
+ */
+@Configuration
+@ConditionalOnProperty(name = "organization.snapshot.redis-invalidation.enabled", havingValue = "true")
+public class OrganizationSnapshotRedisConfig {
+
+	@Bean
+	public RedisMessageListenerContainer organizationSnapshotListenerContainer(
+			RedisConnectionFactory redisConnectionFactory, OrganizationSnapshotService organizationSnapshotService) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		container.addMessageListener(
+				(message, pattern) -> organizationSnapshotService
+					.evictOrganizationSnapshot(new String(message.getBody(), StandardCharsets.UTF_8)),
+				new ChannelTopic(CommonConstants.ORGANIZATION_SNAPSHOT_INVALIDATION_CHANNEL));
+		return container;
+	}
+
+}
@@ -23,6 +23,12 @@ public class FileConfigConstants {
 
 	public static final long FILE_UPLOAD_LIMIT_IN_PERCENTAGE = 10L;
 
+	public static final String FILE_ENCRYPTION_TEMP_SUFFIX = ".enc.tmp";
+
+	public static final String FILE_THUMBNAIL_STAGING_SUFFIX = ".staging";
+
+	public static final long FILE_STORAGE_RECONCILE_INTERVAL_MINUTES = 15L;
+
 	public static final List<String> SUPPORTED_FORMATS = List.of("jpg", "jpeg", "png", "gif", "bmp");
 
 }
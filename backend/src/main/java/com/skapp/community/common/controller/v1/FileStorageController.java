@@ -7,6 +7,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -41,9 +43,10 @@ public class FileStorageController {
 	@Operation(summary = "Download a file", description = "Fetches a file by its name and type.")
 	@GetMapping(produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
 	public ResponseEntity<Resource> getFile(@RequestParam("type") FileType type,
-			@RequestParam("filename") String filename, @RequestParam("isThumbnail") boolean isThumbnail) {
+			@RequestParam("filename") String filename, @RequestParam("isThumbnail") boolean isThumbnail,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
-		return fileStorageService.getFile(filename, type, isThumbnail);
+		return fileStorageService.getFile(filename, type, isThumbnail, ifNoneMatch);
 	}
 
 	@Operation(summary = "File storage availability", description = "Returns the available disk storage")
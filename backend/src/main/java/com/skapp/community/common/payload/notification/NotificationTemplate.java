@@ -0,0 +1,15 @@
+package com.skapp.community.common.payload.notification;
+
+import com.skapp.community.common.util.CompiledEmailTemplate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class NotificationTemplate {
+
+	private final CompiledEmailTemplate title;
+
+	private final CompiledEmailTemplate message;
+
+}
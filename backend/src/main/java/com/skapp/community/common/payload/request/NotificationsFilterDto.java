@@ -22,4 +22,10 @@ public class NotificationsFilterDto {
 
 	private NotificationSort sortKey = NotificationSort.CREATED_DATE;
 
+	/**
+	 * Id of the last notification the client has loaded. When set, the next notifications
+	 * are read with keyset pagination ordered by id and {@code page} is ignored.
+	 */
+	private Long lastNotificationId;
+
 }
@@ -0,0 +1,18 @@
+package com.skapp.community.common.payload.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FolderStorageUsageResponseDto {
+
+	private long usedBytes;
+
+	private long fileCount;
+
+}
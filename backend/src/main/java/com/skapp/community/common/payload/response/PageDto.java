@@ -15,6 +15,8 @@ public class PageDto {
 
 	private int totalPages;
 
+	private boolean hasNextPage;
+
 	public PageDto() {
 		this.currentPage = 0;
 		this.totalItems = 0L;
@@ -0,0 +1,16 @@
+package com.skapp.community.common.payload.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Map;
+
+@Getter
+@Setter
+public class StorageAvailabilityResponseDto {
+
+	private Long availableSpace;
+
+	private Map<String, FolderStorageUsageResponseDto> folders;
+
+}
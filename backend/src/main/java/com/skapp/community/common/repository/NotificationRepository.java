@@ -6,6 +6,7 @@ import com.skapp.community.common.payload.response.NotificationTypeCountResponse
 import com.skapp.community.common.type.NotificationType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 
 import java.util.Collection;
@@ -17,6 +18,9 @@ public interface NotificationRepository {
 	Page<Notification> findAllByUserIDAndNotificationFilterDto(Long userId,
 			NotificationsFilterDto notificationsFilterDto, Pageable pageable);
 
+	Slice<Notification> findAllByUserIDAfterLastNotificationId(Long userId,
+			NotificationsFilterDto notificationsFilterDto, Pageable pageable);
+
 	long countUnreadNotificationsByUserId(Long userId);
 
 	List<NotificationTypeCountResponseDto> countNotificationsByTypeForUser(Long userId);
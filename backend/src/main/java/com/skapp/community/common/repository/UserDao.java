@@ -6,6 +6,7 @@ import jakarta.validation.constraints.NotNull;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +15,8 @@ public interface UserDao extends JpaRepository<User, Long> {
 
 	Optional<User> findByEmail(@NotNull @Email String email);
 
+	List<User> findByEmailIn(Collection<String> emails);
+
 	Long countByIsActive(boolean isActive);
 
 	List<User> findAllByIsActiveTrue();
@@ -15,6 +15,7 @@ import com.skapp.community.timeplanner.model.TimeRequest;
 import com.skapp.community.timeplanner.model.TimeRequest_;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.CriteriaUpdate;
 import jakarta.persistence.criteria.Join;
@@ -22,10 +23,12 @@ import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Subquery;
 import com.skapp.community.common.type.NotificationType;
+import com.skapp.community.common.util.PaginationUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.query.QueryUtils;
 import org.springframework.stereotype.Repository;
 
@@ -47,17 +50,7 @@ public class NotificationRepositoryImpl implements NotificationRepository {
 		CriteriaQuery<Notification> criteriaQuery = criteriaBuilder.createQuery(Notification.class);
 		Root<Notification> root = criteriaQuery.from(Notification.class);
 
-		Join<Notification, Employee> notificationEmployeeJoin = root.join(Notification_.EMPLOYEE);
-		Join<Employee, User> userJoin = notificationEmployeeJoin.join(Employee_.user);
-
-		List<Predicate> predicates = new ArrayList<>();
-		predicates.add(criteriaBuilder.equal(userJoin.get(User_.isActive), Boolean.TRUE));
-		predicates.add(criteriaBuilder.equal(userJoin.get(User_.USER_ID), userId));
-
-		if (notificationsFilterDto.getIsViewed() != null) {
-			predicates
-				.add(criteriaBuilder.equal(root.get(Notification_.IS_VIEWED), notificationsFilterDto.getIsViewed()));
-		}
+		List<Predicate> predicates = getNotificationPredicates(criteriaBuilder, root, userId, notificationsFilterDto);
 
 		Predicate[] predicatesArray = new Predicate[predicates.size()];
 		predicates.toArray(predicatesArray);
@@ -65,11 +58,29 @@ public class NotificationRepositoryImpl implements NotificationRepository {
 		criteriaQuery.orderBy(QueryUtils.toOrders(page.getSort(), root, criteriaBuilder));
 
 		TypedQuery<Notification> query = entityManager.createQuery(criteriaQuery);
-		int totalRows = query.getResultList().size();
-		query.setFirstResult(page.getPageNumber() * page.getPageSize());
-		query.setMaxResults(page.getPageSize());
+		return PaginationUtils.getPage(query, page);
+	}
+
+	@Override
+	public Slice<Notification> findAllByUserIDAfterLastNotificationId(Long userId,
+			NotificationsFilterDto notificationsFilterDto, Pageable page) {
+		var criteriaBuilder = entityManager.getCriteriaBuilder();
+
+		CriteriaQuery<Notification> criteriaQuery = criteriaBuilder.createQuery(Notification.class);
+		Root<Notification> root = criteriaQuery.from(Notification.class);
+
+		List<Predicate> predicates = getNotificationPredicates(criteriaBuilder, root, userId, notificationsFilterDto);
+		predicates.add(PaginationUtils.getKeysetPredicate(criteriaBuilder, root.get(Notification_.id),
+				notificationsFilterDto.getLastNotificationId(), notificationsFilterDto.getSortOrder()));
 
-		return new PageImpl<>(query.getResultList(), page, totalRows);
+		Predicate[] predicatesArray = new Predicate[predicates.size()];
+		predicates.toArray(predicatesArray);
+		criteriaQuery.where(predicatesArray);
+		criteriaQuery.orderBy(QueryUtils.toOrders(Sort.by(notificationsFilterDto.getSortOrder(), Notification_.ID),
+				root, criteriaBuilder));
+
+		TypedQuery<Notification> query = entityManager.createQuery(criteriaQuery);
+		return PaginationUtils.getKeysetSlice(query, page);
 	}
 
 	@Override
@@ -177,4 +188,21 @@ public class NotificationRepositoryImpl implements NotificationRepository {
 		return entityManager.createQuery(update).executeUpdate();
 	}
 
+	private List<Predicate> getNotificationPredicates(CriteriaBuilder criteriaBuilder, Root<Notification> root,
+			Long userId, NotificationsFilterDto notificationsFilterDto) {
+		Join<Notification, Employee> notificationEmployeeJoin = root.join(Notification_.EMPLOYEE);
+		Join<Employee, User> userJoin = notificationEmployeeJoin.join(Employee_.user);
+
+		List<Predicate> predicates = new ArrayList<>();
+		predicates.add(criteriaBuilder.equal(userJoin.get(User_.isActive), Boolean.TRUE));
+		predicates.add(criteriaBuilder.equal(userJoin.get(User_.USER_ID), userId));
+
+		if (notificationsFilterDto.getIsViewed() != null) {
+			predicates
+				.add(criteriaBuilder.equal(root.get(Notification_.IS_VIEWED), notificationsFilterDto.getIsViewed()));
+		}
+
+		return predicates;
+	}
+
 }
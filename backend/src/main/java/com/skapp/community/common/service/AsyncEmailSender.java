@@ -6,4 +6,6 @@ public interface AsyncEmailSender {
 
 	void sendMail(String to, String subject, String htmlBody, Map<String, String> placeholders);
 
+	void invalidateMailSender();
+
 }
@@ -0,0 +1,10 @@
+package com.skapp.community.common.service;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+public interface BulkExecutionService {
+
+	<T> void execute(String jobName, Collection<T> items, Consumer<T> task);
+
+}
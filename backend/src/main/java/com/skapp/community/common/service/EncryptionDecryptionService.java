@@ -6,4 +6,10 @@ public interface EncryptionDecryptionService {
 
 	String decrypt(String stringToDecrypt);
 
+	long getEncryptCount();
+
+	long getDecryptCount();
+
+	long getDecryptCacheHitCount();
+
 }
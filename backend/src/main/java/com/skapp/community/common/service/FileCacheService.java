@@ -0,0 +1,20 @@
+package com.skapp.community.common.service;
+
+import com.skapp.community.common.type.FileType;
+import com.skapp.community.common.util.CachedFile;
+
+import java.util.Optional;
+
+public interface FileCacheService {
+
+	Optional<CachedFile> getCachedFile(FileType type, String filename);
+
+	CachedFile cacheFile(FileType type, String filename, byte[] content);
+
+	void evictFile(FileType type, String filename);
+
+	double getHitRatio();
+
+	long getCachedBytes();
+
+}
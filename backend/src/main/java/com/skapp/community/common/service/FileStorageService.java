@@ -14,6 +14,8 @@ public interface FileStorageService {
 
 	ResponseEntity<Resource> getFile(String filename, FileType type, boolean isThumbnail);
 
+	ResponseEntity<Resource> getFile(String filename, FileType type, boolean isThumbnail, String ifNoneMatch);
+
 	ResponseEntityDto getStorageAvailability();
 
 	ResponseEntityDto updateFile(Long id, MultipartFile file, FileType type, String fileToUpdate);
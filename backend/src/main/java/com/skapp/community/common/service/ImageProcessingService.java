@@ -0,0 +1,15 @@
+package com.skapp.community.common.service;
+
+public interface ImageProcessingService {
+
+	void submitThumbnail(String thumbnailName, Runnable thumbnailTask);
+
+	boolean isThumbnailPending(String thumbnailName);
+
+	int getQueueDepth();
+
+	long getProcessedCount();
+
+	double getAverageProcessingMillis();
+
+}
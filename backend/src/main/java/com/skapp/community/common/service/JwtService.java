@@ -18,8 +18,12 @@ public interface JwtService {
 
 	boolean isTokenValid(String token, UserDetails userDetails);
 
+	boolean isTokenValid(Claims claims, UserDetails userDetails);
+
 	boolean isRefreshToken(String refreshToken);
 
+	boolean isRefreshToken(Claims claims);
+
 	boolean isTokenExpired(String token);
 
 	Long extractUserId(String token);
@@ -28,8 +32,12 @@ public interface JwtService {
 
 	<T> T extractClaim(String token, Function<Claims, T> claimsResolvers);
 
+	Claims extractAllClaims(String token);
+
 	void checkVersionMismatch(Long userId, String accessToken);
 
+	void checkVersionMismatch(Long userId, Claims claims);
+
 	long getRefreshTokenMaxAge(UserDetails userDetails);
 
 }
@@ -0,0 +1,16 @@
+package com.skapp.community.common.service;
+
+import com.skapp.community.common.payload.notification.NotificationTemplate;
+import com.skapp.community.common.type.EmailBodyTemplates;
+import com.skapp.community.common.type.NotificationCategory;
+
+public interface NotificationTemplateService {
+
+	NotificationTemplate getNotificationTemplate(String language, NotificationCategory notificationCategory,
+			EmailBodyTemplates emailBodyTemplates);
+
+	String getEnumTranslation(String language, String enumKey, String enumValue);
+
+	void reloadNotificationTemplates();
+
+}
@@ -0,0 +1,13 @@
+package com.skapp.community.common.service;
+
+import com.skapp.community.common.util.OrganizationSnapshot;
+
+public interface OrganizationSnapshotService {
+
+	OrganizationSnapshot getOrganizationSnapshot();
+
+	void invalidateOrganizationSnapshot();
+
+	void evictOrganizationSnapshot(String tenant);
+
+}
@@ -2,8 +2,12 @@ package com.skapp.community.common.service;
 
 import com.skapp.community.common.model.Notification;
 
+import java.util.List;
+
 public interface PushNotificationService {
 
 	void sendNotification(Long userId, Notification notification, String title);
 
+	void sendNotifications(Long userId, List<Notification> notifications);
+
 }
@@ -0,0 +1,21 @@
+package com.skapp.community.common.service;
+
+import com.skapp.community.common.payload.response.FolderStorageUsageResponseDto;
+
+import java.util.Map;
+
+public interface StorageUsageService {
+
+	void recordFileAdded(String folder, long bytes);
+
+	void recordFileRemoved(String folder, long bytes);
+
+	boolean isStorageLimitExceeded();
+
+	long getAvailableSpacePercentage();
+
+	Map<String, FolderStorageUsageResponseDto> getFolderUsages();
+
+	void reconcile();
+
+}
@@ -0,0 +1,18 @@
+package com.skapp.community.common.service;
+
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.function.Supplier;
+
+public interface UserDetailsCacheService {
+
+	UserDetails getUserDetails(Long userId, String userVersion, String username,
+			Supplier<UserDetails> userDetailsLoader);
+
+	void invalidateUserDetails(Long userId);
+
+	long getHitCount();
+
+	long getMissCount();
+
+}
@@ -0,0 +1,11 @@
+package com.skapp.community.common.service;
+
+import com.skapp.community.common.util.WorkingDayCalendar;
+
+public interface WorkingDayCalendarService {
+
+	WorkingDayCalendar getWorkingDayCalendar();
+
+	void invalidateWorkingDayCalendar();
+
+}
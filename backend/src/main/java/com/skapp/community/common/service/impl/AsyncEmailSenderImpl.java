@@ -8,12 +8,12 @@ import com.skapp.community.common.repository.OrganizationConfigDao;
 import com.skapp.community.common.service.AsyncEmailSender;
 import com.skapp.community.common.service.EncryptionDecryptionService;
 import com.skapp.community.common.type.OrganizationConfigType;
+import com.skapp.community.common.util.SmtpTransportPool;
+import jakarta.annotation.PreDestroy;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 import tools.jackson.databind.JsonNode;
@@ -22,38 +22,92 @@ import tools.jackson.databind.json.JsonMapper;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AsyncEmailSenderImpl implements AsyncEmailSender {
 
+	private static final int MAX_IDLE_SMTP_CONNECTIONS = 4;
+
 	private final OrganizationConfigDao organizationConfigDao;
 
 	private final EncryptionDecryptionService encryptionDecryptionService;
 
 	private final JsonMapper objectMapper;
 
+	private final AtomicReference<SmtpTransportPool> smtpTransportPool = new AtomicReference<>();
+
 	@Override
 	public void sendMail(String to, String subject, String htmlBody, Map<String, String> placeholders) {
 		try {
-			JavaMailSender emailSender = createJavaMailSender();
-			MimeMessage mimeMessage = emailSender.createMimeMessage();
-			MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
-			helper.setTo(to);
-			helper.setSubject(subject);
-			helper.setText(htmlBody, true);
-
-			emailSender.send(mimeMessage);
-			log.info("Email sent successfully to {}", to);
-
+			SmtpTransportPool transportPool = getSmtpTransportPool();
+			try {
+				sendMail(transportPool, to, subject, htmlBody);
+			}
+			catch (IllegalStateException e) {
+				if (!transportPool.isClosed()) {
+					throw e;
+				}
+
+				// The email config was replaced while sending, so send on the new pool
+				log.debug("SMTP transport pool closed during send, retrying on a new pool");
+				sendMail(getSmtpTransportPool(), to, subject, htmlBody);
+			}
 		}
 		catch (MessagingException e) {
 			log.error("Error sending email: {}", e.getMessage());
 		}
 	}
 
-	private JavaMailSender createJavaMailSender() {
+	@Override
+	public void invalidateMailSender() {
+		SmtpTransportPool transportPool = smtpTransportPool.getAndSet(null);
+		if (transportPool != null) {
+			transportPool.close();
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		invalidateMailSender();
+	}
+
+	private void sendMail(SmtpTransportPool transportPool, String to, String subject, String htmlBody)
+			throws MessagingException {
+		MimeMessage mimeMessage = transportPool.createMimeMessage();
+		MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+		helper.setTo(to);
+		helper.setSubject(subject);
+		helper.setText(htmlBody, true);
+
+		transportPool.send(mimeMessage);
+		log.info("Email sent successfully to {}", to);
+		log.debug(
+				"SMTP transport stats: messagesSent={}, connectionsOpened={}, connectionsReused={}, "
+						+ "averageSendMillis={}",
+				transportPool.getMessagesSent(), transportPool.getConnectionsOpened(),
+				transportPool.getConnectionsReused(), transportPool.getAverageSendMillis());
+	}
+
+	private SmtpTransportPool getSmtpTransportPool() {
+		SmtpTransportPool transportPool = smtpTransportPool.get();
+		if (transportPool != null) {
+			return transportPool;
+		}
+
+		synchronized (smtpTransportPool) {
+			transportPool = smtpTransportPool.get();
+			if (transportPool == null) {
+				transportPool = createSmtpTransportPool();
+				smtpTransportPool.set(transportPool);
+			}
+			return transportPool;
+		}
+	}
+
+	private SmtpTransportPool createSmtpTransportPool() {
 		Optional<OrganizationConfig> optionalOrganizationConfig = organizationConfigDao
 			.findOrganizationConfigByOrganizationConfigType(OrganizationConfigType.EMAIL_CONFIGS.name());
 
@@ -74,18 +128,14 @@ public class AsyncEmailSenderImpl implements AsyncEmailSender {
 				throw new ModuleException(CommonMessageConstant.COMMON_ERROR_EMAIL_CONFIG_NOT_FOUND);
 			}
 
-			JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
-			mailSender.setHost(emailConfigDto.getEmailServiceProvider());
-			mailSender.setPort(emailConfigDto.getPortNumber());
-			mailSender.setUsername(emailConfigDto.getUsername());
-			mailSender.setPassword(encryptionDecryptionService.decrypt(emailConfigDto.getAppPassword()));
-
-			Properties props = mailSender.getJavaMailProperties();
+			Properties props = new Properties();
 			props.put("mail.smtp.auth", "true");
 			props.put("mail.smtp.starttls.enable", "true");
 			props.put("mail.smtp.ssl.trust", emailConfigDto.getEmailServiceProvider());
 
-			return mailSender;
+			return new SmtpTransportPool(props, emailConfigDto.getEmailServiceProvider(),
+					emailConfigDto.getPortNumber(), emailConfigDto.getUsername(),
+					encryptionDecryptionService.decrypt(emailConfigDto.getAppPassword()), MAX_IDLE_SMTP_CONNECTIONS);
 		}
 		catch (Exception e) {
 			log.error("Error parsing email configuration", e);
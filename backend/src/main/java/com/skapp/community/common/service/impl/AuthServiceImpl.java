@@ -26,7 +26,7 @@ import com.skapp.community.common.payload.response.SignInResponseDto;
 import com.skapp.community.common.repository.OrganizationConfigDao;
 import com.skapp.community.common.repository.UserDao;
 import com.skapp.community.common.service.AuthService;
-import com.skapp.community.common.service.BulkContextService;
+import com.skapp.community.common.service.BulkExecutionService;
 import com.skapp.community.common.service.EncryptionDecryptionService;
 import com.skapp.community.common.service.JwtService;
 import com.skapp.community.common.service.UserService;
@@ -77,10 +77,6 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
@@ -117,7 +113,7 @@ public class AuthServiceImpl implements AuthService {
 
 	private final PlatformTransactionManager transactionManager;
 
-	private final BulkContextService bulkContextService;
+	private final BulkExecutionService bulkExecutionService;
 
 	private final MessageUtil messageUtil;
 
@@ -464,55 +460,28 @@ public class AuthServiceImpl implements AuthService {
 			log.info("sendReInvitation: Deduplicated ids for re-invitation: {}", ids);
 		}
 
-		String currentTenant = bulkContextService.getContext();
-		log.info("sendReInvitation: Current tenant context: {}", currentTenant);
-
-		ExecutorService executorService = Executors.newFixedThreadPool(5);
 		List<ErrorLogDto> bulkRecordErrorLogs = Collections.synchronizedList(new ArrayList<>());
 		ReInvitationSkippedCountDto reInvitationSkippedCountDto = new ReInvitationSkippedCountDto(0);
 		BulkStatusSummaryDto bulkStatusSummary = new BulkStatusSummaryDto();
 
-		List<CompletableFuture<Void>> tasks = new ArrayList<>();
-		List<List<Long>> chunkedIds = CommonModuleUtils.chunkData(reInvitationRequestDto.getIds());
 		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
 
-		for (List<Long> chunkedIdsChunkDtoList : chunkedIds) {
-			for (Long id : chunkedIdsChunkDtoList) {
-				CompletableFuture<Void> task = CompletableFuture.runAsync(() -> {
-					bulkContextService.setContext(currentTenant);
-					try {
-						transactionTemplate.executeWithoutResult(status -> {
-							log.info("sendReInvitation: Processing re-invitation for userId={}", id);
-							validateAndSendReInvitation(id, reInvitationSkippedCountDto, bulkRecordErrorLogs,
-									bulkStatusSummary);
-						});
-					}
-					catch (Exception e) {
-						log.error("sendReInvitation: Exception occurred when saving entitlement for userId={}: {}", id,
-								e.getMessage());
-						List<String> errorMessages = Collections.singletonList(e.getMessage());
-						bulkRecordErrorLogs.add(createErrorLog(id, errorMessages));
-						bulkStatusSummary.incrementFailedCount();
-					}
-				}, executorService);
-				tasks.add(task);
+		bulkExecutionService.execute("sendReInvitation", reInvitationRequestDto.getIds(), id -> {
+			try {
+				transactionTemplate.executeWithoutResult(status -> {
+					log.info("sendReInvitation: Processing re-invitation for userId={}", id);
+					validateAndSendReInvitation(id, reInvitationSkippedCountDto, bulkRecordErrorLogs,
+							bulkStatusSummary);
+				});
 			}
-		}
-
-		CompletableFuture<Void> allTasks = CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0]));
-		allTasks.thenRun(executorService::shutdown);
-		allTasks.join();
-
-		try {
-			if (!executorService.awaitTermination(5, TimeUnit.MINUTES)) {
-				log.error("sendReInvitation: ExecutorService failed to terminate after 5 minutes, shutting down");
-				executorService.shutdownNow();
+			catch (Exception e) {
+				log.error("sendReInvitation: Exception occurred when saving entitlement for userId={}: {}", id,
+						e.getMessage());
+				List<String> errorMessages = Collections.singletonList(e.getMessage());
+				bulkRecordErrorLogs.add(createErrorLog(id, errorMessages));
+				bulkStatusSummary.incrementFailedCount();
 			}
-		}
-		catch (InterruptedException e) {
-			Thread.currentThread().interrupt();
-			log.error("sendReInvitation: Interrupted while waiting for termination of ExecutorService", e);
-		}
+		});
 
 		BulkResponseDto responseDto = new BulkResponseDto();
 		responseDto.setBulkRecordErrorLogs(bulkRecordErrorLogs);
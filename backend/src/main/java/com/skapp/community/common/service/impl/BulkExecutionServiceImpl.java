@@ -0,0 +1,190 @@
+package com.skapp.community.common.service.impl;
+
+import com.skapp.community.common.service.BulkContextService;
+import com.skapp.community.common.service.BulkExecutionService;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs the items of bulk operations on one shared executor. A single concurrency cap
+ * applies across all running jobs, so concurrent bulk uploads cannot exhaust threads or
+ * database connections. The cap is the configured value, lowered to half of the Hikari
+ * pool when the data source is a Hikari pool. {@code execute} returns once every item is
+ * done; a failing item is logged without stopping the others, and job progress is
+ * reported in the logs only.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkExecutionServiceImpl implements BulkExecutionService {
+
+	private static final int PROGRESS_LOG_INTERVAL_PERCENT = 10;
+
+	private final BulkContextService bulkContextService;
+
+	private final DataSource dataSource;
+
+	@Value("${bulk.execution.max-concurrency:6}")
+	private int maxConcurrency;
+
+	@Value("${bulk.execution.virtual-threads:false}")
+	private boolean useVirtualThreads;
+
+	private ExecutorService executorService;
+
+	private Semaphore concurrencyLimit;
+
+	@PostConstruct
+	public void initialize() {
+		int concurrency = Math.max(1, Math.min(maxConcurrency, getConnectionPoolLimit()));
+		concurrencyLimit = new Semaphore(concurrency, true);
+
+		if (useVirtualThreads) {
+			executorService = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("Bulk-Virtual-", 0).factory());
+		}
+		else {
+			AtomicInteger threadCount = new AtomicInteger();
+			ThreadFactory threadFactory = runnable -> {
+				Thread thread = new Thread(runnable, "Bulk-Thread-" + threadCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			};
+			executorService = Executors.newFixedThreadPool(concurrency, threadFactory);
+		}
+
+		log.info("initialize: bulk execution concurrency set to {}, virtual threads: {}", concurrency,
+				useVirtualThreads);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executorService.shutdown();
+	}
+
+	@Override
+	public <T> void execute(String jobName, Collection<T> items, Consumer<T> task) {
+		if (items == null) {
+			items = List.of();
+		}
+
+		BulkJobProgress progress = new BulkJobProgress(UUID.randomUUID().toString(), jobName, items.size());
+		String tenant = bulkContextService.getContext();
+		int logInterval = Math.max(1, items.size() * PROGRESS_LOG_INTERVAL_PERCENT / 100);
+
+		log.info("execute: {} started with {} items, jobId: {}", jobName, items.size(), progress.getJobId());
+
+		List<CompletableFuture<Void>> tasks = new ArrayList<>(items.size());
+		for (T item : items) {
+			tasks.add(CompletableFuture.runAsync(() -> runItem(item, task, tenant, progress, logInterval),
+					executorService));
+		}
+		CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+
+		log.info("execute: {} completed, processed: {}, failed: {}, jobId: {}", jobName, progress.getCompletedCount(),
+				progress.getFailedCount(), progress.getJobId());
+	}
+
+	private <T> void runItem(T item, Consumer<T> task, String tenant, BulkJobProgress progress, int logInterval) {
+		try {
+			concurrencyLimit.acquire();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			progress.incrementFailedCount();
+			progress.incrementCompletedCount();
+			return;
+		}
+
+		try {
+			bulkContextService.setContext(tenant);
+			task.accept(item);
+		}
+		catch (Exception e) {
+			log.error("runItem: unexpected error in {}: {}", progress.getJobName(), e.getMessage());
+			progress.incrementFailedCount();
+		}
+		finally {
+			concurrencyLimit.release();
+		}
+
+		int completed = progress.incrementCompletedCount();
+		if (completed % logInterval == 0) {
+			log.info("runItem: {} progress {}/{}, jobId: {}", progress.getJobName(), completed,
+					progress.getTotalCount(), progress.getJobId());
+		}
+	}
+
+	private int getConnectionPoolLimit() {
+		try {
+			if (dataSource.isWrapperFor(HikariDataSource.class)) {
+				return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize() / 2;
+			}
+		}
+		catch (SQLException e) {
+			log.warn("getConnectionPoolLimit: unable to read the connection pool size: {}", e.getMessage());
+		}
+		return Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Counts the items of one running job for the progress log. Items finish on different
+	 * threads, so the counters are atomic.
+	 */
+	@Getter
+	private static final class BulkJobProgress {
+
+		private final String jobId;
+
+		private final String jobName;
+
+		private final int totalCount;
+
+		private final AtomicInteger completedCount = new AtomicInteger(0);
+
+		private final AtomicInteger failedCount = new AtomicInteger(0);
+
+		private BulkJobProgress(String jobId, String jobName, int totalCount) {
+			this.jobId = jobId;
+			this.jobName = jobName;
+			this.totalCount = totalCount;
+		}
+
+		private int incrementCompletedCount() {
+			return completedCount.incrementAndGet();
+		}
+
+		private void incrementFailedCount() {
+			failedCount.incrementAndGet();
+		}
+
+		private int getCompletedCount() {
+			return completedCount.get();
+		}
+
+		private int getFailedCount() {
+			return failedCount.get();
+		}
+
+	}
+
+}
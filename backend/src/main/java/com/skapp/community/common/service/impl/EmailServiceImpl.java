@@ -6,22 +6,30 @@ import com.skapp.community.common.service.AsyncEmailSender;
 import com.skapp.community.common.service.EmailService;
 import com.skapp.community.common.type.EmailMainTemplates;
 import com.skapp.community.common.type.EmailTemplates;
+import com.skapp.community.common.util.CompiledEmailTemplate;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cglib.beans.BeanMap;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.stereotype.Service;
 import tools.jackson.core.type.TypeReference;
 import tools.jackson.dataformat.yaml.YAMLMapper;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
@@ -30,6 +38,8 @@ public class EmailServiceImpl implements EmailService {
 
 	private static final String EMAIL_LANGUAGE = "en";
 
+	private static final String EMAIL_TEMPLATE_DIRECTORY = "community/templates/email/";
+
 	private final AsyncEmailSender asyncEmailSender;
 
 	private final YAMLMapper yamlMapper = YAMLMapper.builder().build();
@@ -38,6 +48,28 @@ public class EmailServiceImpl implements EmailService {
 
 	protected Map<String, Map<String, Map<String, String>>> enumTranslationsMap;
 
+	private final Map<String, CompiledEmailTemplate> compiledTemplates = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	public void compileEmailTemplates() {
+		try {
+			Resource[] resources = new PathMatchingResourcePatternResolver()
+				.getResources("classpath*:" + EMAIL_TEMPLATE_DIRECTORY + "**/*.html");
+			for (Resource resource : resources) {
+				String url = resource.getURL().toString();
+				String path = url.substring(url.lastIndexOf(EMAIL_TEMPLATE_DIRECTORY));
+				try (InputStream inputStream = resource.getInputStream()) {
+					compiledTemplates.putIfAbsent(path, CompiledEmailTemplate
+						.compile(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)));
+				}
+			}
+			log.info("compileEmailTemplates: compiled {} email templates", compiledTemplates.size());
+		}
+		catch (IOException e) {
+			log.warn("Failed to compile email templates: {}", e.getMessage());
+		}
+	}
+
 	@Override
 	public void testEmailServer(TestEmailServerRequestDto testEmailServerRequestDto) {
 		asyncEmailSender.sendMail(testEmailServerRequestDto.getEmail(), testEmailServerRequestDto.getSubject(),
@@ -220,14 +252,23 @@ public class EmailServiceImpl implements EmailService {
 
 	protected String buildEmailBody(EmailTemplateMetadata templateDetails, String module,
 			Map<String, String> placeholders, EmailTemplates emailMainTemplate) throws IOException {
+		long startTime = System.nanoTime();
+
 		String templatePath = buildTemplatePath(module, templateDetails.getId());
-		String body = replaceValuesToTemplate(templatePath, placeholders);
+		String body = getCompiledTemplate(templatePath).render(placeholders);
 
 		String mainTemplatePath = buildMainTemplatePath(emailMainTemplate);
-		Map<String, String> updatedPlaceholders = new HashMap<>(placeholders);
-		updatedPlaceholders.put("body", body);
+		CompiledEmailTemplate mainTemplate = getCompiledTemplate(mainTemplatePath);
+		String emailBody = mainTemplate.render(key -> {
+			if ("body".equals(key)) {
+				return body;
+			}
+			return placeholders.containsKey(key) ? Objects.toString(placeholders.get(key), "") : null;
+		});
 
-		return replaceValuesToTemplate(mainTemplatePath, updatedPlaceholders);
+		log.debug("buildEmailBody: rendered template {} in {} µs", templateDetails.getId(),
+				(System.nanoTime() - startTime) / 1_000);
+		return emailBody;
 	}
 
 	protected String buildTemplatePath(String module, String templateId) {
@@ -242,21 +283,28 @@ public class EmailServiceImpl implements EmailService {
 
 	protected String findExistingPath(String... paths) {
 		for (String path : paths) {
-			if (new ClassPathResource(path).exists()) {
+			if (compiledTemplates.containsKey(path) || new ClassPathResource(path).exists()) {
 				return path;
 			}
 		}
 		throw new IllegalArgumentException("No valid template found in community or enterprise directories.");
 	}
 
-	private String replaceValuesToTemplate(String templatePath, Map<String, String> placeholders) throws IOException {
-		ClassPathResource resource = new ClassPathResource(templatePath);
-		String templateContent = new String(resource.getInputStream().readAllBytes());
-		for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-			String replacement = entry.getValue() == null ? "" : entry.getValue();
-			templateContent = templateContent.replace("{{" + entry.getKey() + "}}", replacement);
+	private CompiledEmailTemplate getCompiledTemplate(String templatePath) throws IOException {
+		try {
+			return compiledTemplates.computeIfAbsent(templatePath, path -> {
+				try (InputStream inputStream = new ClassPathResource(path).getInputStream()) {
+					return CompiledEmailTemplate
+						.compile(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+				}
+				catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		}
+		catch (UncheckedIOException e) {
+			throw e.getCause();
 		}
-		return templateContent;
 	}
 
 	protected Map<String, String> convertDtoToMap(Object data) {
@@ -1,5 +1,7 @@
 package com.skapp.community.common.service.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.skapp.community.common.constant.CommonMessageConstant;
 import com.skapp.community.common.exception.ModuleException;
 import com.skapp.community.common.service.EncryptionDecryptionService;
@@ -18,7 +20,15 @@ import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.security.SecureRandom;
 import java.util.Base64;
-
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AES-GCM encryption of string values. The AES key is derived from the configured secret
+ * once, and each thread reuses its own cipher instance. Decrypted values are kept in a
+ * bounded cache keyed by the ciphertext, so loading the same rows again does not repeat
+ * the decryption.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -32,13 +42,33 @@ public class EncryptionDecryptionServiceImpl implements EncryptionDecryptionServ
 
 	private static final String SHA_VERSION = "SHA-256";
 
+	private static final long DECRYPTED_CACHE_MAXIMUM_SIZE = 10_000;
+
+	private static final long DECRYPTED_CACHE_EXPIRE_AFTER_ACCESS_MINUTES = 10;
+
 	@Value("${encryptDecryptAlgorithm.secret}")
 	private String encryptSecret;
 
+	private volatile SecretKey secretKey;
+
+	private final ThreadLocal<Cipher> threadCipher = new ThreadLocal<>();
+
+	private final Cache<String, String> decryptedCache = Caffeine.newBuilder()
+		.maximumSize(DECRYPTED_CACHE_MAXIMUM_SIZE)
+		.expireAfterAccess(DECRYPTED_CACHE_EXPIRE_AFTER_ACCESS_MINUTES, TimeUnit.MINUTES)
+		.build();
+
+	private final LongAdder encryptCount = new LongAdder();
+
+	private final LongAdder decryptCount = new LongAdder();
+
+	private final LongAdder decryptCacheHitCount = new LongAdder();
+
 	@Override
 	public String encrypt(String stringToEncrypt) {
 		if (stringToEncrypt == null)
 			return null;
+		encryptCount.increment();
 		try {
 			// 1. Generate a random 12-byte Initialization Vector (IV).
 			// A unique IV per encryption ensures identical plaintexts produce
@@ -47,9 +77,9 @@ public class EncryptionDecryptionServiceImpl implements EncryptionDecryptionServ
 			SECURE_RANDOM.nextBytes(initializationVector);
 
 			// 2. Initialize AES-GCM cipher in ENCRYPT mode using the secret key
-			// and the IV. Internally, the secret key string is hashed with SHA-256
-			// to derive a 256-bit AES key.
-			Cipher cipher = initializeCipher(Cipher.ENCRYPT_MODE, this.encryptSecret, initializationVector);
+			// and the IV. The secret key string is hashed with SHA-256 once to
+			// derive a 256-bit AES key.
+			Cipher cipher = initializeCipher(Cipher.ENCRYPT_MODE, initializationVector);
 
 			// 3. Encrypt the plaintext. AES-GCM appends a 128-bit authentication
 			// tag to the ciphertext, which will be used during decryption to verify
@@ -65,8 +95,12 @@ public class EncryptionDecryptionServiceImpl implements EncryptionDecryptionServ
 				.put(encryptedBytes)
 				.array();
 
-			// 5. Base64-encode the combined bytes into a safe string for DB storage
-			return Base64.getEncoder().encodeToString(encryptedIvAndText);
+			// 5. Base64-encode the combined bytes into a safe string for DB storage.
+			// The value is cached so that reading the row back after saving it does
+			// not decrypt it again.
+			String encryptedString = Base64.getEncoder().encodeToString(encryptedIvAndText);
+			decryptedCache.put(encryptedString, stringToEncrypt);
+			return encryptedString;
 		}
 		catch (Exception exception) {
 			log.error("encrypt: String encryption: {}", exception.getMessage());
@@ -78,6 +112,12 @@ public class EncryptionDecryptionServiceImpl implements EncryptionDecryptionServ
 	public String decrypt(String stringToDecrypt) {
 		if (stringToDecrypt == null)
 			return null;
+		decryptCount.increment();
+		String cachedString = decryptedCache.getIfPresent(stringToDecrypt);
+		if (cachedString != null) {
+			decryptCacheHitCount.increment();
+			return cachedString;
+		}
 		try {
 			// 1. Base64-decode the stored string back into raw bytes.
 			// The result contains: [12-byte IV][ciphertext + 16-byte GCM auth tag]
@@ -93,13 +133,15 @@ public class EncryptionDecryptionServiceImpl implements EncryptionDecryptionServ
 
 			// 3. Initialize AES-GCM cipher in DECRYPT mode with the same secret
 			// key and the extracted IV.
-			Cipher cipher = initializeCipher(Cipher.DECRYPT_MODE, this.encryptSecret, initializationVector);
+			Cipher cipher = initializeCipher(Cipher.DECRYPT_MODE, initializationVector);
 
 			// 4. Decrypt and verify integrity. AES-GCM automatically validates the
 			// authentication tag — if the data was tampered with, this throws an
 			// AEADBadTagException.
 			byte[] decryptedBytes = cipher.doFinal(encryptedBytes);
-			return new String(decryptedBytes, StandardCharsets.UTF_8);
+			String decryptedString = new String(decryptedBytes, StandardCharsets.UTF_8);
+			decryptedCache.put(stringToDecrypt, decryptedString);
+			return decryptedString;
 		}
 		catch (Exception exception) {
 			log.error("decrypt: String decryption: {}", exception.getMessage());
@@ -107,6 +149,34 @@ public class EncryptionDecryptionServiceImpl implements EncryptionDecryptionServ
 		}
 	}
 
+	@Override
+	public long getEncryptCount() {
+		return encryptCount.sum();
+	}
+
+	@Override
+	public long getDecryptCount() {
+		return decryptCount.sum();
+	}
+
+	@Override
+	public long getDecryptCacheHitCount() {
+		return decryptCacheHitCount.sum();
+	}
+
+	/**
+	 * Returns the AES key derived from the configured secret, deriving it on first use.
+	 * @return the AES SecretKey
+	 */
+	private SecretKey getSecretKey() {
+		SecretKey key = secretKey;
+		if (key == null) {
+			key = generateSecureKey(encryptSecret);
+			secretKey = key;
+		}
+		return key;
+	}
+
 	/**
 	 * Generates a SecretKey by hashing the provided secret key string using SHA-256 and
 	 * wrapping the result in an AES SecretKeySpec.
@@ -127,19 +197,22 @@ public class EncryptionDecryptionServiceImpl implements EncryptionDecryptionServ
 	}
 
 	/**
-	 * Initializes and returns a Cipher configured for AES/GCM encryption or decryption.
+	 * Initializes and returns the Cipher of the current thread configured for AES/GCM
+	 * encryption or decryption.
 	 * @param cipherMode the cipher operation mode (e.g., Cipher.ENCRYPT_MODE or
 	 * Cipher.DECRYPT_MODE)
-	 * @param secretKey the raw secret key string used to derive the AES key
 	 * @param initializationVector the IV (nonce) bytes for the GCM parameter spec
 	 * @return the initialized Cipher instance ready for encryption or decryption
 	 * @throws GeneralSecurityException if cipher initialization fails
 	 */
-	private Cipher initializeCipher(int cipherMode, String secretKey, byte[] initializationVector)
-			throws GeneralSecurityException {
-		Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+	private Cipher initializeCipher(int cipherMode, byte[] initializationVector) throws GeneralSecurityException {
+		Cipher cipher = threadCipher.get();
+		if (cipher == null) {
+			cipher = Cipher.getInstance(TRANSFORMATION);
+			threadCipher.set(cipher);
+		}
 		GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(128, initializationVector);
-		cipher.init(cipherMode, generateSecureKey(secretKey), gcmParameterSpec);
+		cipher.init(cipherMode, getSecretKey(), gcmParameterSpec);
 		return cipher;
 	}
 
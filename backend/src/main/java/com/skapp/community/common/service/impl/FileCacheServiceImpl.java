@@ -0,0 +1,88 @@
+package com.skapp.community.common.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skapp.community.common.service.BulkContextService;
+import com.skapp.community.common.service.FileCacheService;
+import com.skapp.community.common.type.FileType;
+import com.skapp.community.common.util.CachedFile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Local cache of decrypted images that are requested often and change rarely, such as
+ * organization logos and profile picture thumbnails. The cache is bounded by the total
+ * number of bytes held, and files larger than a single entry limit are served without
+ * being cached. Stored file names are unique per upload, so an entry only has to be
+ * evicted when its file is deleted.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileCacheServiceImpl implements FileCacheService {
+
+	private static final long MAXIMUM_WEIGHT_BYTES = 32L * 1024 * 1024;
+
+	private static final int MAXIMUM_ENTRY_BYTES = 1024 * 1024;
+
+	private final BulkContextService bulkContextService;
+
+	private final Cache<String, CachedFile> cache = Caffeine.newBuilder()
+		.maximumWeight(MAXIMUM_WEIGHT_BYTES)
+		.weigher((String key, CachedFile cachedFile) -> cachedFile.content().length)
+		.recordStats()
+		.build();
+
+	@Override
+	public Optional<CachedFile> getCachedFile(FileType type, String filename) {
+		return Optional.ofNullable(cache.getIfPresent(getCacheKey(type, filename)));
+	}
+
+	@Override
+	public CachedFile cacheFile(FileType type, String filename, byte[] content) {
+		CachedFile cachedFile = new CachedFile(content, getETag(content));
+		if (content.length <= MAXIMUM_ENTRY_BYTES) {
+			cache.put(getCacheKey(type, filename), cachedFile);
+		}
+
+		return cachedFile;
+	}
+
+	@Override
+	public void evictFile(FileType type, String filename) {
+		cache.invalidate(getCacheKey(type, filename));
+		log.debug("evictFile: cached file evicted: {}", filename);
+	}
+
+	@Override
+	public double getHitRatio() {
+		return cache.stats().hitRate();
+	}
+
+	@Override
+	public long getCachedBytes() {
+		cache.cleanUp();
+		return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L);
+	}
+
+	private String getCacheKey(FileType type, String filename) {
+		return bulkContextService.getContext() + ":" + type.name() + ":" + filename;
+	}
+
+	private String getETag(byte[] content) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+			return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+}
@@ -7,22 +7,32 @@ import com.skapp.community.common.exception.ModuleException;
 import com.skapp.community.common.model.Organization;
 import com.skapp.community.common.model.User;
 import com.skapp.community.common.payload.response.ResponseEntityDto;
+import com.skapp.community.common.payload.response.StorageAvailabilityResponseDto;
 import com.skapp.community.common.repository.OrganizationDao;
+import com.skapp.community.common.service.FileCacheService;
 import com.skapp.community.common.service.FileStorageService;
+import com.skapp.community.common.service.ImageProcessingService;
+import com.skapp.community.common.service.StorageUsageService;
 import com.skapp.community.common.service.UserService;
 import com.skapp.community.common.type.FileType;
+import com.skapp.community.common.util.CachedFile;
 import com.skapp.community.common.util.FileUtil;
 import com.skapp.community.common.util.MessageUtil;
+import com.skapp.community.common.util.SegmentedFileCipher;
 import com.skapp.community.leaveplanner.model.LeaveRequest;
 import com.skapp.community.leaveplanner.model.LeaveRequestAttachment;
 import com.skapp.community.leaveplanner.repository.LeaveRequestDao;
 import com.skapp.community.peopleplanner.model.Employee;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.coobird.thumbnailator.Thumbnails;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -34,21 +44,25 @@ import javax.crypto.NoSuchPaddingException;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
-import java.awt.image.BufferedImage;
+import java.awt.Dimension;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.security.SecureRandom;
-import java.util.HashMap;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -67,7 +81,10 @@ public class FileStorageServiceImpl implements FileStorageService {
 
 	private static final int GCM_TAG_LENGTH = 128;
 
-	private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+	private static final Duration CACHED_FILE_MAX_AGE = Duration.ofHours(1);
+
+	private static final byte[] THUMBNAIL_PLACEHOLDER = Base64.getDecoder()
+		.decode("iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAQAAAC1HAwCAAAAC0lEQVR42mNkYAAAAAYAAjCB0C8AAAAASUVORK5CYII=");
 
 	private final FileStorageConfig fileStorageConfig;
 
@@ -79,9 +96,25 @@ public class FileStorageServiceImpl implements FileStorageService {
 
 	private final UserService userService;
 
+	private final FileCacheService fileCacheService;
+
+	private final ImageProcessingService imageProcessingService;
+
+	private final StorageUsageService storageUsageService;
+
 	@Value("${file.storage.encryption-key}")
 	private String fileStorageEncryptionKey;
 
+	private SecretKey secretKey;
+
+	private SegmentedFileCipher segmentedFileCipher;
+
+	@PostConstruct
+	public void init() {
+		secretKey = generateKey();
+		segmentedFileCipher = new SegmentedFileCipher(secretKey);
+	}
+
 	@Override
 	public ResponseEntityDto uploadFile(MultipartFile file, FileType type) {
 		log.info("uploadFileSingle: execution started");
@@ -99,7 +132,7 @@ public class FileStorageServiceImpl implements FileStorageService {
 				+ FileUtil.getFileExtension(Objects.requireNonNull(file.getOriginalFilename())));
 		File targetFile = targetFilePath.toFile();
 
-		if (checkIfTotalStorageExceeds()) {
+		if (storageUsageService.isStorageLimitExceeded()) {
 			throw new ModuleException(CommonMessageConstant.COMMON_ERROR_NO_ENOUGH_STORAGE);
 		}
 
@@ -107,21 +140,21 @@ public class FileStorageServiceImpl implements FileStorageService {
 
 			file.transferTo(targetFile);
 
-			if (FileConfigConstants.FILE_PROFILE_PIC_PATH.equals(type.label) && isSizeEnough(targetFile)
-					&& FileUtil.isSupportedFormat(file.getOriginalFilename())) {
+			boolean isThumbnailRequired = FileConfigConstants.FILE_PROFILE_PIC_PATH.equals(type.label)
+					&& FileUtil.isSupportedFormat(file.getOriginalFilename()) && isSizeEnough(targetFile);
+
+			encryptFile(targetFile);
+			recordStoredFile(targetFilePath);
 
+			if (isThumbnailRequired) {
 				checkIfFileWithSameNameExists(targetDir,
 						FileUtil.getFileNameWithoutExtension(targetFilePath.getFileName().toString())
 								+ FileConfigConstants.THUMBNAIL_SUFFIX);
 
-				Path thumbnailFilePath = targetDir
-					.resolve(FileUtil.getThumbnailName(targetFilePath.getFileName().toString()));
-				createThumbnail(targetFile, thumbnailFilePath.toFile());
-				encryptFile(thumbnailFilePath.toFile());
+				submitThumbnail(targetFilePath,
+						targetDir.resolve(FileUtil.getThumbnailName(targetFilePath.getFileName().toString())));
 			}
 
-			encryptFile(targetFile);
-
 			String fileUrl = "/" + type + "/" + targetFilePath.getFileName().toString();
 			log.info("File uploading success to the path : {}", targetDir);
 			return new ResponseEntityDto(
@@ -138,6 +171,11 @@ public class FileStorageServiceImpl implements FileStorageService {
 
 	@Override
 	public ResponseEntity<Resource> getFile(String filename, FileType type, boolean isThumbnail) {
+		return getFile(filename, type, isThumbnail, null);
+	}
+
+	@Override
+	public ResponseEntity<Resource> getFile(String filename, FileType type, boolean isThumbnail, String ifNoneMatch) {
 		log.info("getFile: execution started");
 
 		Path targetDir = FileUtil.getTargetDirectory(type.label, fileStorageConfig.getFolders(),
@@ -148,21 +186,50 @@ public class FileStorageServiceImpl implements FileStorageService {
 					new String[] { type.name() });
 		}
 
+		String storedFilename = isThumbnail ? FileUtil.getThumbnailName(filename) : filename;
+		boolean isCacheable = isCacheable(type, isThumbnail);
+		if (isCacheable) {
+			Optional<CachedFile> cachedFile = fileCacheService.getCachedFile(type, storedFilename);
+			if (cachedFile.isPresent()) {
+				log.info("getFile: serving cached file: {}", storedFilename);
+				return getCachedFileResponse(cachedFile.get(), filename, ifNoneMatch);
+			}
+		}
+
 		log.info("Reading file started from the path : {}", targetDir);
-		Path filePath = targetDir.resolve(isThumbnail ? FileUtil.getThumbnailName(filename) : filename);
+		Path filePath = targetDir.resolve(storedFilename);
 		File encryptedFile = filePath.toFile();
 
 		if (!encryptedFile.exists() || !encryptedFile.isFile()) {
+			if (isThumbnail && imageProcessingService.isThumbnailPending(storedFilename)) {
+				log.info("getFile: thumbnail is still being processed: {}", storedFilename);
+				return ResponseEntity.ok()
+					.contentType(MediaType.IMAGE_PNG)
+					.cacheControl(CacheControl.noStore())
+					.body(new ByteArrayResource(THUMBNAIL_PLACEHOLDER));
+			}
+
 			log.error("File does not exist at path: {}", filePath);
 			throw new ModuleException(CommonMessageConstant.COMMON_ERROR_FILE_NOT_EXIST, new String[] { filename });
 		}
 
 		try {
-			byte[] decryptedBytes = decryptFile(encryptedFile);
+			Resource resource;
+			if (SegmentedFileCipher.isSegmented(filePath)) {
+				resource = segmentedFileCipher.getDecryptingResource(filePath, filename);
+			}
+			else {
+				resource = new ByteArrayResource(decryptLegacyFile(encryptedFile));
+			}
 
-			Resource resource = new ByteArrayResource(decryptedBytes);
+			if (isCacheable) {
+				CachedFile cachedFile = fileCacheService.cacheFile(type, storedFilename,
+						resource.getContentAsByteArray());
+				log.info("File successfully decrypted and cached.");
+				return getCachedFileResponse(cachedFile, filename, ifNoneMatch);
+			}
 
-			log.info("File successfully decrypted and ready to be served.");
+			log.info("File successfully opened for decryption and ready to be served.");
 			return ResponseEntity.ok().header("Content-Disposition", "inline; filename=" + filename).body(resource);
 		}
 		catch (Exception e) {
@@ -171,11 +238,51 @@ public class FileStorageServiceImpl implements FileStorageService {
 		}
 	}
 
+	/**
+	 * Organization logos and profile picture thumbnails are small and requested on most
+	 * pages, so they are served from the decrypted file cache.
+	 */
+	private boolean isCacheable(FileType type, boolean isThumbnail) {
+		return type == FileType.ORGANIZATION_LOGOS || (type == FileType.USER_IMAGE && isThumbnail);
+	}
+
+	private ResponseEntity<Resource> getCachedFileResponse(CachedFile cachedFile, String filename, String ifNoneMatch) {
+		CacheControl cacheControl = CacheControl.maxAge(CACHED_FILE_MAX_AGE).cachePrivate();
+		if (isETagMatched(ifNoneMatch, cachedFile.eTag())) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+				.eTag(cachedFile.eTag())
+				.cacheControl(cacheControl)
+				.build();
+		}
+
+		return ResponseEntity.ok()
+			.header("Content-Disposition", "inline; filename=" + filename)
+			.eTag(cachedFile.eTag())
+			.cacheControl(cacheControl)
+			.body(new ByteArrayResource(cachedFile.content()));
+	}
+
+	private boolean isETagMatched(String ifNoneMatch, String eTag) {
+		if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+			return false;
+		}
+
+		for (String requestedETag : ifNoneMatch.split(",")) {
+			String trimmedETag = requestedETag.trim();
+			if (trimmedETag.equals("*") || trimmedETag.equals(eTag) || trimmedETag.equals("W/" + eTag)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
 	@Override
 	public ResponseEntityDto getStorageAvailability() {
-		HashMap<String, Long> map = new HashMap<>();
-		map.put("availableSpace", Math.round((double) getAvailableSpace() / getTotalSpace() * 100));
-		return new ResponseEntityDto(false, map);
+		StorageAvailabilityResponseDto storageAvailabilityResponseDto = new StorageAvailabilityResponseDto();
+		storageAvailabilityResponseDto.setAvailableSpace(storageUsageService.getAvailableSpacePercentage());
+		storageAvailabilityResponseDto.setFolders(storageUsageService.getFolderUsages());
+		return new ResponseEntityDto(false, storageAvailabilityResponseDto);
 	}
 
 	@Override
@@ -202,17 +309,20 @@ public class FileStorageServiceImpl implements FileStorageService {
 					&& user.getEmployee().getEmployeeId().equals(id)) {
 				deletePreviousUserImages(user.getEmployee(), type, fileToUpdate);
 
-				if (checkIfTotalStorageExceeds()) {
+				if (storageUsageService.isStorageLimitExceeded()) {
 					throw new ModuleException(CommonMessageConstant.COMMON_ERROR_NO_ENOUGH_STORAGE);
 				}
 
 				file.transferTo(targetFile);
-				if (isSizeEnough(targetFile) && FileUtil.isSupportedFormat(file.getOriginalFilename())) {
-					Path thumbnailFilePath = targetDir
-						.resolve(FileUtil.getThumbnailName(targetFilePath.getFileName().toString()));
-					createThumbnail(targetFile, thumbnailFilePath.toFile());
-					encryptFile(thumbnailFilePath.toFile());
-					encryptFile(targetFile);
+				boolean isThumbnailRequired = FileUtil.isSupportedFormat(file.getOriginalFilename())
+						&& isSizeEnough(targetFile);
+
+				encryptFile(targetFile);
+				recordStoredFile(targetFilePath);
+
+				if (isThumbnailRequired) {
+					submitThumbnail(targetFilePath,
+							targetDir.resolve(FileUtil.getThumbnailName(targetFilePath.getFileName().toString())));
 				}
 			}
 			else if (FileConfigConstants.FILE_LOGO_PATH.equals(type.label)) {
@@ -220,12 +330,13 @@ public class FileStorageServiceImpl implements FileStorageService {
 				if (organizationOptional.isPresent()) {
 					deletePreviousOrganizationImages(organizationOptional.get(), type, fileToUpdate);
 
-					if (checkIfTotalStorageExceeds()) {
+					if (storageUsageService.isStorageLimitExceeded()) {
 						throw new ModuleException(CommonMessageConstant.COMMON_ERROR_NO_ENOUGH_STORAGE);
 					}
 
 					file.transferTo(targetFile);
 					encryptFile(targetFile);
+					recordStoredFile(targetFilePath);
 				}
 			}
 			else if (FileConfigConstants.FILE_LEAVE_ATTACHMENTS_PATH.equals(type.label)) {
@@ -234,12 +345,13 @@ public class FileStorageServiceImpl implements FileStorageService {
 						&& leaveRequest.get().getEmployee().getEmployeeId().equals(user.getUserId())) {
 					deletePreviousLeaveRequestImages(leaveRequest.get(), type, fileToUpdate);
 
-					if (checkIfTotalStorageExceeds()) {
+					if (storageUsageService.isStorageLimitExceeded()) {
 						throw new ModuleException(CommonMessageConstant.COMMON_ERROR_NO_ENOUGH_STORAGE);
 					}
 
 					file.transferTo(targetFile);
 					encryptFile(targetFile);
+					recordStoredFile(targetFilePath);
 				}
 
 			}
@@ -258,29 +370,27 @@ public class FileStorageServiceImpl implements FileStorageService {
 		}
 	}
 
-	private void encryptFile(File file) throws IOException, NoSuchAlgorithmException, NoSuchPaddingException,
-			InvalidKeyException, IllegalBlockSizeException, BadPaddingException, InvalidAlgorithmParameterException {
-		SecretKey key = generateKey();
-
-		byte[] iv = new byte[GCM_IV_LENGTH];
-		SECURE_RANDOM.nextBytes(iv);
-
-		Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-		GCMParameterSpec gcmSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-		cipher.init(Cipher.ENCRYPT_MODE, key, gcmSpec);
-
-		byte[] inputBytes = readFileToByteArray(file);
-		byte[] encryptedBytes = cipher.doFinal(inputBytes);
+	private void encryptFile(File file) throws IOException, GeneralSecurityException {
+		Path filePath = file.toPath();
+		Path encryptedFilePath = filePath
+			.resolveSibling(filePath.getFileName() + FileConfigConstants.FILE_ENCRYPTION_TEMP_SUFFIX);
 
-		byte[] outputBytes = ByteBuffer.allocate(iv.length + encryptedBytes.length).put(iv).put(encryptedBytes).array();
-
-		writeByteArrayToFile(file, outputBytes);
+		try {
+			segmentedFileCipher.encrypt(filePath, encryptedFilePath);
+			Files.move(encryptedFilePath, filePath, StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		}
+		finally {
+			Files.deleteIfExists(encryptedFilePath);
+		}
 	}
 
-	private byte[] decryptFile(File file) throws IOException, NoSuchAlgorithmException, NoSuchPaddingException,
+	/**
+	 * Decrypts a file written in the single block format used before segmented
+	 * encryption. Such files are read whole, so they stay readable without a migration.
+	 */
+	private byte[] decryptLegacyFile(File file) throws IOException, NoSuchAlgorithmException, NoSuchPaddingException,
 			InvalidKeyException, IllegalBlockSizeException, BadPaddingException, InvalidAlgorithmParameterException {
-		SecretKey key = generateKey();
-
 		byte[] fileBytes = readFileToByteArray(file);
 
 		ByteBuffer byteBuffer = ByteBuffer.wrap(fileBytes);
@@ -291,7 +401,7 @@ public class FileStorageServiceImpl implements FileStorageService {
 
 		Cipher cipher = Cipher.getInstance(TRANSFORMATION);
 		GCMParameterSpec gcmSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-		cipher.init(Cipher.DECRYPT_MODE, key, gcmSpec);
+		cipher.init(Cipher.DECRYPT_MODE, secretKey, gcmSpec);
 
 		return cipher.doFinal(encryptedBytes);
 	}
@@ -315,22 +425,58 @@ public class FileStorageServiceImpl implements FileStorageService {
 		}
 	}
 
-	private void writeByteArrayToFile(File file, byte[] bytes) throws IOException {
-		try (FileOutputStream fos = new FileOutputStream(file)) {
-			fos.write(bytes);
+	/**
+	 * Queues the thumbnail of an encrypted image for the background workers. The image is
+	 * decoded from its encrypted file, and the thumbnail is encrypted in a staging file
+	 * before it is moved into place, so readers never see a partial thumbnail.
+	 */
+	private void submitThumbnail(Path imageFilePath, Path thumbnailFilePath) {
+		String thumbnailName = thumbnailFilePath.getFileName().toString();
+		imageProcessingService.submitThumbnail(thumbnailName, () -> {
+			Path stagingFilePath = thumbnailFilePath
+				.resolveSibling(thumbnailName + FileConfigConstants.FILE_THUMBNAIL_STAGING_SUFFIX);
+			try {
+				try (InputStream imageInputStream = segmentedFileCipher
+					.getDecryptingResource(imageFilePath, imageFilePath.getFileName().toString())
+					.getInputStream(); OutputStream thumbnailOutputStream = Files.newOutputStream(stagingFilePath)) {
+					createThumbnail(imageInputStream, thumbnailOutputStream, FileUtil.getFileExtension(thumbnailName));
+				}
+
+				encryptFile(stagingFilePath.toFile());
+				Files.move(stagingFilePath, thumbnailFilePath, StandardCopyOption.REPLACE_EXISTING,
+						StandardCopyOption.ATOMIC_MOVE);
+				recordStoredFile(thumbnailFilePath);
+			}
+			catch (IOException | GeneralSecurityException e) {
+				log.error("Thumbnail creation failed for the path : {}", thumbnailFilePath, e);
+			}
+			finally {
+				deleteStagingFile(stagingFilePath);
+			}
+		});
+	}
+
+	private void deleteStagingFile(Path stagingFilePath) {
+		try {
+			Files.deleteIfExists(stagingFilePath);
+		}
+		catch (IOException e) {
+			log.error("Error while deleting the staging file: {}", stagingFilePath, e);
 		}
 	}
 
-	private void createThumbnail(File inputImage, File outputThumbnail) throws IOException {
+	private void createThumbnail(InputStream inputImage, OutputStream outputThumbnail, String format)
+			throws IOException {
 		Thumbnails.of(inputImage)
 			.size(FileConfigConstants.THUMBNAIL_WIDTH, FileConfigConstants.THUMBNAIL_HEIGHT)
-			.toFile(outputThumbnail);
+			.outputFormat(format)
+			.toOutputStream(outputThumbnail);
 	}
 
 	private boolean isSizeEnough(File file) throws IOException {
-		BufferedImage img = Thumbnails.of(file).scale(1).asBufferedImage();
-		return img.getWidth() >= FileConfigConstants.THUMBNAIL_WIDTH
-				&& img.getHeight() >= FileConfigConstants.THUMBNAIL_HEIGHT;
+		Dimension dimension = FileUtil.getImageDimensions(file);
+		return dimension != null && dimension.width >= FileConfigConstants.THUMBNAIL_WIDTH
+				&& dimension.height >= FileConfigConstants.THUMBNAIL_HEIGHT;
 	}
 
 	private void checkIfFileWithSameNameExists(Path directoryPath, String targetName) throws IOException {
@@ -357,23 +503,6 @@ public class FileStorageServiceImpl implements FileStorageService {
 		}
 	}
 
-	private boolean checkIfTotalStorageExceeds() {
-		return Math.round((double) getAvailableSpace() / getTotalSpace()
-				* 100) <= FileConfigConstants.FILE_UPLOAD_LIMIT_IN_PERCENTAGE;
-	}
-
-	private long getAvailableSpace() {
-		File file = new File(
-				FileUtil.getStorageDirectory(fileStorageConfig.getBase(), FileUtil.getParentDirectory()).toUri());
-		return file.getUsableSpace();
-	}
-
-	private long getTotalSpace() {
-		File file = new File(
-				FileUtil.getStorageDirectory(fileStorageConfig.getBase(), FileUtil.getParentDirectory()).toUri());
-		return file.getTotalSpace();
-	}
-
 	private void deletePreviousUserImages(Employee employee, FileType fileType, String fileName) throws IOException {
 		if (employee.getAuthPic() != null && employee.getAuthPic().equals(fileName)) {
 			Path targetDir = FileUtil.getTargetDirectory(fileType.label, fileStorageConfig.getFolders(),
@@ -386,6 +515,8 @@ public class FileStorageServiceImpl implements FileStorageService {
 						+ FileConfigConstants.THUMBNAIL_SUFFIX + "."
 						+ FileUtil.getFileExtension(employee.getAuthPic()));
 				deleteAllFiles(imageThumbnail);
+				fileCacheService.evictFile(fileType, fileName);
+				fileCacheService.evictFile(fileType, imageThumbnail.getFileName().toString());
 			}
 		}
 	}
@@ -398,6 +529,7 @@ public class FileStorageServiceImpl implements FileStorageService {
 			assert targetDir != null;
 			Path path = targetDir.resolve(fileName);
 			deleteAllFiles(path);
+			fileCacheService.evictFile(fileType, fileName);
 		}
 	}
 
@@ -418,7 +550,27 @@ public class FileStorageServiceImpl implements FileStorageService {
 	}
 
 	private boolean deleteAllFiles(Path filePath) throws IOException {
-		return Files.deleteIfExists(filePath);
+		long fileSize;
+		try {
+			fileSize = Files.size(filePath);
+		}
+		catch (NoSuchFileException e) {
+			return false;
+		}
+
+		boolean isDeleted = Files.deleteIfExists(filePath);
+		if (isDeleted) {
+			storageUsageService.recordFileRemoved(getStorageFolder(filePath), fileSize);
+		}
+		return isDeleted;
+	}
+
+	private void recordStoredFile(Path filePath) throws IOException {
+		storageUsageService.recordFileAdded(getStorageFolder(filePath), Files.size(filePath));
+	}
+
+	private String getStorageFolder(Path filePath) {
+		return filePath.getParent().getFileName().toString();
 	}
 
 }
@@ -0,0 +1,107 @@
+package com.skapp.community.common.service.impl;
+
+import com.skapp.community.common.service.BulkContextService;
+import com.skapp.community.common.service.ImageProcessingService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Generates image thumbnails on a small pool of background workers so uploads return as
+ * soon as the original image is stored. The queue is bounded, and when it is full the
+ * uploading thread processes the thumbnail itself, which slows uploads down instead of
+ * letting the backlog grow without limit. Thumbnails are reported as pending from
+ * submission until their task finishes, so a placeholder can be served meanwhile.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageProcessingServiceImpl implements ImageProcessingService {
+
+	private static final int WORKER_COUNT = 2;
+
+	private static final int QUEUE_CAPACITY = 200;
+
+	private final BulkContextService bulkContextService;
+
+	private final Set<String> pendingThumbnails = ConcurrentHashMap.newKeySet();
+
+	private final LongAdder processedCount = new LongAdder();
+
+	private final LongAdder processingNanos = new LongAdder();
+
+	private final AtomicInteger workerCount = new AtomicInteger();
+
+	private final ThreadPoolExecutor imageProcessingExecutor = new ThreadPoolExecutor(WORKER_COUNT, WORKER_COUNT, 0L,
+			TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+				Thread thread = new Thread(runnable, "Image-Processing-" + workerCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}, new ThreadPoolExecutor.CallerRunsPolicy());
+
+	@Override
+	public void submitThumbnail(String thumbnailName, Runnable thumbnailTask) {
+		String tenant = bulkContextService.getContext();
+		String pendingKey = getPendingKey(tenant, thumbnailName);
+		long submittedAt = System.nanoTime();
+
+		pendingThumbnails.add(pendingKey);
+		imageProcessingExecutor.execute(() -> {
+			bulkContextService.setContext(tenant);
+			try {
+				thumbnailTask.run();
+			}
+			catch (RuntimeException e) {
+				log.error("submitThumbnail: thumbnail processing failed for: {}", thumbnailName, e);
+			}
+			finally {
+				pendingThumbnails.remove(pendingKey);
+				long elapsedNanos = System.nanoTime() - submittedAt;
+				processingNanos.add(elapsedNanos);
+				processedCount.increment();
+				log.info("submitThumbnail: thumbnail {} processed in {} ms, queue depth: {}", thumbnailName,
+						TimeUnit.NANOSECONDS.toMillis(elapsedNanos), getQueueDepth());
+			}
+		});
+	}
+
+	@Override
+	public boolean isThumbnailPending(String thumbnailName) {
+		return pendingThumbnails.contains(getPendingKey(bulkContextService.getContext(), thumbnailName));
+	}
+
+	@Override
+	public int getQueueDepth() {
+		return imageProcessingExecutor.getQueue().size();
+	}
+
+	@Override
+	public long getProcessedCount() {
+		return processedCount.sum();
+	}
+
+	@Override
+	public double getAverageProcessingMillis() {
+		long count = processedCount.sum();
+		return count == 0 ? 0 : (double) TimeUnit.NANOSECONDS.toMicros(processingNanos.sum()) / 1000 / count;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		imageProcessingExecutor.shutdown();
+	}
+
+	private String getPendingKey(String tenant, String thumbnailName) {
+		return tenant + ":" + thumbnailName;
+	}
+
+}
@@ -9,6 +9,7 @@ import com.skapp.community.common.service.UserVersionService;
 import com.skapp.community.common.type.Role;
 import com.skapp.community.common.type.TokenType;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -49,6 +50,8 @@ public class JwtServiceImpl implements JwtService {
 	@Value("${jwt.refresh-token.short-duration.expiration-time}")
 	private Long jwtShortDurationRefreshTokenExpirationMs;
 
+	private volatile JwtParser jwtParser;
+
 	@Override
 	public String extractUserEmail(String token) {
 		String email = "";
@@ -97,11 +100,21 @@ public class JwtServiceImpl implements JwtService {
 		return (userEmail.equals(userDetails.getUsername())) && !isTokenExpired(token);
 	}
 
+	@Override
+	public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+		return userDetails.getUsername().equals(claims.getSubject()) && !claims.getExpiration().before(new Date());
+	}
+
 	@Override
 	public boolean isRefreshToken(String refreshToken) {
 		return extractTokenType(refreshToken).equals(TokenType.REFRESH.name());
 	}
 
+	@Override
+	public boolean isRefreshToken(Claims claims) {
+		return TokenType.REFRESH.name().equals(claims.get(AuthConstants.TOKEN_TYPE, String.class));
+	}
+
 	@Override
 	public Long extractUserId(String token) {
 		return extractClaim(token, claims -> claims.get(AuthConstants.USER_ID, Long.class));
@@ -147,16 +160,19 @@ public class JwtServiceImpl implements JwtService {
 
 	@Override
 	public void checkVersionMismatch(Long userId, String accessToken) {
-		String systemVersion = extractClaim(accessToken,
-				claims -> claims.get(AuthConstants.SYSTEM_VERSION, String.class));
+		checkVersionMismatch(userId, extractAllClaims(accessToken));
+	}
+
+	@Override
+	public void checkVersionMismatch(Long userId, Claims claims) {
+		String systemVersion = claims.get(AuthConstants.SYSTEM_VERSION, String.class);
 		String latestSystemVersion = systemVersionService.getLatestSystemVersion();
 		if (systemVersion != null && !systemVersion.equals(latestSystemVersion)) {
 			throw new AuthenticationException(CommonMessageConstant.COMMON_ERROR_SYSTEM_VERSION_MISMATCH);
 		}
 
 		if (userId != null) {
-			String userVersion = extractClaim(accessToken,
-					claims -> claims.get(AuthConstants.USER_VERSION, String.class));
+			String userVersion = claims.get(AuthConstants.USER_VERSION, String.class);
 			String latestUserVersion = userVersionService.getUserVersion(userId);
 
 			if (userVersion != null && !userVersion.equals(latestUserVersion)) {
@@ -169,8 +185,25 @@ public class JwtServiceImpl implements JwtService {
 		return extractClaim(token, Claims::getExpiration);
 	}
 
-	private Claims extractAllClaims(String token) {
-		return Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(token).getPayload();
+	/**
+	 * Parses and verifies the token once. Callers that need several claims of the same
+	 * token should use the returned claims instead of calling {@link #extractClaim} per
+	 * claim, as every call verifies the signature again.
+	 * @param token the JWT token to parse
+	 * @return the verified claims of the token
+	 */
+	@Override
+	public Claims extractAllClaims(String token) {
+		return getJwtParser().parseSignedClaims(token).getPayload();
+	}
+
+	private JwtParser getJwtParser() {
+		JwtParser parser = jwtParser;
+		if (parser == null) {
+			parser = Jwts.parser().verifyWith(getSigningKey()).build();
+			jwtParser = parser;
+		}
+		return parser;
 	}
 
 	protected Map<String, Object> createAccessTokenClaims(UserDetails userDetails, Long userId) {
@@ -1,19 +1,23 @@
 package com.skapp.community.common.service.impl;
 
+import com.skapp.community.common.component.AuditorProvider;
+import com.skapp.community.common.component.NotificationPipeline;
 import com.skapp.community.common.constant.CommonConstants;
 import com.skapp.community.common.constant.CommonMessageConstant;
 import com.skapp.community.common.exception.ModuleException;
 import com.skapp.community.common.model.Notification;
 import com.skapp.community.common.model.User;
+import com.skapp.community.common.payload.notification.NotificationTemplate;
 import com.skapp.community.common.payload.request.NotificationsFilterDto;
 import com.skapp.community.common.payload.response.NotificationResponseDto;
 import com.skapp.community.common.payload.response.NotificationTypeCountResponseDto;
 import com.skapp.community.common.payload.response.PageDto;
 import com.skapp.community.common.payload.response.ResponseEntityDto;
 import com.skapp.community.common.repository.NotificationDao;
+import com.skapp.community.common.service.BulkContextService;
 import com.skapp.community.common.service.NotificationService;
+import com.skapp.community.common.service.NotificationTemplateService;
 import com.skapp.community.common.service.OrganizationService;
-import com.skapp.community.common.service.PushNotificationService;
 import com.skapp.community.common.service.UserService;
 import com.skapp.community.common.type.EmailBodyTemplates;
 import com.skapp.community.common.type.NotificationCategory;
@@ -24,19 +28,17 @@ import com.skapp.community.peopleplanner.repository.EmployeeDao;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import tools.jackson.core.type.TypeReference;
-import tools.jackson.databind.JsonNode;
-import tools.jackson.databind.ObjectMapper;
-import tools.jackson.dataformat.yaml.YAMLMapper;
+import tools.jackson.databind.json.JsonMapper;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -64,7 +66,11 @@ public class NotificationServiceImpl implements NotificationService {
 			NotificationType.ESIGN_DOCUMENT_EXPIRED, NotificationType.ESIGN_DOCUMENT_COMPLETED_OWNER,
 			NotificationType.ESIGN_DOCUMENT_DECLINED_OWNER);
 
-	private final PushNotificationService pushNotificationService;
+	private final NotificationPipeline notificationPipeline;
+
+	private final AuditorProvider auditorProvider;
+
+	private final BulkContextService bulkContextService;
 
 	private final NotificationDao notificationDao;
 
@@ -76,32 +82,40 @@ public class NotificationServiceImpl implements NotificationService {
 
 	private final OrganizationService organizationService;
 
+	private final NotificationTemplateService notificationTemplateService;
+
+	private final JsonMapper objectMapper;
+
 	@Override
 	public void createNotification(Employee employee, String resourceId, NotificationType notificationType,
 			EmailBodyTemplates emailBodyTemplates, Object dynamicFields, NotificationCategory notificationCategory) {
 		log.info("createNotification: execution started");
 
 		try {
-			Notification notification = new Notification();
-			notification.setEmployee(employee);
-			notification.setResourceId(resourceId);
-
 			Map<String, String> notificationContent = getNotificationContent(emailBodyTemplates, dynamicFields,
 					notificationCategory);
-			String title = notificationContent.get(CommonConstants.NOTIFICATION_TITLE);
 			String body = notificationContent.get(CommonConstants.NOTIFICATION_MESSAGE);
 
-			notification.setBody(body);
-			notification.setIsViewed(false);
-			notification.setNotificationType(notificationType);
-
-			if (notification.getCreatedBy() == null && employee != null && employee.getEmployeeId() != null) {
-				notification.setCreatedBy(employee.getEmployeeId().toString());
+			Long employeeId = employee != null ? employee.getEmployeeId() : null;
+			String createdBy = auditorProvider.getCurrentAuditor()
+				.orElse(employeeId != null ? employeeId.toString() : null);
+
+			NotificationPipeline.PendingNotification pendingNotification = new NotificationPipeline.PendingNotification(
+					bulkContextService.getContext(), employeeId, resourceId, body, notificationType, createdBy);
+
+			// Queue only once the caller's transaction commits, so notifications of a
+			// rolled back action are never stored or pushed
+			if (TransactionSynchronizationManager.isSynchronizationActive()) {
+				TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+					@Override
+					public void afterCommit() {
+						notificationPipeline.enqueue(pendingNotification);
+					}
+				});
+			}
+			else {
+				notificationPipeline.enqueue(pendingNotification);
 			}
-
-			notificationDao.save(notification);
-
-			pushNotificationService.sendNotification(notification.getEmployee().getEmployeeId(), notification, title);
 		}
 		catch (Exception e) {
 			log.error("createNotification: ", e);
@@ -113,52 +127,27 @@ public class NotificationServiceImpl implements NotificationService {
 
 	private Map<String, String> getNotificationContent(EmailBodyTemplates emailBodyTemplates, Object dynamicFields,
 			NotificationCategory notificationCategory) {
-		Map<String, String> contentMap = getNotificationContentFromNotificationTemplates(emailBodyTemplates,
-				notificationCategory);
+		NotificationTemplate notificationTemplate = notificationTemplateService
+			.getNotificationTemplate(NOTIFICATION_LANGUAGE, notificationCategory, emailBodyTemplates);
 		Map<String, String> placeholders = convertObjectToMap(dynamicFields);
-		Map<String, Map<String, Map<String, String>>> translations = loadEnumTranslations();
-		Map<String, Map<String, String>> languageTranslations = translations.getOrDefault(NOTIFICATION_LANGUAGE,
-				new HashMap<>());
-		Map<String, String> translatedPlaceholders = placeholders.entrySet()
-			.stream()
-			.collect(Collectors.toMap(Map.Entry::getKey, entry -> {
-				String key = entry.getKey();
-				String value = entry.getValue();
-
-				return languageTranslations.containsKey(key) && languageTranslations.get(key).containsKey(value)
-						? languageTranslations.get(key).get(value) : value;
-			}));
+		Map<String, String> translatedPlaceholders = new HashMap<>(placeholders.size());
+		placeholders.forEach((key, value) -> translatedPlaceholders.put(key,
+				notificationTemplateService.getEnumTranslation(NOTIFICATION_LANGUAGE, key, value)));
 
 		Map<String, String> result = new HashMap<>();
-		result.put(CommonConstants.NOTIFICATION_TITLE,
-				replacePlaceholders(contentMap.get(CommonConstants.NOTIFICATION_TITLE), translatedPlaceholders));
+		result.put(CommonConstants.NOTIFICATION_TITLE, notificationTemplate.getTitle().render(translatedPlaceholders));
 		result.put(CommonConstants.NOTIFICATION_MESSAGE,
-				replacePlaceholders(contentMap.get(CommonConstants.NOTIFICATION_MESSAGE), translatedPlaceholders));
+				notificationTemplate.getMessage().render(translatedPlaceholders));
 
 		return result;
 	}
 
-	private String replacePlaceholders(String body, Map<String, String> values) {
-		if (body == null || values == null) {
-			return body;
-		}
-
-		for (Map.Entry<String, String> entry : values.entrySet()) {
-			String placeholder = "{{" + entry.getKey() + "}}";
-			String value = entry.getValue() != null ? entry.getValue() : "";
-			body = body.replace(placeholder, value);
-		}
-
-		return body;
-	}
-
 	private Map<String, String> convertObjectToMap(Object dynamicFields) {
 		if (dynamicFields == null) {
 			return Collections.emptyMap();
 		}
 
 		try {
-			ObjectMapper objectMapper = new ObjectMapper();
 			Map<String, Object> fieldValues = objectMapper.convertValue(dynamicFields, new TypeReference<>() {
 			});
 
@@ -172,63 +161,6 @@ public class NotificationServiceImpl implements NotificationService {
 		}
 	}
 
-	private Map<String, String> getNotificationContentFromNotificationTemplates(EmailBodyTemplates emailBodyTemplates,
-			NotificationCategory notificationCategory) {
-
-		InputStream file;
-		try {
-			file = new ClassPathResource("community/templates/notification/notification-templates.json")
-				.getInputStream();
-		}
-		catch (IOException exception) {
-			log.error("Unable to find notification-templates.json file", exception);
-			throw new ModuleException(CommonMessageConstant.COMMON_ERROR_NOTIFICATION_TEMPLATE_LOADING_FAILED);
-		}
-
-		ObjectMapper objectMapper = new ObjectMapper();
-		JsonNode rootNode = objectMapper.readTree(file);
-
-		JsonNode languageNode = rootNode.path(NOTIFICATION_LANGUAGE);
-
-		if (languageNode.isMissingNode()) {
-			throw new ModuleException(CommonMessageConstant.COMMON_ERROR_FAILED_TO_LOAD_NOTIFICATION_LANGUAGE,
-					new String[] { NOTIFICATION_LANGUAGE });
-		}
-
-		JsonNode category = languageNode.path(notificationCategory.getLabel());
-
-		if (category.isMissingNode() || !category.isArray()) {
-			throw new ModuleException(CommonMessageConstant.COMMON_ERROR_TEMPLATE_NOT_FOUND_FOR_LANGUAGE,
-					new String[] { NOTIFICATION_LANGUAGE });
-		}
-
-		for (JsonNode templateNode : category) {
-			if (templateNode.path("id").asString().equals(emailBodyTemplates.getTemplateId())) {
-				Map<String, String> contentMap = new HashMap<>();
-				contentMap.put("title", templateNode.path("title").asString());
-				contentMap.put("message", templateNode.path("message").asString());
-				log.info("getTemplateFromJson: execution ended");
-				return contentMap;
-			}
-		}
-
-		throw new ModuleException(CommonMessageConstant.COMMON_ERROR_TEMPLATE_ID_NOT_FOUND,
-				new String[] { emailBodyTemplates.getTemplateId() });
-	}
-
-	private Map<String, Map<String, Map<String, String>>> loadEnumTranslations() {
-		YAMLMapper yamlMapper = YAMLMapper.builder().build();
-		try (InputStream inputStream = new ClassPathResource("community/templates/common/enum-translations.yml")
-			.getInputStream()) {
-			return yamlMapper.readValue(inputStream, new TypeReference<>() {
-			});
-		}
-		catch (IOException e) {
-			log.error("Failed to load enum-translations.yml: {}", e.getMessage());
-			return new HashMap<>();
-		}
-	}
-
 	@Override
 	public ResponseEntityDto getAllNotifications(NotificationsFilterDto notificationsFilterDto) {
 		log.info("getAllNotifications: execution started");
@@ -237,6 +169,10 @@ public class NotificationServiceImpl implements NotificationService {
 				Sort.by(notificationsFilterDto.getSortOrder(), notificationsFilterDto.getSortKey().toString()));
 
 		Long userId = userService.getCurrentUser().getUserId();
+		if (notificationsFilterDto.getLastNotificationId() != null) {
+			return getNotificationsAfterLastNotification(userId, notificationsFilterDto);
+		}
+
 		Page<Notification> notificationPage = notificationDao.findAllByUserIDAndNotificationFilterDto(userId,
 				notificationsFilterDto, pageable);
 
@@ -250,6 +186,21 @@ public class NotificationServiceImpl implements NotificationService {
 		return new ResponseEntityDto(false, pageDto);
 	}
 
+	private ResponseEntityDto getNotificationsAfterLastNotification(Long userId,
+			NotificationsFilterDto notificationsFilterDto) {
+		Pageable pageable = PageRequest.of(0, notificationsFilterDto.getSize());
+		Slice<Notification> notificationSlice = notificationDao.findAllByUserIDAfterLastNotificationId(userId,
+				notificationsFilterDto, pageable);
+
+		PageDto pageDto = new PageDto();
+		pageDto.setItems(mapNotifications(notificationSlice.getContent()));
+		pageDto.setTotalItems(null);
+		pageDto.setHasNextPage(notificationSlice.hasNext());
+
+		log.info("getAllNotifications: execution ended");
+		return new ResponseEntityDto(false, pageDto);
+	}
+
 	@Override
 	public ResponseEntityDto markNotificationAsRead(Long id) {
 		log.info("markNotificationAsRead: execution started");
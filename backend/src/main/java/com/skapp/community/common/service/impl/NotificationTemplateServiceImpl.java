@@ -0,0 +1,141 @@
+package com.skapp.community.common.service.impl;
+
+import com.skapp.community.common.constant.CommonMessageConstant;
+import com.skapp.community.common.exception.ModuleException;
+import com.skapp.community.common.payload.notification.NotificationTemplate;
+import com.skapp.community.common.service.NotificationTemplateService;
+import com.skapp.community.common.type.EmailBodyTemplates;
+import com.skapp.community.common.type.NotificationCategory;
+import com.skapp.community.common.util.CompiledEmailTemplate;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.dataformat.yaml.YAMLMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Loads the notification templates and enum translations once and serves them from
+ * immutable maps, so creating a notification does not touch the classpath.
+ */
+@Slf4j
+@Service
+public class NotificationTemplateServiceImpl implements NotificationTemplateService {
+
+	private static final String NOTIFICATION_TEMPLATES_PATH = "community/templates/notification/notification-templates.json";
+
+	private static final String ENUM_TRANSLATIONS_PATH = "community/templates/common/enum-translations.yml";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final YAMLMapper yamlMapper = YAMLMapper.builder().build();
+
+	/**
+	 * Templates keyed by language, category label and template id. Null when the
+	 * templates could not be loaded.
+	 */
+	private volatile Map<String, Map<String, Map<String, NotificationTemplate>>> notificationTemplates;
+
+	/**
+	 * Translations keyed by language, enum key and enum value.
+	 */
+	private volatile Map<String, Map<String, Map<String, String>>> enumTranslations = Map.of();
+
+	@PostConstruct
+	@Override
+	public void reloadNotificationTemplates() {
+		notificationTemplates = loadNotificationTemplates();
+		enumTranslations = loadEnumTranslations();
+		log.info("reloadNotificationTemplates: notification templates loaded");
+	}
+
+	@Override
+	public NotificationTemplate getNotificationTemplate(String language, NotificationCategory notificationCategory,
+			EmailBodyTemplates emailBodyTemplates) {
+		Map<String, Map<String, Map<String, NotificationTemplate>>> templates = notificationTemplates;
+		if (templates == null) {
+			throw new ModuleException(CommonMessageConstant.COMMON_ERROR_NOTIFICATION_TEMPLATE_LOADING_FAILED);
+		}
+
+		Map<String, Map<String, NotificationTemplate>> languageTemplates = templates.get(language);
+		if (languageTemplates == null) {
+			throw new ModuleException(CommonMessageConstant.COMMON_ERROR_FAILED_TO_LOAD_NOTIFICATION_LANGUAGE,
+					new String[] { language });
+		}
+
+		Map<String, NotificationTemplate> categoryTemplates = languageTemplates.get(notificationCategory.getLabel());
+		if (categoryTemplates == null) {
+			throw new ModuleException(CommonMessageConstant.COMMON_ERROR_TEMPLATE_NOT_FOUND_FOR_LANGUAGE,
+					new String[] { language });
+		}
+
+		NotificationTemplate notificationTemplate = categoryTemplates.get(emailBodyTemplates.getTemplateId());
+		if (notificationTemplate == null) {
+			throw new ModuleException(CommonMessageConstant.COMMON_ERROR_TEMPLATE_ID_NOT_FOUND,
+					new String[] { emailBodyTemplates.getTemplateId() });
+		}
+
+		return notificationTemplate;
+	}
+
+	@Override
+	public String getEnumTranslation(String language, String enumKey, String enumValue) {
+		Map<String, String> translations = enumTranslations.getOrDefault(language, Map.of()).get(enumKey);
+		if (translations == null || !translations.containsKey(enumValue)) {
+			return enumValue;
+		}
+		return translations.get(enumValue);
+	}
+
+	private Map<String, Map<String, Map<String, NotificationTemplate>>> loadNotificationTemplates() {
+		try (InputStream inputStream = new ClassPathResource(NOTIFICATION_TEMPLATES_PATH).getInputStream()) {
+			JsonNode rootNode = objectMapper.readTree(inputStream);
+
+			Map<String, Map<String, Map<String, NotificationTemplate>>> templates = new HashMap<>();
+			for (Map.Entry<String, JsonNode> languageEntry : rootNode.properties()) {
+				Map<String, Map<String, NotificationTemplate>> languageTemplates = new HashMap<>();
+				for (Map.Entry<String, JsonNode> categoryEntry : languageEntry.getValue().properties()) {
+					if (!categoryEntry.getValue().isArray()) {
+						continue;
+					}
+
+					Map<String, NotificationTemplate> categoryTemplates = new HashMap<>();
+					for (JsonNode templateNode : categoryEntry.getValue()) {
+						categoryTemplates.putIfAbsent(templateNode.path("id").asString(),
+								new NotificationTemplate(
+										CompiledEmailTemplate.compile(templateNode.path("title").asString()),
+										CompiledEmailTemplate.compile(templateNode.path("message").asString())));
+					}
+					languageTemplates.put(categoryEntry.getKey(), Map.copyOf(categoryTemplates));
+				}
+				templates.put(languageEntry.getKey(), Map.copyOf(languageTemplates));
+			}
+			return Map.copyOf(templates);
+		}
+		catch (IOException exception) {
+			log.error("Unable to find notification-templates.json file", exception);
+			return null;
+		}
+	}
+
+	private Map<String, Map<String, Map<String, String>>> loadEnumTranslations() {
+		try (InputStream inputStream = new ClassPathResource(ENUM_TRANSLATIONS_PATH).getInputStream()) {
+			Map<String, Map<String, Map<String, String>>> translations = yamlMapper.readValue(inputStream,
+					new TypeReference<>() {
+					});
+			return translations == null ? Map.of() : translations;
+		}
+		catch (IOException e) {
+			log.error("Failed to load enum-translations.yml: {}", e.getMessage());
+			return Map.of();
+		}
+	}
+
+}
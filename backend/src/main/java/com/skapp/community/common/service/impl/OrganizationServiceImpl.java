@@ -15,9 +15,12 @@ import com.skapp.community.common.payload.response.OrganizationConfigResponseDto
 import com.skapp.community.common.payload.response.ResponseEntityDto;
 import com.skapp.community.common.repository.OrganizationConfigDao;
 import com.skapp.community.common.repository.OrganizationDao;
+import com.skapp.community.common.service.AsyncEmailSender;
 import com.skapp.community.common.service.EncryptionDecryptionService;
 import com.skapp.community.common.service.OrganizationService;
+import com.skapp.community.common.service.OrganizationSnapshotService;
 import com.skapp.community.common.service.UserService;
+import com.skapp.community.common.service.WorkingDayCalendarService;
 import com.skapp.community.common.type.OrganizationConfigType;
 import com.skapp.community.common.util.MessageUtil;
 import com.skapp.community.leaveplanner.service.LeaveCycleService;
@@ -69,6 +72,12 @@ public class OrganizationServiceImpl implements OrganizationService {
 
 	private final OkrConfigService okrConfigService;
 
+	private final WorkingDayCalendarService workingDayCalendarService;
+
+	private final AsyncEmailSender asyncEmailSender;
+
+	private final OrganizationSnapshotService organizationSnapshotService;
+
 	private static void setOrganizationDetails(UpdateOrganizationRequestDto organizationDto,
 			Organization organization) {
 		if (organizationDto.getOrganizationName() != null && !organizationDto.getOrganizationName().isBlank()) {
@@ -104,6 +113,7 @@ public class OrganizationServiceImpl implements OrganizationService {
 			throw new ModuleException(CommonMessageConstant.COMMON_ERROR_EXCEED_MAX_ORGANIZATION_COUNT);
 
 		organizationDao.save(commonMapper.organizationDtoToOrganization(organizationDto));
+		organizationSnapshotService.invalidateOrganizationSnapshot();
 
 		setDefaultOrganizationConfigs();
 
@@ -141,6 +151,8 @@ public class OrganizationServiceImpl implements OrganizationService {
 
 		organizationConfig.setOrganizationConfigValue(updatedJsonEmailServiceConfigs);
 		organizationConfigDao.save(organizationConfig);
+		organizationSnapshotService.invalidateOrganizationSnapshot();
+		asyncEmailSender.invalidateMailSender();
 
 		log.info("saveEmailServerConfigs: execution ended successfully");
 
@@ -154,18 +166,12 @@ public class OrganizationServiceImpl implements OrganizationService {
 	public EmailServerConfigResponseDto getEmailServiceConfigs() {
 		log.info("getEmailServiceConfigs: execution started");
 
-		Optional<OrganizationConfig> configOptional = organizationConfigDao
-			.findOrganizationConfigByOrganizationConfigType(OrganizationConfigType.EMAIL_CONFIGS.name());
-
-		if (configOptional.isEmpty()) {
+		EmailServerConfigResponseDto emailConfigDto = organizationSnapshotService.getOrganizationSnapshot()
+			.getEmailConfig();
+		if (emailConfigDto == null) {
 			throw new ModuleException(CommonMessageConstant.COMMON_ERROR_EMAIL_CONFIG_NOT_FOUND);
 		}
 
-		String jsonEmailServiceConfigs = configOptional.get().getOrganizationConfigValue();
-
-		EmailServerConfigResponseDto emailConfigDto = objectMapper.readValue(jsonEmailServiceConfigs,
-				EmailServerConfigResponseDto.class);
-
 		emailConfigDto.setAppPassword(encryptionDecryptionService.decrypt(emailConfigDto.getAppPassword()));
 
 		log.info("getEmailServiceConfigs: execution ended successfully");
@@ -192,6 +198,7 @@ public class OrganizationServiceImpl implements OrganizationService {
 			Organization organization = organizationOpt.get();
 			setOrganizationDetails(organizationDto, organization);
 			organizationDao.save(organization);
+			organizationSnapshotService.invalidateOrganizationSnapshot();
 			return new ResponseEntityDto(false, commonMapper.organizationToOrganizationResponseDto(organization));
 		}
 		else {
@@ -214,9 +221,7 @@ public class OrganizationServiceImpl implements OrganizationService {
 
 	@Override
 	public String getOrganizationTimeZone() {
-		return organizationDao.findTopByOrderByOrganizationIdDesc()
-			.map(Organization::getOrganizationTimeZone)
-			.orElse("UTC");
+		return organizationSnapshotService.getOrganizationSnapshot().getOrganizationTimeZone();
 	}
 
 	public void getDefaultTimeConfigs() {
@@ -251,6 +256,8 @@ public class OrganizationServiceImpl implements OrganizationService {
 		});
 
 		timeConfigDao.saveAll(timeConfigs);
+		organizationSnapshotService.invalidateOrganizationSnapshot();
+		workingDayCalendarService.invalidateWorkingDayCalendar();
 
 	}
 
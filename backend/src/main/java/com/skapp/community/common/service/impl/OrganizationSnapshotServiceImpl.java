@@ -0,0 +1,179 @@
+package com.skapp.community.common.service.impl;
+
+import com.skapp.community.common.constant.CommonConstants;
+import com.skapp.community.common.model.Organization;
+import com.skapp.community.common.payload.response.EmailServerConfigResponseDto;
+import com.skapp.community.common.repository.OrganizationConfigDao;
+import com.skapp.community.common.repository.OrganizationDao;
+import com.skapp.community.common.service.BulkContextService;
+import com.skapp.community.common.service.OrganizationSnapshotService;
+import com.skapp.community.common.type.OrganizationConfigType;
+import com.skapp.community.common.util.OrganizationSnapshot;
+import com.skapp.community.leaveplanner.payload.LeaveCycleDetailsDto;
+import com.skapp.community.peopleplanner.type.LeaveCycleConfigField;
+import com.skapp.community.timeplanner.model.AttendanceConfig;
+import com.skapp.community.timeplanner.repository.AttendanceConfigDao;
+import com.skapp.community.timeplanner.repository.TimeConfigDao;
+import com.skapp.community.timeplanner.type.AttendanceConfigType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds one {@link OrganizationSnapshot} per tenant. A snapshot is loaded on first use
+ * and replaced as a whole after a write invalidates it, so reads are a map lookup instead
+ * of a database round trip. When Redis invalidation is enabled, invalidations are also
+ * published so other nodes drop their snapshot.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrganizationSnapshotServiceImpl implements OrganizationSnapshotService {
+
+	private static final String DEFAULT_TENANT = "";
+
+	private static final String DEFAULT_TIME_ZONE = "UTC";
+
+	private final OrganizationDao organizationDao;
+
+	private final OrganizationConfigDao organizationConfigDao;
+
+	private final TimeConfigDao timeConfigDao;
+
+	private final AttendanceConfigDao attendanceConfigDao;
+
+	private final BulkContextService bulkContextService;
+
+	private final JsonMapper objectMapper;
+
+	private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+
+	private final Map<String, OrganizationSnapshot> snapshots = new ConcurrentHashMap<>();
+
+	@Value("${organization.snapshot.redis-invalidation.enabled:false}")
+	private boolean redisInvalidationEnabled;
+
+	@Override
+	public OrganizationSnapshot getOrganizationSnapshot() {
+		return snapshots.computeIfAbsent(getTenant(), tenant -> loadOrganizationSnapshot());
+	}
+
+	@Override
+	public void invalidateOrganizationSnapshot() {
+		String tenant = getTenant();
+		snapshots.remove(tenant);
+
+		// Drop the snapshot again once the surrounding transaction completes, so a
+		// snapshot loaded from uncommitted or rolled back state in the meantime is not
+		// kept
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					snapshots.remove(tenant);
+					publishInvalidation(tenant);
+				}
+			});
+		}
+		else {
+			publishInvalidation(tenant);
+		}
+		log.info("invalidateOrganizationSnapshot: organization snapshot invalidated");
+	}
+
+	@Override
+	public void evictOrganizationSnapshot(String tenant) {
+		snapshots.remove(Objects.requireNonNullElse(tenant, DEFAULT_TENANT));
+	}
+
+	private String getTenant() {
+		return Objects.requireNonNullElse(bulkContextService.getContext(), DEFAULT_TENANT);
+	}
+
+	private void publishInvalidation(String tenant) {
+		if (!redisInvalidationEnabled) {
+			return;
+		}
+
+		try {
+			redisTemplateProvider.getObject()
+				.convertAndSend(CommonConstants.ORGANIZATION_SNAPSHOT_INVALIDATION_CHANNEL, tenant);
+		}
+		catch (Exception e) {
+			log.error("publishInvalidation: unable to publish the organization snapshot invalidation: {}",
+					e.getMessage());
+		}
+	}
+
+	private OrganizationSnapshot loadOrganizationSnapshot() {
+		log.info("loadOrganizationSnapshot: loading organization snapshot");
+
+		String organizationTimeZone = organizationDao.findTopByOrderByOrganizationIdDesc()
+			.map(Organization::getOrganizationTimeZone)
+			.orElse(DEFAULT_TIME_ZONE);
+
+		Map<AttendanceConfigType, String> attendanceConfigs = new EnumMap<>(AttendanceConfigType.class);
+		for (AttendanceConfig attendanceConfig : attendanceConfigDao.findAll()) {
+			attendanceConfigs.put(attendanceConfig.getAttendanceConfigType(),
+					attendanceConfig.getAttendanceConfigValue());
+		}
+
+		return new OrganizationSnapshot(organizationTimeZone, loadLeaveCycle(), timeConfigDao.findAll(),
+				attendanceConfigs, loadEmailConfig());
+	}
+
+	private LeaveCycleDetailsDto loadLeaveCycle() {
+		return organizationConfigDao
+			.findOrganizationConfigByOrganizationConfigType(OrganizationConfigType.LEAVE_CYCLE.name())
+			.map(organizationConfig -> {
+				try {
+					JsonNode leaveCycleJson = objectMapper.readTree(organizationConfig.getOrganizationConfigValue());
+					JsonNode start = leaveCycleJson.get(LeaveCycleConfigField.START.getField());
+					JsonNode end = leaveCycleJson.get(LeaveCycleConfigField.END.getField());
+
+					LeaveCycleDetailsDto leaveCycleDetail = new LeaveCycleDetailsDto();
+					leaveCycleDetail.setStartDate(start.get(LeaveCycleConfigField.DATE.getField()).intValue());
+					leaveCycleDetail.setStartMonth(start.get(LeaveCycleConfigField.MONTH.getField()).intValue());
+					leaveCycleDetail.setEndDate(end.get(LeaveCycleConfigField.DATE.getField()).intValue());
+					leaveCycleDetail.setEndMonth(end.get(LeaveCycleConfigField.MONTH.getField()).intValue());
+					leaveCycleDetail
+						.setIsDefault(leaveCycleJson.get(LeaveCycleConfigField.IS_DEFAULT.getField()).asBoolean());
+					return leaveCycleDetail;
+				}
+				catch (Exception e) {
+					log.error("loadLeaveCycle: unable to read the leave cycle configuration: {}", e.getMessage());
+					return null;
+				}
+			})
+			.orElse(null);
+	}
+
+	private EmailServerConfigResponseDto loadEmailConfig() {
+		return organizationConfigDao
+			.findOrganizationConfigByOrganizationConfigType(OrganizationConfigType.EMAIL_CONFIGS.name())
+			.map(organizationConfig -> {
+				try {
+					return objectMapper.readValue(organizationConfig.getOrganizationConfigValue(),
+							EmailServerConfigResponseDto.class);
+				}
+				catch (Exception e) {
+					log.error("loadEmailConfig: unable to read the email configuration: {}", e.getMessage());
+					return null;
+				}
+			})
+			.orElse(null);
+	}
+
+}
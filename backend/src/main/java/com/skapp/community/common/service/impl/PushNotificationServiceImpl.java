@@ -7,6 +7,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -19,4 +21,10 @@ public class PushNotificationServiceImpl implements PushNotificationService {
 		webSocketHandler.sendNotificationToUser(userId.toString(), notification.getBody());
 	}
 
+	@Override
+	public void sendNotifications(Long userId, List<Notification> notifications) {
+		webSocketHandler.sendNotificationsToUser(userId.toString(),
+				notifications.stream().map(Notification::getBody).toList());
+	}
+
 }
@@ -0,0 +1,181 @@
+package com.skapp.community.common.service.impl;
+
+import com.skapp.community.common.config.FileStorageConfig;
+import com.skapp.community.common.constant.FileConfigConstants;
+import com.skapp.community.common.payload.response.FolderStorageUsageResponseDto;
+import com.skapp.community.common.service.StorageUsageService;
+import com.skapp.community.common.util.FileUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Ledger of the bytes and files held in each storage folder. Uploads and deletes update
+ * the ledger as they happen, so quota checks and usage reports never touch the disk. The
+ * free space of the storage volume is measured when the ledger is reconciled and reduced
+ * by the bytes written since then.
+ * <p>
+ * A background walk of the storage folders reconciles the ledger periodically. Changes
+ * made while a walk is running may be counted twice or missed until the next walk.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StorageUsageServiceImpl implements StorageUsageService {
+
+	private final FileStorageConfig fileStorageConfig;
+
+	private final Map<String, FolderUsage> folderUsages = new ConcurrentHashMap<>();
+
+	private final AtomicLong bytesWrittenSinceReconcile = new AtomicLong();
+
+	private volatile long totalSpace;
+
+	private volatile long usableSpaceAtReconcile;
+
+	private final ScheduledExecutorService reconcileExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "Storage-Usage-Reconciler");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	@PostConstruct
+	public void init() {
+		measureStorageVolume();
+		reconcileExecutor.scheduleWithFixedDelay(this::reconcile, 0,
+				FileConfigConstants.FILE_STORAGE_RECONCILE_INTERVAL_MINUTES, TimeUnit.MINUTES);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		reconcileExecutor.shutdownNow();
+	}
+
+	@Override
+	public void recordFileAdded(String folder, long bytes) {
+		getFolderUsage(folder).add(bytes, 1);
+		bytesWrittenSinceReconcile.addAndGet(bytes);
+	}
+
+	@Override
+	public void recordFileRemoved(String folder, long bytes) {
+		getFolderUsage(folder).add(-bytes, -1);
+		bytesWrittenSinceReconcile.addAndGet(-bytes);
+	}
+
+	@Override
+	public boolean isStorageLimitExceeded() {
+		return getAvailableSpacePercentage() <= FileConfigConstants.FILE_UPLOAD_LIMIT_IN_PERCENTAGE;
+	}
+
+	@Override
+	public long getAvailableSpacePercentage() {
+		long currentTotalSpace = totalSpace;
+		if (currentTotalSpace <= 0) {
+			return 0;
+		}
+
+		long availableSpace = Math.max(0, usableSpaceAtReconcile - bytesWrittenSinceReconcile.get());
+		return Math.round((double) availableSpace / currentTotalSpace * 100);
+	}
+
+	@Override
+	public Map<String, FolderStorageUsageResponseDto> getFolderUsages() {
+		Map<String, FolderStorageUsageResponseDto> usages = new TreeMap<>();
+		folderUsages.forEach((folder, usage) -> usages.put(folder,
+				new FolderStorageUsageResponseDto(Math.max(0, usage.bytes.get()), Math.max(0, usage.files.get()))));
+		return usages;
+	}
+
+	@Override
+	public void reconcile() {
+		try {
+			long writtenBeforeWalk = bytesWrittenSinceReconcile.get();
+			measureStorageVolume();
+
+			for (String folder : fileStorageConfig.getFolders()) {
+				Path folderPath = FileUtil.getTargetDirectory(folder, fileStorageConfig.getFolders(),
+						fileStorageConfig.getBase());
+				FolderUsage walkedUsage = walkFolder(folderPath);
+				getFolderUsage(folder).set(walkedUsage.bytes.get(), walkedUsage.files.get());
+			}
+
+			bytesWrittenSinceReconcile.addAndGet(-writtenBeforeWalk);
+			log.info("reconcile: storage usage reconciled: {}", folderUsages.keySet());
+		}
+		catch (RuntimeException | IOException e) {
+			log.error("reconcile: storage usage reconciliation failed: {}", e.getMessage());
+		}
+	}
+
+	private FolderUsage walkFolder(Path folderPath) throws IOException {
+		FolderUsage usage = new FolderUsage();
+		if (folderPath == null || !Files.isDirectory(folderPath)) {
+			return usage;
+		}
+
+		try (Stream<Path> files = Files.list(folderPath)) {
+			files.filter(Files::isRegularFile).filter(this::isStoredFile).forEach(filePath -> {
+				try {
+					usage.add(Files.size(filePath), 1);
+				}
+				catch (IOException e) {
+					log.debug("walkFolder: file removed while walking: {}", filePath);
+				}
+			});
+		}
+
+		return usage;
+	}
+
+	private boolean isStoredFile(Path filePath) {
+		String fileName = filePath.getFileName().toString();
+		return !fileName.endsWith(FileConfigConstants.FILE_ENCRYPTION_TEMP_SUFFIX)
+				&& !fileName.endsWith(FileConfigConstants.FILE_THUMBNAIL_STAGING_SUFFIX);
+	}
+
+	private void measureStorageVolume() {
+		File storageDirectory = FileUtil.getStorageDirectory(fileStorageConfig.getBase(), FileUtil.getParentDirectory())
+			.toFile();
+		totalSpace = storageDirectory.getTotalSpace();
+		usableSpaceAtReconcile = storageDirectory.getUsableSpace();
+	}
+
+	private FolderUsage getFolderUsage(String folder) {
+		return folderUsages.computeIfAbsent(folder, key -> new FolderUsage());
+	}
+
+	private static final class FolderUsage {
+
+		private final AtomicLong bytes = new AtomicLong();
+
+		private final AtomicLong files = new AtomicLong();
+
+		private void add(long byteDelta, long fileDelta) {
+			bytes.addAndGet(byteDelta);
+			files.addAndGet(fileDelta);
+		}
+
+		private void set(long byteCount, long fileCount) {
+			bytes.set(byteCount);
+			files.set(fileCount);
+		}
+
+	}
+
+}
@@ -0,0 +1,73 @@
+package com.skapp.community.common.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skapp.community.common.service.UserDetailsCacheService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Local cache of the user details resolved for authenticated requests. An entry is only
+ * served for the user version and username it was loaded with, so a version bump on
+ * another instance also stops the entry from being used. Entries expire after a short
+ * time to bound the lifetime of changes that do not bump the user version.
+ */
+@Slf4j
+@Service
+public class UserDetailsCacheServiceImpl implements UserDetailsCacheService {
+
+	private static final long MAXIMUM_SIZE = 10_000;
+
+	private static final long EXPIRE_AFTER_WRITE_MINUTES = 10;
+
+	private final Cache<Long, CachedUserDetails> cache = Caffeine.newBuilder()
+		.maximumSize(MAXIMUM_SIZE)
+		.expireAfterWrite(EXPIRE_AFTER_WRITE_MINUTES, TimeUnit.MINUTES)
+		.build();
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	@Override
+	public UserDetails getUserDetails(Long userId, String userVersion, String username,
+			Supplier<UserDetails> userDetailsLoader) {
+		CachedUserDetails cachedUserDetails = cache.getIfPresent(userId);
+		if (cachedUserDetails != null && Objects.equals(cachedUserDetails.userVersion(), userVersion)
+				&& cachedUserDetails.userDetails().getUsername().equals(username)) {
+			hitCount.increment();
+			return cachedUserDetails.userDetails();
+		}
+
+		missCount.increment();
+		UserDetails userDetails = userDetailsLoader.get();
+		cache.put(userId, new CachedUserDetails(userVersion, userDetails));
+		return userDetails;
+	}
+
+	@Override
+	public void invalidateUserDetails(Long userId) {
+		cache.invalidate(userId);
+		log.debug("invalidateUserDetails: cached user details invalidated for user ID: {}", userId);
+	}
+
+	@Override
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	@Override
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	private record CachedUserDetails(String userVersion, UserDetails userDetails) {
+	}
+
+}
@@ -4,6 +4,7 @@ import com.skapp.community.common.constant.AuthConstants;
 import com.skapp.community.common.model.UserVersion;
 import com.skapp.community.common.repository.UserVersionDao;
 import com.skapp.community.common.service.CacheService;
+import com.skapp.community.common.service.UserDetailsCacheService;
 import com.skapp.community.common.service.UserVersionService;
 import com.skapp.community.common.type.CacheKeys;
 import com.skapp.community.common.type.VersionType;
@@ -21,6 +22,8 @@ public class UserVersionServiceImpl implements UserVersionService {
 
 	private final CacheService cacheService;
 
+	private final UserDetailsCacheService userDetailsCacheService;
+
 	@Override
 	public String getUserVersion(Long userId) {
 		CacheKeys cacheKey = CacheKeys.USER_VERSION_CACHE_KEY;
@@ -53,6 +56,7 @@ public class UserVersionServiceImpl implements UserVersionService {
 
 		CacheKeys cacheKey = CacheKeys.USER_VERSION_CACHE_KEY;
 		cacheService.invalidate(cacheKey.format(userId));
+		userDetailsCacheService.invalidateUserDetails(userId);
 
 		log.info("Cache invalidated user ID: {} after upgrading version to {}", userId, newVersion);
 	}
@@ -0,0 +1,97 @@
+package com.skapp.community.common.service.impl;
+
+import com.skapp.community.common.service.BulkContextService;
+import com.skapp.community.common.service.OrganizationSnapshotService;
+import com.skapp.community.common.service.WorkingDayCalendarService;
+import com.skapp.community.common.util.DateTimeUtils;
+import com.skapp.community.common.util.OrganizationSnapshot;
+import com.skapp.community.common.util.WorkingDayCalendar;
+import com.skapp.community.peopleplanner.repository.HolidayDao;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WorkingDayCalendarServiceImpl implements WorkingDayCalendarService {
+
+	/**
+	 * Number of years before the current year covered by the calendar, so that the
+	 * previous leave cycle and year to date analytics stay inside the index.
+	 */
+	private static final int YEARS_BEFORE = 2;
+
+	/**
+	 * Number of years after the current year covered by the calendar, so that leave
+	 * cycles spanning the year end stay inside the index.
+	 */
+	private static final int YEARS_AFTER = 1;
+
+	private static final String DEFAULT_TENANT = "";
+
+	private final HolidayDao holidayDao;
+
+	private final OrganizationSnapshotService organizationSnapshotService;
+
+	private final BulkContextService bulkContextService;
+
+	private final Map<String, WorkingDayCalendar> calendars = new ConcurrentHashMap<>();
+
+	@Override
+	public WorkingDayCalendar getWorkingDayCalendar() {
+		LocalDate currentDate = DateTimeUtils.getCurrentUtcDate();
+		String tenant = getTenant();
+		WorkingDayCalendar current = calendars.get(tenant);
+		if (isCurrent(current, currentDate)) {
+			return current;
+		}
+
+		return calendars.compute(tenant,
+				(key, existing) -> isCurrent(existing, currentDate) ? existing : buildWorkingDayCalendar(currentDate));
+	}
+
+	@Override
+	public void invalidateWorkingDayCalendar() {
+		String tenant = getTenant();
+		calendars.remove(tenant);
+
+		// Clear again once the surrounding transaction commits, so a calendar
+		// rebuilt from uncommitted state in the meantime is not kept
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					calendars.remove(tenant);
+				}
+			});
+		}
+		log.info("invalidateWorkingDayCalendar: working day calendar invalidated");
+	}
+
+	private String getTenant() {
+		return Objects.requireNonNullElse(bulkContextService.getContext(), DEFAULT_TENANT);
+	}
+
+	private boolean isCurrent(WorkingDayCalendar calendar, LocalDate currentDate) {
+		return calendar != null && !currentDate.isAfter(calendar.getWindowEnd().minusYears(YEARS_AFTER));
+	}
+
+	private WorkingDayCalendar buildWorkingDayCalendar(LocalDate currentDate) {
+		LocalDate windowStart = LocalDate.of(currentDate.getYear() - YEARS_BEFORE, 1, 1);
+		LocalDate windowEnd = LocalDate.of(currentDate.getYear() + YEARS_AFTER, 12, 31);
+		OrganizationSnapshot organizationSnapshot = organizationSnapshotService.getOrganizationSnapshot();
+
+		log.info("buildWorkingDayCalendar: building working day calendar from {} to {}", windowStart, windowEnd);
+		return WorkingDayCalendar.of(windowStart, windowEnd, organizationSnapshot.getTimeConfigs(),
+				holidayDao.findAllByIsActiveTrue(), organizationSnapshot.getOrganizationTimeZone());
+	}
+
+}
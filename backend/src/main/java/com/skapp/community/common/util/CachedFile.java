@@ -0,0 +1,10 @@
+package com.skapp.community.common.util;
+
+/**
+ * Decrypted content of a stored file together with its strong entity tag.
+ *
+ * @param content The decrypted file content.
+ * @param eTag The quoted entity tag derived from the content.
+ */
+public record CachedFile(byte[] content, String eTag) {
+}
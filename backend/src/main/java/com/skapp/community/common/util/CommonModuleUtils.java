@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.function.ToIntBiFunction;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -99,31 +100,39 @@ public class CommonModuleUtils {
 
 	public static int addUpWorkingDaysForAllEmployee(List<Employee> employees, LocalDate startDate, LocalDate endDate,
 			List<TimeConfig> timeConfigs, List<LocalDate> holidays, String organizationTimeZone) {
+		return addUpWorkingDaysForAllEmployee(employees, startDate, endDate,
+				(from, to) -> getWorkingDaysBetweenTwoDates(from, to, timeConfigs, holidays, organizationTimeZone));
+	}
+
+	public static int addUpWorkingDaysForAllEmployee(List<Employee> employees, LocalDate startDate, LocalDate endDate,
+			WorkingDayCalendar workingDayCalendar) {
+		return addUpWorkingDaysForAllEmployee(employees, startDate, endDate, workingDayCalendar::getWorkingDaysBetween);
+	}
+
+	private static int addUpWorkingDaysForAllEmployee(List<Employee> employees, LocalDate startDate, LocalDate endDate,
+			ToIntBiFunction<LocalDate, LocalDate> workingDaysBetween) {
 		int totalWorkingDays = 0;
 		for (Employee employee : employees) {
 			if (employee.getJoinDate() != null && startDate.isBefore(employee.getJoinDate())
 					&& employee.getTerminationDate() != null && endDate.isAfter(employee.getTerminationDate())) {
-				totalWorkingDays = totalWorkingDays + getWorkingDaysBetweenTwoDates(employee.getJoinDate(),
-						employee.getTerminationDate(), timeConfigs, holidays, organizationTimeZone);
+				totalWorkingDays = totalWorkingDays
+						+ workingDaysBetween.applyAsInt(employee.getJoinDate(), employee.getTerminationDate());
 			}
 			else if (employee.getJoinDate() != null && startDate.isBefore(employee.getJoinDate())
 					&& employee.getTerminationDate() == null) {
-				totalWorkingDays = totalWorkingDays + getWorkingDaysBetweenTwoDates(employee.getJoinDate(), endDate,
-						timeConfigs, holidays, organizationTimeZone);
+				totalWorkingDays = totalWorkingDays + workingDaysBetween.applyAsInt(employee.getJoinDate(), endDate);
 			}
 			else if (employee.getJoinDate() != null && startDate.isAfter(employee.getJoinDate())
 					&& employee.getTerminationDate() == null) {
-				totalWorkingDays = totalWorkingDays + getWorkingDaysBetweenTwoDates(startDate, endDate, timeConfigs,
-						holidays, organizationTimeZone);
+				totalWorkingDays = totalWorkingDays + workingDaysBetween.applyAsInt(startDate, endDate);
 			}
 			else if (employee.getJoinDate() != null && startDate.isAfter(employee.getJoinDate())
 					&& employee.getTerminationDate() != null && endDate.isAfter(employee.getTerminationDate())) {
-				totalWorkingDays = totalWorkingDays + getWorkingDaysBetweenTwoDates(startDate,
-						employee.getTerminationDate(), timeConfigs, holidays, organizationTimeZone);
+				totalWorkingDays = totalWorkingDays
+						+ workingDaysBetween.applyAsInt(startDate, employee.getTerminationDate());
 			}
 			else {
-				totalWorkingDays = totalWorkingDays + getWorkingDaysBetweenTwoDates(startDate, endDate, timeConfigs,
-						holidays, organizationTimeZone);
+				totalWorkingDays = totalWorkingDays + workingDaysBetween.applyAsInt(startDate, endDate);
 			}
 		}
 		return totalWorkingDays;
@@ -0,0 +1,102 @@
+package com.skapp.community.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * Email template parsed once into literal segments and {@code {{placeholder}}} slots, so
+ * rendering is a single pass over the segments instead of one full string replacement per
+ * placeholder. Placeholders without a value are kept as they appear in the template.
+ */
+public final class CompiledEmailTemplate {
+
+	private static final String PLACEHOLDER_START = "{{";
+
+	private static final String PLACEHOLDER_END = "}}";
+
+	/**
+	 * Literal segments and placeholder keys in template order. Even indexes hold literals
+	 * and odd indexes hold placeholder keys, so there is always one more literal than
+	 * there are placeholders.
+	 */
+	private final String[] segments;
+
+	private final int literalLength;
+
+	private CompiledEmailTemplate(String[] segments) {
+		this.segments = segments;
+
+		int length = 0;
+		for (int i = 0; i < segments.length; i += 2) {
+			length += segments[i].length();
+		}
+		this.literalLength = length;
+	}
+
+	public static CompiledEmailTemplate compile(String templateContent) {
+		List<String> segments = new ArrayList<>();
+		int position = 0;
+		int literalStart = 0;
+
+		while (true) {
+			int end = templateContent.indexOf(PLACEHOLDER_END, position);
+			if (end < 0) {
+				break;
+			}
+
+			int start = templateContent.lastIndexOf(PLACEHOLDER_START, end - PLACEHOLDER_START.length());
+			if (start < literalStart) {
+				position = end + 1;
+				continue;
+			}
+
+			segments.add(templateContent.substring(literalStart, start));
+			segments.add(templateContent.substring(start + PLACEHOLDER_START.length(), end));
+			literalStart = end + PLACEHOLDER_END.length();
+			position = literalStart;
+		}
+		segments.add(templateContent.substring(literalStart));
+
+		return new CompiledEmailTemplate(segments.toArray(String[]::new));
+	}
+
+	/**
+	 * Renders the template with the given placeholder values. A placeholder mapped to
+	 * {@code null} renders as an empty string.
+	 * @param placeholders The placeholder values keyed by placeholder name.
+	 * @return The rendered template.
+	 */
+	public String render(Map<String, String> placeholders) {
+		return render(key -> placeholders.containsKey(key) ? Objects.toString(placeholders.get(key), "") : null);
+	}
+
+	/**
+	 * Renders the template resolving each placeholder through the given resolver. A
+	 * {@code null} result keeps the placeholder as it appears in the template.
+	 * @param resolver Resolves a placeholder name to its value.
+	 * @return The rendered template.
+	 */
+	public String render(UnaryOperator<String> resolver) {
+		String[] values = new String[segments.length / 2];
+		int length = literalLength;
+		for (int i = 1; i < segments.length; i += 2) {
+			String value = resolver.apply(segments[i]);
+			if (value == null) {
+				value = PLACEHOLDER_START + segments[i] + PLACEHOLDER_END;
+			}
+			values[i / 2] = value;
+			length += value.length();
+		}
+
+		StringBuilder builder = new StringBuilder(length);
+		builder.append(segments[0]);
+		for (int i = 1; i < segments.length; i += 2) {
+			builder.append(values[i / 2]).append(segments[i + 1]);
+		}
+		return builder.toString();
+	}
+
+}
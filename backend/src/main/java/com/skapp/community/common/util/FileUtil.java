@@ -3,8 +3,15 @@ package com.skapp.community.common.util;
 import com.skapp.community.common.constant.FileConfigConstants;
 import lombok.experimental.UtilityClass;
 
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Dimension;
+import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Iterator;
 import java.util.List;
 
 @UtilityClass
@@ -51,4 +58,32 @@ public class FileUtil {
 		return originalFileName.substring(0, originalFileName.indexOf("."));
 	}
 
+	/**
+	 * Reads the dimensions of an image from its header without decoding the pixels.
+	 * @param file The image file.
+	 * @return The width and height of the first image, or null if the format is not
+	 * supported.
+	 */
+	public static Dimension getImageDimensions(File file) throws IOException {
+		try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(file)) {
+			if (imageInputStream == null) {
+				return null;
+			}
+
+			Iterator<ImageReader> imageReaders = ImageIO.getImageReaders(imageInputStream);
+			if (!imageReaders.hasNext()) {
+				return null;
+			}
+
+			ImageReader imageReader = imageReaders.next();
+			try {
+				imageReader.setInput(imageInputStream, true, true);
+				return new Dimension(imageReader.getWidth(0), imageReader.getHeight(0));
+			}
+			finally {
+				imageReader.dispose();
+			}
+		}
+	}
+
 }
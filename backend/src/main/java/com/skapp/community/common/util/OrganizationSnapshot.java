@@ -0,0 +1,102 @@
+package com.skapp.community.common.util;
+
+import com.skapp.community.common.payload.response.EmailServerConfigResponseDto;
+import com.skapp.community.leaveplanner.payload.LeaveCycleDetailsDto;
+import com.skapp.community.timeplanner.model.TimeConfig;
+import com.skapp.community.timeplanner.type.AttendanceConfigType;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable view of the organization level settings that are read on almost every
+ * request. A snapshot is never changed after it is built; a write replaces it with a new
+ * one. Mutable values are handed out as copies so callers cannot change the shared
+ * snapshot.
+ */
+public final class OrganizationSnapshot {
+
+	private final String organizationTimeZone;
+
+	private final LeaveCycleDetailsDto leaveCycle;
+
+	private final List<TimeConfig> timeConfigs;
+
+	private final Map<AttendanceConfigType, String> attendanceConfigs;
+
+	private final EmailServerConfigResponseDto emailConfig;
+
+	public OrganizationSnapshot(String organizationTimeZone, LeaveCycleDetailsDto leaveCycle,
+			List<TimeConfig> timeConfigs, Map<AttendanceConfigType, String> attendanceConfigs,
+			EmailServerConfigResponseDto emailConfig) {
+		this.organizationTimeZone = organizationTimeZone;
+		this.leaveCycle = leaveCycle == null ? null : copyLeaveCycle(leaveCycle);
+		this.timeConfigs = timeConfigs.stream().map(OrganizationSnapshot::copyTimeConfig).toList();
+		this.attendanceConfigs = attendanceConfigs.isEmpty() ? Map.of() : new EnumMap<>(attendanceConfigs);
+		this.emailConfig = emailConfig == null ? null : copyEmailConfig(emailConfig);
+	}
+
+	public String getOrganizationTimeZone() {
+		return organizationTimeZone;
+	}
+
+	/**
+	 * @return A copy of the leave cycle configuration, or null when it is not configured.
+	 */
+	public LeaveCycleDetailsDto getLeaveCycle() {
+		return leaveCycle == null ? null : copyLeaveCycle(leaveCycle);
+	}
+
+	/**
+	 * @return The detached time configurations, shared between callers and not to be
+	 * modified.
+	 */
+	public List<TimeConfig> getTimeConfigs() {
+		return timeConfigs;
+	}
+
+	/**
+	 * @param attendanceConfigType The attendance configuration to read.
+	 * @return The configured value, or null when it is not configured.
+	 */
+	public String getAttendanceConfig(AttendanceConfigType attendanceConfigType) {
+		return attendanceConfigs.get(attendanceConfigType);
+	}
+
+	/**
+	 * @return A copy of the email server configuration with the app password still
+	 * encrypted, or null when it is not configured.
+	 */
+	public EmailServerConfigResponseDto getEmailConfig() {
+		return emailConfig == null ? null : copyEmailConfig(emailConfig);
+	}
+
+	private static LeaveCycleDetailsDto copyLeaveCycle(LeaveCycleDetailsDto leaveCycle) {
+		LeaveCycleDetailsDto copy = new LeaveCycleDetailsDto();
+		copy.setStartMonth(leaveCycle.getStartMonth());
+		copy.setStartDate(leaveCycle.getStartDate());
+		copy.setEndMonth(leaveCycle.getEndMonth());
+		copy.setEndDate(leaveCycle.getEndDate());
+		copy.setIsDefault(leaveCycle.getIsDefault());
+		return copy;
+	}
+
+	private static TimeConfig copyTimeConfig(TimeConfig timeConfig) {
+		TimeConfig copy = new TimeConfig();
+		copy.setId(timeConfig.getId());
+		copy.setDay(timeConfig.getDay());
+		copy.setTimeBlocks(timeConfig.getTimeBlocks() == null ? null : timeConfig.getTimeBlocks().deepCopy());
+		copy.setTotalHours(timeConfig.getTotalHours());
+		copy.setIsWeekStartDay(timeConfig.getIsWeekStartDay());
+		copy.setStartHour(timeConfig.getStartHour());
+		copy.setStartMinute(timeConfig.getStartMinute());
+		return copy;
+	}
+
+	private static EmailServerConfigResponseDto copyEmailConfig(EmailServerConfigResponseDto emailConfig) {
+		return new EmailServerConfigResponseDto(emailConfig.getEmailServiceProvider(), emailConfig.getUsername(),
+				emailConfig.getAppPassword(), emailConfig.getPortNumber(), emailConfig.getIsEnabled());
+	}
+
+}
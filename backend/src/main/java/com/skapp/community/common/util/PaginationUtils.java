@@ -0,0 +1,80 @@
+package com.skapp.community.common.util;
+
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.hibernate.query.SelectionQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+/**
+ * Paging helpers for Criteria based repositories.
+ */
+public class PaginationUtils {
+
+	private PaginationUtils() {
+		throw new UnsupportedOperationException("Utility class");
+	}
+
+	/**
+	 * Reads one page of the given query. The total is read with a count query derived
+	 * from the same query, so matching rows are counted in the database instead of being
+	 * loaded. The page query is skipped when the page is past the last row.
+	 * @param query The query without offset and limit.
+	 * @param pageable The requested page.
+	 * @return The requested page with the total number of matching rows.
+	 */
+	public static <T> Page<T> getPage(TypedQuery<T> query, Pageable pageable) {
+		long totalRows = query.unwrap(SelectionQuery.class).getResultCount();
+		if (totalRows == 0 || pageable.getOffset() >= totalRows) {
+			return new PageImpl<>(List.of(), pageable, totalRows);
+		}
+
+		query.setFirstResult((int) pageable.getOffset());
+		query.setMaxResults(pageable.getPageSize());
+		return new PageImpl<>(query.getResultList(), pageable, totalRows);
+	}
+
+	/**
+	 * Builds the seek predicate for keyset pagination. Rows after the last seen key in
+	 * the given direction match; every row matches when there is no last seen key yet.
+	 * @param criteriaBuilder The criteria builder of the query.
+	 * @param keyPath The unique key the query is ordered by.
+	 * @param lastSeenKey The key of the last row of the previous slice, or null.
+	 * @param direction The direction the query is ordered by the key.
+	 * @return The seek predicate.
+	 */
+	public static <K extends Comparable<? super K>> Predicate getKeysetPredicate(CriteriaBuilder criteriaBuilder,
+			Path<K> keyPath, K lastSeenKey, Sort.Direction direction) {
+		if (lastSeenKey == null) {
+			return criteriaBuilder.conjunction();
+		}
+
+		return direction.isAscending() ? criteriaBuilder.greaterThan(keyPath, lastSeenKey)
+				: criteriaBuilder.lessThan(keyPath, lastSeenKey);
+	}
+
+	/**
+	 * Reads one slice of a keyset paginated query. The query must be filtered with
+	 * {@link #getKeysetPredicate} and ordered by the same key. One extra row is read to
+	 * tell whether another slice follows, so no count query is needed.
+	 * @param query The seek query without offset and limit.
+	 * @param pageable The requested slice size and sort.
+	 * @return The slice following the last seen key.
+	 */
+	public static <T> Slice<T> getKeysetSlice(TypedQuery<T> query, Pageable pageable) {
+		query.setMaxResults(pageable.getPageSize() + 1);
+		List<T> content = query.getResultList();
+
+		boolean hasNext = content.size() > pageable.getPageSize();
+		return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+	}
+
+}
@@ -0,0 +1,404 @@
+package com.skapp.community.common.util;
+
+import org.springframework.core.io.AbstractResource;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+/**
+ * Encrypts files as a sequence of independently authenticated AES-GCM segments. The file
+ * starts with a header holding a format marker, the segment size, a random salt and a
+ * random nonce prefix, followed by the segments, each carrying its own tag. Each file is
+ * encrypted under its own key, derived from the configured key and the salt with
+ * HKDF-SHA256, so nonces never repeat under one key across files. The nonce of a segment
+ * is the prefix, the segment index and a flag for the last segment, so segments cannot be
+ * reordered or truncated without failing authentication.
+ * <p>
+ * Files are read and written one segment at a time through a {@link FileChannel}, and any
+ * plaintext position can be reached by decrypting only the segment it falls in.
+ */
+public final class SegmentedFileCipher {
+
+	public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024;
+
+	private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+
+	private static final byte[] MAGIC = { 'S', 'K', 'E', 'F', 2 };
+
+	private static final int SALT_LENGTH = 32;
+
+	private static final int NONCE_PREFIX_LENGTH = 7;
+
+	private static final int HEADER_LENGTH = MAGIC.length + Integer.BYTES + SALT_LENGTH + NONCE_PREFIX_LENGTH;
+
+	private static final String KEY_DERIVATION_ALGORITHM = "HmacSHA256";
+
+	private static final byte[] KEY_DERIVATION_INFO = "SKEF segment key".getBytes(StandardCharsets.US_ASCII);
+
+	private static final int NONCE_LENGTH = 12;
+
+	private static final int TAG_LENGTH = 16;
+
+	private static final int MAX_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+	private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+	private final SecretKey key;
+
+	private final int segmentSize;
+
+	public SegmentedFileCipher(SecretKey key) {
+		this(key, DEFAULT_SEGMENT_SIZE);
+	}
+
+	public SegmentedFileCipher(SecretKey key, int segmentSize) {
+		if (segmentSize <= 0 || segmentSize > MAX_SEGMENT_SIZE) {
+			throw new IllegalArgumentException("Invalid segment size: " + segmentSize);
+		}
+
+		this.key = key;
+		this.segmentSize = segmentSize;
+	}
+
+	/**
+	 * Encrypts the source file into the target file.
+	 * @param source The plaintext file.
+	 * @param target The file the encrypted segments are written to.
+	 */
+	public void encrypt(Path source, Path target) throws IOException, GeneralSecurityException {
+		byte[] salt = new byte[SALT_LENGTH];
+		SECURE_RANDOM.nextBytes(salt);
+		byte[] noncePrefix = new byte[NONCE_PREFIX_LENGTH];
+		SECURE_RANDOM.nextBytes(noncePrefix);
+		ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH)
+			.put(MAGIC)
+			.putInt(segmentSize)
+			.put(salt)
+			.put(noncePrefix)
+			.flip();
+		byte[] headerBytes = header.array();
+		SecretKey fileKey = deriveFileKey(salt);
+
+		try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+				FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+						StandardOpenOption.TRUNCATE_EXISTING)) {
+			writeFully(out, header);
+
+			Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+			ByteBuffer plainSegment = ByteBuffer.allocate(segmentSize);
+			ByteBuffer cipherSegment = ByteBuffer.allocate(segmentSize + TAG_LENGTH);
+
+			long plainLength = in.size();
+			long segmentCount = Math.max(1, (plainLength + segmentSize - 1) / segmentSize);
+			for (long segment = 0; segment < segmentCount; segment++) {
+				plainSegment.clear().limit((int) Math.min(segmentSize, plainLength - segment * segmentSize));
+				readFully(in, plainSegment);
+				plainSegment.flip();
+
+				cipher.init(Cipher.ENCRYPT_MODE, fileKey, getNonce(noncePrefix, segment, segment == segmentCount - 1));
+				cipher.updateAAD(headerBytes);
+				cipherSegment.clear();
+				cipher.doFinal(plainSegment, cipherSegment);
+				writeFully(out, cipherSegment.flip());
+			}
+
+			out.force(false);
+		}
+	}
+
+	/**
+	 * Tells whether the file was written by this cipher. Files written in the earlier
+	 * single block format start with a random IV instead of the format marker.
+	 * @param file The encrypted file.
+	 * @return True if the file is in the segmented format.
+	 */
+	public static boolean isSegmented(Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			return readHeader(channel) != null;
+		}
+	}
+
+	/**
+	 * Opens the encrypted file as a resource that decrypts on read. The content length is
+	 * known from the file size, and skipping in its input stream seeks to the segment
+	 * holding the target position, so byte range requests only decrypt the segments they
+	 * cover.
+	 * @param file The encrypted file in the segmented format.
+	 * @param filename The filename reported by the resource.
+	 * @return The decrypting resource.
+	 */
+	public AbstractResource getDecryptingResource(Path file, String filename) {
+		return new DecryptingResource(file, filename);
+	}
+
+	private static Header readHeader(FileChannel channel) throws IOException {
+		if (channel.size() < HEADER_LENGTH + TAG_LENGTH) {
+			return null;
+		}
+
+		ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+		channel.position(0);
+		readFully(channel, header);
+		byte[] headerBytes = header.array();
+		if (!Arrays.equals(headerBytes, 0, MAGIC.length, MAGIC, 0, MAGIC.length)) {
+			return null;
+		}
+
+		int segmentSize = header.getInt(MAGIC.length);
+		if (segmentSize <= 0 || segmentSize > MAX_SEGMENT_SIZE) {
+			return null;
+		}
+
+		long cipherLength = channel.size() - HEADER_LENGTH;
+		long encryptedSegmentSize = (long) segmentSize + TAG_LENGTH;
+		long segmentCount = (cipherLength + encryptedSegmentSize - 1) / encryptedSegmentSize;
+		if (cipherLength - (segmentCount - 1) * encryptedSegmentSize < TAG_LENGTH) {
+			return null;
+		}
+
+		int saltOffset = MAGIC.length + Integer.BYTES;
+		byte[] salt = Arrays.copyOfRange(headerBytes, saltOffset, saltOffset + SALT_LENGTH);
+		byte[] noncePrefix = Arrays.copyOfRange(headerBytes, saltOffset + SALT_LENGTH, HEADER_LENGTH);
+		return new Header(headerBytes, segmentSize, salt, noncePrefix, segmentCount,
+				cipherLength - segmentCount * TAG_LENGTH);
+	}
+
+	/**
+	 * Derives the key of a single file from the configured key and the salt of the file
+	 * with HKDF-SHA256. The derived key has the length of the configured key.
+	 */
+	private SecretKey deriveFileKey(byte[] salt) throws GeneralSecurityException {
+		Mac mac = Mac.getInstance(KEY_DERIVATION_ALGORITHM);
+		mac.init(new SecretKeySpec(salt, KEY_DERIVATION_ALGORITHM));
+		byte[] pseudoRandomKey = mac.doFinal(key.getEncoded());
+
+		mac.init(new SecretKeySpec(pseudoRandomKey, KEY_DERIVATION_ALGORITHM));
+		mac.update(KEY_DERIVATION_INFO);
+		mac.update((byte) 1);
+		byte[] fileKey = Arrays.copyOf(mac.doFinal(), key.getEncoded().length);
+		return new SecretKeySpec(fileKey, "AES");
+	}
+
+	private static GCMParameterSpec getNonce(byte[] noncePrefix, long segment, boolean isLastSegment) {
+		if (segment > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("File has too many segments");
+		}
+
+		ByteBuffer nonce = ByteBuffer.allocate(NONCE_LENGTH)
+			.put(noncePrefix)
+			.putInt((int) segment)
+			.put((byte) (isLastSegment ? 1 : 0));
+		return new GCMParameterSpec(TAG_LENGTH * Byte.SIZE, nonce.array());
+	}
+
+	private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer) < 0) {
+				throw new IOException("Unexpected end of file");
+			}
+		}
+	}
+
+	private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+	private record Header(byte[] bytes, int segmentSize, byte[] salt, byte[] noncePrefix, long segmentCount,
+			long plainLength) {
+	}
+
+	private final class DecryptingResource extends AbstractResource {
+
+		private final Path file;
+
+		private final String filename;
+
+		private DecryptingResource(Path file, String filename) {
+			this.file = file;
+			this.filename = filename;
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+			try {
+				Header header = readHeader(channel);
+				if (header == null) {
+					throw new IOException("File is not in the segmented encryption format: " + filename);
+				}
+
+				return new DecryptingInputStream(channel, header);
+			}
+			catch (IOException | RuntimeException e) {
+				channel.close();
+				throw e;
+			}
+		}
+
+		@Override
+		public long contentLength() throws IOException {
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+				Header header = readHeader(channel);
+				if (header == null) {
+					throw new IOException("File is not in the segmented encryption format: " + filename);
+				}
+
+				return header.plainLength();
+			}
+		}
+
+		@Override
+		public boolean exists() {
+			return file.toFile().isFile();
+		}
+
+		@Override
+		public String getFilename() {
+			return filename;
+		}
+
+		@Override
+		public String getDescription() {
+			return "Encrypted file [" + filename + "]";
+		}
+
+	}
+
+	private final class DecryptingInputStream extends InputStream {
+
+		private final FileChannel channel;
+
+		private final Header header;
+
+		private final Cipher cipher;
+
+		private final SecretKey fileKey;
+
+		private final ByteBuffer cipherSegment;
+
+		private final ByteBuffer plainSegment;
+
+		private long loadedSegment = -1;
+
+		private long position;
+
+		private DecryptingInputStream(FileChannel channel, Header header) throws IOException {
+			this.channel = channel;
+			this.header = header;
+			this.cipherSegment = ByteBuffer.allocate(header.segmentSize() + TAG_LENGTH);
+			this.plainSegment = ByteBuffer.allocate(header.segmentSize());
+			try {
+				this.cipher = Cipher.getInstance(TRANSFORMATION);
+				this.fileKey = deriveFileKey(header.salt());
+			}
+			catch (GeneralSecurityException e) {
+				throw new IOException("Failed to initialize the file cipher", e);
+			}
+		}
+
+		@Override
+		public int read() throws IOException {
+			byte[] single = new byte[1];
+			return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] buffer, int offset, int length) throws IOException {
+			if (length == 0) {
+				return 0;
+			}
+
+			if (position >= header.plainLength()) {
+				return -1;
+			}
+
+			ByteBuffer segment = getSegmentAt(position);
+			int count = Math.min(length, segment.remaining());
+			segment.get(buffer, offset, count);
+			position += count;
+			return count;
+		}
+
+		@Override
+		public long skip(long n) {
+			if (n <= 0) {
+				return 0;
+			}
+
+			long skipped = Math.min(n, header.plainLength() - position);
+			position += skipped;
+			return skipped;
+		}
+
+		@Override
+		public int available() {
+			long segment = position / header.segmentSize();
+			if (segment != loadedSegment) {
+				return 0;
+			}
+
+			return plainSegment.limit() - (int) (position % header.segmentSize());
+		}
+
+		@Override
+		public void close() throws IOException {
+			channel.close();
+		}
+
+		private ByteBuffer getSegmentAt(long plainPosition) throws IOException {
+			long segment = plainPosition / header.segmentSize();
+			if (segment != loadedSegment) {
+				loadSegment(segment);
+			}
+
+			return plainSegment.position((int) (plainPosition % header.segmentSize()));
+		}
+
+		private void loadSegment(long segment) throws IOException {
+			long encryptedSegmentSize = (long) header.segmentSize() + TAG_LENGTH;
+			long segmentOffset = segment * encryptedSegmentSize;
+			long cipherLength = channel.size() - HEADER_LENGTH;
+
+			cipherSegment.clear().limit((int) Math.min(encryptedSegmentSize, cipherLength - segmentOffset));
+			channel.position(HEADER_LENGTH + segmentOffset);
+			readFully(channel, cipherSegment);
+			cipherSegment.flip();
+
+			plainSegment.clear();
+			loadedSegment = -1;
+			try {
+				cipher.init(Cipher.DECRYPT_MODE, fileKey,
+						getNonce(header.noncePrefix(), segment, segment == header.segmentCount() - 1));
+				cipher.updateAAD(header.bytes());
+				cipher.doFinal(cipherSegment, plainSegment);
+			}
+			catch (AEADBadTagException e) {
+				throw new IOException("Encrypted file segment " + segment + " failed authentication", e);
+			}
+			catch (GeneralSecurityException e) {
+				throw new IOException("Failed to decrypt file segment " + segment, e);
+			}
+
+			plainSegment.flip();
+			loadedSegment = segment;
+		}
+
+	}
+
+}
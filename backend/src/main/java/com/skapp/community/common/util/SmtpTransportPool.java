@@ -0,0 +1,188 @@
+package com.skapp.community.common.util;
+
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps a small number of authenticated SMTP connections open so that consecutive mails
+ * reuse an existing connection instead of paying the connect, STARTTLS and AUTH round
+ * trips for every message. Connections are borrowed for the duration of a send and handed
+ * back afterwards; connections that the server has dropped are replaced transparently.
+ */
+@Slf4j
+public final class SmtpTransportPool implements AutoCloseable {
+
+	private final Session session;
+
+	private final String host;
+
+	private final int port;
+
+	private final String username;
+
+	private final String password;
+
+	private final BlockingQueue<Transport> idleTransports;
+
+	private final LongAdder connectionsOpened = new LongAdder();
+
+	private final LongAdder connectionsReused = new LongAdder();
+
+	private final LongAdder messagesSent = new LongAdder();
+
+	private final LongAdder sendNanos = new LongAdder();
+
+	private volatile boolean closed;
+
+	public SmtpTransportPool(Properties properties, String host, int port, String username, String password,
+			int maxIdleConnections) {
+		this.session = Session.getInstance(properties);
+		this.host = host;
+		this.port = port;
+		this.username = username;
+		this.password = password;
+		this.idleTransports = new ArrayBlockingQueue<>(maxIdleConnections);
+	}
+
+	public MimeMessage createMimeMessage() {
+		return new MimeMessage(session);
+	}
+
+	public void send(MimeMessage mimeMessage) throws MessagingException {
+		send(List.of(mimeMessage));
+	}
+
+	/**
+	 * Sends all messages over a single borrowed connection. If the first message fails on
+	 * a connection taken from the idle pool, it is retried once on a freshly opened one,
+	 * since the server may have closed the idle connection without the client noticing.
+	 * Failures on a fresh or already proven connection, and rejected recipients, are not
+	 * retried so that no message is delivered twice.
+	 * @param mimeMessages The messages to send.
+	 * @throws MessagingException If a message cannot be sent.
+	 */
+	public void send(List<MimeMessage> mimeMessages) throws MessagingException {
+		if (closed) {
+			throw new IllegalStateException("SMTP transport pool is closed");
+		}
+
+		Transport transport = pollIdleTransport();
+		boolean unverifiedConnection = transport != null;
+		if (transport == null) {
+			transport = openTransport();
+		}
+
+		try {
+			for (MimeMessage mimeMessage : mimeMessages) {
+				long startTime = System.nanoTime();
+				if (mimeMessage.getSentDate() == null) {
+					mimeMessage.setSentDate(new Date());
+				}
+				mimeMessage.saveChanges();
+				Address[] recipients = mimeMessage.getAllRecipients();
+
+				try {
+					transport.sendMessage(mimeMessage, recipients);
+				}
+				catch (MessagingException e) {
+					if (!unverifiedConnection || e instanceof SendFailedException) {
+						throw e;
+					}
+
+					log.warn("Sending over an existing SMTP connection failed, retrying on a new connection: {}",
+							e.getMessage());
+					closeQuietly(transport);
+					transport = openTransport();
+					transport.sendMessage(mimeMessage, recipients);
+				}
+
+				unverifiedConnection = false;
+				messagesSent.increment();
+				sendNanos.add(System.nanoTime() - startTime);
+			}
+		}
+		catch (MessagingException | RuntimeException e) {
+			closeQuietly(transport);
+			throw e;
+		}
+
+		releaseTransport(transport);
+	}
+
+	public long getConnectionsOpened() {
+		return connectionsOpened.sum();
+	}
+
+	public long getConnectionsReused() {
+		return connectionsReused.sum();
+	}
+
+	public long getMessagesSent() {
+		return messagesSent.sum();
+	}
+
+	public double getAverageSendMillis() {
+		long sent = messagesSent.sum();
+		return sent == 0 ? 0 : sendNanos.sum() / 1_000_000.0 / sent;
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		Transport transport;
+		while ((transport = idleTransports.poll()) != null) {
+			closeQuietly(transport);
+		}
+	}
+
+	public boolean isClosed() {
+		return closed;
+	}
+
+	private Transport pollIdleTransport() {
+		Transport transport;
+		while ((transport = idleTransports.poll()) != null) {
+			if (transport.isConnected()) {
+				connectionsReused.increment();
+				return transport;
+			}
+			closeQuietly(transport);
+		}
+		return null;
+	}
+
+	private Transport openTransport() throws MessagingException {
+		Transport transport = session.getTransport("smtp");
+		transport.connect(host, port, username, password);
+		connectionsOpened.increment();
+		return transport;
+	}
+
+	private void releaseTransport(Transport transport) {
+		if (closed || !idleTransports.offer(transport)) {
+			closeQuietly(transport);
+		}
+	}
+
+	private static void closeQuietly(Transport transport) {
+		try {
+			transport.close();
+		}
+		catch (MessagingException e) {
+			log.debug("Error closing SMTP connection: {}", e.getMessage());
+		}
+	}
+
+}
@@ -0,0 +1,206 @@
+package com.skapp.community.common.util;
+
+import com.skapp.community.peopleplanner.model.Holiday;
+import com.skapp.community.peopleplanner.type.HolidayDuration;
+import com.skapp.community.timeplanner.model.TimeConfig;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable index of the organization's working days and holidays over a fixed window of
+ * dates. Working day counts between two dates are answered from prefix sums, so callers
+ * no longer need to walk the range day by day. Dates outside the window fall back to the
+ * day by day evaluation against the same time configurations and holidays.
+ */
+public final class WorkingDayCalendar {
+
+	private final LocalDate windowStart;
+
+	private final LocalDate windowEnd;
+
+	private final List<TimeConfig> timeConfigs;
+
+	private final String organizationTimeZone;
+
+	/**
+	 * Holiday dates mapped to whether the date only carries half day holidays.
+	 */
+	private final Map<LocalDate, Boolean> halfDayOnlyHolidays;
+
+	private final BitSet workingDays;
+
+	private final BitSet holidays;
+
+	private final BitSet halfDayHolidays;
+
+	/**
+	 * workingDayPrefix[i] holds the number of working days that are not holidays in the
+	 * first i days of the window.
+	 */
+	private final int[] workingDayPrefix;
+
+	/**
+	 * halfDayHolidayPrefix[i] holds the number of working days with only a half day
+	 * holiday in the first i days of the window.
+	 */
+	private final int[] halfDayHolidayPrefix;
+
+	private WorkingDayCalendar(LocalDate windowStart, LocalDate windowEnd, List<TimeConfig> timeConfigs,
+			List<Holiday> holidayObjects, String organizationTimeZone) {
+		this.windowStart = windowStart;
+		this.windowEnd = windowEnd;
+		this.timeConfigs = List.copyOf(timeConfigs);
+		this.organizationTimeZone = organizationTimeZone;
+
+		int dayCount = (int) ChronoUnit.DAYS.between(windowStart, windowEnd) + 1;
+		this.workingDays = new BitSet(dayCount);
+		this.holidays = new BitSet(dayCount);
+		this.halfDayHolidays = new BitSet(dayCount);
+
+		Map<LocalDate, Boolean> halfDayOnly = new HashMap<>();
+		for (Holiday holiday : holidayObjects) {
+			if (holiday.getDate() != null) {
+				halfDayOnly.merge(holiday.getDate(), isHalfDay(holiday.getHolidayDuration()), Boolean::logicalAnd);
+			}
+		}
+		this.halfDayOnlyHolidays = Map.copyOf(halfDayOnly);
+
+		halfDayOnlyHolidays.forEach((date, isHalfDayOnly) -> {
+			if (isInWindow(date)) {
+				holidays.set(indexOf(date));
+				halfDayHolidays.set(indexOf(date), isHalfDayOnly);
+			}
+		});
+
+		this.workingDayPrefix = new int[dayCount + 1];
+		this.halfDayHolidayPrefix = new int[dayCount + 1];
+		LocalDate date = windowStart;
+		for (int index = 0; index < dayCount; index++) {
+			boolean isWorkingDay = CommonModuleUtils.checkIfDayIsWorkingDay(date, this.timeConfigs,
+					organizationTimeZone);
+			workingDays.set(index, isWorkingDay);
+			workingDayPrefix[index + 1] = workingDayPrefix[index] + (isWorkingDay && !holidays.get(index) ? 1 : 0);
+			halfDayHolidayPrefix[index + 1] = halfDayHolidayPrefix[index]
+					+ (isWorkingDay && halfDayHolidays.get(index) ? 1 : 0);
+			date = date.plusDays(1);
+		}
+	}
+
+	public static WorkingDayCalendar of(LocalDate windowStart, LocalDate windowEnd, List<TimeConfig> timeConfigs,
+			List<Holiday> holidays, String organizationTimeZone) {
+		if (windowStart.isAfter(windowEnd)) {
+			throw new IllegalArgumentException("Working day calendar window start must not be after its end");
+		}
+		return new WorkingDayCalendar(windowStart, windowEnd, timeConfigs, holidays, organizationTimeZone);
+	}
+
+	public LocalDate getWindowStart() {
+		return windowStart;
+	}
+
+	public LocalDate getWindowEnd() {
+		return windowEnd;
+	}
+
+	public List<LocalDate> getHolidayDates() {
+		return halfDayOnlyHolidays.keySet().stream().sorted().toList();
+	}
+
+	public boolean isWorkingDay(LocalDate date) {
+		if (isInWindow(date)) {
+			return workingDays.get(indexOf(date));
+		}
+		return CommonModuleUtils.checkIfDayIsWorkingDay(date, timeConfigs, organizationTimeZone);
+	}
+
+	public boolean isHoliday(LocalDate date) {
+		if (isInWindow(date)) {
+			return holidays.get(indexOf(date));
+		}
+		return halfDayOnlyHolidays.containsKey(date);
+	}
+
+	/**
+	 * Counts the working days between two dates (both inclusive) that are not holidays.
+	 * Any holiday, including a half day holiday, excludes the date, matching
+	 * {@link CommonModuleUtils#getWorkingDaysBetweenTwoDates(LocalDate, LocalDate, List, List, String)}.
+	 * @param startDate The first date of the range.
+	 * @param endDate The last date of the range.
+	 * @return The number of working days in the range.
+	 */
+	public int getWorkingDaysBetween(LocalDate startDate, LocalDate endDate) {
+		if (startDate.isAfter(endDate)) {
+			LocalDate temp = startDate;
+			startDate = endDate;
+			endDate = temp;
+		}
+
+		if (isInWindow(startDate) && isInWindow(endDate)) {
+			return workingDayPrefix[indexOf(endDate) + 1] - workingDayPrefix[indexOf(startDate)];
+		}
+
+		int workDays = 0;
+		for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+			if (isWorkingDay(date) && !isHoliday(date)) {
+				workDays++;
+			}
+		}
+		return workDays;
+	}
+
+	/**
+	 * Counts the working days between two dates (both inclusive) where a working day with
+	 * a half day holiday contributes half a day.
+	 * @param startDate The first date of the range.
+	 * @param endDate The last date of the range.
+	 * @return The number of working days in the range, in half day steps.
+	 */
+	public float getWorkingDaysIncludingHalfDaysBetween(LocalDate startDate, LocalDate endDate) {
+		if (startDate.isAfter(endDate)) {
+			LocalDate temp = startDate;
+			startDate = endDate;
+			endDate = temp;
+		}
+
+		if (isInWindow(startDate) && isInWindow(endDate)) {
+			int from = indexOf(startDate);
+			int to = indexOf(endDate) + 1;
+			return (workingDayPrefix[to] - workingDayPrefix[from])
+					+ 0.5F * (halfDayHolidayPrefix[to] - halfDayHolidayPrefix[from]);
+		}
+
+		float workDays = 0;
+		for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+			if (!isWorkingDay(date)) {
+				continue;
+			}
+			Boolean isHalfDayOnly = halfDayOnlyHolidays.get(date);
+			if (isHalfDayOnly == null) {
+				workDays++;
+			}
+			else if (isHalfDayOnly) {
+				workDays += 0.5F;
+			}
+		}
+		return workDays;
+	}
+
+	private boolean isInWindow(LocalDate date) {
+		return !date.isBefore(windowStart) && !date.isAfter(windowEnd);
+	}
+
+	private int indexOf(LocalDate date) {
+		return (int) ChronoUnit.DAYS.between(windowStart, date);
+	}
+
+	private static boolean isHalfDay(HolidayDuration holidayDuration) {
+		return holidayDuration == HolidayDuration.HALF_DAY_MORNING
+				|| holidayDuration == HolidayDuration.HALF_DAY_EVENING;
+	}
+
+}
@@ -18,6 +18,7 @@ public class PageTransformer implements BaseTransformer<Page<?>, PageDto> {
 		pageDto.setCurrentPage(page.getNumber());
 		pageDto.setTotalPages(page.getTotalPages());
 		pageDto.setTotalItems(page.getTotalElements());
+		pageDto.setHasNextPage(page.hasNext());
 		return pageDto;
 	}
 
@@ -11,6 +11,8 @@ public enum LeaveMessageConstant implements MessageConstant {
 	// Success messages
 	LEAVE_SUCCESS_NUDGE_MANAGER("api.success.leave.nudge-manager"),
 	LEAVE_SUCCESS_AUTO_APPROVAL_LEAVE_APPROVED("api.success.leave.auto-approval-leave-approved"),
+	LEAVE_SUCCESS_CARRY_FORWARD_JOB_QUEUED("api.success.leave.carry-forward-job-queued"),
+	LEAVE_SUCCESS_CARRY_FORWARD_JOB_IN_PROGRESS("api.success.leave.carry-forward-job-in-progress"),
 
 	// Error messages
 	LEAVE_ERROR_LEAVE_CYCLE_NOT_FOUND("api.error.leave.leave-cycle.not-found"),
@@ -19,8 +21,8 @@ public enum LeaveMessageConstant implements MessageConstant {
 	LEAVE_ERROR_NUMBER_OF_DAYS_NOT_VALID("api.error.leave.leave-number-of-days-not-valid"),
 	LEAVE_ERROR_INVALID_DAYS_OFF_ALLOCATION("api.error.leave.error-invalid-days-off-allocation"),
 	LEAVE_ERROR_LEAVE_TYPE_NOT_FOUND("api.error.leave.leave-type-not-found"),
-	LEAVE_ERROR_LEAVE_ENTITLEMENT_CARRY_FORWARD_SUCCESSFUL("api.error.leave.leave-carry-forward-successful"),
 	LEAVE_ERROR_CARRY_FORWARD_YEAR_NOT_VALID("api.error.leave.error-carry-forward-year-not-valid"),
+	LEAVE_ERROR_CARRY_FORWARD_JOB_NOT_FOUND("api.error.leave.carry-forward-job-not-found"),
 	LEAVE_ERROR_LEAVE_TYPE_IN_BULK_NOT_FOUND("api.error.leave.type-in-bulk-not-found"),
 	USER_IN_BULK_NOT_FOUND("api.error.user-in-bulk-not-found"),
 	LEAVE_ERROR_START_DATE_END_DATE_NOT_VALID("api.error.leave.start-date-end-date-not-valid"),
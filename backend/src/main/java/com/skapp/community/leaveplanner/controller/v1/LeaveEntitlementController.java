@@ -100,6 +100,13 @@ public class LeaveEntitlementController {
 			@RequestBody CarryForwardByLeaveTypesDto carryForwardByLeaveTypesDto) {
 		ResponseEntityDto response = leaveEntitlementService.forceCarryForwardEntitlements(
 				carryForwardByLeaveTypesDto.getLeaveTypes(), carryForwardByLeaveTypesDto.getCycleStartYear());
+		return new ResponseEntity<>(response, HttpStatus.ACCEPTED);
+	}
+
+	@PreAuthorize("hasAnyRole('ROLE_SUPER_ADMIN','ROLE_LEAVE_MANAGER')")
+	@GetMapping(value = "/carry-forward/jobs/{jobId}", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<ResponseEntityDto> getCarryForwardJob(@PathVariable Long jobId) {
+		ResponseEntityDto response = leaveEntitlementService.getCarryForwardJob(jobId);
 		return new ResponseEntity<>(response, HttpStatus.OK);
 	}
 
@@ -1,6 +1,7 @@
 package com.skapp.community.leaveplanner.mapper;
 
 import com.skapp.community.leaveplanner.model.CarryForwardInfo;
+import com.skapp.community.leaveplanner.model.CarryForwardJob;
 import com.skapp.community.leaveplanner.model.LeaveEntitlement;
 import com.skapp.community.leaveplanner.model.LeaveRequest;
 import com.skapp.community.leaveplanner.model.LeaveType;
@@ -20,6 +21,7 @@ import com.skapp.community.leaveplanner.payload.request.AllLeaveRequestsResponse
 import com.skapp.community.leaveplanner.payload.request.LeaveRequestByIdResponseDto;
 import com.skapp.community.leaveplanner.payload.request.LeaveRequestDto;
 import com.skapp.community.leaveplanner.payload.request.LeaveTypeRequestDto;
+import com.skapp.community.leaveplanner.payload.response.CarryForwardJobResponseDto;
 import com.skapp.community.leaveplanner.payload.response.EmployeeLeaveEntitlementReportExportDto;
 import com.skapp.community.leaveplanner.payload.response.LeaveRequestManagerResponseDto;
 import com.skapp.community.leaveplanner.payload.response.LeaveRequestResponseDto;
@@ -52,6 +54,8 @@ public interface LeaveMapper {
 	CarryForwardInfo employeeLeaveTypeToCarryForwardInfo(Employee employeeToForward, LeaveType leaveType,
 			LocalDate leaveCycleEndDate);
 
+	CarryForwardJobResponseDto carryForwardJobToCarryForwardJobResponseDto(CarryForwardJob carryForwardJob);
+
 	@Mapping(target = "employee", source = "employeeToForward")
 	@Mapping(target = "totalDaysUsed", constant = "0F")
 	@Mapping(target = "reason", constant = "Carry Forward")
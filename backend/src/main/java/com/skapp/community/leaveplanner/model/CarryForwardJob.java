@@ -0,0 +1,68 @@
+package com.skapp.community.leaveplanner.model;
+
+import com.skapp.community.common.model.Auditable;
+import com.skapp.community.leaveplanner.type.CarryForwardJobStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A carry forward run for a set of leave types. The last leave type and employee that
+ * were committed are kept as a checkpoint, so a failed or interrupted run continues after
+ * them instead of starting over. There is one job per leave types and year, and its
+ * version guards against two instances running it at once.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "carry_forward_job",
+		uniqueConstraints = @UniqueConstraint(name = "UK_carry_forward_job_leave_type_ids_cycle_start_year",
+				columnNames = { "leave_type_ids", "cycle_start_year" }))
+public class CarryForwardJob extends Auditable<String> {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "job_id")
+	private Long jobId;
+
+	@Column(name = "leave_type_ids", nullable = false)
+	private String leaveTypeIds;
+
+	@Column(name = "cycle_start_year", nullable = false)
+	private Integer cycleStartYear;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false, columnDefinition = "varchar(255)")
+	private CarryForwardJobStatus status;
+
+	@Column(name = "total_employees", nullable = false)
+	private Integer totalEmployees = 0;
+
+	@Column(name = "processed_employees", nullable = false)
+	private Integer processedEmployees = 0;
+
+	@Column(name = "last_leave_type_id")
+	private Long lastLeaveTypeId;
+
+	@Column(name = "last_employee_id")
+	private Long lastEmployeeId;
+
+	@Column(name = "error_message")
+	private String errorMessage;
+
+	@Version
+	@Column(name = "version", nullable = false)
+	private Long version;
+
+}
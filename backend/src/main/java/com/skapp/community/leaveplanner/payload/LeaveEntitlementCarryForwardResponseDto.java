@@ -1,5 +1,6 @@
 package com.skapp.community.leaveplanner.payload;
 
+import com.skapp.community.leaveplanner.payload.response.CarryForwardJobResponseDto;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -9,4 +10,6 @@ public class LeaveEntitlementCarryForwardResponseDto {
 
 	private String message;
 
+	private CarryForwardJobResponseDto carryForwardJob;
+
 }
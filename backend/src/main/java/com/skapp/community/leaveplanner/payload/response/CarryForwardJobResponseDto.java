@@ -0,0 +1,23 @@
+package com.skapp.community.leaveplanner.payload.response;
+
+import com.skapp.community.leaveplanner.type.CarryForwardJobStatus;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class CarryForwardJobResponseDto {
+
+	private Long jobId;
+
+	private CarryForwardJobStatus status;
+
+	private Integer cycleStartYear;
+
+	private Integer totalEmployees;
+
+	private Integer processedEmployees;
+
+	private String errorMessage;
+
+}
@@ -3,6 +3,8 @@ package com.skapp.community.leaveplanner.repository;
 import com.skapp.community.leaveplanner.model.CarryForwardInfo;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CarryForwardInfoRepository {
@@ -10,4 +12,7 @@ public interface CarryForwardInfoRepository {
 	Optional<CarryForwardInfo> findByEmployeeEmployeeIdAndLeaveTypeTypeIdAndCycleEndDate(Long employeeId, Long typeId,
 			LocalDate leaveCycleEndDate);
 
+	List<CarryForwardInfo> findByLeaveTypeIdAndCycleEndDateAndEmployeeIds(Long typeId, LocalDate leaveCycleEndDate,
+			Collection<Long> employeeIds);
+
 }
@@ -0,0 +1,12 @@
+package com.skapp.community.leaveplanner.repository;
+
+import com.skapp.community.leaveplanner.model.CarryForwardJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface CarryForwardJobDao extends JpaRepository<CarryForwardJob, Long> {
+
+	Optional<CarryForwardJob> findByLeaveTypeIdsAndCycleStartYear(String leaveTypeIds, Integer cycleStartYear);
+
+}
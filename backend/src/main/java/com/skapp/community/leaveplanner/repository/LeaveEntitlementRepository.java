@@ -12,6 +12,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,11 +26,10 @@ public interface LeaveEntitlementRepository {
 
 	List<LeaveEntitlement> findCustomLeavesById(Long id);
 
-	List<Employee> findAllEmployeeIdsWithForwardingEntitlements(Long typeId, boolean isActive,
-			LocalDate leaveCycleEndDate);
+	List<Long> findEmployeeIdsWithForwardingEntitlements(Long typeId, LocalDate leaveCycleEndDate, Long lastEmployeeId);
 
-	List<LeaveEntitlement> findLeaveEntitlements(Long typeId, boolean isActive, LocalDate leaveCycleEndDate,
-			Long employeeId);
+	List<LeaveEntitlement> findForwardingLeaveEntitlements(Long typeId, LocalDate leaveCycleEndDate,
+			Collection<Long> employeeIds);
 
 	Page<LeaveEntitlement> findLeaveEntitlementsByLeaveTypesAndActiveState(List<Long> leaveTypes, boolean isActive,
 			LocalDate leaveCycleEndDate, Pageable page);
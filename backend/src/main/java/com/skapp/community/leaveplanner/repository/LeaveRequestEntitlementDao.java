@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,4 +17,7 @@ public interface LeaveRequestEntitlementDao
 
 	List<LeaveRequestEntitlement> findAllByLeaveRequest(LeaveRequest leaveRequest);
 
+	List<LeaveRequestEntitlement> findAllByLeaveRequestInOrderByLeaveEntitlement_ValidToAsc(
+			Collection<LeaveRequest> leaveRequests);
+
 }
@@ -1,6 +1,7 @@
 package com.skapp.community.leaveplanner.repository;
 
 import com.skapp.community.common.model.User;
+import com.skapp.community.common.util.WorkingDayCalendar;
 import com.skapp.community.leaveplanner.model.LeaveRequest;
 import com.skapp.community.leaveplanner.payload.EmployeeLeaveHistoryFilterDto;
 import com.skapp.community.leaveplanner.payload.LeaveRequestFilterDto;
@@ -16,7 +17,6 @@ import com.skapp.community.leaveplanner.repository.projection.ManagerLeaveTrend;
 import com.skapp.community.leaveplanner.repository.projection.OrganizationLeaveTrendForTheYear;
 import com.skapp.community.leaveplanner.repository.projection.TeamLeaveCountByType;
 import com.skapp.community.leaveplanner.repository.projection.TeamLeaveTrendForTheYear;
-import com.skapp.community.timeplanner.model.TimeConfig;
 import lombok.NonNull;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -58,6 +58,11 @@ public interface LeaveRequestRepository {
 
 	LeaveRequest findByEmployeeAndDate(Long employeeId, LocalDate date);
 
+	List<LeaveRequest> findLeaveRequestsForEmployeesOnDate(List<Long> employeeIds, LocalDate date);
+
+	List<LeaveRequest> findLeaveRequestsForEmployeesInRange(List<Long> employeeIds, LocalDate fromDate,
+			LocalDate toDate);
+
 	Page<LeaveRequest> findAllLeaveRequests(Long managerEmployeeId, LeaveRequestFilterDto leaveRequestFilterDto,
 			Pageable page);
 
@@ -74,6 +79,9 @@ public interface LeaveRequestRepository {
 	List<LeaveRequest> getEmployeesOnLeaveByTeamAndDate(List<Long> teams, LocalDate current, Long currentUserId,
 			boolean isLeaveAdmin);
 
+	List<LeaveRequest> getEmployeesOnLeaveByTeamAndDateRange(List<Long> teams, LocalDate startDate, LocalDate endDate,
+			Long currentUserId, boolean isLeaveAdmin);
+
 	List<EmployeeLeaveRequestReportExportDto> generateLeaveRequestDetailedReport(List<Long> leaveTypeIds,
 			LocalDate startDate, LocalDate endDate, Long jobFamilyId, Long teamId, List<String> statuses);
 
@@ -82,9 +90,7 @@ public interface LeaveRequestRepository {
 			Pageable pageable);
 
 	Float findAllEmployeeRequestsByWithinThirtyDays(LocalDate startDate, LocalDate endDate,
-
-			List<TimeConfig> timeConfigs, List<LocalDate> holidayDates, List<Long> teamIds,
-			String organizationTimeZone);
+			WorkingDayCalendar workingDayCalendar, List<Long> teamIds);
 
 	List<LeaveTrendByDay> findLeaveTrendAwayByDay(LocalDate startDate, LocalDate endDate,
 			List<Integer> workingDaysIndex, List<LocalDate> holidayDates);
@@ -20,6 +20,7 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -54,4 +55,26 @@ public class CarryForwardInfoRepositoryImpl implements CarryForwardInfoRepositor
 		return query.getResultList().stream().findFirst();
 	}
 
+	@Override
+	public List<CarryForwardInfo> findByLeaveTypeIdAndCycleEndDateAndEmployeeIds(Long leaveTypeId,
+			LocalDate leaveCycleEndDate, Collection<Long> employeeIds) {
+		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<CarryForwardInfo> criteriaQuery = criteriaBuilder.createQuery(CarryForwardInfo.class);
+		Root<CarryForwardInfo> root = criteriaQuery.from(CarryForwardInfo.class);
+		Join<CarryForwardInfo, Employee> employee = root.join(CarryForwardInfo_.employee);
+		Join<CarryForwardInfo, LeaveType> leaveType = root.join(CarryForwardInfo_.leaveType);
+
+		List<Predicate> predicates = new ArrayList<>();
+		predicates.add(criteriaBuilder.equal(root.get(CarryForwardInfo_.cycleEndDate), leaveCycleEndDate));
+		predicates.add(employee.get(Employee_.employeeId).in(employeeIds));
+		predicates.add(criteriaBuilder.equal(leaveType.get(LeaveType_.typeId), leaveTypeId));
+
+		Predicate[] predArray = new Predicate[predicates.size()];
+		predicates.toArray(predArray);
+		criteriaQuery.where(predArray);
+		criteriaQuery.orderBy(criteriaBuilder.asc(root.get(CarryForwardInfo_.infoId)));
+
+		return entityManager.createQuery(criteriaQuery).getResultList();
+	}
+
 }
@@ -10,6 +10,7 @@ import com.skapp.community.common.type.CriteriaBuilderSqlLiteral;
 import com.skapp.community.common.type.OrganizationConfigType;
 import com.skapp.community.common.util.DateTimeUtils;
 import com.skapp.community.common.util.MessageUtil;
+import com.skapp.community.common.util.PaginationUtils;
 import com.skapp.community.leaveplanner.constant.LeaveMessageConstant;
 import com.skapp.community.leaveplanner.constant.LeaveModuleConstant;
 import com.skapp.community.leaveplanner.model.CarryForwardInfo;
@@ -59,6 +60,7 @@ import tools.jackson.databind.node.ObjectNode;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -150,50 +152,53 @@ public class LeaveEntitlementRepositoryImpl implements LeaveEntitlementRepositor
 	}
 
 	@Override
-	public List<Employee> findAllEmployeeIdsWithForwardingEntitlements(Long leaveTypeId, boolean isActive,
-			LocalDate leaveCycleEndDate) {
+	public List<Long> findEmployeeIdsWithForwardingEntitlements(Long leaveTypeId, LocalDate leaveCycleEndDate,
+			Long lastEmployeeId) {
 		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-		CriteriaQuery<Employee> criteriaQuery = criteriaBuilder.createQuery(Employee.class);
+		CriteriaQuery<Long> criteriaQuery = criteriaBuilder.createQuery(Long.class);
 		Root<LeaveEntitlement> root = criteriaQuery.from(LeaveEntitlement.class);
+		Join<LeaveEntitlement, Employee> employeeJoin = root.join(LeaveEntitlement_.employee);
 
 		List<Predicate> predicates = new ArrayList<>();
 		predicates.add(criteriaBuilder.equal(root.get(LeaveEntitlement_.LEAVE_TYPE).get(TYPE_ID), leaveTypeId));
-		predicates.add(criteriaBuilder.equal(root.get(LeaveEntitlement_.isActive), isActive));
+		predicates.add(criteriaBuilder.isTrue(root.get(LeaveEntitlement_.isActive)));
 		predicates.add(criteriaBuilder.equal(root.get(LeaveEntitlement_.validTo), leaveCycleEndDate));
 		predicates.add(criteriaBuilder.greaterThan(root.get(LeaveEntitlement_.totalDaysAllocated),
 				root.get(LeaveEntitlement_.totalDaysUsed)));
+		predicates.add(PaginationUtils.getKeysetPredicate(criteriaBuilder, employeeJoin.get(Employee_.employeeId),
+				lastEmployeeId, Sort.Direction.ASC));
 
 		Predicate[] predArray = new Predicate[predicates.size()];
 		predicates.toArray(predArray);
 		criteriaQuery.where(predArray);
-		criteriaQuery.select(root.get(LeaveEntitlement_.employee)).distinct(true);
+		criteriaQuery.select(employeeJoin.get(Employee_.employeeId)).distinct(true);
+		criteriaQuery.orderBy(criteriaBuilder.asc(employeeJoin.get(Employee_.employeeId)));
 
-		TypedQuery<Employee> typedQuery = entityManager.createQuery(criteriaQuery);
-		return typedQuery.getResultList();
+		return entityManager.createQuery(criteriaQuery).getResultList();
 	}
 
 	@Override
-	public List<LeaveEntitlement> findLeaveEntitlements(Long leaveTypeId, boolean isActive, LocalDate leaveCycleEndDate,
-			Long employeeId) {
+	public List<LeaveEntitlement> findForwardingLeaveEntitlements(Long leaveTypeId, LocalDate leaveCycleEndDate,
+			Collection<Long> employeeIds) {
 		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
 		CriteriaQuery<LeaveEntitlement> criteriaQuery = criteriaBuilder.createQuery(LeaveEntitlement.class);
 		Root<LeaveEntitlement> root = criteriaQuery.from(LeaveEntitlement.class);
-		Join<LeaveEntitlement, Employee> employeeJoin = root.join(LeaveEntitlement_.employee);
+		root.fetch(LeaveEntitlement_.employee);
 
 		List<Predicate> predicates = new ArrayList<>();
 		predicates.add(criteriaBuilder.equal(root.get(LeaveEntitlement_.LEAVE_TYPE).get(TYPE_ID), leaveTypeId));
-		predicates.add(criteriaBuilder.equal(root.get(LeaveEntitlement_.isActive), isActive));
+		predicates.add(criteriaBuilder.isTrue(root.get(LeaveEntitlement_.isActive)));
 		predicates.add(criteriaBuilder.equal(root.get(LeaveEntitlement_.validTo), leaveCycleEndDate));
-		predicates.add(criteriaBuilder.equal(employeeJoin.get(Employee_.employeeId), employeeId));
+		predicates.add(root.get(LeaveEntitlement_.employee).get(Employee_.employeeId).in(employeeIds));
 		predicates.add(criteriaBuilder.greaterThan(root.get(LeaveEntitlement_.totalDaysAllocated),
 				root.get(LeaveEntitlement_.totalDaysUsed)));
 
 		Predicate[] predArray = new Predicate[predicates.size()];
 		predicates.toArray(predArray);
 		criteriaQuery.where(predArray);
+		criteriaQuery.orderBy(criteriaBuilder.asc(root.get(LeaveEntitlement_.entitlementId)));
 
-		TypedQuery<LeaveEntitlement> typedQuery = entityManager.createQuery(criteriaQuery);
-		return typedQuery.getResultList();
+		return entityManager.createQuery(criteriaQuery).getResultList();
 	}
 
 	@Override
@@ -219,10 +224,7 @@ public class LeaveEntitlementRepositoryImpl implements LeaveEntitlementRepositor
 		criteriaQuery.where(predArray);
 
 		TypedQuery<LeaveEntitlement> query = entityManager.createQuery(criteriaQuery);
-		int totalRows = query.getResultList().size();
-		query.setFirstResult(page.getPageNumber() * page.getPageSize());
-		query.setMaxResults(page.getPageSize());
-		return new PageImpl<>(query.getResultList(), page, totalRows);
+		return PaginationUtils.getPage(query, page);
 	}
 
 	@Override
@@ -293,10 +295,7 @@ public class LeaveEntitlementRepositoryImpl implements LeaveEntitlementRepositor
 		}
 
 		TypedQuery<LeaveEntitlement> query = entityManager.createQuery(criteriaQuery);
-		int totalRows = query.getResultList().size();
-		query.setFirstResult(page.getPageNumber() * page.getPageSize());
-		query.setMaxResults(page.getPageSize());
-		return new PageImpl<>(query.getResultList(), page, totalRows);
+		return PaginationUtils.getPage(query, page);
 	}
 
 	@Override
@@ -944,11 +943,7 @@ public class LeaveEntitlementRepositoryImpl implements LeaveEntitlementRepositor
 		criteriaQuery.select(root.get(LeaveEntitlement_.employee).get(Employee_.employeeId)).distinct(true);
 
 		TypedQuery<Long> typedQuery = entityManager.createQuery(criteriaQuery);
-		int totalRows = typedQuery.getResultList().size();
-		typedQuery.setFirstResult(page.getPageNumber() * page.getPageSize());
-		typedQuery.setMaxResults(page.getPageSize());
-
-		return new PageImpl<>(typedQuery.getResultList(), page, totalRows);
+		return PaginationUtils.getPage(typedQuery, page);
 	}
 
 	private List<Predicate> getLeaveCarryForwardPredicates(CriteriaBuilder criteriaBuilder, Root<LeaveEntitlement> root,
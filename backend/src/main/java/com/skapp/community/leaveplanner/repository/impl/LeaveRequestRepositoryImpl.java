@@ -8,9 +8,10 @@ import com.skapp.community.common.model.User_;
 import com.skapp.community.common.type.CriteriaBuilderSqlFunction;
 import com.skapp.community.common.type.CriteriaBuilderSqlLiteral;
 import com.skapp.community.common.type.OrganizationConfigType;
-import com.skapp.community.common.util.CommonModuleUtils;
 import com.skapp.community.common.util.DateTimeUtils;
 import com.skapp.community.common.util.MessageUtil;
+import com.skapp.community.common.util.PaginationUtils;
+import com.skapp.community.common.util.WorkingDayCalendar;
 import com.skapp.community.leaveplanner.constant.LeaveMessageConstant;
 import com.skapp.community.leaveplanner.model.LeaveRequest;
 import com.skapp.community.leaveplanner.model.LeaveRequest_;
@@ -34,6 +35,7 @@ import com.skapp.community.leaveplanner.repository.projection.TeamLeaveTrendForT
 import com.skapp.community.leaveplanner.type.LeaveRequestStatus;
 import com.skapp.community.leaveplanner.type.LeaveState;
 import com.skapp.community.leaveplanner.util.LeaveModuleUtil;
+import com.skapp.community.leaveplanner.util.LeaveTrendUtil;
 import com.skapp.community.peopleplanner.model.Employee;
 import com.skapp.community.peopleplanner.model.EmployeeManager;
 import com.skapp.community.peopleplanner.model.EmployeeManager_;
@@ -47,8 +49,8 @@ import com.skapp.community.peopleplanner.model.Team_;
 import com.skapp.community.peopleplanner.type.AccountStatus;
 import com.skapp.community.peopleplanner.type.LeaveCycleConfigField;
 import com.skapp.community.peopleplanner.util.PeopleUtil;
-import com.skapp.community.timeplanner.model.TimeConfig;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
@@ -75,7 +77,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -105,17 +106,16 @@ public class LeaveRequestRepositoryImpl implements LeaveRequestRepository {
 		return removingDays;
 	}
 
-	public static float getLeaveCount(List<LeaveRequest> leaveRequests, List<LocalDate> holidays,
-			List<TimeConfig> timeConfigs, String organizationTimeZone) {
+	public static float getLeaveCount(List<LeaveRequest> leaveRequests, WorkingDayCalendar workingDayCalendar) {
 		float leaveCount = 0;
 		for (LeaveRequest leaveRequest : leaveRequests) {
 			if (leaveRequest.getLeaveState().equals(LeaveState.FULLDAY)
 					&& leaveRequest.getEndDate().isAfter(leaveRequest.getStartDate())) {
-				leaveCount = leaveCount + getAllDaysBetween(leaveRequest.getStartDate(), leaveRequest.getEndDate(),
-						holidays, timeConfigs, organizationTimeZone);
+				leaveCount = leaveCount
+						+ getAllDaysBetween(leaveRequest.getStartDate(), leaveRequest.getEndDate(), workingDayCalendar);
 			}
-			else if (!holidays.contains(leaveRequest.getStartDate()) && !CommonModuleUtils
-				.checkIfDayIsWorkingDay(leaveRequest.getStartDate(), timeConfigs, organizationTimeZone)) {
+			else if (!workingDayCalendar.isHoliday(leaveRequest.getStartDate())
+					&& !workingDayCalendar.isWorkingDay(leaveRequest.getStartDate())) {
 				leaveCount = leaveRequest.getLeaveState().equals(LeaveState.FULLDAY) ? leaveCount + 1
 						: (float) (leaveCount + 0.5);
 			}
@@ -123,12 +123,11 @@ public class LeaveRequestRepositoryImpl implements LeaveRequestRepository {
 		return leaveCount;
 	}
 
-	public static Integer getAllDaysBetween(LocalDate startDate, LocalDate endDate, List<LocalDate> holidays,
-			List<TimeConfig> timeConfigs, String organizationTimeZone) {
+	public static Integer getAllDaysBetween(LocalDate startDate, LocalDate endDate,
+			WorkingDayCalendar workingDayCalendar) {
 		int daysBetween = 0;
 
-		while (!holidays.contains(startDate)
-				&& !CommonModuleUtils.checkIfDayIsWorkingDay(startDate, timeConfigs, organizationTimeZone)
+		while (!workingDayCalendar.isHoliday(startDate) && !workingDayCalendar.isWorkingDay(startDate)
 				&& (startDate.isBefore(endDate) || startDate.isEqual(endDate))) {
 			daysBetween = daysBetween + 1;
 			startDate = startDate.plusDays(1);
@@ -264,8 +263,7 @@ public class LeaveRequestRepositoryImpl implements LeaveRequestRepository {
 
 	@Override
 	public Float findAllEmployeeRequestsByWithinThirtyDays(LocalDate startDate, LocalDate endDate,
-			List<TimeConfig> timeConfigs, List<LocalDate> holidayDates, List<Long> teamIds,
-			String organizationTimeZone) {
+			WorkingDayCalendar workingDayCalendar, List<Long> teamIds) {
 		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
 
 		CriteriaQuery<LeaveRequest> criteriaQuery = criteriaBuilder.createQuery(LeaveRequest.class);
@@ -295,7 +293,7 @@ public class LeaveRequestRepositoryImpl implements LeaveRequestRepository {
 		criteriaQuery.where(predicates.toArray(new Predicate[0]));
 		TypedQuery<LeaveRequest> query = entityManager.createQuery(criteriaQuery);
 
-		return getLeaveCount(query.getResultList(), holidayDates, timeConfigs, organizationTimeZone);
+		return getLeaveCount(query.getResultList(), workingDayCalendar);
 	}
 
 	private List<Predicate> createPredicatesForLeaverRequest(CriteriaBuilder cb, Root<LeaveRequest> leaveRequest,
@@ -508,11 +506,7 @@ public class LeaveRequestRepositoryImpl implements LeaveRequestRepository {
 		criteriaQuery.where(predArray);
 		criteriaQuery.orderBy(QueryUtils.toOrders(page.getSort(), root, criteriaBuilder));
 		TypedQuery<LeaveRequest> query = entityManager.createQuery(criteriaQuery);
-		int totalRows = query.getResultList().size();
-		query.setFirstResult(page.getPageNumber() * page.getPageSize());
-		query.setMaxResults(page.getPageSize());
-
-		return new PageImpl<>(query.getResultList(), page, totalRows);
+		return PaginationUtils.getPage(query, page);
 	}
 
 	@Override
@@ -550,10 +544,7 @@ public class LeaveRequestRepositoryImpl implements LeaveRequestRepository {
 		criteriaQuery.where(predArray);
 		criteriaQuery.orderBy(QueryUtils.toOrders(page.getSort(), root, criteriaBuilder));
 		TypedQuery<LeaveRequest> query = entityManager.createQuery(criteriaQuery);
-		int totalRows = query.getResultList().size();
-		query.setFirstResult(page.getPageNumber() * page.getPageSize());
-		query.setMaxResults(page.getPageSize());
-		return new PageImpl<>(query.getResultList(), page, totalRows);
+		return PaginationUtils.getPage(query, page);
 	}
 
 	@Override
@@ -792,11 +783,7 @@ public class LeaveRequestRepositoryImpl implements LeaveRequestRepository {
 
 		TypedQuery<LeaveRequest> query = entityManager.createQuery(criteriaQuery);
 
-		int totalRows = query.getResultList().size();
-		query.setFirstResult(page.getPageNumber() * page.getPageSize());
-		query.setMaxResults(page.getPageSize());
-
-		return new PageImpl<>(query.getResultList(), page, totalRows);
+		return PaginationUtils.getPage(query, page);
 	}
 
 	@Override
@@ -872,11 +859,7 @@ public class LeaveRequestRepositoryImpl implements LeaveRequestRepository {
 
 		TypedQuery<LeaveRequest> query = entityManager.createQuery(criteriaQuery);
 
-		int totalRows = query.getResultList().size();
-		query.setFirstResult(page.getPageNumber() * page.getPageSize());
-		query.setMaxResults(page.getPageSize());
-
-		return new PageImpl<>(query.getResultList(), page, totalRows);
+		return PaginationUtils.getPage(query, page);
 	}
 
 	@Override
@@ -919,11 +902,7 @@ public class LeaveRequestRepositoryImpl implements LeaveRequestRepository {
 
 		TypedQuery<LeaveRequest> query = entityManager.createQuery(criteriaQuery);
 
-		int totalRows = query.getResultList().size();
-		query.setFirstResult(page.getPageNumber() * page.getPageSize());
-		query.setMaxResults(page.getPageSize());
-
-		return new PageImpl<>(query.getResultList(), page, totalRows);
+		return PaginationUtils.getPage(query, page);
 	}
 
 	@Override
@@ -992,6 +971,12 @@ public class LeaveRequestRepositoryImpl implements LeaveRequestRepository {
 	@Override
 	public List<LeaveRequest> getEmployeesOnLeaveByTeamAndDate(List<Long> teams, LocalDate current, Long currentUserId,
 			boolean isLeaveAdmin) {
+		return getEmployeesOnLeaveByTeamAndDateRange(teams, current, current, currentUserId, isLeaveAdmin);
+	}
+
+	@Override
+	public List<LeaveRequest> getEmployeesOnLeaveByTeamAndDateRange(List<Long> teams, LocalDate startDate,
+			LocalDate endDate, Long currentUserId, boolean isLeaveAdmin) {
 		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
 		CriteriaQuery<LeaveRequest> criteriaQuery = criteriaBuilder.createQuery(LeaveRequest.class);
 		Root<LeaveRequest> leaveRequestRoot = criteriaQuery.from(LeaveRequest.class);
@@ -1002,8 +987,8 @@ public class LeaveRequestRepositoryImpl implements LeaveRequestRepository {
 		if (teams == null || teams.isEmpty() || teams.contains(-1L)) {
 			if (isLeaveAdmin) {
 				Predicate leaveDatePredicate = criteriaBuilder.and(
-						criteriaBuilder.lessThanOrEqualTo(leaveRequestRoot.get(LeaveRequest_.startDate), current),
-						criteriaBuilder.greaterThanOrEqualTo(leaveRequestRoot.get(LeaveRequest_.endDate), current));
+						criteriaBuilder.lessThanOrEqualTo(leaveRequestRoot.get(LeaveRequest_.startDate), endDate),
+						criteriaBuilder.greaterThanOrEqualTo(leaveRequestRoot.get(LeaveRequest_.endDate), startDate));
 				predicates.add(leaveDatePredicate);
 
 				Predicate leaveStatusPredicate = leaveRequestRoot.get(LeaveRequest_.status)
@@ -1036,8 +1021,8 @@ public class LeaveRequestRepositoryImpl implements LeaveRequestRepository {
 		}
 
 		Predicate leaveDatePredicate = criteriaBuilder.and(
-				criteriaBuilder.lessThanOrEqualTo(leaveRequestRoot.get(LeaveRequest_.startDate), current),
-				criteriaBuilder.greaterThanOrEqualTo(leaveRequestRoot.get(LeaveRequest_.endDate), current));
+				criteriaBuilder.lessThanOrEqualTo(leaveRequestRoot.get(LeaveRequest_.startDate), endDate),
+				criteriaBuilder.greaterThanOrEqualTo(leaveRequestRoot.get(LeaveRequest_.endDate), startDate));
 		predicates.add(leaveDatePredicate);
 
 		Predicate leaveStatusPredicate = leaveRequestRoot.get(LeaveRequest_.status)
@@ -1048,6 +1033,35 @@ public class LeaveRequestRepositoryImpl implements LeaveRequestRepository {
 		return entityManager.createQuery(criteriaQuery).getResultList();
 	}
 
+	@Override
+	public List<LeaveRequest> findLeaveRequestsForEmployeesOnDate(List<Long> employeeIds, LocalDate date) {
+		return findLeaveRequestsForEmployeesInRange(employeeIds, date, date);
+	}
+
+	@Override
+	public List<LeaveRequest> findLeaveRequestsForEmployeesInRange(List<Long> employeeIds, LocalDate fromDate,
+			LocalDate toDate) {
+		if (employeeIds == null || employeeIds.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<LeaveRequest> criteriaQuery = criteriaBuilder.createQuery(LeaveRequest.class);
+		Root<LeaveRequest> leaveRequestRoot = criteriaQuery.from(LeaveRequest.class);
+
+		Join<LeaveRequest, Employee> employeeJoin = leaveRequestRoot.join(LeaveRequest_.employee);
+		List<Predicate> predicates = new ArrayList<>();
+
+		predicates.add(employeeJoin.get(Employee_.employeeId).in(employeeIds));
+		predicates.add(criteriaBuilder.lessThanOrEqualTo(leaveRequestRoot.get(LeaveRequest_.startDate), toDate));
+		predicates.add(criteriaBuilder.greaterThanOrEqualTo(leaveRequestRoot.get(LeaveRequest_.endDate), fromDate));
+		predicates.add(
+				leaveRequestRoot.get(LeaveRequest_.status).in(LeaveRequestStatus.APPROVED, LeaveRequestStatus.PENDING));
+
+		criteriaQuery.select(leaveRequestRoot).where(predicates.toArray(new Predicate[0]));
+		return entityManager.createQuery(criteriaQuery).getResultList();
+	}
+
 	@Override
 	public List<LeaveRequest> findApprovedLeaveRequestsForEmployeesInRange(List<Long> employeeIds, LocalDate fromDate,
 			LocalDate toDate) {
@@ -1133,121 +1147,41 @@ public class LeaveRequestRepositoryImpl implements LeaveRequestRepository {
 	@Override
 	public List<LeaveTrendByDay> findLeaveTrendAwayByDay(LocalDate startDate, LocalDate endDate,
 			List<Integer> workingDaysIndex, List<LocalDate> holidayDates) {
-		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-
-		List<LocalDate> allDates = startDate.datesUntil(endDate.plusDays(1)).filter(date -> {
-
-			if (workingDaysIndex != null && !workingDaysIndex.isEmpty()) {
-				int dayOfWeek = date.getDayOfWeek().getValue() % 7;
-				if (!workingDaysIndex.contains(dayOfWeek)) {
-					return false;
-				}
-			}
-			return holidayDates == null || !holidayDates.contains(date);
-		}).toList();
-
-		List<LeaveTrendByDay> result = new ArrayList<>();
-
-		for (LocalDate date : allDates) {
-			CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
-			Root<LeaveRequest> leaveRequest = countQuery.from(LeaveRequest.class);
-			Join<LeaveRequest, Employee> employee = leaveRequest.join(LeaveRequest_.employee);
-			Join<Employee, User> user = employee.join(Employee_.user);
-
-			List<Predicate> predicates = new ArrayList<>();
-
-			predicates.add(cb.lessThanOrEqualTo(leaveRequest.get(LeaveRequest_.startDate), date));
-			predicates.add(cb.greaterThanOrEqualTo(leaveRequest.get(LeaveRequest_.endDate), date));
-
-			predicates.add(
-					leaveRequest.get(LeaveRequest_.status).in(LeaveRequestStatus.APPROVED, LeaveRequestStatus.PENDING));
-
-			predicates.add(cb.equal(user.get(User_.isActive), true));
-
-			countQuery.select(cb.countDistinct(employee.get(Employee_.employeeId)));
-			countQuery.where(predicates.toArray(new Predicate[0]));
-
-			Long count = entityManager.createQuery(countQuery).getSingleResult();
-
-			final LocalDate finalDate = date;
-			final Integer employeeCount = count.intValue();
-
-			result.add(new LeaveTrendByDay() {
-				public LocalDate getLeaveDate() {
-					return finalDate;
-				}
-
-				public Integer getEmployeeCount() {
-					return employeeCount;
-				}
-			});
-		}
-
-		result.sort(Comparator.comparing(LeaveTrendByDay::getLeaveDate));
-		return result;
+		return LeaveTrendUtil.countEmployeesAwayByDay(findLeavePeriodsOverlapping(startDate, endDate), startDate,
+				endDate, workingDaysIndex, holidayDates);
 	}
 
 	@Override
 	public List<LeaveTrendByMonth> findLeaveTrendAwayByMonth(LocalDate startDate, LocalDate endDate,
 			List<Integer> workingDaysIndex, List<LocalDate> holidayDates) {
-		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-
-		List<LocalDate> allDates = startDate.datesUntil(endDate.plusDays(1)).filter(date -> {
-			if (workingDaysIndex != null && !workingDaysIndex.isEmpty()) {
-				int dayOfWeek = date.getDayOfWeek().getValue() % 7;
-				if (!workingDaysIndex.contains(dayOfWeek)) {
-					return false;
-				}
-			}
-			return holidayDates == null || !holidayDates.contains(date);
-		}).toList();
-
-		Map<Integer, Set<Long>> employeesByMonth = new HashMap<>();
-
-		for (LocalDate date : allDates) {
-			CriteriaQuery<Long> employeeQuery = cb.createQuery(Long.class);
-			Root<LeaveRequest> leaveRequest = employeeQuery.from(LeaveRequest.class);
-			Join<LeaveRequest, Employee> employee = leaveRequest.join(LeaveRequest_.employee);
-			Join<Employee, User> user = employee.join(Employee_.user);
-
-			List<Predicate> predicates = new ArrayList<>();
-
-			predicates.add(cb.lessThanOrEqualTo(leaveRequest.get(LeaveRequest_.startDate), date));
-			predicates.add(cb.greaterThanOrEqualTo(leaveRequest.get(LeaveRequest_.endDate), date));
-
-			predicates.add(
-					leaveRequest.get(LeaveRequest_.status).in(LeaveRequestStatus.APPROVED, LeaveRequestStatus.PENDING));
-
-			predicates.add(cb.equal(user.get(User_.isActive), true));
-
-			employeeQuery.select(employee.get(Employee_.employeeId));
-			employeeQuery.where(predicates.toArray(new Predicate[0]));
-			employeeQuery.distinct(true);
-
-			List<Long> employeesOnLeave = entityManager.createQuery(employeeQuery).getResultList();
-
-			int month = date.getMonthValue();
-			employeesByMonth.computeIfAbsent(month, k -> new HashSet<>()).addAll(employeesOnLeave);
-		}
+		return LeaveTrendUtil.countEmployeesAwayByMonth(findLeavePeriodsOverlapping(startDate, endDate), startDate,
+				endDate, workingDaysIndex, holidayDates);
+	}
 
-		List<LeaveTrendByMonth> result = new ArrayList<>();
-		for (Map.Entry<Integer, Set<Long>> entry : employeesByMonth.entrySet()) {
-			final Integer month = entry.getKey();
-			final Integer count = entry.getValue().size();
+	private List<LeaveTrendUtil.LeavePeriod> findLeavePeriodsOverlapping(LocalDate startDate, LocalDate endDate) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = cb.createTupleQuery();
+		Root<LeaveRequest> leaveRequest = query.from(LeaveRequest.class);
+		Join<LeaveRequest, Employee> employee = leaveRequest.join(LeaveRequest_.employee);
+		Join<Employee, User> user = employee.join(Employee_.user);
 
-			result.add(new LeaveTrendByMonth() {
-				public Integer getKeyValue() {
-					return month;
-				}
+		List<Predicate> predicates = new ArrayList<>();
+		predicates.add(cb.lessThanOrEqualTo(leaveRequest.get(LeaveRequest_.startDate), endDate));
+		predicates.add(cb.greaterThanOrEqualTo(leaveRequest.get(LeaveRequest_.endDate), startDate));
+		predicates
+			.add(leaveRequest.get(LeaveRequest_.status).in(LeaveRequestStatus.APPROVED, LeaveRequestStatus.PENDING));
+		predicates.add(cb.equal(user.get(User_.isActive), true));
 
-				public Integer getEmployeeCount() {
-					return count;
-				}
-			});
-		}
+		query.multiselect(employee.get(Employee_.employeeId), leaveRequest.get(LeaveRequest_.startDate),
+				leaveRequest.get(LeaveRequest_.endDate));
+		query.where(predicates.toArray(new Predicate[0]));
 
-		result.sort(Comparator.comparing(LeaveTrendByMonth::getKeyValue));
-		return result;
+		return entityManager.createQuery(query)
+			.getResultList()
+			.stream()
+			.map(tuple -> new LeaveTrendUtil.LeavePeriod(tuple.get(0, Long.class), tuple.get(1, LocalDate.class),
+					tuple.get(2, LocalDate.class)))
+			.toList();
 	}
 
 	public List<LeaveTypeBreakDown> findLeaveTypeBreakDown(List<Integer> workingDaysIndex, List<LocalDate> holidayDates,
@@ -36,6 +36,8 @@ public interface LeaveEntitlementService {
 
 	ResponseEntityDto forceCarryForwardEntitlements(List<Long> leaveTypes, Integer cycleStartYear);
 
+	ResponseEntityDto getCarryForwardJob(Long jobId);
+
 	ResponseEntityDto getCarryForwardEntitlements(CarryForwardLeaveTypesFilterDto carryForwardLeaveTypesFilterDto);
 
 	ResponseEntityDto getAllCustomLeaveEntitlements(CustomEntitlementsFilterDto customEntitlementsFilterDto);
@@ -7,10 +7,13 @@ import com.skapp.community.common.payload.response.PageDto;
 import com.skapp.community.common.payload.response.ResponseEntityDto;
 import com.skapp.community.common.repository.UserDao;
 import com.skapp.community.common.service.OrganizationService;
+import com.skapp.community.common.service.OrganizationSnapshotService;
+import com.skapp.community.common.service.WorkingDayCalendarService;
 import com.skapp.community.common.service.UserService;
 import com.skapp.community.common.type.Role;
 import com.skapp.community.common.util.CommonModuleUtils;
 import com.skapp.community.common.util.DateTimeUtils;
+import com.skapp.community.common.util.WorkingDayCalendar;
 import com.skapp.community.common.util.transformer.PageTransformer;
 import com.skapp.community.leaveplanner.constant.LeaveMessageConstant;
 import com.skapp.community.leaveplanner.mapper.LeaveMapper;
@@ -103,7 +106,6 @@ import com.skapp.community.peopleplanner.repository.JobFamilyDao;
 import com.skapp.community.peopleplanner.repository.TeamDao;
 import com.skapp.community.peopleplanner.util.PeopleUtil;
 import com.skapp.community.timeplanner.model.TimeConfig;
-import com.skapp.community.timeplanner.repository.TimeConfigDao;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -152,7 +154,7 @@ public class LeaveAnalyticsServiceImpl implements LeaveAnalyticsService {
 
 	private final HolidayDao holidayDao;
 
-	private final TimeConfigDao timeConfigDao;
+	private final OrganizationSnapshotService organizationSnapshotService;
 
 	private final LeaveRequestDao leaveRequestDao;
 
@@ -178,6 +180,8 @@ public class LeaveAnalyticsServiceImpl implements LeaveAnalyticsService {
 
 	private final OrganizationService organizationService;
 
+	private final WorkingDayCalendarService workingDayCalendarService;
+
 	public static Map<String, Float> mapMonthKeysToName(LocalDate startDate, LocalDate endDate,
 			Map<Integer, Double> leaveData) {
 		Map<String, Float> totalLeavesWithMonthsResultsSet = new LinkedHashMap<>();
@@ -330,10 +334,7 @@ public class LeaveAnalyticsServiceImpl implements LeaveAnalyticsService {
 		int year = instance.get(Calendar.YEAR);
 		LocalDate startDate = LocalDate.of(year, month, 1);
 		LocalDate endDate = startDate.withDayOfMonth(startDate.getMonth().length(startDate.isLeapYear()));
-		List<TimeConfig> timeConfigs = timeConfigDao.findAll();
-		List<LocalDate> holidays = holidayDao.findAllByIsActiveTrue().stream().map(Holiday::getDate).toList();
-		return CommonModuleUtils.getWorkingDaysBetweenTwoDates(startDate, endDate, timeConfigs, holidays,
-				organizationService.getOrganizationTimeZone());
+		return workingDayCalendarService.getWorkingDayCalendar().getWorkingDaysBetween(startDate, endDate);
 	}
 
 	private HashMap<Integer, Integer> getMonthlyLeaveTrends(LocalDate startDate, LocalDate endDate,
@@ -431,7 +432,11 @@ public class LeaveAnalyticsServiceImpl implements LeaveAnalyticsService {
 	public ResponseEntityDto getEmployeesOnLeave(EmployeesOnLeaveFilterDto employeesOnLeaveFilterDto) {
 		log.info("getEmployeesOnLeave: execution started");
 
-		List<DayOfWeek> workingDays = timeConfigDao.findAll().stream().map(TimeConfig::getDay).toList();
+		List<DayOfWeek> workingDays = organizationSnapshotService.getOrganizationSnapshot()
+			.getTimeConfigs()
+			.stream()
+			.map(TimeConfig::getDay)
+			.toList();
 		DayOfWeek checkingDay = employeesOnLeaveFilterDto.getDate().getDayOfWeek();
 
 		List<Holiday> holidayList = holidayDao.findAllByIsActiveTrueAndDate(employeesOnLeaveFilterDto.getDate());
@@ -499,7 +504,7 @@ public class LeaveAnalyticsServiceImpl implements LeaveAnalyticsService {
 	}
 
 	private List<Integer> getWorkingDaysIndex() {
-		List<TimeConfig> timeConfigs = timeConfigDao.findAll();
+		List<TimeConfig> timeConfigs = organizationSnapshotService.getOrganizationSnapshot().getTimeConfigs();
 		return timeConfigs.stream().map(TimeConfig::getDay).map(day -> day.getValue() % 7).toList();
 	}
 
@@ -611,7 +616,7 @@ public class LeaveAnalyticsServiceImpl implements LeaveAnalyticsService {
 		}
 
 		List<LocalDate> holidayDates = holidayDao.findAllByIsActiveTrue().stream().map(Holiday::getDate).toList();
-		List<TimeConfig> timeConfigs = timeConfigDao.findAll();
+		List<TimeConfig> timeConfigs = organizationSnapshotService.getOrganizationSnapshot().getTimeConfigs();
 		List<LeaveUtilizationByEmployeeMonthly> leaveUtilizationByEmployeeMonthly = leaveRequestDao
 			.findLeaveUtilizationByEmployeeMonthly(startDate, endDate,
 					CommonModuleUtils.getWorkingDaysIndex(timeConfigs), holidayDates, employeeId, leaveTypeIds);
@@ -659,7 +664,7 @@ public class LeaveAnalyticsServiceImpl implements LeaveAnalyticsService {
 		}
 
 		List<LocalDate> holidayDates = holidayDao.findAllByIsActiveTrue().stream().map(Holiday::getDate).toList();
-		List<TimeConfig> timeConfigs = timeConfigDao.findAll();
+		List<TimeConfig> timeConfigs = organizationSnapshotService.getOrganizationSnapshot().getTimeConfigs();
 		List<Integer> workingDays = CommonModuleUtils.getWorkingDaysIndex(timeConfigs);
 
 		List<OrganizationLeaveTrendForTheYear> organizationLeaveTrendForTheYears = leaveRequestDao
@@ -716,7 +721,7 @@ public class LeaveAnalyticsServiceImpl implements LeaveAnalyticsService {
 		}
 
 		List<LocalDate> holidayDates = holidayDao.findAllByIsActiveTrue().stream().map(Holiday::getDate).toList();
-		List<TimeConfig> timeConfigs = timeConfigDao.findAll();
+		List<TimeConfig> timeConfigs = organizationSnapshotService.getOrganizationSnapshot().getTimeConfigs();
 		List<Integer> workingDays = CommonModuleUtils.getWorkingDaysIndex(timeConfigs);
 
 		List<TeamLeaveTrendForTheYear> teamLeaveTrendForTheYears = leaveRequestDao.findTeamLeaveTrendForTheYear(teamId,
@@ -776,7 +781,7 @@ public class LeaveAnalyticsServiceImpl implements LeaveAnalyticsService {
 		}
 
 		List<LocalDate> holidayDates = holidayDao.findAllByIsActiveTrue().stream().map(Holiday::getDate).toList();
-		List<TimeConfig> timeConfigs = timeConfigDao.findAll();
+		List<TimeConfig> timeConfigs = organizationSnapshotService.getOrganizationSnapshot().getTimeConfigs();
 		List<Integer> workingDays = CommonModuleUtils.getWorkingDaysIndex(timeConfigs);
 		List<ManagerLeaveTrend> managerLeaveTrendForTheYears = leaveRequestDao.findLeaveTrendForTheManager(
 				leadingTeamsIds, workingDays, holidayDates, leaveTypeIds, startDate, endDate, employeeIds);
@@ -922,7 +927,7 @@ public class LeaveAnalyticsServiceImpl implements LeaveAnalyticsService {
 		/*
 		 * Getting the no of working days
 		 */
-		List<TimeConfig> timeConfigs = timeConfigDao.findAll();
+		List<TimeConfig> timeConfigs = organizationSnapshotService.getOrganizationSnapshot().getTimeConfigs();
 		List<LocalDate> holidayDates = holidayDao.findAllByIsActiveTrue().stream().map(Holiday::getDate).toList();
 
 		Long employeeCounts = employeeDao.findAllActiveEmployeesCount();
@@ -935,11 +940,10 @@ public class LeaveAnalyticsServiceImpl implements LeaveAnalyticsService {
 		 * as percentage
 		 */
 
-		String organizationTimeZone = organizationService.getOrganizationTimeZone();
-		int numOfWorkingDaysForTwoMonthsBack = CommonModuleUtils.getWorkingDaysBetweenTwoDates(firstDateOfYear,
-				twoMonthsBackLastDay, timeConfigs, holidayDates, organizationTimeZone);
-		int numOfWorkingDaysForCurrentDate = CommonModuleUtils.getWorkingDaysBetweenTwoDates(firstDateOfYear,
-				currentDate, timeConfigs, holidayDates, organizationTimeZone);
+		WorkingDayCalendar workingDayCalendar = workingDayCalendarService.getWorkingDayCalendar();
+		int numOfWorkingDaysForTwoMonthsBack = workingDayCalendar.getWorkingDaysBetween(firstDateOfYear,
+				twoMonthsBackLastDay);
+		int numOfWorkingDaysForCurrentDate = workingDayCalendar.getWorkingDaysBetween(firstDateOfYear, currentDate);
 
 		float absenceRateForCurrentDate = getAbsenceRateForCurrentDate(firstDateOfYear, currentDate,
 				numOfWorkingDaysForCurrentDate, timeConfigs, holidayDates, employeeCounts);
@@ -952,7 +956,7 @@ public class LeaveAnalyticsServiceImpl implements LeaveAnalyticsService {
 		 * of last month - y
 		 */
 		float monthOnMonthAbsenceRate = getMonthOnMonthAbsenceRate(lastMonthFirstDay, lastMonthLastDay, employeeCounts,
-				absenceRateForTwoMonthsBack, timeConfigs, holidayDates);
+				absenceRateForTwoMonthsBack, timeConfigs, holidayDates, workingDayCalendar);
 
 		List<OrganizationalLeaveAnalyticsKPIDto> leaveAbsenceVacationAnalyticsDtoList = new ArrayList<>();
 
@@ -1025,26 +1029,22 @@ public class LeaveAnalyticsServiceImpl implements LeaveAnalyticsService {
 		LocalDate twoMonthsBackCurrentDay = currentDate.minusDays(59);
 		LocalDate oneMonthBackCurrentDay = currentDate.minusDays(29);
 
-		List<TimeConfig> timeConfigs = timeConfigDao.findAll();
-		List<LocalDate> holidayDates = holidayDao.findAllByIsActiveTrue().stream().map(Holiday::getDate).toList();
+		WorkingDayCalendar workingDayCalendar = workingDayCalendarService.getWorkingDayCalendar();
 		List<Team> teams = teamDao.findByTeamIdIn(teamIds);
 		LeaveModuleUtil.validateTeamsForLeaveAnalytics(teamIds, currentUser, teams);
 
 		List<Employee> allEmployees = teamIds.contains(-1L) ? employeeDao.findAll()
 				: employeeTeamDao.getEmployeesByTeamIds(teamIds, currentUser.getUserId(), isLeaveAdmin);
 
-		String organizationTimeZone = organizationService.getOrganizationTimeZone();
-
 		int numOfWorkingDaysSinceTwoMonthsBackToCurrent = CommonModuleUtils.addUpWorkingDaysForAllEmployee(allEmployees,
-				oneMonthBackCurrentDay, currentDate, timeConfigs, holidayDates, organizationTimeZone);
+				oneMonthBackCurrentDay, currentDate, workingDayCalendar);
 		int numOfWorkingDaysSinceTwoMonthsBackToOneMonth = CommonModuleUtils.addUpWorkingDaysForAllEmployee(
-				allEmployees, twoMonthsBackCurrentDay, oneMonthBackCurrentDay, timeConfigs, holidayDates,
-				organizationTimeZone);
+				allEmployees, twoMonthsBackCurrentDay, oneMonthBackCurrentDay, workingDayCalendar);
 
 		float absenceRateForCurrentDate = getAbsenceRateForPastThirtyWorkingDays(oneMonthBackCurrentDay, currentDate,
-				timeConfigs, holidayDates, teamIds);
+				workingDayCalendar, teamIds);
 		float absenceRateForTwoMonthsBack = getAbsenceRateForPastThirtyWorkingDays(twoMonthsBackCurrentDay,
-				oneMonthBackCurrentDay, timeConfigs, holidayDates, teamIds);
+				oneMonthBackCurrentDay, workingDayCalendar, teamIds);
 
 		OrganizationalAbsenceRateAnalyticsDto absenceRateAnalyticsDtos = new OrganizationalAbsenceRateAnalyticsDto();
 		absenceRateAnalyticsDtos.setType(OrganizationalLeaveAnalyticsKPIAbsenceType.CURRENT_ABSENCE_RATE);
@@ -1100,14 +1100,14 @@ public class LeaveAnalyticsServiceImpl implements LeaveAnalyticsService {
 	}
 
 	private float getAbsenceRateForPastThirtyWorkingDays(LocalDate firstDateOfYear, LocalDate twoMonthsBackLastDay,
-			List<TimeConfig> timeConfigs, List<LocalDate> holidayDates, List<Long> teamIds) {
+			WorkingDayCalendar workingDayCalendar, List<Long> teamIds) {
 		return leaveRequestDao.findAllEmployeeRequestsByWithinThirtyDays(firstDateOfYear, twoMonthsBackLastDay,
-				timeConfigs, holidayDates, teamIds.contains(-1L) ? null : teamIds,
-				organizationService.getOrganizationTimeZone());
+				workingDayCalendar, teamIds.contains(-1L) ? null : teamIds);
 	}
 
 	private float getMonthOnMonthAbsenceRate(LocalDate lastMonthFirstDay, LocalDate lastMonthLastDay,
-			Long employeeCounts, float absenceRate, List<TimeConfig> timeConfigs, List<LocalDate> holidayDates) {
+			Long employeeCounts, float absenceRate, List<TimeConfig> timeConfigs, List<LocalDate> holidayDates,
+			WorkingDayCalendar workingDayCalendar) {
 		/*
 		 * absence rate of last month = last month leave count / (working days for last
 		 * month * total employee count) * 100 month on month absence rate = absence rate
@@ -1115,8 +1115,7 @@ public class LeaveAnalyticsServiceImpl implements LeaveAnalyticsService {
 		 */
 		Float lastMonthLeaveCount = leaveRequestDao.findAllEmployeeRequestsByDateRangeQuery(lastMonthFirstDay,
 				lastMonthLastDay, CommonModuleUtils.getWorkingDaysIndex(timeConfigs), holidayDates);
-		int numOfWorkingDaysLastMonth = CommonModuleUtils.getWorkingDaysBetweenTwoDates(lastMonthFirstDay,
-				lastMonthLastDay, timeConfigs, holidayDates, organizationService.getOrganizationTimeZone());
+		int numOfWorkingDaysLastMonth = workingDayCalendar.getWorkingDaysBetween(lastMonthFirstDay, lastMonthLastDay);
 
 		float absenceRateOfLastMonth = (lastMonthLeaveCount / (numOfWorkingDaysLastMonth * employeeCounts)) * 100;
 		int currentMonth = DateTimeUtils.getMonthValue(DateTimeUtils.getCurrentUtcDate());
@@ -1147,10 +1146,10 @@ public class LeaveAnalyticsServiceImpl implements LeaveAnalyticsService {
 			ManagerTeamResourceAvailabilityDto managerTeamResourceAvailabilityDto) {
 		List<TeamResourceAvailabilityResponseDto> teamAvailabilityResponseDto = new ArrayList<>();
 		LocalDate currentDate = managerTeamResourceAvailabilityDto.getStartDate();
+		WorkingDayCalendar workingDayCalendar = workingDayCalendarService.getWorkingDayCalendar();
 		while (currentDate.isBefore(managerTeamResourceAvailabilityDto.getEndDate())
 				|| currentDate.equals(managerTeamResourceAvailabilityDto.getEndDate())) {
-			if (CommonModuleUtils.checkIfDayIsWorkingDay(currentDate, timeConfigDao.findAll(),
-					organizationService.getOrganizationTimeZone())) {
+			if (workingDayCalendar.isWorkingDay(currentDate)) {
 				TeamResourceAvailabilityResponseDto dto = new TeamResourceAvailabilityResponseDto();
 				dto.setDate(currentDate);
 				teamAvailabilityResponseDto.add(dto);
@@ -1298,7 +1297,7 @@ public class LeaveAnalyticsServiceImpl implements LeaveAnalyticsService {
 		isTeamUnderCurrentUserSupervision(currentUser, teamOptional.get(), "Leave Summary");
 
 		List<LocalDate> holidayDates = holidayDao.findAllByIsActiveTrue().stream().map(Holiday::getDate).toList();
-		List<TimeConfig> timeConfigs = timeConfigDao.findAll();
+		List<TimeConfig> timeConfigs = organizationSnapshotService.getOrganizationSnapshot().getTimeConfigs();
 		List<Integer> workingDays = CommonModuleUtils.getWorkingDaysIndex(timeConfigs);
 
 		LocalDate currentDate = DateTimeUtils.getCurrentUtcDate();
@@ -1361,8 +1360,8 @@ public class LeaveAnalyticsServiceImpl implements LeaveAnalyticsService {
 			List<TimeConfig> timeConfigs, LocalDate startDate, LocalDate endDate) {
 		List<TeamLeaveCountByType> teamLeaveCountByTypeForPeriod = leaveRequestDao.findTeamLeaveCountByType(id,
 				workingDays, holidayDates, startDate, endDate);
-		int workingDaysCountInPeriod = CommonModuleUtils.getWorkingDaysBetweenTwoDates(startDate, endDate, timeConfigs,
-				holidayDates, organizationService.getOrganizationTimeZone());
+		int workingDaysCountInPeriod = workingDayCalendarService.getWorkingDayCalendar()
+			.getWorkingDaysBetween(startDate, endDate);
 		double totalTeamLeaveCountForPeriod = teamLeaveCountByTypeForPeriod.stream()
 			.mapToDouble(TeamLeaveCountByType::getLeaveDaysCount)
 			.sum();
@@ -1453,7 +1452,8 @@ public class LeaveAnalyticsServiceImpl implements LeaveAnalyticsService {
 		List<Team> managerLeadingTeams = teamDao.findLeadingTeamsByManagerId(id);
 		LocalDate currentDate = DateTimeUtils.getCurrentUtcDate();
 
-		List<String> workingDays = timeConfigDao.findAll()
+		List<String> workingDays = organizationSnapshotService.getOrganizationSnapshot()
+			.getTimeConfigs()
 			.stream()
 			.map(TimeConfig::getDay)
 			.map(DayOfWeek::toString)
@@ -1834,7 +1834,8 @@ public class LeaveAnalyticsServiceImpl implements LeaveAnalyticsService {
 	public ResponseEntityDto getEmployeesOnLeaveByTeam(EmployeesOnLeaveFilterDto filterDto) {
 		log.info("getEmployeesOnLeaveByTeam: execution started");
 
-		List<String> workingDays = timeConfigDao.findAll()
+		List<String> workingDays = organizationSnapshotService.getOrganizationSnapshot()
+			.getTimeConfigs()
 			.stream()
 			.map(TimeConfig::getDay)
 			.map(DayOfWeek::toString)
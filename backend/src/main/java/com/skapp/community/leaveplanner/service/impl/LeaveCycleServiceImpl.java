@@ -1,9 +1,12 @@
 package com.skapp.community.leaveplanner.service.impl;
 
+import com.skapp.community.common.exception.ModuleException;
 import com.skapp.community.common.model.OrganizationConfig;
 import com.skapp.community.common.repository.OrganizationConfigDao;
+import com.skapp.community.common.service.OrganizationSnapshotService;
 import com.skapp.community.common.type.OrganizationConfigType;
 import com.skapp.community.common.util.DateTimeUtils;
+import com.skapp.community.leaveplanner.constant.LeaveMessageConstant;
 import com.skapp.community.leaveplanner.constant.LeaveModuleConstant;
 import com.skapp.community.leaveplanner.payload.LeaveCycleDetailsDto;
 import com.skapp.community.leaveplanner.service.LeaveCycleService;
@@ -11,15 +14,10 @@ import com.skapp.community.peopleplanner.type.LeaveCycleConfigField;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import tools.jackson.core.type.TypeReference;
-import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.json.JsonMapper;
 import tools.jackson.databind.node.ObjectNode;
 
 import java.time.LocalDate;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
 
 @Service
 @Slf4j
@@ -30,40 +28,15 @@ public class LeaveCycleServiceImpl implements LeaveCycleService {
 
 	private final JsonMapper mapper;
 
+	private final OrganizationSnapshotService organizationSnapshotService;
+
 	@Override
 	public LeaveCycleDetailsDto getLeaveCycleConfigs() {
-		Map<String, Object> leaveCycle = null;
-		Optional<OrganizationConfig> organizationConfig = organizationConfigDao
-			.findOrganizationConfigByOrganizationConfigType(OrganizationConfigType.LEAVE_CYCLE.name());
-
-		if (organizationConfig.isPresent() && Objects.equals(organizationConfig.get().getOrganizationConfigType(),
-				OrganizationConfigType.LEAVE_CYCLE.name())) {
-
-			leaveCycle = mapper.readValue(organizationConfig.get().getOrganizationConfigValue(), new TypeReference<>() {
-			});
-
+		LeaveCycleDetailsDto leaveCycleDetail = organizationSnapshotService.getOrganizationSnapshot().getLeaveCycle();
+		if (leaveCycleDetail == null) {
+			throw new ModuleException(LeaveMessageConstant.LEAVE_ERROR_LEAVE_CYCLE_CONFIG_NOT_FOUND);
 		}
 
-		JsonNode leaveCycleJson;
-		String jsonString = mapper.writeValueAsString(leaveCycle);
-		leaveCycleJson = mapper.readTree(jsonString);
-
-		LeaveCycleDetailsDto leaveCycleDetail = new LeaveCycleDetailsDto();
-
-		leaveCycleDetail.setStartDate(leaveCycleJson.get(LeaveCycleConfigField.START.getField())
-			.get(LeaveCycleConfigField.DATE.getField())
-			.intValue());
-		leaveCycleDetail.setStartMonth(leaveCycleJson.get(LeaveCycleConfigField.START.getField())
-			.get(LeaveCycleConfigField.MONTH.getField())
-			.intValue());
-		leaveCycleDetail.setEndDate(leaveCycleJson.get(LeaveCycleConfigField.END.getField())
-			.get(LeaveCycleConfigField.DATE.getField())
-			.intValue());
-		leaveCycleDetail.setEndMonth(leaveCycleJson.get(LeaveCycleConfigField.END.getField())
-			.get(LeaveCycleConfigField.MONTH.getField())
-			.intValue());
-		leaveCycleDetail.setIsDefault(leaveCycleJson.get(LeaveCycleConfigField.IS_DEFAULT.getField()).asBoolean());
-
 		return leaveCycleDetail;
 	}
 
@@ -162,6 +135,7 @@ public class LeaveCycleServiceImpl implements LeaveCycleService {
 		ObjectNode leaveCycle = saveLeaveCycleConfigs(1, 1, true);
 		String jsonObject = mapper.writeValueAsString(leaveCycle);
 		organizationConfigDao.save(new OrganizationConfig(OrganizationConfigType.LEAVE_CYCLE.name(), jsonObject));
+		organizationSnapshotService.invalidateOrganizationSnapshot();
 	}
 
 	private ObjectNode saveLeaveCycleConfigs(int startMonth, int startDate, boolean isDefault) {
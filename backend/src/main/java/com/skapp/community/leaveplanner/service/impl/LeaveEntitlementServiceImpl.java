@@ -11,6 +11,7 @@ import com.skapp.community.common.payload.response.PageDto;
 import com.skapp.community.common.payload.response.ResponseEntityDto;
 import com.skapp.community.common.repository.UserDao;
 import com.skapp.community.common.service.BulkContextService;
+import com.skapp.community.common.service.BulkExecutionService;
 import com.skapp.community.common.service.UserService;
 import com.skapp.community.common.type.BulkItemStatus;
 import com.skapp.community.common.util.CommonModuleUtils;
@@ -21,6 +22,7 @@ import com.skapp.community.leaveplanner.constant.LeaveMessageConstant;
 import com.skapp.community.leaveplanner.constant.LeaveModuleConstant;
 import com.skapp.community.leaveplanner.mapper.LeaveMapper;
 import com.skapp.community.leaveplanner.model.CarryForwardInfo;
+import com.skapp.community.leaveplanner.model.CarryForwardJob;
 import com.skapp.community.leaveplanner.model.LeaveEntitlement;
 import com.skapp.community.leaveplanner.model.LeaveType;
 import com.skapp.community.leaveplanner.payload.BulkLeaveEntitlementDto;
@@ -45,22 +47,27 @@ import com.skapp.community.leaveplanner.payload.SummarizedCustomLeaveEntitlement
 import com.skapp.community.leaveplanner.payload.response.EntitlementBasicDetailsDto;
 import com.skapp.community.leaveplanner.payload.response.LeaveTypeBasicDetailsResponseDto;
 import com.skapp.community.leaveplanner.repository.CarryForwardInfoDao;
+import com.skapp.community.leaveplanner.repository.CarryForwardJobDao;
 import com.skapp.community.leaveplanner.repository.LeaveEntitlementDao;
 import com.skapp.community.leaveplanner.repository.LeaveTypeDao;
 import com.skapp.community.leaveplanner.service.LeaveCycleService;
 import com.skapp.community.leaveplanner.service.LeaveEmailService;
 import com.skapp.community.leaveplanner.service.LeaveEntitlementService;
 import com.skapp.community.leaveplanner.service.LeaveNotificationService;
+import com.skapp.community.leaveplanner.type.CarryForwardJobStatus;
 import com.skapp.community.leaveplanner.type.LeaveDuration;
 import com.skapp.community.leaveplanner.util.LeaveModuleUtil;
-import com.skapp.community.peopleplanner.constant.PeopleMessageConstant;
 import com.skapp.community.peopleplanner.mapper.PeopleMapper;
 import com.skapp.community.peopleplanner.model.Employee;
 import com.skapp.community.peopleplanner.payload.request.EmployeeBasicDetailsResponseDto;
 import com.skapp.community.peopleplanner.repository.EmployeeDao;
+import jakarta.annotation.PreDestroy;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -73,7 +80,9 @@ import org.springframework.transaction.support.TransactionCallbackWithoutResult;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -82,10 +91,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
@@ -93,6 +102,10 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class LeaveEntitlementServiceImpl implements LeaveEntitlementService {
 
+	private static final long CARRY_FORWARD_JOB_STALE_MINUTES = 10;
+
+	private static final int MAX_ERROR_MESSAGE_LENGTH = 255;
+
 	private final MessageUtil messageUtil;
 
 	private final EmployeeDao employeeDao;
@@ -121,8 +134,20 @@ public class LeaveEntitlementServiceImpl implements LeaveEntitlementService {
 
 	private final LeaveNotificationService leaveNotificationService;
 
+	private final BulkExecutionService bulkExecutionService;
+
 	private final BulkContextService bulkContextService;
 
+	private final CarryForwardJobDao carryForwardJobDao;
+
+	private final Set<Long> activeCarryForwardJobIds = ConcurrentHashMap.newKeySet();
+
+	private final ExecutorService carryForwardExecutor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "Carry-Forward-Job");
+		thread.setDaemon(true);
+		return thread;
+	});
+
 	public static void processLeaveEntitlements(LeaveMapper mapStructMapper, PeopleMapper peopleMapper,
 			Map<Long, LeaveEntitlementResponseDto> responseDtoList, LeaveEntitlement entitlement) {
 
@@ -612,7 +637,6 @@ public class LeaveEntitlementServiceImpl implements LeaveEntitlementService {
 	}
 
 	@Override
-	@Transactional
 	public ResponseEntityDto forceCarryForwardEntitlements(List<Long> leaveTypeIds, Integer cycleStartYear) {
 		log.info("forceCarryForwardEntitlements: execution started");
 
@@ -620,109 +644,71 @@ public class LeaveEntitlementServiceImpl implements LeaveEntitlementService {
 			throw new ModuleException(LeaveMessageConstant.LEAVE_ERROR_CARRY_FORWARD_YEAR_NOT_VALID);
 		}
 
-		LeaveCycleDetailsDto leaveCycleDetail = leaveCycleService.getLeaveCycleConfigs();
-
-		LocalDate leaveCycleStartDate = DateTimeUtils.getUtcLocalDate(DateTimeUtils.getCurrentYear(),
-				leaveCycleDetail.getStartMonth(), leaveCycleDetail.getStartDate());
-		LocalDate leaveCycleEndDate = DateTimeUtils.calculateEndDateAfterYears(leaveCycleStartDate, 1);
-
-		List<LeaveType> leaveTypes = leaveTypeDao.getLeaveTypesByCarryForwardEnable(true, leaveTypeIds);
-		List<LeaveEntitlement> carryForwardedEntitlements = new ArrayList<>();
-		List<LeaveEntitlement> oldEntitlements = new ArrayList<>();
-
-		if (!leaveTypes.isEmpty()) {
-
-			leaveTypes.forEach(leaveType -> {
-				List<Employee> employees = leaveEntitlementDao
-					.findAllEmployeeIdsWithForwardingEntitlements(leaveType.getTypeId(), true, leaveCycleEndDate);
+		String jobLeaveTypeIds = leaveTypeIds == null ? ""
+				: leaveTypeIds.stream().distinct().sorted().map(String::valueOf).collect(Collectors.joining(","));
 
-				if (!employees.isEmpty()) {
-					employees.forEach(employeeToForward -> {
+		CarryForwardJob carryForwardJob = carryForwardJobDao
+			.findByLeaveTypeIdsAndCycleStartYear(jobLeaveTypeIds, cycleStartYear)
+			.orElse(null);
 
-						if (employeeToForward.getEmployeeId() == null) {
-							log.error("Employee ID is null for employee: {}", employeeToForward);
-							throw new ModuleException(PeopleMessageConstant.PEOPLE_ERROR_EMPLOYEE_ID_CANNOT_NULL);
-						}
-
-						CarryForwardInfo carryForwardInfo;
-						float remainsToForward = 0F;
-						float daysToForward = 0F;
-
-						List<LeaveEntitlement> leaveEntitlements = leaveEntitlementDao.findLeaveEntitlements(
-								leaveType.getTypeId(), true, leaveCycleEndDate, employeeToForward.getEmployeeId());
-
-						float carryForwardDaysMax;
-						double totalDaysAllocated = leaveEntitlements.stream()
-							.mapToDouble(LeaveEntitlement::getTotalDaysAllocated)
-							.sum();
-						double totalDaysUsed = leaveEntitlements.stream()
-							.mapToDouble(LeaveEntitlement::getTotalDaysUsed)
-							.sum();
-
-						if (Boolean.TRUE.equals(leaveType.getIsCarryForwardRemainingBalanceEnabled())) {
-							carryForwardDaysMax = (float) (totalDaysAllocated - totalDaysUsed);
-						}
-						else {
-							carryForwardDaysMax = leaveType.getMaxCarryForwardDays();
-						}
-
-						if (!leaveEntitlements.isEmpty()) {
-							leaveEntitlements.removeIf(leaveEntitlement -> Objects.equals(leaveEntitlement.getReason(),
-									LeaveModuleConstant.DISCARD_LEAVE_REQUEST_REASON)
-									|| LeaveModuleConstant.CARRY_FORWARD_LEAVE_REQUEST_REASON
-										.equals(leaveEntitlement.getReason()));
-						}
-
-						if (!leaveEntitlements.isEmpty()) {
-							Optional<CarryForwardInfo> carryForwardInfoOpt = carryForwardInfoDao
-								.findByEmployeeEmployeeIdAndLeaveTypeTypeIdAndCycleEndDate(
-										employeeToForward.getEmployeeId(), leaveType.getTypeId(), leaveCycleEndDate);
-							if (carryForwardInfoOpt.isPresent()
-									&& !leaveType.getIsCarryForwardRemainingBalanceEnabled()) {
-								carryForwardInfo = carryForwardInfoOpt.get();
-								daysToForward = carryForwardDaysMax > 0
-										? carryForwardDaysMax - carryForwardInfoOpt.get().getDays()
-										: carryForwardInfoOpt.get().getDays();
-								carryForwardInfo.setCycleEndDate(leaveCycleEndDate);
-							}
-							else {
-								float carryForwardTotal = getForwardTotals(leaveEntitlements);
-								daysToForward = Math.min(carryForwardTotal, carryForwardDaysMax);
-								carryForwardInfo = leaveMapper.employeeLeaveTypeToCarryForwardInfo(employeeToForward,
-										leaveType, leaveCycleEndDate);
-							}
-							remainsToForward = daysToForward;
-							remainsToForward = getRemainsToForward(oldEntitlements, remainsToForward,
-									leaveEntitlements);
-							float totalForwardingDays = carryForwardInfo.getDays() != null
-									? carryForwardInfo.getDays() + (daysToForward - remainsToForward)
-									: daysToForward - remainsToForward;
-
-							carryForwardInfo.setEmployee(employeeToForward);
-							carryForwardInfo.setDays(totalForwardingDays);
-							carryForwardInfoDao.save(carryForwardInfo);
-						}
-
-						float amountToCarryForward = daysToForward - remainsToForward;
-						setCarryForwardedEntitlements(leaveCycleStartDate, leaveCycleEndDate,
-								carryForwardedEntitlements, leaveType, employeeToForward, amountToCarryForward);
-					});
-				}
-
-			});
+		boolean isJobQueued = false;
+		if (carryForwardJob == null || !isCarryForwardJobActive(carryForwardJob)) {
+			try {
+				carryForwardJob = claimCarryForwardJob(carryForwardJob, jobLeaveTypeIds, cycleStartYear);
+				isJobQueued = true;
+			}
+			catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+				log.info("forceCarryForwardEntitlements: carry forward job was claimed by another request");
+				carryForwardJob = carryForwardJobDao
+					.findByLeaveTypeIdsAndCycleStartYear(jobLeaveTypeIds, cycleStartYear)
+					.orElseThrow(() -> new EntityNotFoundException(
+							LeaveMessageConstant.LEAVE_ERROR_CARRY_FORWARD_JOB_NOT_FOUND));
+			}
 		}
 
-		leaveEntitlementDao.saveAll(oldEntitlements);
-		leaveEntitlementDao.saveAll(carryForwardedEntitlements);
+		LeaveMessageConstant message;
+		if (isJobQueued) {
+			Long jobId = carryForwardJob.getJobId();
+			Long claimedVersion = carryForwardJob.getVersion();
+			String tenant = bulkContextService.getContext();
+			activeCarryForwardJobIds.add(jobId);
+			carryForwardExecutor.execute(() -> runCarryForwardJob(jobId, claimedVersion, tenant));
+			message = LeaveMessageConstant.LEAVE_SUCCESS_CARRY_FORWARD_JOB_QUEUED;
+			log.info("forceCarryForwardEntitlements: carry forward job {} queued", jobId);
+		}
+		else {
+			message = LeaveMessageConstant.LEAVE_SUCCESS_CARRY_FORWARD_JOB_IN_PROGRESS;
+			log.info("forceCarryForwardEntitlements: carry forward job {} is already in progress",
+					carryForwardJob.getJobId());
+		}
 
 		LeaveEntitlementCarryForwardResponseDto leaveEntitlementCarryForwardResponseDto = new LeaveEntitlementCarryForwardResponseDto();
-		leaveEntitlementCarryForwardResponseDto.setMessage(
-				messageUtil.getMessage(LeaveMessageConstant.LEAVE_ERROR_LEAVE_ENTITLEMENT_CARRY_FORWARD_SUCCESSFUL));
+		leaveEntitlementCarryForwardResponseDto
+			.setMessage(messageUtil.getMessage(message, new String[] { String.valueOf(carryForwardJob.getJobId()) }));
+		leaveEntitlementCarryForwardResponseDto
+			.setCarryForwardJob(leaveMapper.carryForwardJobToCarryForwardJobResponseDto(carryForwardJob));
 
 		log.info("forceCarryForwardEntitlements: execution ended");
 		return new ResponseEntityDto(false, leaveEntitlementCarryForwardResponseDto);
 	}
 
+	@Override
+	public ResponseEntityDto getCarryForwardJob(Long jobId) {
+		log.info("getCarryForwardJob: execution started");
+
+		CarryForwardJob carryForwardJob = carryForwardJobDao.findById(jobId)
+			.orElseThrow(
+					() -> new EntityNotFoundException(LeaveMessageConstant.LEAVE_ERROR_CARRY_FORWARD_JOB_NOT_FOUND));
+
+		log.info("getCarryForwardJob: execution ended");
+		return new ResponseEntityDto(false, leaveMapper.carryForwardJobToCarryForwardJobResponseDto(carryForwardJob));
+	}
+
+	@PreDestroy
+	public void shutdownCarryForwardExecutor() {
+		carryForwardExecutor.shutdown();
+	}
+
 	@Override
 	public ResponseEntityDto getCarryForwardEntitlements(
 			CarryForwardLeaveTypesFilterDto carryForwardLeaveTypesFilterDto) {
@@ -781,24 +767,16 @@ public class LeaveEntitlementServiceImpl implements LeaveEntitlementService {
 	public ResponseEntityDto addBulkNewLeaveEntitlement(BulkLeaveEntitlementDto bulkLeaveEntitlementDto) {
 		log.info("addBulkNewLeaveEntitlement: execution started");
 
-		String currentTenant = bulkContextService.getContext();
-
-		ExecutorService executorService = Executors.newFixedThreadPool(5);
 		List<ErrorLogDto> bulkRecordErrorLogs = Collections.synchronizedList(new ArrayList<>());
 		LeaveBulkSkippedCountDto leaveBulkSkippedCountDto = new LeaveBulkSkippedCountDto(0);
 		BulkStatusSummaryDto bulkStatusSummary = new BulkStatusSummaryDto();
 
-		List<CompletableFuture<Void>> tasks = new ArrayList<>();
-		List<List<EntitlementDetailsDto>> chunkedBulkData = CommonModuleUtils
-			.chunkData(bulkLeaveEntitlementDto.getEntitlementDetailsList());
 		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
 
 		User currentUser = userService.getCurrentUser();
 
-		for (List<EntitlementDetailsDto> entitlementBulkChunkDtoList : chunkedBulkData) {
-			for (EntitlementDetailsDto entitlementBulkDto : entitlementBulkChunkDtoList) {
-				CompletableFuture<Void> task = CompletableFuture.runAsync(() -> {
-					bulkContextService.setContext(currentTenant);
+		bulkExecutionService.execute("addBulkNewLeaveEntitlement", bulkLeaveEntitlementDto.getEntitlementDetailsList(),
+				entitlementBulkDto -> {
 					try {
 						transactionTemplate.execute(new TransactionCallbackWithoutResult() {
 							@Override
@@ -814,25 +792,7 @@ public class LeaveEntitlementServiceImpl implements LeaveEntitlementService {
 						bulkRecordErrorLogs.add(createErrorLog(entitlementBulkDto, errorMessages));
 						bulkStatusSummary.incrementFailedCount();
 					}
-				}, executorService);
-				tasks.add(task);
-			}
-		}
-
-		CompletableFuture<Void> allTasks = CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0]));
-		allTasks.thenRun(executorService::shutdown);
-		allTasks.join();
-
-		try {
-			if (!executorService.awaitTermination(5, TimeUnit.MINUTES)) {
-				log.error("ExecutorService failed to terminate after 5 minutes, shutting down");
-				executorService.shutdownNow();
-			}
-		}
-		catch (InterruptedException e) {
-			Thread.currentThread().interrupt();
-			log.error("Interrupted while waiting for termination of ExecutorService", e);
-		}
+				});
 
 		BulkResponseDto responseDto = new BulkResponseDto();
 		responseDto.setBulkRecordErrorLogs(bulkRecordErrorLogs);
@@ -1322,6 +1282,222 @@ public class LeaveEntitlementServiceImpl implements LeaveEntitlementService {
 		}));
 	}
 
+	/**
+	 * A job is active while this instance runs it, or while it is queued or running
+	 * elsewhere and keeps checkpointing. A job that has not checkpointed for a while was
+	 * interrupted and can be claimed again.
+	 */
+	private boolean isCarryForwardJobActive(CarryForwardJob carryForwardJob) {
+		if (activeCarryForwardJobIds.contains(carryForwardJob.getJobId())) {
+			return true;
+		}
+
+		boolean isQueuedOrRunning = carryForwardJob.getStatus() == CarryForwardJobStatus.PENDING
+				|| carryForwardJob.getStatus() == CarryForwardJobStatus.RUNNING;
+		return isQueuedOrRunning && carryForwardJob.getLastModifiedDate() != null
+				&& carryForwardJob.getLastModifiedDate()
+					.isAfter(LocalDateTime.now().minusMinutes(CARRY_FORWARD_JOB_STALE_MINUTES));
+	}
+
+	/**
+	 * Marks the job of the leave types and year as queued. There is one job row per leave
+	 * types and year, and the row is versioned, so when two requests claim the same job
+	 * only the first write succeeds. A completed job is reset to run again from the
+	 * start, while a failed or interrupted job keeps its checkpoint.
+	 */
+	private CarryForwardJob claimCarryForwardJob(CarryForwardJob carryForwardJob, String leaveTypeIds,
+			Integer cycleStartYear) {
+		if (carryForwardJob == null) {
+			carryForwardJob = new CarryForwardJob();
+			carryForwardJob.setLeaveTypeIds(leaveTypeIds);
+			carryForwardJob.setCycleStartYear(cycleStartYear);
+		}
+		else if (carryForwardJob.getStatus() == CarryForwardJobStatus.COMPLETED) {
+			carryForwardJob.setTotalEmployees(0);
+			carryForwardJob.setProcessedEmployees(0);
+			carryForwardJob.setLastLeaveTypeId(null);
+			carryForwardJob.setLastEmployeeId(null);
+		}
+
+		carryForwardJob.setStatus(CarryForwardJobStatus.PENDING);
+		carryForwardJob.setErrorMessage(null);
+		return carryForwardJobDao.saveAndFlush(carryForwardJob);
+	}
+
+	/**
+	 * Carries forward the employees of each leave type in chunks. Each chunk is written
+	 * in its own transaction together with the job checkpoint, so a re-run continues
+	 * after the last committed employee and never forwards an employee twice. If another
+	 * instance claims the job meanwhile, the versioned checkpoint fails, the chunk is
+	 * rolled back and this run stops.
+	 */
+	private void runCarryForwardJob(Long jobId, Long claimedVersion, String tenant) {
+		bulkContextService.setContext(tenant);
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		try {
+			CarryForwardJob carryForwardJob = carryForwardJobDao.findById(jobId)
+				.orElseThrow(() -> new EntityNotFoundException(
+						LeaveMessageConstant.LEAVE_ERROR_CARRY_FORWARD_JOB_NOT_FOUND));
+			if (!Objects.equals(carryForwardJob.getVersion(), claimedVersion)) {
+				log.info("runCarryForwardJob: carry forward job {} was claimed by another run", jobId);
+				return;
+			}
+
+			LeaveCycleDetailsDto leaveCycleDetail = leaveCycleService.getLeaveCycleConfigs();
+			LocalDate leaveCycleStartDate = DateTimeUtils.getUtcLocalDate(DateTimeUtils.getCurrentYear(),
+					leaveCycleDetail.getStartMonth(), leaveCycleDetail.getStartDate());
+			LocalDate leaveCycleEndDate = DateTimeUtils.calculateEndDateAfterYears(leaveCycleStartDate, 1);
+
+			List<Long> leaveTypeIds = carryForwardJob.getLeaveTypeIds().isEmpty() ? List.of()
+					: Arrays.stream(carryForwardJob.getLeaveTypeIds().split(",")).map(Long::valueOf).toList();
+			List<LeaveType> leaveTypes = leaveTypeDao.getLeaveTypesByCarryForwardEnable(true, leaveTypeIds)
+				.stream()
+				.sorted(Comparator.comparing(LeaveType::getTypeId))
+				.toList();
+
+			Long lastLeaveTypeId = carryForwardJob.getLastLeaveTypeId();
+			Map<LeaveType, List<Long>> employeeIdsByLeaveType = new LinkedHashMap<>();
+			for (LeaveType leaveType : leaveTypes) {
+				if (lastLeaveTypeId == null || leaveType.getTypeId() >= lastLeaveTypeId) {
+					Long lastEmployeeId = leaveType.getTypeId().equals(lastLeaveTypeId)
+							? carryForwardJob.getLastEmployeeId() : null;
+					employeeIdsByLeaveType.put(leaveType, leaveEntitlementDao.findEmployeeIdsWithForwardingEntitlements(
+							leaveType.getTypeId(), leaveCycleEndDate, lastEmployeeId));
+				}
+			}
+
+			if (lastLeaveTypeId == null) {
+				carryForwardJob.setTotalEmployees(employeeIdsByLeaveType.values().stream().mapToInt(List::size).sum());
+				carryForwardJob.setProcessedEmployees(0);
+			}
+			carryForwardJob.setStatus(CarryForwardJobStatus.RUNNING);
+			carryForwardJob = carryForwardJobDao.save(carryForwardJob);
+			log.info("runCarryForwardJob: carry forward job {} started with {} employees", jobId,
+					carryForwardJob.getTotalEmployees());
+
+			for (Map.Entry<LeaveType, List<Long>> entry : employeeIdsByLeaveType.entrySet()) {
+				LeaveType leaveType = entry.getKey();
+				for (List<Long> employeeIds : CommonModuleUtils.chunkData(entry.getValue())) {
+					CarryForwardJob checkpoint = carryForwardJob;
+					carryForwardJob = transactionTemplate.execute(status -> {
+						carryForwardEmployeeEntitlements(leaveType, employeeIds, leaveCycleStartDate,
+								leaveCycleEndDate);
+						checkpoint.setLastLeaveTypeId(leaveType.getTypeId());
+						checkpoint.setLastEmployeeId(employeeIds.getLast());
+						checkpoint.setProcessedEmployees(checkpoint.getProcessedEmployees() + employeeIds.size());
+						return carryForwardJobDao.save(checkpoint);
+					});
+					log.info("runCarryForwardJob: carry forward job {} progress {}/{}", jobId,
+							carryForwardJob.getProcessedEmployees(), carryForwardJob.getTotalEmployees());
+				}
+			}
+
+			carryForwardJob.setStatus(CarryForwardJobStatus.COMPLETED);
+			carryForwardJobDao.save(carryForwardJob);
+			log.info("runCarryForwardJob: carry forward job {} completed", jobId);
+		}
+		catch (OptimisticLockingFailureException e) {
+			log.warn("runCarryForwardJob: carry forward job {} was claimed by another run, stopping", jobId);
+		}
+		catch (Exception e) {
+			log.error("runCarryForwardJob: carry forward job {} failed: {}", jobId, e.getMessage());
+			carryForwardJobDao.findById(jobId).ifPresent(carryForwardJob -> {
+				carryForwardJob.setStatus(CarryForwardJobStatus.FAILED);
+				carryForwardJob.setErrorMessage(StringUtils.abbreviate(e.getMessage(), MAX_ERROR_MESSAGE_LENGTH));
+				carryForwardJobDao.save(carryForwardJob);
+			});
+		}
+		finally {
+			activeCarryForwardJobIds.remove(jobId);
+		}
+	}
+
+	/**
+	 * Carries forward one chunk of employees for a leave type. The forwarding
+	 * entitlements and the carry forward info of the whole chunk are read with one query
+	 * each, balances are computed in memory and the results are written with batched
+	 * saves.
+	 */
+	private void carryForwardEmployeeEntitlements(LeaveType leaveType, List<Long> employeeIds,
+			LocalDate leaveCycleStartDate, LocalDate leaveCycleEndDate) {
+		Map<Long, List<LeaveEntitlement>> entitlementsByEmployeeId = leaveEntitlementDao
+			.findForwardingLeaveEntitlements(leaveType.getTypeId(), leaveCycleEndDate, employeeIds)
+			.stream()
+			.collect(Collectors.groupingBy(leaveEntitlement -> leaveEntitlement.getEmployee().getEmployeeId()));
+		Map<Long, CarryForwardInfo> carryForwardInfoByEmployeeId = carryForwardInfoDao
+			.findByLeaveTypeIdAndCycleEndDateAndEmployeeIds(leaveType.getTypeId(), leaveCycleEndDate, employeeIds)
+			.stream()
+			.collect(Collectors.toMap(carryForwardInfo -> carryForwardInfo.getEmployee().getEmployeeId(),
+					carryForwardInfo -> carryForwardInfo, (first, second) -> first));
+
+		List<LeaveEntitlement> carryForwardedEntitlements = new ArrayList<>();
+		List<LeaveEntitlement> oldEntitlements = new ArrayList<>();
+		List<CarryForwardInfo> carryForwardInfos = new ArrayList<>();
+
+		for (Long employeeId : employeeIds) {
+			List<LeaveEntitlement> leaveEntitlements = new ArrayList<>(
+					entitlementsByEmployeeId.getOrDefault(employeeId, List.of()));
+			if (leaveEntitlements.isEmpty()) {
+				continue;
+			}
+
+			Employee employeeToForward = leaveEntitlements.getFirst().getEmployee();
+			CarryForwardInfo carryForwardInfo;
+			float remainsToForward = 0F;
+			float daysToForward = 0F;
+
+			float carryForwardDaysMax;
+			double totalDaysAllocated = leaveEntitlements.stream()
+				.mapToDouble(LeaveEntitlement::getTotalDaysAllocated)
+				.sum();
+			double totalDaysUsed = leaveEntitlements.stream().mapToDouble(LeaveEntitlement::getTotalDaysUsed).sum();
+
+			if (Boolean.TRUE.equals(leaveType.getIsCarryForwardRemainingBalanceEnabled())) {
+				carryForwardDaysMax = (float) (totalDaysAllocated - totalDaysUsed);
+			}
+			else {
+				carryForwardDaysMax = leaveType.getMaxCarryForwardDays();
+			}
+
+			leaveEntitlements.removeIf(leaveEntitlement -> Objects.equals(leaveEntitlement.getReason(),
+					LeaveModuleConstant.DISCARD_LEAVE_REQUEST_REASON)
+					|| LeaveModuleConstant.CARRY_FORWARD_LEAVE_REQUEST_REASON.equals(leaveEntitlement.getReason()));
+
+			if (!leaveEntitlements.isEmpty()) {
+				CarryForwardInfo existingCarryForwardInfo = carryForwardInfoByEmployeeId.get(employeeId);
+				if (existingCarryForwardInfo != null && !leaveType.getIsCarryForwardRemainingBalanceEnabled()) {
+					carryForwardInfo = existingCarryForwardInfo;
+					daysToForward = carryForwardDaysMax > 0 ? carryForwardDaysMax - existingCarryForwardInfo.getDays()
+							: existingCarryForwardInfo.getDays();
+					carryForwardInfo.setCycleEndDate(leaveCycleEndDate);
+				}
+				else {
+					float carryForwardTotal = getForwardTotals(leaveEntitlements);
+					daysToForward = Math.min(carryForwardTotal, carryForwardDaysMax);
+					carryForwardInfo = leaveMapper.employeeLeaveTypeToCarryForwardInfo(employeeToForward, leaveType,
+							leaveCycleEndDate);
+				}
+				remainsToForward = getRemainsToForward(oldEntitlements, daysToForward, leaveEntitlements);
+				float totalForwardingDays = carryForwardInfo.getDays() != null
+						? carryForwardInfo.getDays() + (daysToForward - remainsToForward)
+						: daysToForward - remainsToForward;
+
+				carryForwardInfo.setEmployee(employeeToForward);
+				carryForwardInfo.setDays(totalForwardingDays);
+				carryForwardInfos.add(carryForwardInfo);
+			}
+
+			float amountToCarryForward = daysToForward - remainsToForward;
+			setCarryForwardedEntitlements(leaveCycleStartDate, leaveCycleEndDate, carryForwardedEntitlements, leaveType,
+					employeeToForward, amountToCarryForward);
+		}
+
+		carryForwardInfoDao.saveAll(carryForwardInfos);
+		leaveEntitlementDao.saveAll(oldEntitlements);
+		leaveEntitlementDao.saveAll(carryForwardedEntitlements);
+	}
+
 	private void setCarryForwardedEntitlements(LocalDate leaveCycleStartDate, LocalDate leaveCycleEndDate,
 			List<LeaveEntitlement> carryForwardedEntitlements, LeaveType leaveType, Employee employeeToForward,
 			float amountToCarryForward) {
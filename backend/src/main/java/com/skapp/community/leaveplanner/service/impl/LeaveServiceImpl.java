@@ -9,6 +9,7 @@ import com.skapp.community.common.payload.response.PageDto;
 import com.skapp.community.common.payload.response.ResponseEntityDto;
 import com.skapp.community.common.repository.NotificationDao;
 import com.skapp.community.common.service.OrganizationService;
+import com.skapp.community.common.service.OrganizationSnapshotService;
 import com.skapp.community.common.service.UserService;
 import com.skapp.community.common.type.NotificationType;
 import com.skapp.community.common.type.Role;
@@ -68,7 +69,6 @@ import com.skapp.community.peopleplanner.service.PeopleService;
 import com.skapp.community.peopleplanner.type.HolidayDuration;
 import com.skapp.community.peopleplanner.util.PeopleUtil;
 import com.skapp.community.timeplanner.model.TimeConfig;
-import com.skapp.community.timeplanner.repository.TimeConfigDao;
 import jakarta.validation.constraints.NotNull;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -92,8 +92,11 @@ import java.time.format.TextStyle;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -120,8 +123,6 @@ public class LeaveServiceImpl implements LeaveService {
 
 	private final LeaveRequestEntitlementDao leaveRequestEntitlementDao;
 
-	private final TimeConfigDao timeConfigDao;
-
 	private final HolidayDao holidayDao;
 
 	private final EmployeeDao employeeDao;
@@ -146,6 +147,8 @@ public class LeaveServiceImpl implements LeaveService {
 
 	private final OrganizationService organizationService;
 
+	private final OrganizationSnapshotService organizationSnapshotService;
+
 	public static int getNumberOfDaysBetweenLeaveRequestForGivenEntitlementRange(LocalDate leaveRequestStartDate,
 			LocalDate leaveRequestEndDate, LocalDate entitlementValidFrom, LocalDate entitlementValidTo,
 			List<TimeConfig> timeConfigs, List<LocalDate> holidays, List<Holiday> holidayObjects,
@@ -497,6 +500,7 @@ public class LeaveServiceImpl implements LeaveService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public ResponseEntityDto getResourceAvailabilityCalendar(
 			ResourceAvailabilityCalendarFilter resourceAvailabilityCalendarFilter) {
 		log.info("getResourceAvailabilityCalendar: execution started");
@@ -534,11 +538,38 @@ public class LeaveServiceImpl implements LeaveService {
 		EmployeeRole employeeRole = currentUser.getEmployee().getEmployeeRole();
 		boolean isLeaveAdmin = employeeRole.getLeaveRole() != null
 				&& employeeRole.getLeaveRole().equals(Role.LEAVE_ADMIN);
+
+		// Load everything the calendar needs for the whole window once and bucket it per
+		// day below, so the number of queries does not grow with the number of days
+		Set<DayOfWeek> workingDays = organizationSnapshotService.getOrganizationSnapshot()
+			.getTimeConfigs()
+			.stream()
+			.map(TimeConfig::getDay)
+			.collect(Collectors.toCollection(() -> EnumSet.noneOf(DayOfWeek.class)));
+		Map<LocalDate, List<Holiday>> holidaysByDate = holidayDao
+			.findAllByIsActiveTrueAndDateBetween(calendarStart, calendarEnd)
+			.stream()
+			.collect(Collectors.groupingBy(Holiday::getDate));
+		Map<LocalDate, List<LeaveRequest>> leaveRequestsByDate = new HashMap<>();
+		for (LeaveRequest leaveRequest : leaveRequestDao.getEmployeesOnLeaveByTeamAndDateRange(
+				resourceAvailabilityCalendarFilter.getTeams(), calendarStart, calendarEnd, currentUser.getUserId(),
+				isLeaveAdmin)) {
+			LocalDate leaveDate = leaveRequest.getStartDate().isBefore(calendarStart) ? calendarStart
+					: leaveRequest.getStartDate();
+			LocalDate leaveEnd = leaveRequest.getEndDate().isAfter(calendarEnd) ? calendarEnd
+					: leaveRequest.getEndDate();
+			for (; !leaveDate.isAfter(leaveEnd); leaveDate = leaveDate.plusDays(1)) {
+				leaveRequestsByDate.computeIfAbsent(leaveDate, date -> new ArrayList<>()).add(leaveRequest);
+			}
+		}
+		long totalEmployeeCount = employeeTeamDao
+			.getEmployeesByTeamIds(resourceAvailabilityCalendarFilter.getTeams(), currentUser.getUserId(), isLeaveAdmin)
+			.size();
+
 		while (!current.isAfter(calendarEnd)) {
 			DayOfWeek dayOfWeek = current.getDayOfWeek();
 
-			TimeConfig timeConfig = timeConfigDao.findByDay(dayOfWeek);
-			if (timeConfig != null) {
+			if (workingDays.contains(dayOfWeek)) {
 				ResourceAvailabilityCalendarResponseDto responseDto = new ResourceAvailabilityCalendarResponseDto();
 
 				String formattedDate = DateTimeUtils.formatDateWithSuffix(current);
@@ -546,21 +577,17 @@ public class LeaveServiceImpl implements LeaveService {
 				responseDto.setActualDate(current);
 				responseDto.setDayOfWeek(dayOfWeek.getDisplayName(TextStyle.SHORT, Locale.ENGLISH).toUpperCase());
 
-				List<Holiday> holidays = holidayDao.findAllByDateAndIsActiveTrue(current);
+				List<Holiday> holidays = holidaysByDate.getOrDefault(current, Collections.emptyList());
 				List<HolidayBasicDetailsResponseDto> holidayResponseDtos = peopleMapper
 					.holidaysToHolidayBasicDetailsResponseDtos(holidays);
 				responseDto.setHolidays(holidayResponseDtos);
 
-				List<LeaveRequest> leaveRequests = leaveRequestDao.getEmployeesOnLeaveByTeamAndDate(
-						resourceAvailabilityCalendarFilter.getTeams(), current, currentUser.getUserId(), isLeaveAdmin);
+				List<LeaveRequest> leaveRequests = leaveRequestsByDate.getOrDefault(current, Collections.emptyList());
 				List<LeaveRequestWithEmployeeResponseDto> leaveRequestResponseDtos = leaveMapper
 					.leaveRequestsToLeaveRequestWithEmployeeResponseDtos(leaveRequests);
 				responseDto.setLeaveRequests(leaveRequestResponseDtos);
 				responseDto.setLeaveCount(leaveRequests.size());
 
-				List<Employee> teamEmployees = employeeTeamDao.getEmployeesByTeamIds(
-						resourceAvailabilityCalendarFilter.getTeams(), currentUser.getUserId(), isLeaveAdmin);
-				long totalEmployeeCount = teamEmployees.size();
 				long availableCount = Math.max(0, totalEmployeeCount - leaveRequests.size());
 				responseDto.setAvailableCount((int) availableCount);
 
@@ -827,7 +854,7 @@ public class LeaveServiceImpl implements LeaveService {
 
 		leaveEntitlements.sort(Comparator.comparing(LeaveEntitlement::getValidTo));
 
-		List<TimeConfig> timeConfigs = timeConfigDao.findAll();
+		List<TimeConfig> timeConfigs = organizationSnapshotService.getOrganizationSnapshot().getTimeConfigs();
 		List<Holiday> holidayObjects = getHolidaysForEmployee(leaveRequest.getEmployee());
 		List<LocalDate> holidayDates = holidayObjects.stream().map(Holiday::getDate).toList();
 
@@ -1099,7 +1126,7 @@ public class LeaveServiceImpl implements LeaveService {
 	}
 
 	private void addUsedHoursToLeaveEntitlement(LeaveRequest leaveRequest) {
-		List<TimeConfig> timeConfigs = timeConfigDao.findAll();
+		List<TimeConfig> timeConfigs = organizationSnapshotService.getOrganizationSnapshot().getTimeConfigs();
 		List<Holiday> holidayObjects = getHolidaysForEmployee(leaveRequest.getEmployee());
 		List<LocalDate> holidayDates = holidayObjects.stream().map(Holiday::getDate).toList();
 
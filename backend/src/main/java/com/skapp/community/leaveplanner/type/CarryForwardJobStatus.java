@@ -0,0 +1,7 @@
+package com.skapp.community.leaveplanner.type;
+
+public enum CarryForwardJobStatus {
+
+	PENDING, RUNNING, COMPLETED, FAILED
+
+}
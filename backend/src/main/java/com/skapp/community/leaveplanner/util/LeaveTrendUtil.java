@@ -0,0 +1,180 @@
+package com.skapp.community.leaveplanner.util;
+
+import com.skapp.community.leaveplanner.repository.projection.LeaveTrendByDay;
+import com.skapp.community.leaveplanner.repository.projection.LeaveTrendByMonth;
+import lombok.experimental.UtilityClass;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Expands leave periods fetched in a single query into distinct employee counts per day
+ * and per month, instead of issuing one count query for every date in the range.
+ */
+@UtilityClass
+public class LeaveTrendUtil {
+
+	public static List<LeaveTrendByDay> countEmployeesAwayByDay(List<LeavePeriod> leavePeriods, LocalDate startDate,
+			LocalDate endDate, List<Integer> workingDaysIndex, List<LocalDate> holidayDates) {
+		List<LeaveTrendByDay> result = new ArrayList<>();
+		if (endDate.isBefore(startDate)) {
+			return result;
+		}
+
+		int dayCount = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+		boolean[] validDays = getValidDays(startDate, dayCount, workingDaysIndex, holidayDates);
+
+		// Merged periods never overlap for the same employee, so the running sum of the
+		// sweep is the distinct employee count for each day
+		int[] sweep = new int[dayCount + 1];
+		for (List<int[]> periods : mergePeriodsByEmployee(leavePeriods, startDate, endDate).values()) {
+			for (int[] period : periods) {
+				sweep[period[0]]++;
+				sweep[period[1] + 1]--;
+			}
+		}
+
+		int employeeCount = 0;
+		for (int day = 0; day < dayCount; day++) {
+			employeeCount += sweep[day];
+			if (validDays[day]) {
+				final LocalDate leaveDate = startDate.plusDays(day);
+				final Integer count = employeeCount;
+
+				result.add(new LeaveTrendByDay() {
+					public LocalDate getLeaveDate() {
+						return leaveDate;
+					}
+
+					public Integer getEmployeeCount() {
+						return count;
+					}
+				});
+			}
+		}
+
+		return result;
+	}
+
+	public static List<LeaveTrendByMonth> countEmployeesAwayByMonth(List<LeavePeriod> leavePeriods, LocalDate startDate,
+			LocalDate endDate, List<Integer> workingDaysIndex, List<LocalDate> holidayDates) {
+		List<LeaveTrendByMonth> result = new ArrayList<>();
+		if (endDate.isBefore(startDate)) {
+			return result;
+		}
+
+		int dayCount = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+		boolean[] validDays = getValidDays(startDate, dayCount, workingDaysIndex, holidayDates);
+
+		int[] validDayPrefix = new int[dayCount + 1];
+		Map<Integer, Set<Long>> employeesByMonth = new TreeMap<>();
+		for (int day = 0; day < dayCount; day++) {
+			validDayPrefix[day + 1] = validDayPrefix[day] + (validDays[day] ? 1 : 0);
+			if (validDays[day]) {
+				employeesByMonth.computeIfAbsent(startDate.plusDays(day).getMonthValue(), k -> new HashSet<>());
+			}
+		}
+
+		for (Map.Entry<Long, List<int[]>> entry : mergePeriodsByEmployee(leavePeriods, startDate, endDate).entrySet()) {
+			for (int[] period : entry.getValue()) {
+				int segmentStart = period[0];
+				while (segmentStart <= period[1]) {
+					LocalDate segmentDate = startDate.plusDays(segmentStart);
+					int monthEnd = (int) ChronoUnit.DAYS.between(startDate,
+							segmentDate.withDayOfMonth(segmentDate.lengthOfMonth()));
+					int segmentEnd = Math.min(monthEnd, period[1]);
+
+					if (validDayPrefix[segmentEnd + 1] - validDayPrefix[segmentStart] > 0) {
+						employeesByMonth.get(segmentDate.getMonthValue()).add(entry.getKey());
+					}
+					segmentStart = segmentEnd + 1;
+				}
+			}
+		}
+
+		for (Map.Entry<Integer, Set<Long>> entry : employeesByMonth.entrySet()) {
+			final Integer month = entry.getKey();
+			final Integer count = entry.getValue().size();
+
+			result.add(new LeaveTrendByMonth() {
+				public Integer getKeyValue() {
+					return month;
+				}
+
+				public Integer getEmployeeCount() {
+					return count;
+				}
+			});
+		}
+
+		return result;
+	}
+
+	private static boolean[] getValidDays(LocalDate startDate, int dayCount, List<Integer> workingDaysIndex,
+			List<LocalDate> holidayDates) {
+		Set<Integer> workingDays = workingDaysIndex == null ? Set.of() : new HashSet<>(workingDaysIndex);
+		Set<LocalDate> holidays = holidayDates == null ? Set.of() : new HashSet<>(holidayDates);
+
+		boolean[] validDays = new boolean[dayCount];
+		for (int day = 0; day < dayCount; day++) {
+			LocalDate date = startDate.plusDays(day);
+			validDays[day] = (workingDays.isEmpty() || workingDays.contains(date.getDayOfWeek().getValue() % 7))
+					&& !holidays.contains(date);
+		}
+		return validDays;
+	}
+
+	/**
+	 * Clips every leave period to the requested range and merges overlapping or adjacent
+	 * periods of the same employee. Periods are returned as inclusive day offsets from
+	 * the range start.
+	 */
+	private static Map<Long, List<int[]>> mergePeriodsByEmployee(List<LeavePeriod> leavePeriods, LocalDate startDate,
+			LocalDate endDate) {
+		Map<Long, List<int[]>> periodsByEmployee = new HashMap<>();
+		for (LeavePeriod leavePeriod : leavePeriods) {
+			if (leavePeriod.endDate().isBefore(startDate) || leavePeriod.startDate().isAfter(endDate)) {
+				continue;
+			}
+			LocalDate from = leavePeriod.startDate().isBefore(startDate) ? startDate : leavePeriod.startDate();
+			LocalDate to = leavePeriod.endDate().isAfter(endDate) ? endDate : leavePeriod.endDate();
+			periodsByEmployee.computeIfAbsent(leavePeriod.employeeId(), k -> new ArrayList<>())
+				.add(new int[] { (int) ChronoUnit.DAYS.between(startDate, from),
+						(int) ChronoUnit.DAYS.between(startDate, to) });
+		}
+
+		for (Map.Entry<Long, List<int[]>> entry : periodsByEmployee.entrySet()) {
+			List<int[]> periods = entry.getValue();
+			periods.sort(Comparator.comparingInt(period -> period[0]));
+
+			List<int[]> merged = new ArrayList<>();
+			int[] current = periods.getFirst();
+			for (int i = 1; i < periods.size(); i++) {
+				int[] next = periods.get(i);
+				if (next[0] <= current[1] + 1) {
+					current = new int[] { current[0], Math.max(current[1], next[1]) };
+				}
+				else {
+					merged.add(current);
+					current = next;
+				}
+			}
+			merged.add(current);
+			entry.setValue(merged);
+		}
+
+		return periodsByEmployee;
+	}
+
+	public record LeavePeriod(Long employeeId, LocalDate startDate, LocalDate endDate) {
+	}
+
+}
@@ -12,13 +12,17 @@ import com.skapp.community.peopleplanner.payload.request.PermissionFilterDto;
 import com.skapp.community.peopleplanner.payload.request.ReassignSupervisorsAndTerminateOrDeleteEmployeeRequestDto;
 import com.skapp.community.peopleplanner.payload.request.employee.CreateEmployeeRequestDto;
 import com.skapp.community.peopleplanner.payload.response.EmployeeManagerResponseDto;
+import com.skapp.community.peopleplanner.service.EmployeeExportService;
 import com.skapp.community.peopleplanner.service.PeopleReadService;
 import com.skapp.community.peopleplanner.service.PeopleService;
+import com.skapp.community.peopleplanner.type.EmployeeExportFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -31,6 +35,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -44,6 +49,8 @@ public class PeopleController {
 
 	private final PeopleReadService peopleReadService;
 
+	private final EmployeeExportService employeeExportService;
+
 	@Operation(summary = "Create a new employee",
 			description = "This endpoint creates a new employee with the provided details.")
 	@PostMapping(value = "/employee", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -91,6 +98,23 @@ public class PeopleController {
 		return new ResponseEntity<>(response, HttpStatus.OK);
 	}
 
+	@Operation(summary = "Stream the employee export",
+			description = "This endpoint streams the employees matching the provided filters as CSV or NDJSON rows.")
+	@GetMapping(value = "/employees/export/stream")
+	@PreAuthorize("hasAnyRole('ROLE_SUPER_ADMIN','ROLE_PEOPLE_ADMIN')")
+	public ResponseEntity<StreamingResponseBody> streamEmployeesData(EmployeeExportFilterDto employeeExportFilterDto,
+			@RequestParam(defaultValue = "CSV") EmployeeExportFormat format) {
+		StreamingResponseBody responseBody = employeeExportService.streamEmployees(employeeExportFilterDto, format);
+		return ResponseEntity.ok()
+			.contentType(MediaType.parseMediaType(format.getMediaType()))
+			.header(HttpHeaders.CONTENT_DISPOSITION,
+					ContentDisposition.attachment()
+						.filename("employees." + format.getFileExtension())
+						.build()
+						.toString())
+			.body(responseBody);
+	}
+
 	@Operation(summary = "Get employee by ID", description = "This endpoint fetches an employee by their ID.")
 	@GetMapping(value = "/employee/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
 	public ResponseEntity<ResponseEntityDto> getEmployeeById(@PathVariable Long id) {
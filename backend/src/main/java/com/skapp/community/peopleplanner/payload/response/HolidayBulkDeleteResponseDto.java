@@ -0,0 +1,21 @@
+package com.skapp.community.peopleplanner.payload.response;
+
+import com.skapp.community.common.payload.response.BulkStatusSummary;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@NoArgsConstructor
+@Setter
+@Getter
+public class HolidayBulkDeleteResponseDto {
+
+	String message;
+
+	BulkStatusSummary bulkStatusSummary;
+
+	List<HolidayDeleteStatusResponseDto> bulkRecordErrorLogs;
+
+}
@@ -0,0 +1,21 @@
+package com.skapp.community.peopleplanner.payload.response;
+
+import com.skapp.community.peopleplanner.type.BulkRecordStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Setter
+@Getter
+public class HolidayDeleteStatusResponseDto {
+
+	BulkRecordStatus status;
+
+	String errorMessage;
+
+	Long holidayId;
+
+}
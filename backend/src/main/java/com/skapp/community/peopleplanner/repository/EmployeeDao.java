@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -24,6 +25,8 @@ public interface EmployeeDao
 
 	List<Employee> findByIdentificationNo(String identificationNo);
 
+	List<Employee> findByIdentificationNoIn(Collection<String> identificationNos);
+
 	Employee findEmployeeByEmployeeIdAndUserIsActiveTrue(Long primaryManager);
 
 	Employee getEmployeeByEmployeeId(long employeeId);
@@ -15,6 +15,8 @@ public interface EmployeePeriodDao extends JpaRepository<EmployeePeriod, Long> {
 
 	Optional<EmployeePeriod> findEmployeePeriodByEmployee_EmployeeIdAndIsActiveTrue(Long employeeId);
 
+	List<EmployeePeriod> findEmployeePeriodsByEmployee_EmployeeIdInAndIsActiveTrue(List<Long> employeeIds);
+
 	void deleteAllByIdIn(List<Long> periodIds);
 
 }
@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 public interface EmployeeRepository {
 
@@ -39,6 +40,9 @@ public interface EmployeeRepository {
 
 	List<Employee> findEmployeesForExport(EmployeeExportFilterDto employeeExportFilterDto);
 
+	void streamEmployeesForExport(EmployeeExportFilterDto employeeExportFilterDto, int batchSize,
+			Consumer<List<Employee>> batchConsumer);
+
 	List<EmployeeTeamDto> findTeamsByEmployees(List<Long> employeeIds);
 
 	List<EmployeeManagerDto> findManagersByEmployeeIds(List<Long> employeeId);
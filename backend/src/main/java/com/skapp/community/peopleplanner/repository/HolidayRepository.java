@@ -17,4 +17,6 @@ public interface HolidayRepository {
 
 	List<Holiday> findAllActiveHolidaysByWorkLocationId(Long workLocationId);
 
+	int deactivateHolidays(List<Long> holidayIds);
+
 }
@@ -4,6 +4,7 @@ import com.skapp.community.common.model.Auditable_;
 import com.skapp.community.common.model.User;
 import com.skapp.community.common.model.User_;
 import com.skapp.community.common.type.Role;
+import com.skapp.community.common.util.PaginationUtils;
 import com.skapp.community.leaveplanner.model.LeaveRequest;
 import com.skapp.community.leaveplanner.model.LeaveRequest_;
 import com.skapp.community.leaveplanner.payload.AdminOnLeaveDto;
@@ -54,6 +55,7 @@ import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Subquery;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -66,10 +68,13 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static com.skapp.community.peopleplanner.util.PeopleUtil.getSearchString;
 
@@ -189,11 +194,7 @@ public class EmployeeRepositoryImpl implements EmployeeRepository {
 
 		TypedQuery<Employee> query = entityManager.createQuery(criteriaQuery);
 
-		int totalRows = query.getResultList().size();
-		query.setFirstResult(page.getPageNumber() * page.getPageSize());
-		query.setMaxResults(page.getPageSize());
-
-		return new PageImpl<>(query.getResultList(), page, totalRows);
+		return PaginationUtils.getPage(query, page);
 	}
 
 	@Override
@@ -284,15 +285,83 @@ public class EmployeeRepositoryImpl implements EmployeeRepository {
 
 	@Override
 	public List<Employee> findEmployeesForExport(EmployeeExportFilterDto employeeExportFilterDto) {
+		return createEmployeesForExportQuery(employeeExportFilterDto, true).getResultList();
+	}
+
+	/**
+	 * Reads the employees to export through a forward-only cursor and hands them to the
+	 * consumer in batches. The managers and emergency contacts of a batch are loaded with
+	 * one query each, and the persistence context is cleared after every batch so only
+	 * the current batch is held in memory. The MySQL datasources set useCursorFetch=true,
+	 * so the driver reads the cursor in batches of the fetch size.
+	 * @param employeeExportFilterDto The export filters.
+	 * @param batchSize The number of employees per batch and the JDBC fetch size.
+	 * @param batchConsumer Consumes each batch before its employees are detached.
+	 */
+	@Override
+	public void streamEmployeesForExport(EmployeeExportFilterDto employeeExportFilterDto, int batchSize,
+			Consumer<List<Employee>> batchConsumer) {
+		TypedQuery<Employee> query = createEmployeesForExportQuery(employeeExportFilterDto, false);
+		query.setHint(HibernateHints.HINT_FETCH_SIZE, batchSize);
+		query.setHint(HibernateHints.HINT_READ_ONLY, true);
+
+		try (Stream<Employee> employees = query.getResultStream()) {
+			List<Employee> batch = new ArrayList<>(batchSize);
+			Iterator<Employee> iterator = employees.iterator();
+			while (iterator.hasNext()) {
+				batch.add(iterator.next());
+				if (batch.size() == batchSize) {
+					consumeExportBatch(batch, batchConsumer);
+					batch = new ArrayList<>(batchSize);
+				}
+			}
+
+			if (!batch.isEmpty()) {
+				consumeExportBatch(batch, batchConsumer);
+			}
+		}
+	}
+
+	private void consumeExportBatch(List<Employee> batch, Consumer<List<Employee>> batchConsumer) {
+		List<Long> employeeIds = batch.stream().map(Employee::getEmployeeId).toList();
+		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+
+		CriteriaQuery<Employee> managerQuery = criteriaBuilder.createQuery(Employee.class);
+		Root<Employee> managerRoot = managerQuery.from(Employee.class);
+		managerRoot.fetch(Employee_.employeeManagers, JoinType.LEFT)
+			.fetch(EmployeeManager_.manager, JoinType.LEFT)
+			.fetch(Employee_.user, JoinType.LEFT);
+		managerQuery.select(managerRoot).distinct(true).where(managerRoot.get(Employee_.employeeId).in(employeeIds));
+		entityManager.createQuery(managerQuery).getResultList();
+
+		CriteriaQuery<Employee> emergencyQuery = criteriaBuilder.createQuery(Employee.class);
+		Root<Employee> emergencyRoot = emergencyQuery.from(Employee.class);
+		emergencyRoot.fetch(Employee_.employeeEmergencies, JoinType.LEFT);
+		emergencyQuery.select(emergencyRoot)
+			.distinct(true)
+			.where(emergencyRoot.get(Employee_.employeeId).in(employeeIds));
+		entityManager.createQuery(emergencyQuery).getResultList();
+
+		batchConsumer.accept(batch);
+		entityManager.clear();
+	}
+
+	@SuppressWarnings("unchecked")
+	private TypedQuery<Employee> createEmployeesForExportQuery(EmployeeExportFilterDto employeeExportFilterDto,
+			boolean fetchEmergencies) {
 		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
 		CriteriaQuery<Employee> criteriaQuery = criteriaBuilder.createQuery(Employee.class);
 		Root<Employee> root = criteriaQuery.from(Employee.class);
 
 		root.fetch(Employee_.personalInfo, JoinType.LEFT);
-		root.fetch(Employee_.employeeEmergencies, JoinType.LEFT);
-		Join<Employee, User> userJoin = root.join(Employee_.user);
+		root.fetch(Employee_.jobTitle, JoinType.LEFT);
+		root.fetch(Employee_.jobFamily, JoinType.LEFT);
+		if (fetchEmergencies) {
+			root.fetch(Employee_.employeeEmergencies, JoinType.LEFT);
+		}
+		Join<Employee, User> userJoin = (Join<Employee, User>) root.fetch(Employee_.user);
 		Join<Employee, EmployeePersonalInfo> personalInfoJoin = root.join(Employee_.personalInfo, JoinType.LEFT);
-		Join<Employee, EmployeeRole> roleJoin = root.join((Employee_.employeeRole));
+		Join<Employee, EmployeeRole> roleJoin = (Join<Employee, EmployeeRole>) root.fetch(Employee_.employeeRole);
 
 		List<Predicate> predicates = new ArrayList<>();
 
@@ -395,9 +464,7 @@ public class EmployeeRepositoryImpl implements EmployeeRepository {
 		criteriaQuery.distinct(true);
 		criteriaQuery.orderBy(orderList);
 
-		TypedQuery<Employee> query = entityManager.createQuery(criteriaQuery);
-
-		return query.getResultList();
+		return entityManager.createQuery(criteriaQuery);
 	}
 
 	@Override
@@ -1497,11 +1564,7 @@ public class EmployeeRepositoryImpl implements EmployeeRepository {
 		criteriaQuery.orderBy(QueryUtils.toOrders(page.getSort(), root, criteriaBuilder));
 
 		TypedQuery<Employee> query = entityManager.createQuery(criteriaQuery);
-		int totalRows = query.getResultList().size();
-		query.setFirstResult(page.getPageNumber() * page.getPageSize());
-		query.setMaxResults(page.getPageSize());
-
-		return new PageImpl<>(query.getResultList(), page, totalRows);
+		return PaginationUtils.getPage(query, page);
 	}
 
 	@Override
@@ -1,5 +1,6 @@
 package com.skapp.community.peopleplanner.repository.impl;
 
+import com.skapp.community.common.component.AuditorProvider;
 import com.skapp.community.common.model.WorkLocation;
 import com.skapp.community.common.model.WorkLocation_;
 import com.skapp.community.common.util.DateTimeUtils;
@@ -26,6 +27,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.util.CollectionUtils;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -35,6 +37,8 @@ public class HolidayRepositoryImpl implements HolidayRepository {
 
 	private final EntityManager entityManager;
 
+	private final AuditorProvider auditorProvider;
+
 	@Override
 	public Page<Holiday> findAllHolidays(HolidayFilterDto holidayFilterDto, Pageable page) {
 		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
@@ -143,4 +147,21 @@ public class HolidayRepositoryImpl implements HolidayRepository {
 		return predicates;
 	}
 
+	@Override
+	public int deactivateHolidays(List<Long> holidayIds) {
+		if (holidayIds.isEmpty()) {
+			return 0;
+		}
+
+		// JPQL resolves lastModifiedBy against Holiday, while a Criteria update rejects
+		// the generic Auditable type
+		return entityManager
+			.createQuery("UPDATE Holiday h SET h.isActive = false, h.lastModifiedBy = :lastModifiedBy, "
+					+ "h.lastModifiedDate = :lastModifiedDate WHERE h.id IN :holidayIds")
+			.setParameter("lastModifiedBy", auditorProvider.getCurrentAuditor().orElse(null))
+			.setParameter("lastModifiedDate", LocalDateTime.now())
+			.setParameter("holidayIds", holidayIds)
+			.executeUpdate();
+	}
+
 }
@@ -3,6 +3,7 @@ package com.skapp.community.peopleplanner.repository.impl;
 import com.skapp.community.common.model.User;
 import com.skapp.community.common.model.User_;
 import com.skapp.community.common.type.Role;
+import com.skapp.community.common.util.PaginationUtils;
 import com.skapp.community.peopleplanner.model.Employee;
 import com.skapp.community.peopleplanner.model.EmployeeManager;
 import com.skapp.community.peopleplanner.model.EmployeeManager_;
@@ -25,7 +26,6 @@ import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Subquery;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.query.QueryUtils;
@@ -160,10 +160,7 @@ public class TeamRepositoryImpl implements TeamRepository {
 		criteriaQuery.orderBy(QueryUtils.toOrders(Sort.by(Sort.Direction.ASC, "firstName"), root, criteriaBuilder));
 
 		TypedQuery<Employee> query = entityManager.createQuery(criteriaQuery);
-		int totalRows = query.getResultList().size();
-		query.setFirstResult(page.getPageNumber() * page.getPageSize());
-		query.setMaxResults(page.getPageSize());
-		return new PageImpl<>(query.getResultList(), page, totalRows);
+		return PaginationUtils.getPage(query, page);
 	}
 
 	@Override
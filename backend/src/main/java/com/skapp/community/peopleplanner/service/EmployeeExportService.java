@@ -0,0 +1,12 @@
+package com.skapp.community.peopleplanner.service;
+
+import com.skapp.community.peopleplanner.payload.request.EmployeeExportFilterDto;
+import com.skapp.community.peopleplanner.type.EmployeeExportFormat;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface EmployeeExportService {
+
+	StreamingResponseBody streamEmployees(EmployeeExportFilterDto employeeExportFilterDto,
+			EmployeeExportFormat exportFormat);
+
+}
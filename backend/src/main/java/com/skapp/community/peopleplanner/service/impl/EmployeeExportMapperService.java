@@ -27,7 +27,9 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -43,7 +45,16 @@ public class EmployeeExportMapperService {
 			List<Long> employeeIds) {
 		log.info("Mapping {} employees to export DTOs", employees.size());
 
-		List<EmployeeDataExportDto> exportDtos = new ArrayList<>();
+		Map<Long, List<Team>> teamsByEmployeeId = teamList.stream()
+			.collect(Collectors.groupingBy(EmployeeTeamDto::getEmployeeId,
+					Collectors.mapping(EmployeeTeamDto::getTeam, Collectors.toList())));
+		Map<Long, EmployeePeriod> periodsByEmployeeId = employeeIds.isEmpty() ? Map.of()
+				: employeePeriodDao.findEmployeePeriodsByEmployee_EmployeeIdInAndIsActiveTrue(employeeIds)
+					.stream()
+					.collect(Collectors.toMap(period -> period.getEmployee().getEmployeeId(), Function.identity(),
+							(first, second) -> first));
+
+		List<EmployeeDataExportDto> exportDtos = new ArrayList<>(employees.size());
 
 		for (Employee employee : employees) {
 			EmployeeDataExportDto dto = new EmployeeDataExportDto();
@@ -94,11 +105,7 @@ public class EmployeeExportMapperService {
 			dto.setEmployeePersonalInfoDto(mapPersonalInfo(employee.getPersonalInfo()));
 
 			// Teams
-			List<Team> teams = teamList.stream()
-				.filter(e -> e.getEmployeeId().equals(employee.getEmployeeId()))
-				.map(EmployeeTeamDto::getTeam)
-				.toList();
-			dto.setTeamResponseDto(mapTeams(teams));
+			dto.setTeamResponseDto(mapTeams(teamsByEmployeeId.get(employee.getEmployeeId())));
 
 			// Primary Supervisor
 			Optional<EmployeeManager> primaryManager = employee.getEmployeeManagers()
@@ -114,9 +121,7 @@ public class EmployeeExportMapperService {
 			}
 
 			// Probation Period
-			Optional<EmployeePeriod> period = employeePeriodDao
-				.findEmployeePeriodByEmployee_EmployeeIdAndIsActiveTrue(employee.getEmployeeId());
-			dto.setProbationPeriod(period.map(this::mapProbationPeriod).orElse(null));
+			dto.setProbationPeriod(mapProbationPeriod(periodsByEmployeeId.get(employee.getEmployeeId())));
 
 			// Emergency Contacts
 			dto.setEmployeeEmergencyDto(mapEmergencyContacts(employee.getEmployeeEmergencies()));
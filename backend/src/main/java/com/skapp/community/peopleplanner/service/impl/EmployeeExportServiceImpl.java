@@ -0,0 +1,206 @@
+package com.skapp.community.peopleplanner.service.impl;
+
+import com.skapp.community.common.model.User;
+import com.skapp.community.common.service.BulkContextService;
+import com.skapp.community.common.service.UserService;
+import com.skapp.community.peopleplanner.model.Employee;
+import com.skapp.community.peopleplanner.payload.request.EmployeeExportFilterDto;
+import com.skapp.community.peopleplanner.payload.response.export.EmergencyContactExportDto;
+import com.skapp.community.peopleplanner.payload.response.export.EmployeeDataExportDto;
+import com.skapp.community.peopleplanner.payload.response.export.EmployeePersonalInfoExportDto;
+import com.skapp.community.peopleplanner.payload.response.export.TeamExportDto;
+import com.skapp.community.peopleplanner.repository.EmployeeDao;
+import com.skapp.community.peopleplanner.service.EmployeeExportService;
+import com.skapp.community.peopleplanner.type.EmployeeExportFormat;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Streams the employee export to the response. Employees are read through a cursor in
+ * batches and each batch is mapped and written before the next one is read, so memory use
+ * does not grow with the number of exported employees.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmployeeExportServiceImpl implements EmployeeExportService {
+
+	private static final int EXPORT_BATCH_SIZE = 500;
+
+	private static final List<String> CSV_HEADERS = List.of("Employee ID", "Employee Number", "First Name",
+			"Middle Name", "Last Name", "Email", "Personal Email", "Phone", "Gender", "Designation", "Job Family",
+			"Job Title", "Employment Type", "Employment Allocation", "Join Date", "Time Zone", "Work Hour Capacity",
+			"Identification No", "Address Line 1", "Address Line 2", "Country", "Active", "EEO Job Category",
+			"Birth Date", "Blood Group", "Nationality", "Marital Status", "City", "State", "Postal Code", "Ethnicity",
+			"Passport No", "SSN", "Teams", "Primary Supervisor", "Probation Start Date", "Probation End Date",
+			"Emergency Contact Name", "Emergency Contact Relationship", "Emergency Contact No");
+
+	private static final String TEAM_SEPARATOR = "; ";
+
+	private static final String CSV_FORMULA_PREFIXES = "=+-@\t\r";
+
+	private final UserService userService;
+
+	private final EmployeeDao employeeDao;
+
+	private final EmployeeExportMapperService employeeExportMapperService;
+
+	private final BulkContextService bulkContextService;
+
+	private final PlatformTransactionManager transactionManager;
+
+	private final JsonMapper mapper;
+
+	@Override
+	public StreamingResponseBody streamEmployees(EmployeeExportFilterDto employeeExportFilterDto,
+			EmployeeExportFormat exportFormat) {
+		User currentUser = userService.getCurrentUser();
+		log.info("streamEmployees: execution started by user: {} in format: {}", currentUser.getUserId(), exportFormat);
+
+		String tenant = bulkContextService.getContext();
+
+		return outputStream -> {
+			bulkContextService.setContext(tenant);
+			Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+			if (exportFormat == EmployeeExportFormat.CSV) {
+				writeCsvRow(writer, CSV_HEADERS);
+			}
+
+			TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+			transactionTemplate.setReadOnly(true);
+			AtomicInteger exportedCount = new AtomicInteger();
+
+			try {
+				transactionTemplate.executeWithoutResult(status -> employeeDao
+					.streamEmployeesForExport(employeeExportFilterDto, EXPORT_BATCH_SIZE, employees -> {
+						List<Long> employeeIds = employees.stream().map(Employee::getEmployeeId).toList();
+						List<EmployeeDataExportDto> exportDtos = employeeExportMapperService.mapToExportDtos(employees,
+								employeeDao.findTeamsByEmployees(employeeIds), employeeIds);
+
+						try {
+							for (EmployeeDataExportDto exportDto : exportDtos) {
+								writeRow(writer, exportDto, exportFormat);
+							}
+							writer.flush();
+						}
+						catch (IOException e) {
+							throw new UncheckedIOException(e);
+						}
+						exportedCount.addAndGet(exportDtos.size());
+					}));
+			}
+			catch (UncheckedIOException e) {
+				log.warn("streamEmployees: export stopped after {} employees: {}", exportedCount.get(),
+						e.getCause().getMessage());
+				throw e.getCause();
+			}
+
+			writer.flush();
+			log.info("streamEmployees: Successfully streamed {} employees", exportedCount.get());
+		};
+	}
+
+	private void writeRow(Writer writer, EmployeeDataExportDto exportDto, EmployeeExportFormat exportFormat)
+			throws IOException {
+		if (exportFormat == EmployeeExportFormat.NDJSON) {
+			writer.write(mapper.writeValueAsString(exportDto));
+			writer.write('\n');
+		}
+		else {
+			writeCsvRow(writer, toCsvRow(exportDto));
+		}
+	}
+
+	private List<String> toCsvRow(EmployeeDataExportDto exportDto) {
+		EmployeePersonalInfoExportDto personalInfo = exportDto.getEmployeePersonalInfoDto();
+		EmergencyContactExportDto emergencyContact = getPrimaryEmergencyContact(exportDto.getEmployeeEmergencyDto());
+
+		return Arrays.asList(exportDto.getEmployeeId(), exportDto.getEmployeeNumber(), exportDto.getFirstName(),
+				exportDto.getMiddleName(), exportDto.getLastName(), exportDto.getEmail(), exportDto.getPersonalEmail(),
+				exportDto.getPhone(), exportDto.getGender(), exportDto.getDesignation(),
+				exportDto.getJobFamily() != null ? exportDto.getJobFamily().getName() : null,
+				exportDto.getJobTitle() != null ? exportDto.getJobTitle().getName() : null,
+				exportDto.getEmploymentType(), exportDto.getEmploymentAllocation(), exportDto.getJoinDate(),
+				exportDto.getTimeZone(), Objects.toString(exportDto.getWorkHourCapacity(), null),
+				exportDto.getIdentificationNo(), exportDto.getAddressLine1(), exportDto.getAddressLine2(),
+				exportDto.getCountry(), Objects.toString(exportDto.getIsActive(), null), exportDto.getEeoJobCategory(),
+				personalInfo != null ? personalInfo.getBirthDate() : null,
+				personalInfo != null ? personalInfo.getBloodGroup() : null,
+				personalInfo != null ? personalInfo.getNationality() : null,
+				personalInfo != null ? personalInfo.getMaritalStatus() : null,
+				personalInfo != null ? personalInfo.getCity() : null,
+				personalInfo != null ? personalInfo.getState() : null,
+				personalInfo != null ? personalInfo.getPostalCode() : null,
+				personalInfo != null ? personalInfo.getEthnicity() : null,
+				personalInfo != null ? personalInfo.getPassportNo() : null,
+				personalInfo != null ? personalInfo.getSsn() : null,
+				exportDto.getTeamResponseDto() != null ? exportDto.getTeamResponseDto()
+					.stream()
+					.map(TeamExportDto::getTeamName)
+					.collect(Collectors.joining(TEAM_SEPARATOR)) : null,
+				exportDto.getPrimarySupervisor() != null ? exportDto.getPrimarySupervisor().getEmail() : null,
+				exportDto.getProbationPeriod() != null ? exportDto.getProbationPeriod().getStartDate() : null,
+				exportDto.getProbationPeriod() != null ? exportDto.getProbationPeriod().getEndDate() : null,
+				emergencyContact != null ? emergencyContact.getName() : null,
+				emergencyContact != null ? emergencyContact.getEmergencyRelationship() : null,
+				emergencyContact != null ? emergencyContact.getContactNo() : null);
+	}
+
+	private EmergencyContactExportDto getPrimaryEmergencyContact(List<EmergencyContactExportDto> emergencyContacts) {
+		if (emergencyContacts == null || emergencyContacts.isEmpty()) {
+			return null;
+		}
+
+		return emergencyContacts.stream()
+			.filter(contact -> Boolean.TRUE.equals(contact.getIsPrimary()))
+			.findFirst()
+			.orElse(emergencyContacts.getFirst());
+	}
+
+	private void writeCsvRow(Writer writer, List<String> values) throws IOException {
+		for (int i = 0; i < values.size(); i++) {
+			if (i > 0) {
+				writer.write(',');
+			}
+			writer.write(escapeCsvValue(values.get(i)));
+		}
+		writer.write("\r\n");
+	}
+
+	private String escapeCsvValue(String value) {
+		if (value == null) {
+			return "";
+		}
+
+		// Spreadsheet applications evaluate cells starting with these characters as
+		// formulas, so they are kept as text
+		if (!value.isEmpty() && CSV_FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+			value = "'" + value;
+		}
+
+		if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0
+				|| value.indexOf('\r') >= 0) {
+			return "\"" + value.replace("\"", "\"\"") + "\"";
+		}
+
+		return value;
+	}
+
+}
@@ -7,6 +7,8 @@ import com.skapp.community.common.payload.response.PageDto;
 import com.skapp.community.common.payload.response.ResponseEntityDto;
 import com.skapp.community.common.repository.WorkLocationDao;
 import com.skapp.community.common.service.OrganizationService;
+import com.skapp.community.common.service.OrganizationSnapshotService;
+import com.skapp.community.common.service.WorkingDayCalendarService;
 import com.skapp.community.common.util.CommonModuleUtils;
 import com.skapp.community.common.util.DateTimeUtils;
 import com.skapp.community.common.util.MessageUtil;
@@ -28,7 +30,9 @@ import com.skapp.community.peopleplanner.payload.request.HolidayBulkRequestDto;
 import com.skapp.community.peopleplanner.payload.request.HolidayFilterDto;
 import com.skapp.community.peopleplanner.payload.request.HolidayRequestDto;
 import com.skapp.community.peopleplanner.payload.request.HolidaysDeleteRequestDto;
+import com.skapp.community.peopleplanner.payload.response.HolidayBulkDeleteResponseDto;
 import com.skapp.community.peopleplanner.payload.response.HolidayBulkSaveResponseDto;
+import com.skapp.community.peopleplanner.payload.response.HolidayDeleteStatusResponseDto;
 import com.skapp.community.peopleplanner.payload.response.HolidayDtoStatusResponseDto;
 import com.skapp.community.peopleplanner.payload.response.HolidayResponseDto;
 import com.skapp.community.peopleplanner.payload.response.HolidayWorkLocationResponseDto;
@@ -39,7 +43,6 @@ import com.skapp.community.peopleplanner.service.PeopleNotificationService;
 import com.skapp.community.peopleplanner.type.BulkRecordStatus;
 import com.skapp.community.peopleplanner.type.HolidayDuration;
 import com.skapp.community.timeplanner.model.TimeConfig;
-import com.skapp.community.timeplanner.repository.TimeConfigDao;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -53,12 +56,14 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -76,7 +81,7 @@ public class HolidayServiceImpl implements HolidayService {
 
 	private final PageTransformer pageTransformer;
 
-	private final TimeConfigDao timeConfigDao;
+	private final OrganizationSnapshotService organizationSnapshotService;
 
 	private final LeaveRequestDao leaveRequestDao;
 
@@ -92,6 +97,8 @@ public class HolidayServiceImpl implements HolidayService {
 
 	private final WorkLocationDao workLocationDao;
 
+	private final WorkingDayCalendarService workingDayCalendarService;
+
 	@Override
 	public ResponseEntityDto getAllHolidays(HolidayFilterDto holidayFilterDto) {
 		log.info("getAllHolidays: execution started");
@@ -119,11 +126,13 @@ public class HolidayServiceImpl implements HolidayService {
 	}
 
 	@Override
+	@Transactional
 	public ResponseEntityDto saveBulkHolidays(HolidayBulkRequestDto holidayBulkRequestDto) {
 		log.info("saveBulkHolidays: execution started");
 
 		List<HolidayDtoStatusResponseDto> holidayDtoStatusList = new ArrayList<>();
 		List<Holiday> savableHolidays = new ArrayList<>();
+		List<HolidayLeaveUpdate> leaveUpdates = new ArrayList<>();
 		AtomicInteger holidaysOnCurrentDate = new AtomicInteger();
 		AtomicInteger holidaysOnPastDates = new AtomicInteger();
 
@@ -132,11 +141,15 @@ public class HolidayServiceImpl implements HolidayService {
 		Map<String, WorkLocation> workLocationsByName = allWorkLocations.stream()
 			.collect(Collectors.toMap(wl -> wl.getName().trim(), wl -> wl, (a, b) -> a));
 
+		BulkHolidayImportContext importContext = loadBulkHolidayImportContext(
+				holidayBulkRequestDto.getHolidayDtoList());
+
 		holidayBulkRequestDto.getHolidayDtoList().forEach(holidayDto -> {
 			try {
 
 				LocalDate holidayDate = DateTimeUtils.parseUtcDate(holidayDto.getDate());
-				List<Holiday> systemHolidays = holidayDao.findAllByIsActiveTrueAndDate(holidayDate);
+				List<Holiday> systemHolidays = importContext.systemHolidaysByDate()
+					.getOrDefault(holidayDate, Collections.emptyList());
 
 				validateHolidayDto(holidayDto, holidayDate, systemHolidays, holidaysOnCurrentDate, holidaysOnPastDates,
 						holidayBulkRequestDto.getYear(), validWorkLocationNames);
@@ -149,13 +162,12 @@ public class HolidayServiceImpl implements HolidayService {
 
 				savableHolidays.add(holiday);
 
-				LeaveRequestFilterDto leaveRequestFilterDto = new LeaveRequestFilterDto();
-				leaveRequestFilterDto.setEndDate(holidayDate);
-				leaveRequestFilterDto.setStartDate(holidayDate);
-				List<LeaveRequest> leaveRequests = leaveRequestDao
-					.findAllLeaveRequestsByDateRange(leaveRequestFilterDto);
-				if (systemHolidays.isEmpty() && !leaveRequests.isEmpty()) {
-					leaveRequests.forEach(leaveRequest -> updateLeaveRequestDueHoliday(holiday, leaveRequest));
+				if (systemHolidays.isEmpty()) {
+					importContext.leaveRequests()
+						.stream()
+						.filter(leaveRequest -> !leaveRequest.getStartDate().isAfter(holidayDate)
+								&& !leaveRequest.getEndDate().isBefore(holidayDate))
+						.forEach(leaveRequest -> leaveUpdates.add(new HolidayLeaveUpdate(holiday, leaveRequest)));
 				}
 			}
 			catch (ModuleException | DateTimeParseException e) {
@@ -166,6 +178,8 @@ public class HolidayServiceImpl implements HolidayService {
 		});
 
 		List<Holiday> savedHolidays = holidayDao.saveAll(savableHolidays);
+		updateLeaveRequestsDueHolidays(leaveUpdates);
+		workingDayCalendarService.invalidateWorkingDayCalendar();
 		if (savedHolidays.size() == 1) {
 			peopleEmailService.sendNewHolidayDeclarationEmail(savedHolidays.getFirst());
 			peopleNotificationService.sendNewHolidayDeclarationNotification(savedHolidays.getFirst());
@@ -184,7 +198,7 @@ public class HolidayServiceImpl implements HolidayService {
 		log.info("getHolidayByDate: execution started");
 
 		List<Holiday> holidayList = holidayDao.findAllActiveHolidaysByDateWithWorkLocations(date);
-		List<TimeConfig> workingDays = timeConfigDao.findAll();
+		List<TimeConfig> workingDays = organizationSnapshotService.getOrganizationSnapshot().getTimeConfigs();
 
 		List<HolidayResponseDto> holidayResponseDtos = new ArrayList<>();
 		if (!workingDays.isEmpty() && !CommonModuleUtils.checkIfDayIsWorkingDay(date, workingDays,
@@ -223,6 +237,7 @@ public class HolidayServiceImpl implements HolidayService {
 
 		List<Long> deletedHolidayIds = holidays.stream().filter(this::canDeleteHoliday).map(Holiday::getId).toList();
 		holidayDao.deleteAllById(deletedHolidayIds);
+		workingDayCalendarService.invalidateWorkingDayCalendar();
 
 		return new ResponseEntityDto(messageUtil.getMessage(PeopleMessageConstant.PEOPLE_SUCCESS_DELETE_HOLIDAYS),
 				false);
@@ -237,46 +252,176 @@ public class HolidayServiceImpl implements HolidayService {
 			throw new ModuleException(PeopleMessageConstant.PEOPLE_ERROR_DELETE_HOLIDAYS_ARRAY_EMPTY);
 		}
 
-		List<Long> holidayIds = holidayDeleteDto.getHolidayIds();
+		List<Long> holidayIds = new ArrayList<>(new LinkedHashSet<>(holidayDeleteDto.getHolidayIds()));
+		Map<Long, Holiday> activeHolidaysById = holidayDao.findAllById(holidayIds)
+			.stream()
+			.filter(Holiday::isActive)
+			.collect(Collectors.toMap(Holiday::getId, holiday -> holiday));
+		List<LeaveRequest> leaveRequests = getLeaveRequestsOverlappingHolidays(activeHolidaysById.values());
+
+		List<Long> deletableHolidayIds = new ArrayList<>();
+		List<HolidayDeleteStatusResponseDto> holidayDeleteStatusList = new ArrayList<>();
+		PeopleMessageConstant firstErrorMessage = null;
+		String[] firstErrorArgs = null;
 		for (Long holidayId : holidayIds) {
-			Optional<Holiday> optionalHoliday = holidayDao.findById(holidayId);
+			Holiday holiday = activeHolidaysById.get(holidayId);
+			PeopleMessageConstant errorMessage = null;
+			String[] errorArgs = null;
 
-			if (optionalHoliday.isPresent()) {
-				Holiday holiday = optionalHoliday.get();
-				if (!holiday.isActive()) {
-					throw new ModuleException(PeopleMessageConstant.PEOPLE_ERROR_SPECIFIC_HOLIDAY_NOT_FOUND,
-							new String[] { String.valueOf(holidayId) });
-				}
-				LeaveRequestFilterDto leaveRequestFilterDto = new LeaveRequestFilterDto();
-				leaveRequestFilterDto.setStartDate(holiday.getDate());
-				leaveRequestFilterDto.setEndDate(holiday.getDate());
-				leaveRequestFilterDto.setStatus(List.of(LeaveRequestStatus.PENDING, LeaveRequestStatus.APPROVED));
-				List<LeaveRequest> leaveRequests = leaveRequestDao
-					.findAllLeaveRequestsByDateRange(leaveRequestFilterDto);
-				if (!leaveRequests.isEmpty()) {
-					throw new ModuleException(
-							PeopleMessageConstant.PEOPLE_ERROR_HOLIDAY_CANNOT_BE_DELETED_LEAVES_EXIST);
+			if (holiday == null) {
+				errorMessage = PeopleMessageConstant.PEOPLE_ERROR_SPECIFIC_HOLIDAY_NOT_FOUND;
+				errorArgs = new String[] { String.valueOf(holidayId) };
+			}
+			else if (leaveRequests.stream()
+				.anyMatch(leaveRequest -> !holiday.getDate().isBefore(leaveRequest.getStartDate())
+						&& !holiday.getDate().isAfter(leaveRequest.getEndDate()))) {
+				errorMessage = PeopleMessageConstant.PEOPLE_ERROR_HOLIDAY_CANNOT_BE_DELETED_LEAVES_EXIST;
+			}
+			else if (!canDeleteHoliday(holiday)) {
+				errorMessage = PeopleMessageConstant.PEOPLE_ERROR_HOLIDAY_CANNOT_BE_DELETED;
+			}
+
+			if (errorMessage == null) {
+				deletableHolidayIds.add(holidayId);
+			}
+			else {
+				holidayDeleteStatusList.add(new HolidayDeleteStatusResponseDto(BulkRecordStatus.ERROR,
+						messageUtil.getMessage(errorMessage, errorArgs), holidayId));
+				if (firstErrorMessage == null) {
+					firstErrorMessage = errorMessage;
+					firstErrorArgs = errorArgs;
 				}
+			}
+		}
+
+		if (deletableHolidayIds.isEmpty()) {
+			throw new ModuleException(firstErrorMessage, firstErrorArgs);
+		}
+
+		holidayDao.deactivateHolidays(deletableHolidayIds);
+		workingDayCalendarService.invalidateWorkingDayCalendar();
+		log.info("deleteSelectedHolidays: deleted holidays with IDs: {}", deletableHolidayIds);
+
+		String statusMessage = holidayDeleteStatusList.isEmpty()
+				? messageUtil.getMessage(PeopleMessageConstant.PEOPLE_SUCCESS_DELETE_SELECTED_HOLIDAYS)
+				: messageUtil.getMessage(PeopleMessageConstant.PEOPLE_SUCCESS_SELECTED_HOLIDAYS_PARTIALLY_DELETED);
+
+		HolidayBulkDeleteResponseDto holidayBulkDeleteResponseDto = new HolidayBulkDeleteResponseDto();
+		holidayBulkDeleteResponseDto.setMessage(statusMessage);
+		holidayBulkDeleteResponseDto
+			.setBulkStatusSummary(new BulkStatusSummary(deletableHolidayIds.size(), holidayDeleteStatusList.size()));
+		holidayBulkDeleteResponseDto.setBulkRecordErrorLogs(holidayDeleteStatusList);
+
+		return new ResponseEntityDto(false, holidayBulkDeleteResponseDto);
+	}
+
+	/**
+	 * Loads the pending and approved leave requests overlapping the span of the given
+	 * holidays with a single query.
+	 */
+	private List<LeaveRequest> getLeaveRequestsOverlappingHolidays(Collection<Holiday> holidays) {
+		if (holidays.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		LeaveRequestFilterDto leaveRequestFilterDto = new LeaveRequestFilterDto();
+		leaveRequestFilterDto
+			.setStartDate(holidays.stream().map(Holiday::getDate).min(LocalDate::compareTo).orElseThrow());
+		leaveRequestFilterDto
+			.setEndDate(holidays.stream().map(Holiday::getDate).max(LocalDate::compareTo).orElseThrow());
+		leaveRequestFilterDto.setStatus(List.of(LeaveRequestStatus.PENDING, LeaveRequestStatus.APPROVED));
+		return leaveRequestDao.findAllLeaveRequestsByDateRange(leaveRequestFilterDto);
+	}
+
+	/**
+	 * Loads the active holidays and the leave requests overlapping the dates of the
+	 * import, so each row is checked against them without querying the database.
+	 */
+	private BulkHolidayImportContext loadBulkHolidayImportContext(List<HolidayRequestDto> holidayDtoList) {
+		List<LocalDate> holidayDates = new ArrayList<>();
+		holidayDtoList.forEach(holidayDto -> {
+			try {
+				holidayDates.add(DateTimeUtils.parseUtcDate(holidayDto.getDate()));
+			}
+			catch (ModuleException | DateTimeParseException e) {
+				log.debug("loadBulkHolidayImportContext: skipping unparsable date: {}", holidayDto.getDate());
+			}
+		});
+		holidayDates.removeIf(Objects::isNull);
+
+		if (holidayDates.isEmpty()) {
+			return new BulkHolidayImportContext(Collections.emptyMap(), Collections.emptyList());
+		}
+
+		LocalDate startDate = Collections.min(holidayDates);
+		LocalDate endDate = Collections.max(holidayDates);
 
-				if (canDeleteHoliday(holiday)) {
-					holiday.setActive(false);
-					log.info("Deleted holiday with ID: {}", holidayId);
+		Map<LocalDate, List<Holiday>> systemHolidaysByDate = holidayDao
+			.findAllByIsActiveTrueAndDateBetween(startDate, endDate)
+			.stream()
+			.collect(Collectors.groupingBy(Holiday::getDate));
+
+		LeaveRequestFilterDto leaveRequestFilterDto = new LeaveRequestFilterDto();
+		leaveRequestFilterDto.setStartDate(startDate);
+		leaveRequestFilterDto.setEndDate(endDate);
+		List<LeaveRequest> leaveRequests = leaveRequestDao.findAllLeaveRequestsByDateRange(leaveRequestFilterDto);
+
+		return new BulkHolidayImportContext(systemHolidaysByDate, leaveRequests);
+	}
+
+	private void updateLeaveRequestsDueHolidays(List<HolidayLeaveUpdate> leaveUpdates) {
+		if (leaveUpdates.isEmpty()) {
+			return;
+		}
+
+		Set<LeaveRequest> updatedLeaveRequests = new LinkedHashSet<>();
+		leaveUpdates.forEach(leaveUpdate -> updatedLeaveRequests.add(leaveUpdate.leaveRequest()));
+
+		Map<LeaveRequest, List<LeaveRequestEntitlement>> leaveRequestEntitlements = leaveRequestEntitlementDao
+			.findAllByLeaveRequestInOrderByLeaveEntitlement_ValidToAsc(updatedLeaveRequests)
+			.stream()
+			.collect(Collectors.groupingBy(LeaveRequestEntitlement::getLeaveRequest));
+
+		Set<LeaveRequestEntitlement> updatedLeaveRequestEntitlements = new LinkedHashSet<>();
+		List<LeaveRequestEntitlement> deletedLeaveRequestEntitlements = new ArrayList<>();
+		Set<LeaveEntitlement> updatedLeaveEntitlements = new LinkedHashSet<>();
+
+		for (HolidayLeaveUpdate leaveUpdate : leaveUpdates) {
+			LeaveRequest leaveRequest = leaveUpdate.leaveRequest();
+			if (leaveRequest.getStatus() != LeaveRequestStatus.PENDING
+					&& leaveRequest.getStatus() != LeaveRequestStatus.APPROVED) {
+				continue;
+			}
+
+			boolean isMultiple = updateLeaveRequestDueHoliday(leaveUpdate.holiday(), leaveRequest);
+			sendEmailsAndNotifications(leaveRequest, isMultiple, leaveUpdate.holiday());
+
+			List<LeaveRequestEntitlement> entitlements = leaveRequestEntitlements.getOrDefault(leaveRequest,
+					Collections.emptyList());
+			if (!entitlements.isEmpty()) {
+				LeaveRequestEntitlement leaveRequestEntitlement = entitlements.getFirst();
+				if (deductDaysUsed(leaveRequestEntitlement, leaveRequestEntitlement.getLeaveEntitlement())) {
+					entitlements.removeFirst();
+					updatedLeaveRequestEntitlements.remove(leaveRequestEntitlement);
+					deletedLeaveRequestEntitlements.add(leaveRequestEntitlement);
 				}
 				else {
-					throw new ModuleException(PeopleMessageConstant.PEOPLE_ERROR_HOLIDAY_CANNOT_BE_DELETED);
+					updatedLeaveRequestEntitlements.add(leaveRequestEntitlement);
 				}
+				updatedLeaveEntitlements.add(leaveRequestEntitlement.getLeaveEntitlement());
 			}
 			else {
-				throw new ModuleException(PeopleMessageConstant.PEOPLE_ERROR_SPECIFIC_HOLIDAY_NOT_FOUND,
-						new String[] { String.valueOf(holidayId) });
+				log.warn("No LeaveRequestEntitlements found for LeaveRequest ID: {}", leaveRequest.getLeaveRequestId());
 			}
 		}
 
-		return new ResponseEntityDto(
-				messageUtil.getMessage(PeopleMessageConstant.PEOPLE_SUCCESS_DELETE_SELECTED_HOLIDAYS), false);
+		leaveRequestDao.saveAll(updatedLeaveRequests);
+		leaveRequestEntitlementDao.saveAll(updatedLeaveRequestEntitlements);
+		leaveRequestEntitlementDao.deleteAll(deletedLeaveRequestEntitlements);
+		leaveEntitlementDao.saveAll(updatedLeaveEntitlements);
 	}
 
-	private void updateLeaveRequestDueHoliday(Holiday holiday, LeaveRequest leaveRequest) {
+	private boolean updateLeaveRequestDueHoliday(Holiday holiday, LeaveRequest leaveRequest) {
 		boolean isMultiple = isMultipleDaysLeave(leaveRequest);
 		boolean isFullDayHoliday = holiday.getHolidayDuration() == HolidayDuration.FULL_DAY;
 		boolean isHalfDayMorningHoliday = holiday.getHolidayDuration() == HolidayDuration.HALF_DAY_MORNING;
@@ -311,20 +456,7 @@ public class HolidayServiceImpl implements HolidayService {
 			}
 		}
 
-		leaveRequest = leaveRequestDao.save(leaveRequest);
-
-		sendEmailsAndNotifications(leaveRequest, isMultiple, holiday);
-
-		List<LeaveRequestEntitlement> leaveRequestEntitlements = leaveRequestEntitlementDao
-			.findAllByLeaveRequestOrderByLeaveEntitlement_ValidToAsc(leaveRequest);
-
-		if (!leaveRequestEntitlements.isEmpty()) {
-			deductDaysUsed(leaveRequestEntitlements.getFirst(),
-					leaveRequestEntitlements.getFirst().getLeaveEntitlement());
-		}
-		else {
-			log.warn("No LeaveRequestEntitlements found for LeaveRequest ID: {}", leaveRequest.getLeaveRequestId());
-		}
+		return isMultiple;
 	}
 
 	private void sendEmailsAndNotifications(LeaveRequest leaveRequest, boolean isMultiple, Holiday holiday) {
@@ -373,20 +505,25 @@ public class HolidayServiceImpl implements HolidayService {
 		}
 	}
 
-	private void deductDaysUsed(LeaveRequestEntitlement leaveRequestEntitlement, LeaveEntitlement leaveEntitlement) {
+	/**
+	 * Deducts a day from the entitlements in memory.
+	 * @return {@code true} if the leave request entitlement is used up and must be
+	 * deleted.
+	 */
+	private boolean deductDaysUsed(LeaveRequestEntitlement leaveRequestEntitlement, LeaveEntitlement leaveEntitlement) {
 		float daysUsed = leaveRequestEntitlement.getDaysUsed();
 		float totalDaysUsed = leaveEntitlement.getTotalDaysUsed();
-		if (daysUsed > 0) {
-			if (leaveRequestEntitlement.getDaysUsed() == 1) {
-				leaveRequestEntitlementDao.delete(leaveRequestEntitlement);
-			}
-			else {
-				leaveRequestEntitlement.setDaysUsed(daysUsed - 1);
-				leaveRequestEntitlementDao.save(leaveRequestEntitlement);
-			}
-			leaveEntitlement.setTotalDaysUsed(totalDaysUsed - 1);
-			leaveEntitlementDao.save(leaveEntitlement);
+		if (daysUsed <= 0) {
+			return false;
+		}
+
+		leaveEntitlement.setTotalDaysUsed(totalDaysUsed - 1);
+		if (daysUsed == 1) {
+			return true;
 		}
+
+		leaveRequestEntitlement.setDaysUsed(daysUsed - 1);
+		return false;
 	}
 
 	private void validateHolidayDto(HolidayRequestDto holidayDto, LocalDate holidayDate, List<Holiday> systemHolidays,
@@ -574,4 +711,11 @@ public class HolidayServiceImpl implements HolidayService {
 		}).count();
 	}
 
+	private record BulkHolidayImportContext(Map<LocalDate, List<Holiday>> systemHolidaysByDate,
+			List<LeaveRequest> leaveRequests) {
+	}
+
+	private record HolidayLeaveUpdate(Holiday holiday, LeaveRequest leaveRequest) {
+	}
+
 }
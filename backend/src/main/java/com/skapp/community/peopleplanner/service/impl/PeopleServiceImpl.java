@@ -13,7 +13,7 @@ import com.skapp.community.common.payload.response.PageDto;
 import com.skapp.community.common.payload.response.ResponseEntityDto;
 import com.skapp.community.common.repository.UserDao;
 import com.skapp.community.common.repository.WorkLocationDao;
-import com.skapp.community.common.service.BulkContextService;
+import com.skapp.community.common.service.BulkExecutionService;
 import com.skapp.community.common.service.EncryptionDecryptionService;
 import com.skapp.community.common.service.UserService;
 import com.skapp.community.common.service.UserVersionService;
@@ -111,7 +111,6 @@ import com.skapp.community.peopleplanner.type.BulkItemStatus;
 import com.skapp.community.peopleplanner.type.EmployeePeriodSort;
 import com.skapp.community.peopleplanner.type.EmploymentType;
 import com.skapp.community.peopleplanner.util.Validations;
-import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -123,11 +122,9 @@ import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
-import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionCallbackWithoutResult;
 import org.springframework.transaction.support.TransactionTemplate;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.json.JsonMapper;
@@ -136,16 +133,16 @@ import tools.jackson.databind.node.ObjectNode;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -192,7 +189,7 @@ public class PeopleServiceImpl implements PeopleService {
 
 	private final EncryptionDecryptionService encryptionDecryptionService;
 
-	private final BulkContextService bulkContextService;
+	private final BulkExecutionService bulkExecutionService;
 
 	private final AsyncEmailServiceImpl asyncEmailServiceImpl;
 
@@ -1125,12 +1122,17 @@ public class PeopleServiceImpl implements PeopleService {
 		User currentUser = userService.getCurrentUser();
 		log.info("addEmployeeBulk: execution started by user: {}", currentUser.getUserId());
 
-		ExecutorService executorService = Executors.newFixedThreadPool(6);
 		List<EmployeeBulkResponseDto> results = Collections.synchronizedList(new ArrayList<>());
 		AtomicReference<ResponseEntityDto> outValues = new AtomicReference<>(new ResponseEntityDto());
 
-		List<CompletableFuture<Void>> tasks = createEmployeeTasks(validEmployeeBulkDtoList, executorService, results);
-		waitForTaskCompletion(tasks, executorService);
+		TransactionTemplate transactionTemplate = getTransactionManagerTemplate();
+		BulkEmployeeImportContext importContext = createBulkEmployeeImportContext(validEmployeeBulkDtoList);
+		for (List<EmployeeBulkDto> supervisorLevel : getSupervisorLevels(validEmployeeBulkDtoList, importContext)) {
+			bulkExecutionService.execute("addEmployeeBulk", CommonModuleUtils.chunkData(supervisorLevel),
+					employeeBulkDtoChunk -> createEmployeeChunk(employeeBulkDtoChunk, importContext,
+							transactionTemplate, results));
+			importContext.supervisorIds().putAll(importContext.createdEmployeeIds());
+		}
 
 		asyncEmailServiceImpl.sendEmailsInBackground(results);
 		List<EmployeeBulkDto> overflowedEmployeeBulkDtoList = getOverFlowedEmployeeBulkDtoList(employeeBulkDtoList,
@@ -1932,34 +1934,6 @@ public class PeopleServiceImpl implements PeopleService {
 		return bulkResponseDto;
 	}
 
-	private void waitForTaskCompletion(List<CompletableFuture<Void>> tasks, ExecutorService executorService) {
-		CompletableFuture<Void> allTasks = CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0]));
-		allTasks.thenRun(executorService::shutdown);
-		allTasks.join();
-
-		try {
-			if (!executorService.awaitTermination(5, TimeUnit.MINUTES)) {
-				log.error("addEmployeeBulk: ExecutorService Failed to terminate after 5 minutes");
-				log.error("addEmployeeBulk: Forcefully shutting down ExecutorService");
-				List<Runnable> pendingTasks = executorService.shutdownNow();
-				log.error("addEmployeeBulk: Found {} pending tasks while forcefully shutting down",
-						pendingTasks.size());
-			}
-		}
-		catch (InterruptedException e) {
-			Thread.currentThread().interrupt();
-			log.error("addEmployeeBulk: Interrupted while waiting to terminate the ExecutorService", e);
-		}
-		catch (Exception e) {
-			log.error("addEmployeeBulk: Error occurred while waiting to terminate the ExecutorService: {}",
-					e.getMessage());
-		}
-
-		log.info("addEmployeeBulk: is executor shut down success : {}", executorService.isShutdown());
-		log.info("addEmployeeBulk: all the tasks termination success after executor shut down : {}",
-				executorService.isTerminated());
-	}
-
 	private int generateBulkErrorResponse(AtomicReference<ResponseEntityDto> outValues, int totalSize,
 			List<EmployeeBulkResponseDto> results) {
 		EmployeeBulkErrorResponseDto errorResponseDto = new EmployeeBulkErrorResponseDto();
@@ -1976,14 +1950,7 @@ public class PeopleServiceImpl implements PeopleService {
 		return successCount;
 	}
 
-	private void createNewEmployeeFromBulk(EmployeeBulkDto employeeBulkDto) {
-		List<String> validationErrors = validateEmployeeBulkDto(employeeBulkDto);
-		if (!validationErrors.isEmpty()) {
-			throw new ValidationException(
-					PeopleMessageConstant.PEOPLE_ERROR_USER_ENTITLEMENT_BULK_UPLOAD_VALIDATION_FAILED,
-					validationErrors);
-		}
-
+	private Long createNewEmployeeFromBulk(EmployeeBulkDto employeeBulkDto, BulkEmployeeImportContext importContext) {
 		if (employeeBulkDto.getIdentificationNo() != null)
 			employeeBulkDto.setIdentificationNo(employeeBulkDto.getIdentificationNo().toUpperCase());
 
@@ -1994,9 +1961,10 @@ public class PeopleServiceImpl implements PeopleService {
 		user.setEmail(employeeBulkDto.getWorkEmail());
 		user.setIsActive(true);
 
-		User firstUser = userDao.findById(1L)
-			.orElseThrow(() -> new ModuleException(CommonMessageConstant.COMMON_ERROR_USER_NOT_FOUND));
-		LoginMethod loginMethod = firstUser.getLoginMethod();
+		LoginMethod loginMethod = importContext.loginMethod();
+		if (loginMethod == null) {
+			throw new ModuleException(CommonMessageConstant.COMMON_ERROR_USER_NOT_FOUND);
+		}
 
 		if (loginMethod.equals(LoginMethod.GOOGLE)) {
 			user.setIsPasswordChangedForTheFirstTime(true);
@@ -2014,7 +1982,10 @@ public class PeopleServiceImpl implements PeopleService {
 		}
 
 		setBulkEmployeeProgression(employeeBulkDto, employee);
-		setBulkManagers(employeeBulkDto, employeeDetailsDto);
+		if (employeeBulkDto.getPrimaryManager() != null) {
+			employeeDetailsDto.setPrimaryManager(
+					importContext.supervisorIds().get(normalizeEmail(employeeBulkDto.getPrimaryManager())));
+		}
 
 		Set<EmployeeManager> managers = addNewManagers(employeeDetailsDto, employee);
 		employee.setEmployeeManagers(managers);
@@ -2055,6 +2026,8 @@ public class PeopleServiceImpl implements PeopleService {
 		if (employeeBulkDto.getEmployeePeriod() != null) {
 			saveEmployeePeriod(employee, employeeBulkDto.getEmployeePeriod());
 		}
+
+		return user.getUserId();
 	}
 
 	private void saveEmployeeTeams(Employee employee, EmployeeBulkDto employeeBulkDto) {
@@ -2208,10 +2181,12 @@ public class PeopleServiceImpl implements PeopleService {
 		return userSettings;
 	}
 
-	private void validateUserEmail(String workEmail, List<String> errors) {
+	private void validateUserEmail(EmployeeBulkDto employeeBulkDto, BulkEmployeeImportContext importContext,
+			List<String> errors) {
+		String workEmail = employeeBulkDto.getWorkEmail();
 		if (workEmail != null && (workEmail.matches(Validation.EMAIL_REGEX))) {
-			Optional<User> userBulkDtoUser = userDao.findByEmail(workEmail);
-			if (userBulkDtoUser.isPresent()) {
+			if (importContext.existingEmails().contains(normalizeEmail(workEmail))
+					|| importContext.duplicateEmailRows().contains(employeeBulkDto)) {
 				errors.add(messageUtil.getMessage(PeopleMessageConstant.PEOPLE_ERROR_USER_EMAIL_ALREADY_EXIST));
 			}
 		}
@@ -2233,22 +2208,10 @@ public class PeopleServiceImpl implements PeopleService {
 		}
 	}
 
-	private void validateUserSupervisor(String supervisorEmail, List<String> errors) {
-		if (supervisorEmail != null) {
-			Optional<User> managerUser = userDao.findByEmail(supervisorEmail);
-			if (managerUser.isEmpty()) {
-				errors.add(messageUtil.getMessage(PeopleMessageConstant.PEOPLE_ERROR_SUPERVISOR_NOT_FOUND));
-			}
-			else {
-				if (Boolean.FALSE.equals(managerUser.get().getEmployee().getUser().getIsActive()))
-					errors.add(messageUtil.getMessage(PeopleMessageConstant.PEOPLE_ERROR_SUPERVISOR_NOT_FOUND));
-				else {
-					Optional<Employee> primaryManagerEmployee = employeeDao.findById(managerUser.get().getUserId());
-					if (primaryManagerEmployee.isEmpty()) {
-						errors.add(messageUtil.getMessage(PeopleMessageConstant.PEOPLE_ERROR_SUPERVISOR_NOT_FOUND));
-					}
-				}
-			}
+	private void validateUserSupervisor(String supervisorEmail, BulkEmployeeImportContext importContext,
+			List<String> errors) {
+		if (supervisorEmail != null && !importContext.supervisorIds().containsKey(normalizeEmail(supervisorEmail))) {
+			errors.add(messageUtil.getMessage(PeopleMessageConstant.PEOPLE_ERROR_SUPERVISOR_NOT_FOUND));
 		}
 	}
 
@@ -2350,7 +2313,8 @@ public class PeopleServiceImpl implements PeopleService {
 		return employeeTeams;
 	}
 
-	private List<String> validateEmployeeBulkDto(EmployeeBulkDto employeeBulkDto) {
+	private List<String> validateEmployeeBulkDto(EmployeeBulkDto employeeBulkDto,
+			BulkEmployeeImportContext importContext) {
 		List<String> errors = new ArrayList<>();
 
 		validateMandatoryFields(employeeBulkDto);
@@ -2360,13 +2324,18 @@ public class PeopleServiceImpl implements PeopleService {
 			throw new EntityNotFoundException(PeopleMessageConstant.PEOPLE_ERROR_INVALID_TIMEZONE);
 		}
 
-		if (employeeBulkDto.getIdentificationNo() != null)
+		if (employeeBulkDto.getIdentificationNo() != null) {
 			validateIdentificationNo(employeeBulkDto.getIdentificationNo(), errors);
+			if (importContext.existingIdentificationNos().contains(employeeBulkDto.getIdentificationNo().toUpperCase())
+					|| importContext.duplicateIdentificationNoRows().contains(employeeBulkDto)) {
+				errors.add(messageUtil.getMessage(PeopleMessageConstant.PEOPLE_ERROR_DUPLICATE_IDENTIFICATION_NO));
+			}
+		}
 
 		validateFirstName(employeeBulkDto.getFirstName(), errors);
 		validateLastName(employeeBulkDto.getLastName(), errors);
-		validateUserEmail(employeeBulkDto.getWorkEmail(), errors);
-		validateUserSupervisor(employeeBulkDto.getPrimaryManager(), errors);
+		validateUserEmail(employeeBulkDto, importContext, errors);
+		validateUserSupervisor(employeeBulkDto.getPrimaryManager(), importContext, errors);
 		validateCareerProgressionInBulk(employeeBulkDto.getEmployeeProgression(), errors);
 		validateStateInBulk(employeeBulkDto.getEmployeePersonalInfo().getState(), errors);
 
@@ -2401,49 +2370,191 @@ public class PeopleServiceImpl implements PeopleService {
 		return employeeBulkDtoList.stream().filter(e -> !validList.contains(e)).toList();
 	}
 
-	private List<CompletableFuture<Void>> createEmployeeTasks(List<EmployeeBulkDto> employeeBulkDtoList,
-			ExecutorService executorService, List<EmployeeBulkResponseDto> results) {
-		List<CompletableFuture<Void>> tasks = new ArrayList<>();
-		List<List<EmployeeBulkDto>> chunkedEmployeeBulkData = CommonModuleUtils.chunkData(employeeBulkDtoList);
-		TransactionTemplate transactionTemplate = getTransactionManagerTemplate();
+	/**
+	 * Resolves everything the bulk import would otherwise look up once per row with a few
+	 * set-based queries: existing users for work and supervisor emails, employees already
+	 * holding an identification number, and the login method of the tenant. Rows
+	 * repeating an email or identification number of an earlier row in the same upload
+	 * are recorded so they fail validation instead of the insert. Employees created by
+	 * the upload are collected per committed chunk and become supervisors for later
+	 * levels.
+	 * @param employeeBulkDtoList The rows of the bulk upload.
+	 * @return The import context shared by all chunks of the upload.
+	 */
+	private BulkEmployeeImportContext createBulkEmployeeImportContext(List<EmployeeBulkDto> employeeBulkDtoList) {
+		Set<String> emails = new HashSet<>();
+		Set<String> identificationNos = new HashSet<>();
+		Set<EmployeeBulkDto> duplicateEmailRows = Collections.newSetFromMap(new IdentityHashMap<>());
+		Set<EmployeeBulkDto> duplicateIdentificationNoRows = Collections.newSetFromMap(new IdentityHashMap<>());
+		Set<String> queryEmails = new HashSet<>();
+
+		for (EmployeeBulkDto employeeBulkDto : employeeBulkDtoList) {
+			if (employeeBulkDto.getWorkEmail() != null) {
+				queryEmails.add(employeeBulkDto.getWorkEmail());
+				if (!emails.add(normalizeEmail(employeeBulkDto.getWorkEmail()))) {
+					duplicateEmailRows.add(employeeBulkDto);
+				}
+			}
 
-		String tenant = bulkContextService.getContext();
+			if (employeeBulkDto.getPrimaryManager() != null) {
+				queryEmails.add(employeeBulkDto.getPrimaryManager());
+			}
 
-		for (List<EmployeeBulkDto> employeeBulkChunkDtoList : chunkedEmployeeBulkData) {
-			for (EmployeeBulkDto employeeBulkDto : employeeBulkChunkDtoList) {
-				tasks.add(createEmployeeTask(employeeBulkDto, transactionTemplate, results, executorService, tenant));
+			if (employeeBulkDto.getIdentificationNo() != null
+					&& !identificationNos.add(employeeBulkDto.getIdentificationNo().toUpperCase())) {
+				duplicateIdentificationNoRows.add(employeeBulkDto);
+			}
+		}
+
+		Set<String> existingEmails = new HashSet<>();
+		Map<String, Long> supervisorIds = new HashMap<>();
+		if (!queryEmails.isEmpty()) {
+			for (User user : userDao.findByEmailIn(queryEmails)) {
+				existingEmails.add(normalizeEmail(user.getEmail()));
+				if (Boolean.TRUE.equals(user.getIsActive()) && user.getEmployee() != null) {
+					supervisorIds.put(normalizeEmail(user.getEmail()), user.getEmployee().getEmployeeId());
+				}
 			}
 		}
 
-		return tasks;
+		Set<String> existingIdentificationNos = identificationNos.isEmpty() ? Set.of()
+				: employeeDao.findByIdentificationNoIn(identificationNos)
+					.stream()
+					.map(employee -> employee.getIdentificationNo().toUpperCase())
+					.collect(Collectors.toSet());
+
+		LoginMethod loginMethod = userDao.findById(1L).map(User::getLoginMethod).orElse(null);
+
+		return new BulkEmployeeImportContext(loginMethod, existingEmails, supervisorIds, new ConcurrentHashMap<>(),
+				existingIdentificationNos, duplicateEmailRows, duplicateIdentificationNoRows);
 	}
 
-	private CompletableFuture<Void> createEmployeeTask(EmployeeBulkDto employeeBulkDto,
-			TransactionTemplate transactionTemplate, List<EmployeeBulkResponseDto> results,
-			ExecutorService executorService, String tenant) {
-		return CompletableFuture.runAsync(() -> {
-			try {
-				bulkContextService.setContext(tenant);
-				saveEmployeeInTransaction(employeeBulkDto, transactionTemplate);
-				handleSuccessResponse(employeeBulkDto,
-						messageUtil.getMessage(PeopleMessageConstant.PEOPLE_SUCCESS_EMPLOYEE_ADDED), results);
+	/**
+	 * Groups the rows of the upload so that a row whose supervisor is another row of the
+	 * same upload is imported only after the level holding its supervisor has committed.
+	 * Rows with no supervisor, or with a supervisor that already exists, form the first
+	 * level. Rows in a supervisor cycle are placed so that they fail the supervisor
+	 * validation.
+	 * @param employeeBulkDtoList The rows of the bulk upload.
+	 * @param importContext The import context of the upload.
+	 * @return The rows of the upload in the order of the levels to import.
+	 */
+	private List<List<EmployeeBulkDto>> getSupervisorLevels(List<EmployeeBulkDto> employeeBulkDtoList,
+			BulkEmployeeImportContext importContext) {
+		Map<String, EmployeeBulkDto> rowsByWorkEmail = new HashMap<>();
+		for (EmployeeBulkDto employeeBulkDto : employeeBulkDtoList) {
+			if (employeeBulkDto.getWorkEmail() != null
+					&& !importContext.duplicateEmailRows().contains(employeeBulkDto)) {
+				rowsByWorkEmail.putIfAbsent(normalizeEmail(employeeBulkDto.getWorkEmail()), employeeBulkDto);
+			}
+		}
+
+		Map<EmployeeBulkDto, Integer> levels = new IdentityHashMap<>();
+		List<List<EmployeeBulkDto>> supervisorLevels = new ArrayList<>();
+		for (EmployeeBulkDto employeeBulkDto : employeeBulkDtoList) {
+			List<EmployeeBulkDto> supervisorChain = new ArrayList<>();
+			Set<EmployeeBulkDto> chainRows = Collections.newSetFromMap(new IdentityHashMap<>());
+			EmployeeBulkDto current = employeeBulkDto;
+			while (current != null && !levels.containsKey(current) && chainRows.add(current)) {
+				supervisorChain.add(current);
+				current = getUploadedSupervisorRow(current, rowsByWorkEmail, importContext);
+			}
+
+			int level = current != null && levels.containsKey(current) ? levels.get(current) : -1;
+			for (int i = supervisorChain.size() - 1; i >= 0; i--) {
+				levels.put(supervisorChain.get(i), ++level);
 			}
-			catch (DataIntegrityViolationException e) {
-				handleDataIntegrityException(employeeBulkDto, e, results);
+
+			int rowLevel = levels.get(employeeBulkDto);
+			while (supervisorLevels.size() <= rowLevel) {
+				supervisorLevels.add(new ArrayList<>());
+			}
+			supervisorLevels.get(rowLevel).add(employeeBulkDto);
+		}
+
+		return supervisorLevels;
+	}
+
+	private EmployeeBulkDto getUploadedSupervisorRow(EmployeeBulkDto employeeBulkDto,
+			Map<String, EmployeeBulkDto> rowsByWorkEmail, BulkEmployeeImportContext importContext) {
+		if (employeeBulkDto.getPrimaryManager() == null) {
+			return null;
+		}
+
+		String supervisorEmail = normalizeEmail(employeeBulkDto.getPrimaryManager());
+		return importContext.supervisorIds().containsKey(supervisorEmail) ? null : rowsByWorkEmail.get(supervisorEmail);
+	}
+
+	/**
+	 * Validates a chunk of the bulk upload and persists the valid rows in a single
+	 * transaction. When the chunk transaction fails, only the rows of this chunk are
+	 * retried one transaction per row, so each row still gets its own result.
+	 * @param employeeBulkDtoChunk The rows of the chunk.
+	 * @param importContext The import context of the upload.
+	 * @param transactionTemplate The transaction template used for the chunk.
+	 * @param results The per-row results of the upload.
+	 */
+	private void createEmployeeChunk(List<EmployeeBulkDto> employeeBulkDtoChunk,
+			BulkEmployeeImportContext importContext, TransactionTemplate transactionTemplate,
+			List<EmployeeBulkResponseDto> results) {
+		List<EmployeeBulkDto> validEmployeeBulkDtoChunk = new ArrayList<>(employeeBulkDtoChunk.size());
+		for (EmployeeBulkDto employeeBulkDto : employeeBulkDtoChunk) {
+			try {
+				List<String> validationErrors = validateEmployeeBulkDto(employeeBulkDto, importContext);
+				if (!validationErrors.isEmpty()) {
+					throw new ValidationException(
+							PeopleMessageConstant.PEOPLE_ERROR_USER_ENTITLEMENT_BULK_UPLOAD_VALIDATION_FAILED,
+							validationErrors);
+				}
+				validEmployeeBulkDtoChunk.add(employeeBulkDto);
 			}
 			catch (Exception e) {
 				handleGeneralException(employeeBulkDto, e, results);
 			}
-		}, executorService);
+		}
+
+		if (validEmployeeBulkDtoChunk.isEmpty()) {
+			return;
+		}
+
+		Map<String, Long> createdEmployeeIds = new HashMap<>();
+		try {
+			transactionTemplate.executeWithoutResult(status -> validEmployeeBulkDtoChunk
+				.forEach(employeeBulkDto -> createdEmployeeIds.put(normalizeEmail(employeeBulkDto.getWorkEmail()),
+						createNewEmployeeFromBulk(employeeBulkDto, importContext))));
+		}
+		catch (Exception e) {
+			log.warn("addEmployeeBulk: saving a chunk of {} employees failed, retrying row by row : {}",
+					validEmployeeBulkDtoChunk.size(), e.getMessage());
+			validEmployeeBulkDtoChunk.forEach(
+					employeeBulkDto -> createEmployee(employeeBulkDto, importContext, transactionTemplate, results));
+			return;
+		}
+
+		importContext.createdEmployeeIds().putAll(createdEmployeeIds);
+		String message = messageUtil.getMessage(PeopleMessageConstant.PEOPLE_SUCCESS_EMPLOYEE_ADDED);
+		validEmployeeBulkDtoChunk.forEach(employeeBulkDto -> handleSuccessResponse(employeeBulkDto, message, results));
 	}
 
-	private void saveEmployeeInTransaction(EmployeeBulkDto employeeBulkDto, TransactionTemplate transactionTemplate) {
-		transactionTemplate.execute(new TransactionCallbackWithoutResult() {
-			@Override
-			protected void doInTransactionWithoutResult(@NonNull TransactionStatus status) {
-				createNewEmployeeFromBulk(employeeBulkDto);
-			}
-		});
+	private void createEmployee(EmployeeBulkDto employeeBulkDto, BulkEmployeeImportContext importContext,
+			TransactionTemplate transactionTemplate, List<EmployeeBulkResponseDto> results) {
+		try {
+			Long employeeId = transactionTemplate
+				.execute(status -> createNewEmployeeFromBulk(employeeBulkDto, importContext));
+			importContext.createdEmployeeIds().put(normalizeEmail(employeeBulkDto.getWorkEmail()), employeeId);
+			handleSuccessResponse(employeeBulkDto,
+					messageUtil.getMessage(PeopleMessageConstant.PEOPLE_SUCCESS_EMPLOYEE_ADDED), results);
+		}
+		catch (DataIntegrityViolationException e) {
+			handleDataIntegrityException(employeeBulkDto, e, results);
+		}
+		catch (Exception e) {
+			handleGeneralException(employeeBulkDto, e, results);
+		}
+	}
+
+	private static String normalizeEmail(String email) {
+		return email.toLowerCase(Locale.ROOT);
 	}
 
 	private void handleSuccessResponse(EmployeeBulkDto employeeBulkDto, String message,
@@ -2561,4 +2672,10 @@ public class PeopleServiceImpl implements PeopleService {
 		dto.setEmployeeRole(null);
 	}
 
+	private record BulkEmployeeImportContext(LoginMethod loginMethod, Set<String> existingEmails,
+			Map<String, Long> supervisorIds, Map<String, Long> createdEmployeeIds,
+			Set<String> existingIdentificationNos, Set<EmployeeBulkDto> duplicateEmailRows,
+			Set<EmployeeBulkDto> duplicateIdentificationNoRows) {
+	}
+
 }
@@ -0,0 +1,19 @@
+package com.skapp.community.peopleplanner.type;
+
+import lombok.Getter;
+
+@Getter
+public enum EmployeeExportFormat {
+
+	CSV("text/csv", "csv"), NDJSON("application/x-ndjson", "ndjson");
+
+	private final String mediaType;
+
+	private final String fileExtension;
+
+	EmployeeExportFormat(String mediaType, String fileExtension) {
+		this.mediaType = mediaType;
+		this.fileExtension = fileExtension;
+	}
+
+}
@@ -0,0 +1,16 @@
+package com.skapp.community.timeplanner.payload.projection;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+public interface EmployeeClockIn {
+
+	Long getEmployeeId();
+
+	LocalDate getDate();
+
+	DayOfWeek getDay();
+
+	Long getClockInTime();
+
+}
@@ -0,0 +1,24 @@
+package com.skapp.community.timeplanner.payload.projection.impl;
+
+import com.skapp.community.timeplanner.payload.projection.EmployeeClockIn;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+@RequiredArgsConstructor
+@Getter
+@Setter
+public class EmployeeClockInImpl implements EmployeeClockIn {
+
+	private final Long employeeId;
+
+	private final LocalDate date;
+
+	private final DayOfWeek day;
+
+	private final Long clockInTime;
+
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -19,4 +20,6 @@ public interface TimeRecordDao
 
 	TimeRecord findByDateAndEmployee(LocalDate date, Employee employee);
 
+	List<TimeRecord> findAllByDateAndEmployeeEmployeeIdIn(LocalDate date, List<Long> employeeIds);
+
 }
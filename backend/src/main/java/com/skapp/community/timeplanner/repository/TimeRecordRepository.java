@@ -1,6 +1,7 @@
 package com.skapp.community.timeplanner.repository;
 
 import com.skapp.community.timeplanner.model.TimeRecord;
+import com.skapp.community.timeplanner.payload.projection.EmployeeClockIn;
 import com.skapp.community.timeplanner.payload.projection.EmployeeWorkHours;
 import com.skapp.community.timeplanner.payload.projection.TimeRecordTrendDto;
 import com.skapp.community.timeplanner.payload.projection.TimeRecordsByEmployeesDto;
@@ -24,9 +25,10 @@ public interface TimeRecordRepository {
 
 	TimeSheetSummaryData findTimeSheetSummaryData(LocalDate startDate, LocalDate endDate, List<Long> employeeIds);
 
-	List<TimeRecord> getTimeRecordsByTeam(List<Long> teamsFilter);
+	List<EmployeeClockIn> getClockInsByTeamAndDateRange(List<Long> teamsFilter, LocalDate startDate, LocalDate endDate);
 
-	List<TimeRecord> getTimeRecordsByTeamAndMonth(List<Long> teamsFilter, Month selectedMonth, Long currentUserId);
+	List<EmployeeWorkHours> getDailyWorkedHoursByTeam(List<Long> teamsFilter, LocalDate startDate, LocalDate endDate,
+			Long currentUserId);
 
 	List<TimeRecord> getTimeRecordsByEmployeeAndMonth(Long employeeId, Month selectedMonth);
 
@@ -15,9 +15,11 @@ import com.skapp.community.timeplanner.model.TimeRecord;
 import com.skapp.community.timeplanner.model.TimeRecord_;
 import com.skapp.community.timeplanner.model.TimeSlot;
 import com.skapp.community.timeplanner.model.TimeSlot_;
+import com.skapp.community.timeplanner.payload.projection.EmployeeClockIn;
 import com.skapp.community.timeplanner.payload.projection.EmployeeWorkHours;
 import com.skapp.community.timeplanner.payload.projection.TimeRecordTrendDto;
 import com.skapp.community.timeplanner.payload.projection.TimeRecordsByEmployeesDto;
+import com.skapp.community.timeplanner.payload.projection.impl.EmployeeClockInImpl;
 import com.skapp.community.timeplanner.payload.projection.impl.EmployeeWorkHoursImpl;
 import com.skapp.community.timeplanner.payload.request.AttendanceSummaryDto;
 import com.skapp.community.timeplanner.payload.response.TimeSheetSummaryData;
@@ -29,22 +31,28 @@ import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Subquery;
+import jakarta.persistence.metamodel.SingularAttribute;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
+import java.time.DayOfWeek;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.Month;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -56,6 +64,18 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TimeRecordRepositoryImpl implements TimeRecordRepository {
 
+	private static final int TREND_SLOT_SECONDS = 30 * 60;
+
+	private static final int TREND_SLOT_COUNT = 24 * 60 * 60 / TREND_SLOT_SECONDS;
+
+	/**
+	 * Every time zone offset in use is a multiple of fifteen minutes, so each UTC bucket
+	 * falls within a single local half hour slot.
+	 */
+	private static final long TREND_BUCKET_MILLIS = 15 * 60 * 1000L;
+
+	private static final List<String> TREND_SLOT_LABELS = buildTrendSlotLabels();
+
 	@NonNull
 	private final EntityManager entityManager;
 
@@ -164,27 +184,43 @@ public class TimeRecordRepositoryImpl implements TimeRecordRepository {
 	}
 
 	@Override
-	public List<TimeRecord> getTimeRecordsByTeam(List<Long> teamsFilter) {
+	public List<EmployeeClockIn> getClockInsByTeamAndDateRange(List<Long> teamsFilter, LocalDate startDate,
+			LocalDate endDate) {
 		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-		CriteriaQuery<TimeRecord> criteriaQuery = criteriaBuilder.createQuery(TimeRecord.class);
+		CriteriaQuery<Tuple> criteriaQuery = criteriaBuilder.createTupleQuery();
 		Root<TimeRecord> root = criteriaQuery.from(TimeRecord.class);
 
-		Subquery<Long> teamSubquery = criteriaQuery.subquery(Long.class);
-		Root<EmployeeTeam> employeeTeamRoot = teamSubquery.from(EmployeeTeam.class);
-		teamSubquery.select(employeeTeamRoot.get(EmployeeTeam_.employee).get(Employee_.employeeId))
-			.where(employeeTeamRoot.get(EmployeeTeam_.team).get(Team_.teamId).in(teamsFilter));
+		List<Predicate> predicates = new ArrayList<>();
+		predicates.add(criteriaBuilder.between(root.get(TimeRecord_.date), startDate, endDate));
+		predicates.add(criteriaBuilder.isNotNull(root.get(TimeRecord_.clockInTime)));
+
+		if (teamsFilter != null) {
+			Subquery<Long> teamSubquery = criteriaQuery.subquery(Long.class);
+			Root<EmployeeTeam> employeeTeamRoot = teamSubquery.from(EmployeeTeam.class);
+			teamSubquery.select(employeeTeamRoot.get(EmployeeTeam_.employee).get(Employee_.employeeId))
+				.where(employeeTeamRoot.get(EmployeeTeam_.team).get(Team_.teamId).in(teamsFilter));
 
-		criteriaQuery.select(root).where(root.get(TimeRecord_.employee).get(Employee_.employeeId).in(teamSubquery));
+			predicates.add(root.get(TimeRecord_.employee).get(Employee_.employeeId).in(teamSubquery));
+		}
 
-		TypedQuery<TimeRecord> typedQuery = entityManager.createQuery(criteriaQuery);
-		return typedQuery.getResultList();
+		criteriaQuery
+			.multiselect(root.get(TimeRecord_.employee).get(Employee_.employeeId), root.get(TimeRecord_.date),
+					root.get(TimeRecord_.day), root.get(TimeRecord_.clockInTime))
+			.where(predicates.toArray(new Predicate[0]));
+
+		return entityManager.createQuery(criteriaQuery)
+			.getResultList()
+			.stream()
+			.<EmployeeClockIn>map(tuple -> new EmployeeClockInImpl(tuple.get(0, Long.class),
+					tuple.get(1, LocalDate.class), tuple.get(2, DayOfWeek.class), tuple.get(3, Long.class)))
+			.toList();
 	}
 
 	@Override
-	public List<TimeRecord> getTimeRecordsByTeamAndMonth(List<Long> teamsFilter, Month selectedMonth,
-			Long currentUserId) {
+	public List<EmployeeWorkHours> getDailyWorkedHoursByTeam(List<Long> teamsFilter, LocalDate startDate,
+			LocalDate endDate, Long currentUserId) {
 		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-		CriteriaQuery<TimeRecord> criteriaQuery = criteriaBuilder.createQuery(TimeRecord.class);
+		CriteriaQuery<Tuple> criteriaQuery = criteriaBuilder.createTupleQuery();
 		Root<TimeRecord> root = criteriaQuery.from(TimeRecord.class);
 
 		Subquery<String> attendanceRoleSubquery = criteriaQuery.subquery(String.class);
@@ -198,9 +234,6 @@ public class TimeRecordRepositoryImpl implements TimeRecordRepository {
 
 		List<Predicate> predicates = new ArrayList<>();
 
-		Predicate monthPredicate = criteriaBuilder.equal(
-				criteriaBuilder.function("MONTH", Integer.class, root.get(TimeRecord_.date)), selectedMonth.getValue());
-
 		if (teamsFilter.contains(-1L)) {
 			Subquery<Long> employeesSubquery = criteriaQuery.subquery(Long.class);
 			Root<Employee> employeeSubqueryRoot = employeesSubquery.from(Employee.class);
@@ -240,12 +273,18 @@ public class TimeRecordRepositoryImpl implements TimeRecordRepository {
 					root.get(TimeRecord_.employee).get(Employee_.employeeId).in(teamSubquery)));
 		}
 
-		predicates.add(monthPredicate);
+		predicates.add(criteriaBuilder.between(root.get(TimeRecord_.date), startDate, endDate));
 
-		criteriaQuery.select(root).where(predicates.toArray(new Predicate[0]));
+		criteriaQuery.multiselect(root.get(TimeRecord_.date), criteriaBuilder.sum(root.get(TimeRecord_.workedHours)))
+			.where(predicates.toArray(new Predicate[0]))
+			.groupBy(root.get(TimeRecord_.date));
 
-		TypedQuery<TimeRecord> typedQuery = entityManager.createQuery(criteriaQuery);
-		return typedQuery.getResultList();
+		return entityManager.createQuery(criteriaQuery)
+			.getResultList()
+			.stream()
+			.<EmployeeWorkHours>map(tuple -> new EmployeeWorkHoursImpl(tuple.get(0, LocalDate.class),
+					tuple.get(1, Number.class).doubleValue()))
+			.toList();
 	}
 
 	@Override
@@ -559,70 +598,11 @@ public class TimeRecordRepositoryImpl implements TimeRecordRepository {
 		log.info("getEmployeeClockInTrend: Starting execution with teams={}, timeZone={}, date={}", teams, timeZone,
 				date);
 
-		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-		CriteriaQuery<Tuple> dataQuery = cb.createTupleQuery();
-		Root<TimeRecord> timeRecord = dataQuery.from(TimeRecord.class);
-		Join<TimeRecord, Employee> employee = timeRecord.join(TimeRecord_.employee);
-
-		List<Predicate> dataPredicates = new ArrayList<>();
-
-		if (teams.contains(-1L)) {
-			dataPredicates.add(cb.isNotNull(employee.get(Employee_.employeeId)));
-		}
-		else {
-			Join<Employee, EmployeeTeam> employeeTeam = employee.join(Employee_.employeeTeams, JoinType.LEFT);
-			dataPredicates.add(employeeTeam.get(EmployeeTeam_.team).get(Team_.teamId).in(teams));
-		}
-
-		dataPredicates.add(cb.equal(timeRecord.get(TimeRecord_.date), date));
-		dataPredicates.add(cb.isNotNull(timeRecord.get(TimeRecord_.clockInTime)));
-
-		dataQuery.multiselect(employee.get(Employee_.employeeId), timeRecord.get(TimeRecord_.clockInTime));
-		dataQuery.where(dataPredicates.toArray(new Predicate[0]));
-
-		List<Tuple> records = entityManager.createQuery(dataQuery).getResultList();
-
-		java.time.ZoneId targetZone = java.time.ZoneId.of(timeZone);
-
-		List<String> timeSlots = java.util.stream.IntStream.range(0, 24)
-			.boxed()
-			.flatMap(hour -> java.util.stream.IntStream.range(0, 2).mapToObj(halfHour -> {
-				LocalTime slotStart = LocalTime.of(hour, halfHour * 30);
-				LocalTime slotEnd = slotStart.plusMinutes(30);
-				return slotStart.format(DateTimeFormatter.ofPattern("HH:mm")) + " - "
-						+ slotEnd.format(DateTimeFormatter.ofPattern("HH:mm"));
-			}))
-			.collect(java.util.stream.Collectors.toList());
-
-		Map<String, Long> slotCounts = records.stream()
-			.map(record -> record.get(1, Long.class))
-			.filter(java.util.Objects::nonNull)
-			.map(clockInTimeMillis -> {
-				java.time.Instant instant = java.time.Instant.ofEpochMilli(clockInTimeMillis);
-				return instant.atZone(targetZone).toLocalTime();
-			})
-			.map(clockInLocalTime -> findTimeSlot(clockInLocalTime))
-			.filter(java.util.Objects::nonNull)
-			.collect(java.util.stream.Collectors.groupingBy(java.util.function.Function.identity(),
-					java.util.stream.Collectors.counting()));
-
-		List<TimeRecordTrendDto> result = timeSlots.stream().map(slotLabel -> new TimeRecordTrendDto() {
-			@Override
-			public String getSlot() {
-				return slotLabel;
-			}
-
-			@Override
-			public int getCount() {
-				return slotCounts.getOrDefault(slotLabel, 0L).intValue();
-			}
-		}).collect(java.util.stream.Collectors.toList());
+		int[] slotCounts = getTrendSlotCounts(teams, ZoneId.of(timeZone), date, TimeRecord_.clockInTime);
 
-		long totalCount = slotCounts.values().stream().mapToLong(Long::longValue).sum();
 		log.info("getEmployeeClockInTrend: Completed execution. Total clock-ins found: {} across all time slots",
-				totalCount);
-
-		return result;
+				Arrays.stream(slotCounts).sum());
+		return toTimeRecordTrend(slotCounts);
 	}
 
 	@Override
@@ -630,6 +610,20 @@ public class TimeRecordRepositoryImpl implements TimeRecordRepository {
 		log.info("getEmployeeClockOutTrend: Starting execution with teams={}, timeZone={}, date={}", teams, timeZone,
 				date);
 
+		int[] slotCounts = getTrendSlotCounts(teams, ZoneId.of(timeZone), date, TimeRecord_.clockOutTime);
+
+		log.info("getEmployeeClockOutTrend: Completed execution. Total clock-outs found: {} across all time slots",
+				Arrays.stream(slotCounts).sum());
+		return toTimeRecordTrend(slotCounts);
+	}
+
+	/**
+	 * Counts the records of the date per half hour slot of the given time zone. The
+	 * database groups the times into fixed UTC buckets, which are mapped to local slots
+	 * here so that daylight saving changes within the date are applied per bucket.
+	 */
+	private int[] getTrendSlotCounts(List<Long> teams, ZoneId timeZone, LocalDate date,
+			SingularAttribute<TimeRecord, Long> timeAttribute) {
 		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
 		CriteriaQuery<Tuple> dataQuery = cb.createTupleQuery();
 		Root<TimeRecord> timeRecord = dataQuery.from(TimeRecord.class);
@@ -646,72 +640,55 @@ public class TimeRecordRepositoryImpl implements TimeRecordRepository {
 		}
 
 		dataPredicates.add(cb.equal(timeRecord.get(TimeRecord_.date), date));
-		dataPredicates.add(cb.isNotNull(timeRecord.get(TimeRecord_.clockOutTime)));
+		dataPredicates.add(cb.isNotNull(timeRecord.get(timeAttribute)));
 
-		dataQuery.multiselect(employee.get(Employee_.employeeId), timeRecord.get(TimeRecord_.clockOutTime));
+		Expression<? extends Number> bucket = cb
+			.floor(cb.quot(timeRecord.get(timeAttribute), cb.literal(TREND_BUCKET_MILLIS)));
+
+		dataQuery.multiselect(bucket, cb.count(timeRecord));
 		dataQuery.where(dataPredicates.toArray(new Predicate[0]));
+		dataQuery.groupBy(bucket);
 
-		List<Tuple> records = entityManager.createQuery(dataQuery).getResultList();
-
-		java.time.ZoneId targetZone = java.time.ZoneId.of(timeZone);
-
-		List<String> timeSlots = java.util.stream.IntStream.range(0, 24)
-			.boxed()
-			.flatMap(hour -> java.util.stream.IntStream.range(0, 2).mapToObj(halfHour -> {
-				LocalTime slotStart = LocalTime.of(hour, halfHour * 30);
-				LocalTime slotEnd = slotStart.plusMinutes(30);
-				return slotStart.format(DateTimeFormatter.ofPattern("HH:mm")) + " - "
-						+ slotEnd.format(DateTimeFormatter.ofPattern("HH:mm"));
-			}))
-			.collect(java.util.stream.Collectors.toList());
-
-		Map<String, Long> slotCounts = records.stream()
-			.map(record -> record.get(1, Long.class))
-			.filter(java.util.Objects::nonNull)
-			.map(clockOutTimeMillis -> {
-				java.time.Instant instant = java.time.Instant.ofEpochMilli(clockOutTimeMillis);
-				return instant.atZone(targetZone).toLocalTime();
-			})
-			.map(clockOutLocalTime -> findTimeSlot(clockOutLocalTime))
-			.filter(java.util.Objects::nonNull)
-			.collect(java.util.stream.Collectors.groupingBy(java.util.function.Function.identity(),
-					java.util.stream.Collectors.counting()));
-
-		List<TimeRecordTrendDto> result = timeSlots.stream().map(slotLabel -> new TimeRecordTrendDto() {
-			@Override
-			public String getSlot() {
-				return slotLabel;
-			}
+		int[] slotCounts = new int[TREND_SLOT_COUNT];
+		for (Tuple row : entityManager.createQuery(dataQuery).getResultList()) {
+			long bucketStartMillis = row.get(0, Number.class).longValue() * TREND_BUCKET_MILLIS;
+			LocalTime bucketStart = Instant.ofEpochMilli(bucketStartMillis).atZone(timeZone).toLocalTime();
+			slotCounts[bucketStart.toSecondOfDay() / TREND_SLOT_SECONDS] += row.get(1, Long.class).intValue();
+		}
 
-			@Override
-			public int getCount() {
-				return slotCounts.getOrDefault(slotLabel, 0L).intValue();
-			}
-		}).collect(java.util.stream.Collectors.toList());
+		return slotCounts;
+	}
 
-		long totalCount = slotCounts.values().stream().mapToLong(Long::longValue).sum();
-		log.info("getEmployeeClockOutTrend: Completed execution. Total clock-outs found: {} across all time slots",
-				totalCount);
+	private List<TimeRecordTrendDto> toTimeRecordTrend(int[] slotCounts) {
+		List<TimeRecordTrendDto> result = new ArrayList<>(slotCounts.length);
+		for (int slot = 0; slot < slotCounts.length; slot++) {
+			String slotLabel = TREND_SLOT_LABELS.get(slot);
+			int count = slotCounts[slot];
+			result.add(new TimeRecordTrendDto() {
+				@Override
+				public String getSlot() {
+					return slotLabel;
+				}
+
+				@Override
+				public int getCount() {
+					return count;
+				}
+			});
+		}
 
 		return result;
 	}
 
-	private String findTimeSlot(LocalTime time) {
-		return java.util.stream.IntStream.range(0, 24)
-			.boxed()
-			.flatMap(hour -> java.util.stream.IntStream.range(0, 2).mapToObj(halfHour -> {
-				LocalTime slotStart = LocalTime.of(hour, halfHour * 30);
-				LocalTime slotEnd = slotStart.plusMinutes(30);
-
-				if (!time.isBefore(slotStart) && time.isBefore(slotEnd)) {
-					return slotStart.format(DateTimeFormatter.ofPattern("HH:mm")) + " - "
-							+ slotEnd.format(DateTimeFormatter.ofPattern("HH:mm"));
-				}
-				return null;
-			}))
-			.filter(java.util.Objects::nonNull)
-			.findFirst()
-			.orElse(null);
+	private static List<String> buildTrendSlotLabels() {
+		DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm");
+		List<String> labels = new ArrayList<>();
+		for (int slot = 0; slot < TREND_SLOT_COUNT; slot++) {
+			LocalTime slotStart = LocalTime.ofSecondOfDay((long) slot * TREND_SLOT_SECONDS);
+			labels
+				.add(slotStart.format(formatter) + " - " + slotStart.plusSeconds(TREND_SLOT_SECONDS).format(formatter));
+		}
+		return List.copyOf(labels);
 	}
 
 }
@@ -3,6 +3,7 @@ package com.skapp.community.timeplanner.repository;
 import com.skapp.community.common.model.User;
 import com.skapp.community.common.model.User_;
 import com.skapp.community.common.util.DateTimeUtils;
+import com.skapp.community.common.util.PaginationUtils;
 import com.skapp.community.peopleplanner.model.Employee;
 import com.skapp.community.peopleplanner.model.EmployeeManager;
 import com.skapp.community.peopleplanner.model.EmployeeManager_;
@@ -24,7 +25,6 @@ import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.query.QueryUtils;
 import org.springframework.stereotype.Repository;
@@ -76,11 +76,7 @@ public class TimeRequestRepositoryImpl implements TimeRequestRepository {
 		criteriaQuery.orderBy(QueryUtils.toOrders(pageable.getSort(), timeRequestRoot, criteriaBuilder));
 
 		TypedQuery<TimeRequest> query = entityManager.createQuery(criteriaQuery);
-		int totalRows = query.getResultList().size();
-
-		query.setFirstResult(pageable.getPageNumber() * pageable.getPageSize());
-		query.setMaxResults(pageable.getPageSize());
-		return new PageImpl<>(query.getResultList(), pageable, totalRows);
+		return PaginationUtils.getPage(query, pageable);
 	}
 
 	@Override
@@ -203,11 +199,7 @@ public class TimeRequestRepositoryImpl implements TimeRequestRepository {
 
 		TypedQuery<TimeRequest> query = entityManager.createQuery(criteriaQuery);
 
-		int totalRows = query.getResultList().size();
-		query.setFirstResult(pageable.getPageNumber() * pageable.getPageSize());
-		query.setMaxResults(pageable.getPageSize());
-
-		return new PageImpl<>(query.getResultList(), pageable, totalRows);
+		return PaginationUtils.getPage(query, pageable);
 	}
 
 	@Override
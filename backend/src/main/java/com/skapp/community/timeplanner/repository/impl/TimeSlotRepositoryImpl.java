@@ -1,5 +1,6 @@
 package com.skapp.community.timeplanner.repository.impl;
 
+import com.skapp.community.common.util.PaginationUtils;
 import com.skapp.community.peopleplanner.model.Employee_;
 import com.skapp.community.timeplanner.model.TimeRecord;
 import com.skapp.community.timeplanner.model.TimeRecord_;
@@ -17,7 +18,6 @@ import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.lang.NonNull;
@@ -75,18 +75,13 @@ public class TimeSlotRepositoryImpl implements TimeSlotRepository {
 
 		TypedQuery<TimeSlot> query = entityManager.createQuery(criteriaQuery);
 
-		int totalRows = query.getResultList().size();
-
 		PageRequest page = Boolean.TRUE.equals(filterDto.getIsExport())
 				? PageRequest.of(0, Integer.MAX_VALUE,
 						Sort.by(filterDto.getSortBy(), filterDto.getSortKey().toString()))
 				: PageRequest.of(filterDto.getPageNumber(), filterDto.getPageSize(),
 						Sort.by(filterDto.getSortBy(), filterDto.getSortKey().toString()));
 
-		query.setFirstResult(page.getPageNumber() * page.getPageSize());
-		query.setMaxResults(page.getPageSize());
-
-		return new PageImpl<>(query.getResultList(), page, totalRows);
+		return PaginationUtils.getPage(query, page);
 	}
 
 	@Override
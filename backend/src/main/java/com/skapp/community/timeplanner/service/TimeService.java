@@ -4,7 +4,6 @@ import com.skapp.community.common.model.User;
 import com.skapp.community.common.payload.response.ResponseEntityDto;
 import com.skapp.community.peopleplanner.payload.request.EmployeeTimeRequestFilterDto;
 import com.skapp.community.peopleplanner.payload.request.ManagerEmployeeLogFilterDto;
-import com.skapp.community.timeplanner.model.TimeConfig;
 import com.skapp.community.timeplanner.model.TimeRequest;
 import com.skapp.community.timeplanner.payload.request.AddTimeRecordDto;
 import com.skapp.community.timeplanner.payload.request.EditTimeRequestDto;
@@ -25,7 +24,6 @@ import com.skapp.community.timeplanner.payload.response.UtilizationPercentageDto
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
-import java.time.LocalDate;
 import java.util.List;
 
 public interface TimeService {
@@ -82,8 +80,7 @@ public interface TimeService {
 
 	ResponseEntityDto getIfTimeConfigRemovable(List<DayOfWeek> days);
 
-	UtilizationPercentageDto calculateWorkTimeUtilization(List<Long> employeeId, List<TimeConfig> timeConfigs,
-			List<LocalDate> holidays);
+	UtilizationPercentageDto calculateWorkTimeUtilization(List<Long> employeeId);
 
 	ResponseEntityDto getEmployeeDailyTimeRecordsByEmployeeId(TimeRecordFilterDto timeRecordFilterDto, Long employeeId);
 
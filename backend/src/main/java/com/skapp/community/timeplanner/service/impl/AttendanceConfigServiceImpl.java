@@ -5,6 +5,7 @@ import com.skapp.community.common.exception.ModuleException;
 import com.skapp.community.common.payload.response.ResponseEntityDto;
 import com.skapp.community.common.repository.WorkLocationDao;
 import com.skapp.community.common.repository.WorkLocationGeofenceDao;
+import com.skapp.community.common.service.OrganizationSnapshotService;
 import com.skapp.community.common.service.UserService;
 import com.skapp.community.common.type.Role;
 import com.skapp.community.common.util.MessageUtil;
@@ -44,6 +45,9 @@ public class AttendanceConfigServiceImpl implements AttendanceConfigService {
 	@NonNull
 	private final UserService userService;
 
+	@NonNull
+	private final OrganizationSnapshotService organizationSnapshotService;
+
 	@Override
 	public void setDefaultAttendanceConfig() {
 		log.info("setDefaultAttendanceConfig: execution started");
@@ -56,6 +60,7 @@ public class AttendanceConfigServiceImpl implements AttendanceConfigService {
 		configMap.put(AttendanceConfigType.GEO_FENCING_ENABLED, DEFAULT_CONFIG_VALUE);
 
 		configMap.forEach(this::updateOrCreateConfig);
+		organizationSnapshotService.invalidateOrganizationSnapshot();
 
 		log.info("setDefaultAttendanceConfig: attendance configuration successfully created");
 	}
@@ -88,6 +93,7 @@ public class AttendanceConfigServiceImpl implements AttendanceConfigService {
 		}
 
 		configMap.forEach(this::updateOrCreateConfig);
+		organizationSnapshotService.invalidateOrganizationSnapshot();
 
 		if (wasGeoFencingEnabled) {
 			workLocationDao.clearAddressesForGeofencedLocations();
@@ -147,11 +153,12 @@ public class AttendanceConfigServiceImpl implements AttendanceConfigService {
 
 	@Override
 	public boolean getAttendanceConfigByType(AttendanceConfigType attendanceConfigType) {
-		AttendanceConfig config = attendanceConfigDao.findByAttendanceConfigType(attendanceConfigType);
-		if (config == null) {
+		String configValue = organizationSnapshotService.getOrganizationSnapshot()
+			.getAttendanceConfig(attendanceConfigType);
+		if (configValue == null) {
 			throw new ModuleException(TimeMessageConstant.TIME_ERROR_ATTENDANCE_CONFIG_NOT_FOUND);
 		}
-		return Boolean.parseBoolean(config.getAttendanceConfigValue());
+		return Boolean.parseBoolean(configValue);
 	}
 
 }
@@ -5,12 +5,14 @@ import com.skapp.community.common.mapper.CommonMapper;
 import com.skapp.community.common.model.User;
 import com.skapp.community.common.payload.response.ResponseEntityDto;
 import com.skapp.community.common.service.OrganizationService;
+import com.skapp.community.common.service.OrganizationSnapshotService;
 import com.skapp.community.common.service.UserService;
 import com.skapp.community.common.type.Role;
 import com.skapp.community.common.util.DateTimeUtils;
 import com.skapp.community.leaveplanner.mapper.LeaveMapper;
 import com.skapp.community.leaveplanner.model.LeaveRequest;
 import com.skapp.community.leaveplanner.repository.LeaveRequestDao;
+import com.skapp.community.leaveplanner.type.LeaveRequestStatus;
 import com.skapp.community.leaveplanner.type.LeaveState;
 import com.skapp.community.peopleplanner.mapper.PeopleMapper;
 import com.skapp.community.peopleplanner.model.Employee;
@@ -27,17 +29,18 @@ import com.skapp.community.peopleplanner.util.PeopleUtil;
 import com.skapp.community.timeplanner.constant.TimeMessageConstant;
 import com.skapp.community.timeplanner.model.TimeConfig;
 import com.skapp.community.timeplanner.model.TimeRecord;
+import com.skapp.community.timeplanner.payload.projection.EmployeeClockIn;
+import com.skapp.community.timeplanner.payload.projection.EmployeeWorkHours;
 import com.skapp.community.timeplanner.payload.projection.TimeRecordTrendDto;
+import com.skapp.community.timeplanner.payload.projection.impl.EmployeeClockInImpl;
 import com.skapp.community.timeplanner.payload.request.AttendanceDashboardSummaryFilterDto;
 import com.skapp.community.timeplanner.payload.request.AverageHoursWorkedTrendFilterDto;
 import com.skapp.community.timeplanner.payload.request.ClockInClockOutTrendFilterDto;
 import com.skapp.community.timeplanner.payload.request.ClockInSummaryFilterDto;
 import com.skapp.community.timeplanner.payload.request.LateArrivalTrendFilterDto;
 import com.skapp.community.timeplanner.payload.request.TimeBlockDto;
-import com.skapp.community.timeplanner.payload.response.ClockInSummaryLeaveRequestResponseDto;
 import com.skapp.community.timeplanner.payload.response.ClockInSummaryResponseDto;
 import com.skapp.community.timeplanner.payload.response.UtilizationPercentageDto;
-import com.skapp.community.timeplanner.repository.TimeConfigDao;
 import com.skapp.community.timeplanner.repository.TimeRecordDao;
 import com.skapp.community.timeplanner.service.AttendanceConfigService;
 import com.skapp.community.timeplanner.service.TimeAnalyticsService;
@@ -51,6 +54,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import tools.jackson.databind.JsonNode;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.Month;
@@ -59,11 +63,14 @@ import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.skapp.community.common.constant.CommonMessageConstant.COMMON_ERROR_USER_NOT_FOUND;
@@ -77,8 +84,6 @@ public class TimeAnalyticsServiceImpl implements TimeAnalyticsService {
 
 	private final TimeRecordDao timeRecordDao;
 
-	private final TimeConfigDao timeConfigDao;
-
 	private final TeamDao teamDao;
 
 	private final UserService userService;
@@ -103,6 +108,8 @@ public class TimeAnalyticsServiceImpl implements TimeAnalyticsService {
 
 	private final OrganizationService organizationService;
 
+	private final OrganizationSnapshotService organizationSnapshotService;
+
 	@Override
 	@Transactional(readOnly = true)
 	public ResponseEntityDto getClockInClockOutTrend(ClockInClockOutTrendFilterDto filterDto) {
@@ -126,9 +133,15 @@ public class TimeAnalyticsServiceImpl implements TimeAnalyticsService {
 		log.info("lateArrivalTrend: execution started");
 
 		validateAndFilterTeams(filterDto.getTeams());
-		List<TimeRecord> timeRecords = getTimeRecords(filterDto.getTeams());
 
-		List<TimeRecord> lateArrivals = timeRecords.stream().filter(this::isLateArrival).toList();
+		// The trend is bucketed by the UTC date of the clock in, which can fall a day
+		// away
+		// from the record date, and the last weekly bucket runs into the next year
+		int year = Year.now().getValue();
+		List<EmployeeClockIn> clockIns = getClockIns(filterDto.getTeams(),
+				LocalDate.of(year, Month.JANUARY, 1).minusDays(1), LocalDate.of(year, Month.DECEMBER, 31).plusWeeks(1));
+
+		List<EmployeeClockIn> lateArrivals = getLateArrivals(clockIns);
 
 		Map<String, Long> lateArrivalCount = filterDto.getTrendPeriod().equals(TrendPeriod.MONTHLY)
 				? calculateMonthlyLateArrivalCount(lateArrivals) : calculateWeeklyLateArrivalCount(lateArrivals);
@@ -147,10 +160,7 @@ public class TimeAnalyticsServiceImpl implements TimeAnalyticsService {
 		}
 
 		validateAndFilterTeams(filterDto.getTeams());
-		List<TimeRecord> timeRecords = getTimeRecordsForMonth(filterDto);
-
-		Map<LocalDate, Double> dailyWorkedHours = timeRecords.stream()
-			.collect(Collectors.groupingBy(TimeRecord::getDate, Collectors.summingDouble(TimeRecord::getWorkedHours)));
+		Map<LocalDate, Double> dailyWorkedHours = getDailyWorkedHoursForMonth(filterDto);
 
 		Map<String, Double> dailyAverageHours = calculateDailyAverageHoursForTeam(dailyWorkedHours,
 				filterDto.getMonth(), filterDto.getTeams());
@@ -175,7 +185,10 @@ public class TimeAnalyticsServiceImpl implements TimeAnalyticsService {
 		long totalEmployeeCount = getTotalEmployeeCount(filterDto.getTeams(), currentDate);
 
 		long actualClockIns = timeRecords.stream().filter(timeRecord -> timeRecord.getClockInTime() != null).count();
-		long lateArrivals = timeRecords.stream().filter(this::isLateArrival).count();
+		long lateArrivals = getLateArrivals(timeRecords.stream()
+			.<EmployeeClockIn>map(timeRecord -> new EmployeeClockInImpl(timeRecord.getEmployee().getEmployeeId(),
+					timeRecord.getDate(), timeRecord.getDay(), timeRecord.getClockInTime()))
+			.toList()).size();
 
 		Map<String, Object> dashboardSummary = buildDashboardSummary(actualClockIns, totalEmployeeCount, lateArrivals);
 
@@ -206,8 +219,17 @@ public class TimeAnalyticsServiceImpl implements TimeAnalyticsService {
 				clockInSummaryFilterDto.getTeams(), clockInSummaryFilterDto.getClockInType(), date,
 				currentUser.getUserId());
 
-		List<ClockInSummaryResponseDto> clockInSummaryResponseDtos = employees.stream()
-			.map(employee -> buildClockInSummaryResponse(clockInSummaryFilterDto, employee))
+		List<Employee> summaryEmployees = employees.stream()
+			.filter(employee -> !employee.getAccountStatus().equals(AccountStatus.PENDING))
+			.toList();
+		if (summaryEmployees.isEmpty()) {
+			log.info("clockInSummary: execution ended successfully with result size: 0");
+			return new ResponseEntityDto(false, List.of());
+		}
+
+		ClockInSummaryContext context = loadClockInSummaryContext(date, summaryEmployees);
+		List<ClockInSummaryResponseDto> clockInSummaryResponseDtos = summaryEmployees.stream()
+			.map(employee -> buildClockInSummaryResponse(clockInSummaryFilterDto, employee, context))
 			.filter(Optional::isPresent)
 			.map(Optional::get)
 			.toList();
@@ -236,11 +258,8 @@ public class TimeAnalyticsServiceImpl implements TimeAnalyticsService {
 			throw new ModuleException(COMMON_ERROR_USER_NOT_FOUND);
 		}
 
-		List<TimeConfig> timeConfigs = timeConfigDao.findAll();
-		List<LocalDate> holidays = holidayDao.findAllByIsActiveTrue().stream().map(Holiday::getDate).toList();
-
 		UtilizationPercentageDto utilizationInfo = timeService
-			.calculateWorkTimeUtilization(List.of(employeeOpt.get().getEmployeeId()), timeConfigs, holidays);
+			.calculateWorkTimeUtilization(List.of(employeeOpt.get().getEmployeeId()));
 
 		log.info("getIndividualWorkUtilizationByAdmin: execution ended {}", currentUser.getUserId());
 		return new ResponseEntityDto(false, utilizationInfo);
@@ -268,49 +287,76 @@ public class TimeAnalyticsServiceImpl implements TimeAnalyticsService {
 		return new ResponseEntityDto(false, dailyAverageHours);
 	}
 
-	private Optional<ClockInSummaryResponseDto> buildClockInSummaryResponse(ClockInSummaryFilterDto filterDto,
-			Employee employee) {
+	/**
+	 * Loads what the clock in summary needs for all employees at once, so the number of
+	 * queries does not grow with the number of employees.
+	 */
+	private ClockInSummaryContext loadClockInSummaryContext(LocalDate date, List<Employee> employees) {
+		List<Long> employeeIds = employees.stream().map(Employee::getEmployeeId).toList();
 
-		if (employee.getAccountStatus().equals(AccountStatus.PENDING)) {
-			return Optional.empty();
-		}
+		List<LeaveRequest> leaveRequestsOnDate = leaveRequestDao.findLeaveRequestsForEmployeesOnDate(employeeIds, date);
+		LocalDate currentDate = DateTimeUtils.getCurrentUtcDate();
+		List<LeaveRequest> leaveRequestsToday = currentDate.equals(date) ? leaveRequestsOnDate
+				: leaveRequestDao.findLeaveRequestsForEmployeesOnDate(employeeIds, currentDate);
+
+		Set<Long> employeeIdsOnApprovedLeaveToday = leaveRequestsToday.stream()
+			.filter(leaveRequest -> leaveRequest.getStatus() == LeaveRequestStatus.APPROVED)
+			.map(leaveRequest -> leaveRequest.getEmployee().getEmployeeId())
+			.collect(Collectors.toSet());
+		Map<Long, LeaveRequest> leaveRequestsByEmployeeId = leaveRequestsOnDate.stream()
+			.collect(Collectors.toMap(leaveRequest -> leaveRequest.getEmployee().getEmployeeId(), Function.identity(),
+					(first, second) -> first));
+		Map<Long, TimeRecord> timeRecordsByEmployeeId = timeRecordDao
+			.findAllByDateAndEmployeeEmployeeIdIn(date, employeeIds)
+			.stream()
+			.collect(Collectors.toMap(timeRecord -> timeRecord.getEmployee().getEmployeeId(), Function.identity(),
+					(first, second) -> first));
+		Map<DayOfWeek, TimeConfig> timeConfigsByDay = getTimeConfigsByDay();
 
-		List<LeaveRequest> leaveRequestsList = leaveRequestDao
-			.findLeaveRequestsForTodayByUser(DateTimeUtils.getCurrentUtcDate(), employee.getEmployeeId());
+		Holiday holiday = holidayDao.findByIsActiveTrueAndDate(date);
+		HolidayResponseDto holidayResponseDto = holiday != null ? commonMapper.holidayToHolidayResponseDto(holiday)
+				: null;
 
-		boolean clockInOnLeaveDaysStatus = attendanceConfigService.getAttendanceConfigByType(CLOCK_IN_ON_LEAVE_DAYS);
+		return new ClockInSummaryContext(attendanceConfigService.getAttendanceConfigByType(CLOCK_IN_ON_LEAVE_DAYS),
+				employeeIdsOnApprovedLeaveToday, leaveRequestsByEmployeeId, timeRecordsByEmployeeId, timeConfigsByDay,
+				holidayResponseDto, ZoneId.of(organizationService.getOrganizationTimeZone()));
+	}
 
-		if (!clockInOnLeaveDaysStatus && !leaveRequestsList.isEmpty()) {
+	private Optional<ClockInSummaryResponseDto> buildClockInSummaryResponse(ClockInSummaryFilterDto filterDto,
+			Employee employee, ClockInSummaryContext context) {
+
+		if (!context.clockInOnLeaveDays()
+				&& context.employeeIdsOnApprovedLeaveToday().contains(employee.getEmployeeId())) {
 			return Optional.empty();
 		}
 
 		if (filterDto.getClockInType().contains(ClockInType.ALL_CLOCK_INS) || filterDto.getClockInType().isEmpty()) {
-			return createClockInSummaryResponse(filterDto, employee);
+			return createClockInSummaryResponse(filterDto, employee, context);
 		}
 
-		TimeRecord timeRecord = timeRecordDao.findByDateAndEmployee(filterDto.getDate(), employee);
+		TimeRecord timeRecord = context.timeRecordsByEmployeeId().get(employee.getEmployeeId());
 
 		if (filterDto.getClockInType().contains(ClockInType.LATE_CLOCK_INS)
 				&& filterDto.getClockInType().contains(ClockInType.NOT_CLOCKED_INS) && timeRecord != null
-				&& !isLateArrival(timeRecord)) {
+				&& !isLateArrival(timeRecord, context)) {
 			return Optional.empty();
 		}
 
 		if (filterDto.getClockInType().contains(ClockInType.LATE_CLOCK_INS)
 				&& !filterDto.getClockInType().contains(ClockInType.NOT_CLOCKED_INS)
-				&& (timeRecord == null || !isLateArrival(timeRecord))) {
+				&& (timeRecord == null || !isLateArrival(timeRecord, context))) {
 			return Optional.empty();
 		}
 
-		return createClockInSummaryResponse(filterDto, employee);
+		return createClockInSummaryResponse(filterDto, employee, context);
 	}
 
 	private Optional<ClockInSummaryResponseDto> createClockInSummaryResponse(ClockInSummaryFilterDto filterDto,
-			Employee employee) {
-		TimeRecord timeRecord = timeRecordDao.findByDateAndEmployee(filterDto.getDate(), employee);
+			Employee employee, ClockInSummaryContext context) {
+		TimeRecord timeRecord = context.timeRecordsByEmployeeId().get(employee.getEmployeeId());
 		ClockInSummaryResponseDto responseDto = new ClockInSummaryResponseDto();
 		responseDto.setEmployee(peopleMapper.employeeToEmployeeBasicDetailsResponseDto(employee));
-		responseDto.setIsLateArrival(timeRecord != null && isLateArrival(timeRecord));
+		responseDto.setIsLateArrival(timeRecord != null && isLateArrival(timeRecord, context));
 
 		if (timeRecord != null) {
 			responseDto.setTimeRecordId(timeRecord.getTimeRecordId());
@@ -321,8 +367,10 @@ public class TimeAnalyticsServiceImpl implements TimeAnalyticsService {
 			responseDto.setWorkedHours(formatWorkedHours(timeRecord.getWorkedHours()));
 		}
 
-		responseDto.setHoliday(getHoliday(filterDto.getDate()));
-		responseDto.setLeave(getLeaveRequest(employee, filterDto.getDate()));
+		responseDto.setHoliday(context.holiday());
+		LeaveRequest leaveRequest = context.leaveRequestsByEmployeeId().get(employee.getEmployeeId());
+		responseDto.setLeave(leaveRequest != null
+				? leaveMapper.leaveRequestToClockInSummaryLeaveRequestResponseDto(leaveRequest) : null);
 
 		return Optional.of(responseDto);
 	}
@@ -333,17 +381,6 @@ public class TimeAnalyticsServiceImpl implements TimeAnalyticsService {
 		return String.format("%dh %02dm", hrs, minutes);
 	}
 
-	private HolidayResponseDto getHoliday(LocalDate date) {
-		Holiday holiday = holidayDao.findByIsActiveTrueAndDate(date);
-		return holiday != null ? commonMapper.holidayToHolidayResponseDto(holiday) : null;
-	}
-
-	private ClockInSummaryLeaveRequestResponseDto getLeaveRequest(Employee employee, LocalDate date) {
-		LeaveRequest leaveRequest = leaveRequestDao.findByEmployeeAndDate(employee.getEmployeeId(), date);
-		return leaveRequest != null ? leaveMapper.leaveRequestToClockInSummaryLeaveRequestResponseDto(leaveRequest)
-				: null;
-	}
-
 	private void validateClockInClockOutFilter(ClockInClockOutTrendFilterDto filterDto) {
 		if (filterDto.getDate() == null) {
 			throw new ModuleException(TimeMessageConstant.TIME_ERROR_DATE_REQUIRED);
@@ -378,18 +415,75 @@ public class TimeAnalyticsServiceImpl implements TimeAnalyticsService {
 		return role.getIsSuperAdmin() || Role.ATTENDANCE_ADMIN.equals(role.getAttendanceRole());
 	}
 
-	private List<TimeRecord> getTimeRecords(List<Long> teamIds) {
-		return teamIds == null || (teamIds.size() == 1 && teamIds.contains(-1L)) ? timeRecordDao.findAll()
-				: timeRecordDao.getTimeRecordsByTeam(teamIds);
+	private List<EmployeeClockIn> getClockIns(List<Long> teamIds, LocalDate startDate, LocalDate endDate) {
+		List<Long> teamsFilter = teamIds == null || (teamIds.size() == 1 && teamIds.contains(-1L)) ? null : teamIds;
+		return timeRecordDao.getClockInsByTeamAndDateRange(teamsFilter, startDate, endDate);
+	}
+
+	private Map<DayOfWeek, TimeConfig> getTimeConfigsByDay() {
+		return organizationSnapshotService.getOrganizationSnapshot()
+			.getTimeConfigs()
+			.stream()
+			.collect(Collectors.toMap(TimeConfig::getDay, Function.identity(), (first, second) -> first));
+	}
+
+	/**
+	 * Evaluates the clock ins against time configs, the organization time zone and leave
+	 * requests loaded once for the whole list, instead of looking them up per record.
+	 */
+	private List<EmployeeClockIn> getLateArrivals(List<EmployeeClockIn> clockIns) {
+		List<EmployeeClockIn> clockedInRecords = clockIns.stream()
+			.filter(clockIn -> clockIn.getClockInTime() != null)
+			.toList();
+		if (clockedInRecords.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		Map<DayOfWeek, TimeConfig> timeConfigsByDay = getTimeConfigsByDay();
+		ZoneId orgTimeZone = ZoneId.of(organizationService.getOrganizationTimeZone());
+
+		List<Long> employeeIds = clockedInRecords.stream().map(EmployeeClockIn::getEmployeeId).distinct().toList();
+		LocalDate fromDate = clockedInRecords.stream()
+			.map(EmployeeClockIn::getDate)
+			.min(LocalDate::compareTo)
+			.orElseThrow();
+		LocalDate toDate = clockedInRecords.stream()
+			.map(EmployeeClockIn::getDate)
+			.max(LocalDate::compareTo)
+			.orElseThrow();
+		Map<Long, List<LeaveRequest>> leaveRequestsByEmployeeId = leaveRequestDao
+			.findLeaveRequestsForEmployeesInRange(employeeIds, fromDate, toDate)
+			.stream()
+			.collect(Collectors.groupingBy(leaveRequest -> leaveRequest.getEmployee().getEmployeeId()));
+
+		return clockedInRecords.stream().filter(clockIn -> {
+			TimeConfig timeConfig = timeConfigsByDay.get(clockIn.getDay());
+			if (timeConfig == null)
+				return false;
+
+			LeaveRequest leaveRequest = leaveRequestsByEmployeeId
+				.getOrDefault(clockIn.getEmployeeId(), Collections.emptyList())
+				.stream()
+				.filter(request -> !request.getStartDate().isAfter(clockIn.getDate())
+						&& !request.getEndDate().isBefore(clockIn.getDate()))
+				.findFirst()
+				.orElse(null);
+			return isLateArrival(clockIn.getClockInTime(), timeConfig, orgTimeZone, leaveRequest);
+		}).toList();
 	}
 
-	private boolean isLateArrival(TimeRecord timeRecord) {
-		TimeConfig timeConfig = timeConfigDao.findByDay(timeRecord.getDay());
+	private boolean isLateArrival(TimeRecord timeRecord, ClockInSummaryContext context) {
+		TimeConfig timeConfig = context.timeConfigsByDay().get(timeRecord.getDay());
 		if (timeConfig == null)
 			return false;
 
-		ZoneId orgTimeZone = ZoneId.of(organizationService.getOrganizationTimeZone());
-		LocalTime utcTime = DateTimeUtils.epochMillisToUtcLocalTime(timeRecord.getClockInTime());
+		LeaveRequest leaveRequest = context.leaveRequestsByEmployeeId().get(timeRecord.getEmployee().getEmployeeId());
+		return isLateArrival(timeRecord.getClockInTime(), timeConfig, context.organizationTimeZone(), leaveRequest);
+	}
+
+	private boolean isLateArrival(Long clockInTime, TimeConfig timeConfig, ZoneId orgTimeZone,
+			LeaveRequest leaveRequest) {
+		LocalTime utcTime = DateTimeUtils.epochMillisToUtcLocalTime(clockInTime);
 
 		ZonedDateTime orgDateTime = ZonedDateTime.of(LocalDate.now(orgTimeZone), utcTime, ZoneOffset.UTC)
 			.withZoneSameInstant(orgTimeZone);
@@ -397,8 +491,6 @@ public class TimeAnalyticsServiceImpl implements TimeAnalyticsService {
 		LocalTime recordStartTime = orgDateTime.toLocalTime();
 		LocalTime lateThreshold = LocalTime.of(timeConfig.getStartHour(), timeConfig.getStartMinute());
 
-		LeaveRequest leaveRequest = leaveRequestDao.findByEmployeeAndDate(timeRecord.getEmployee().getEmployeeId(),
-				timeRecord.getDate());
 		return isLateArrivalBasedOnLeave(leaveRequest, recordStartTime, timeConfig, lateThreshold);
 	}
 
@@ -418,7 +510,7 @@ public class TimeAnalyticsServiceImpl implements TimeAnalyticsService {
 	}
 
 	private boolean isHolidayOrNoTimeConfig(LocalDate date) {
-		return timeConfigDao.findByDay(date.getDayOfWeek()) == null
+		return !getTimeConfigsByDay().containsKey(date.getDayOfWeek())
 				|| holidayDao.findByIsActiveTrueAndDate(date) != null;
 	}
 
@@ -434,10 +526,15 @@ public class TimeAnalyticsServiceImpl implements TimeAnalyticsService {
 				"lateArrivals", Map.of("lateArrivalCount", 0L)));
 	}
 
-	private List<TimeRecord> getTimeRecordsForMonth(AverageHoursWorkedTrendFilterDto filterDto) {
+	private Map<LocalDate, Double> getDailyWorkedHoursForMonth(AverageHoursWorkedTrendFilterDto filterDto) {
 		User currentUser = userService.getCurrentUser();
-		return timeRecordDao.getTimeRecordsByTeamAndMonth(filterDto.getTeams(), filterDto.getMonth(),
-				currentUser.getUserId());
+		LocalDate startOfMonth = LocalDate.of(Year.now().getValue(), filterDto.getMonth(), 1);
+		LocalDate endOfMonth = startOfMonth.withDayOfMonth(startOfMonth.lengthOfMonth());
+
+		return timeRecordDao
+			.getDailyWorkedHoursByTeam(filterDto.getTeams(), startOfMonth, endOfMonth, currentUser.getUserId())
+			.stream()
+			.collect(Collectors.toMap(EmployeeWorkHours::getDate, EmployeeWorkHours::getWorkedHours));
 	}
 
 	private List<TimeRecord> getTimeRecordsForDate(List<Long> teamIds, LocalDate date) {
@@ -481,7 +578,7 @@ public class TimeAnalyticsServiceImpl implements TimeAnalyticsService {
 		return dailyAverageHours;
 	}
 
-	private Map<String, Long> calculateWeeklyLateArrivalCount(List<TimeRecord> lateArrivals) {
+	private Map<String, Long> calculateWeeklyLateArrivalCount(List<EmployeeClockIn> lateArrivals) {
 		Map<String, Long> weeklyCount = new LinkedHashMap<>();
 		LocalDate currentWeekStart = LocalDate.of(Year.now().getValue(), Month.JANUARY, 1);
 
@@ -490,8 +587,8 @@ public class TimeAnalyticsServiceImpl implements TimeAnalyticsService {
 			String weekLabel = formatWeekRange(currentWeekStart, currentWeekEnd);
 
 			LocalDate finalCurrentWeekStart = currentWeekStart;
-			long count = lateArrivals.stream().filter(timeRecord -> {
-				LocalDate slotDate = DateTimeUtils.epochMillisToUtcLocalDate(timeRecord.getClockInTime());
+			long count = lateArrivals.stream().filter(lateArrival -> {
+				LocalDate slotDate = DateTimeUtils.epochMillisToUtcLocalDate(lateArrival.getClockInTime());
 				return !slotDate.isBefore(finalCurrentWeekStart) && !slotDate.isAfter(currentWeekEnd);
 			}).count();
 
@@ -502,7 +599,7 @@ public class TimeAnalyticsServiceImpl implements TimeAnalyticsService {
 		return weeklyCount;
 	}
 
-	private Map<String, Long> calculateMonthlyLateArrivalCount(List<TimeRecord> lateArrivals) {
+	private Map<String, Long> calculateMonthlyLateArrivalCount(List<EmployeeClockIn> lateArrivals) {
 		Map<String, Long> monthlyCount = new LinkedHashMap<>();
 		LocalDate startOfMonth = LocalDate.of(Year.now().getValue(), Month.JANUARY, 1);
 
@@ -511,8 +608,8 @@ public class TimeAnalyticsServiceImpl implements TimeAnalyticsService {
 			String monthLabel = startOfMonth.format(DateTimeFormatter.ofPattern("MMM"));
 
 			LocalDate finalStartOfMonth = startOfMonth;
-			long count = lateArrivals.stream().filter(timeRecord -> {
-				LocalDate slotDate = DateTimeUtils.epochMillisToUtcLocalDate(timeRecord.getClockInTime());
+			long count = lateArrivals.stream().filter(lateArrival -> {
+				LocalDate slotDate = DateTimeUtils.epochMillisToUtcLocalDate(lateArrival.getClockInTime());
 				return !slotDate.isBefore(finalStartOfMonth) && !slotDate.isAfter(endOfMonth);
 			}).count();
 
@@ -575,4 +672,9 @@ public class TimeAnalyticsServiceImpl implements TimeAnalyticsService {
 				: timeRecordDao.getEmployeeClockOutTrend(teamIds, timeOffset, filterDto.getDate());
 	}
 
+	private record ClockInSummaryContext(boolean clockInOnLeaveDays, Set<Long> employeeIdsOnApprovedLeaveToday,
+			Map<Long, LeaveRequest> leaveRequestsByEmployeeId, Map<Long, TimeRecord> timeRecordsByEmployeeId,
+			Map<DayOfWeek, TimeConfig> timeConfigsByDay, HolidayResponseDto holiday, ZoneId organizationTimeZone) {
+	}
+
 }
@@ -8,11 +8,14 @@ import com.skapp.community.common.model.User;
 import com.skapp.community.common.payload.response.PageDto;
 import com.skapp.community.common.payload.response.ResponseEntityDto;
 import com.skapp.community.common.service.OrganizationService;
+import com.skapp.community.common.service.OrganizationSnapshotService;
 import com.skapp.community.common.service.UserService;
+import com.skapp.community.common.service.WorkingDayCalendarService;
 import com.skapp.community.common.type.Role;
 import com.skapp.community.common.util.CommonModuleUtils;
 import com.skapp.community.common.util.DateTimeUtils;
 import com.skapp.community.common.util.MessageUtil;
+import com.skapp.community.common.util.WorkingDayCalendar;
 import com.skapp.community.common.util.transformer.PageTransformer;
 import com.skapp.community.leaveplanner.mapper.LeaveMapper;
 import com.skapp.community.leaveplanner.model.LeaveEntitlement;
@@ -137,6 +140,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.skapp.community.common.util.DateTimeUtils.MILLISECONDS_IN_AN_HOUR;
@@ -192,6 +196,10 @@ public class TimeServiceImpl implements TimeService {
 
 	private final OrganizationService organizationService;
 
+	private final OrganizationSnapshotService organizationSnapshotService;
+
+	private final WorkingDayCalendarService workingDayCalendarService;
+
 	public static JsonNode createTimeConfigJsonNode(Map<String, Float> hoursMap) {
 		ObjectMapper mapper = new ObjectMapper();
 		ArrayNode timeBlocksNode = mapper.createArrayNode();
@@ -230,6 +238,8 @@ public class TimeServiceImpl implements TimeService {
 		setRemovingTimeConfigs(currentTimeConfigs, timeConfigDto.getDayCapacities());
 
 		List<TimeConfig> orgConfig = timeConfigDao.saveAll(currentTimeConfigs);
+		organizationSnapshotService.invalidateOrganizationSnapshot();
+		workingDayCalendarService.invalidateWorkingDayCalendar();
 
 		log.info("updateTimeConfigs: execution ended");
 		return new ResponseEntityDto(false, orgConfig);
@@ -1164,11 +1174,8 @@ public class TimeServiceImpl implements TimeService {
 			throw new ModuleException(CommonMessageConstant.COMMON_ERROR_MANAGER_CANNOT_VIEW_EMPLOYEE_DATA);
 		}
 
-		List<TimeConfig> timeConfigs = timeConfigDao.findAll();
-		List<LocalDate> holidays = holidayDao.findAllByIsActiveTrue().stream().map(Holiday::getDate).toList();
-
 		UtilizationPercentageDto utilizationInfo = calculateWorkTimeUtilization(
-				List.of(employeeOpt.get().getEmployeeId()), timeConfigs, holidays);
+				List.of(employeeOpt.get().getEmployeeId()));
 
 		log.info("getIndividualWorkUtilizationByManager: execution ended {}", currentUser.getUserId());
 		return new ResponseEntityDto(false, utilizationInfo);
@@ -1180,7 +1187,7 @@ public class TimeServiceImpl implements TimeService {
 
 		LocalDate currentDate = DateTimeUtils.getCurrentUtcDate();
 
-		List<TimeConfig> workingDays = timeConfigDao.findAll();
+		List<TimeConfig> workingDays = organizationSnapshotService.getOrganizationSnapshot().getTimeConfigs();
 		boolean isWorkingDay = CommonModuleUtils.checkIfDayIsWorkingDay(currentDate, workingDays,
 				organizationService.getOrganizationTimeZone());
 
@@ -1575,30 +1582,33 @@ public class TimeServiceImpl implements TimeService {
 		List<TimeRecordsByEmployeesDto> timeRecordsByEmployees = timeRecordDao.getTimeRecordsByEmployees(employeeIds,
 				startDate, endDate);
 
-		List<TimeRecordsResponseDto> employeeTimeRecordSummaries = new ArrayList<>();
+		Map<Long, List<TimeRecordsByEmployeesDto>> timeRecordsByEmployeeId = timeRecordsByEmployees.stream()
+			.collect(Collectors.groupingBy(TimeRecordsByEmployeesDto::getEmployeeId));
+		Map<Long, Map<LocalDate, LeaveRequest>> leaveRequestsByEmployeeAndDate = indexLeaveRequestsByEmployeeAndDate(
+				leaveRequests, startDate, endDate);
+		Map<Long, LeaveRequestResponseDto> leaveRequestResponses = new HashMap<>();
+
+		List<TimeRecordsResponseDto> employeeTimeRecordSummaries = new ArrayList<>(employees.size());
 		for (Employee employee : employees) {
 			TimeRecordsResponseDto employeeTimeRecordSummary = new TimeRecordsResponseDto();
-			List<TimeRecordChipResponseDto> timeRecords = new ArrayList<>();
 			employeeTimeRecordSummary.setEmployee(commonMapper.employeeToEmployeeTeamResponseDto(employee));
 
-			List<TimeRecordsByEmployeesDto> timeRecordsForUser = timeRecordsByEmployees.stream()
-				.filter(timeRecord -> timeRecord.getEmployeeId().equals(employee.getEmployeeId()))
-				.toList();
+			List<TimeRecordsByEmployeesDto> timeRecordsForUser = timeRecordsByEmployeeId
+				.getOrDefault(employee.getEmployeeId(), Collections.emptyList());
+			Map<LocalDate, LeaveRequest> leaveRequestsByDate = leaveRequestsByEmployeeAndDate
+				.getOrDefault(employee.getEmployeeId(), Collections.emptyMap());
+
+			List<TimeRecordChipResponseDto> timeRecords = new ArrayList<>(timeRecordsForUser.size());
 			for (TimeRecordsByEmployeesDto timeRecordsByEmployee : timeRecordsForUser) {
 				TimeRecordChipResponseDto employeePeriodTimeRecords = timeMapper
 					.timeRecordsByEmployeeToTimeRecordRowResponseDto(timeRecordsByEmployee);
 
-				Optional<LeaveRequest> leaveRequestExist = leaveRequests.stream().filter(leaveRequest -> {
-					LocalDate leaveStartDate = leaveRequest.getStartDate();
-					LocalDate leaveEndDate = leaveRequest.getEndDate();
-					LocalDate currentDate = timeRecordsByEmployee.getDate();
-
-					boolean isInRange = !currentDate.isBefore(leaveStartDate) && !currentDate.isAfter(leaveEndDate);
-					return leaveRequest.getEmployee().getEmployeeId().equals(employee.getEmployeeId()) && isInRange;
-				}).findFirst();
-
-				leaveRequestExist.ifPresent(leaveRequest -> employeePeriodTimeRecords
-					.setLeaveRequest(leaveMapper.leaveRequestToLeaveRequestResponseDto(leaveRequest)));
+				LeaveRequest leaveRequest = leaveRequestsByDate.get(timeRecordsByEmployee.getDate());
+				if (leaveRequest != null) {
+					employeePeriodTimeRecords
+						.setLeaveRequest(leaveRequestResponses.computeIfAbsent(leaveRequest.getLeaveRequestId(),
+								id -> leaveMapper.leaveRequestToLeaveRequestResponseDto(leaveRequest)));
+				}
 
 				timeRecords.add(employeePeriodTimeRecords);
 			}
@@ -1622,6 +1632,29 @@ public class TimeServiceImpl implements TimeService {
 		return new ResponseEntityDto(false, pageDto);
 	}
 
+	/**
+	 * Expands each leave request into the dates it covers within the given range, keyed
+	 * by employee and date. When leave requests overlap, the first one in the list wins.
+	 */
+	private Map<Long, Map<LocalDate, LeaveRequest>> indexLeaveRequestsByEmployeeAndDate(
+			List<LeaveRequest> leaveRequests, LocalDate startDate, LocalDate endDate) {
+		Map<Long, Map<LocalDate, LeaveRequest>> leaveRequestsByEmployeeAndDate = new HashMap<>();
+		for (LeaveRequest leaveRequest : leaveRequests) {
+			LocalDate from = leaveRequest.getStartDate().isBefore(startDate) ? startDate : leaveRequest.getStartDate();
+			LocalDate to = leaveRequest.getEndDate().isAfter(endDate) ? endDate : leaveRequest.getEndDate();
+			if (from.isAfter(to)) {
+				continue;
+			}
+
+			Map<LocalDate, LeaveRequest> leaveRequestsByDate = leaveRequestsByEmployeeAndDate
+				.computeIfAbsent(leaveRequest.getEmployee().getEmployeeId(), id -> new HashMap<>());
+			for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+				leaveRequestsByDate.putIfAbsent(date, leaveRequest);
+			}
+		}
+		return leaveRequestsByEmployeeAndDate;
+	}
+
 	private void timeRecordSummaryDateValidations(TeamTimeRecordFilterDto timeRecordSummaryDto) {
 		if (timeRecordSummaryDto.getEndDate().isBefore(timeRecordSummaryDto.getStartDate())) {
 			throw new ModuleException(TimeMessageConstant.TIME_ERROR_START_DATE_END_DATE_NOT_VALID);
@@ -1656,8 +1689,7 @@ public class TimeServiceImpl implements TimeService {
 	 * Utilization Rate - Utilization Rate as of 30 days prior) / Utilization Rate as of
 	 * 30 days prior) x 100
 	 */
-	public UtilizationPercentageDto calculateWorkTimeUtilization(List<Long> employeeId, List<TimeConfig> timeConfigs,
-			List<LocalDate> holidays) {
+	public UtilizationPercentageDto calculateWorkTimeUtilization(List<Long> employeeId) {
 		float standardWorkHoursPerDay = getHoursPerDay();
 
 		LocalDate yesterday = DateTimeUtils.getCurrentUtcDate().minusDays(1);
@@ -1666,10 +1698,10 @@ public class TimeServiceImpl implements TimeService {
 
 		LocalDate sixtyDaysBeforeYesterday = DateTimeUtils.getCurrentUtcDate().minusMonths(2).minusDays(1);
 
-		String organizationTimeZone = organizationService.getOrganizationTimeZone();
+		WorkingDayCalendar workingDayCalendar = workingDayCalendarService.getWorkingDayCalendar();
 
-		int noOfWorkingDaysForLast30daysFromYesterday = CommonModuleUtils.getWorkingDaysBetweenTwoDates(
-				oneDayBeforeOneMonthPriorDate, yesterday, timeConfigs, holidays, organizationTimeZone);
+		int noOfWorkingDaysForLast30daysFromYesterday = workingDayCalendar
+			.getWorkingDaysBetween(oneDayBeforeOneMonthPriorDate, yesterday);
 		double totalWorkedHoursForLast30DaysFromYesterday = getWorkedHoursForDateRange(oneDayBeforeOneMonthPriorDate,
 				yesterday, employeeId);
 		double totalStandardWorkedHoursForLast30DaysFromYesterday = standardWorkHoursPerDay
@@ -1677,8 +1709,8 @@ public class TimeServiceImpl implements TimeService {
 		double currentUtilizationPercentage = (totalWorkedHoursForLast30DaysFromYesterday
 				/ totalStandardWorkedHoursForLast30DaysFromYesterday) * 100;
 
-		int numberOfWorkingDaysFromPreMonthStartToOneMonthBeforeDate = CommonModuleUtils.getWorkingDaysBetweenTwoDates(
-				sixtyDaysBeforeYesterday, oneDayBeforeOneMonthPriorDate, timeConfigs, holidays, organizationTimeZone);
+		int numberOfWorkingDaysFromPreMonthStartToOneMonthBeforeDate = workingDayCalendar
+			.getWorkingDaysBetween(sixtyDaysBeforeYesterday, oneDayBeforeOneMonthPriorDate);
 		double totalWorkedHoursPriorToLastThirtyDays = getWorkedHoursForDateRange(sixtyDaysBeforeYesterday,
 				oneDayBeforeOneMonthPriorDate, employeeId);
 		double totalStandardWorkedHoursUptoLastThirtyDays = standardWorkHoursPerDay
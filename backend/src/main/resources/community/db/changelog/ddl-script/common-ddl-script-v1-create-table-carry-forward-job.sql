@@ -0,0 +1,24 @@
+-- liquibase formatted sql
+
+-- changeset AkilaSilva:common-ddl-script-v1-create-table-carry-forward-job
+CREATE TABLE IF NOT EXISTS `carry_forward_job`
+(
+    `job_id`              bigint       NOT NULL AUTO_INCREMENT,
+    `leave_type_ids`      varchar(255) NOT NULL,
+    `cycle_start_year`    int          NOT NULL,
+    `status`              varchar(255) NOT NULL,
+    `total_employees`     int          NOT NULL DEFAULT 0,
+    `processed_employees` int          NOT NULL DEFAULT 0,
+    `last_leave_type_id`  bigint       DEFAULT NULL,
+    `last_employee_id`    bigint       DEFAULT NULL,
+    `error_message`       varchar(255) DEFAULT NULL,
+    `version`             bigint       NOT NULL DEFAULT 0,
+    `created_by`          varchar(255) DEFAULT NULL,
+    `created_date`        datetime(6)  DEFAULT NULL,
+    `last_modified_by`    varchar(255) DEFAULT NULL,
+    `last_modified_date`  datetime(6)  DEFAULT NULL,
+    PRIMARY KEY (`job_id`),
+    UNIQUE KEY `UK_carry_forward_job_leave_type_ids_cycle_start_year` (`leave_type_ids`, `cycle_start_year`)
+) ENGINE = InnoDB;
+
+-- rollback DROP TABLE `carry_forward_job`;
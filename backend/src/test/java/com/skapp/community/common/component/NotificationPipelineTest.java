@@ -0,0 +1,109 @@
+package com.skapp.community.common.component;
+
+import com.skapp.community.common.service.BulkContextService;
+import com.skapp.community.common.service.PushNotificationService;
+import com.skapp.community.common.type.NotificationType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationPipeline Unit Tests")
+class NotificationPipelineTest {
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private PushNotificationService pushNotificationService;
+
+	@Mock
+	private BulkContextService bulkContextService;
+
+	@Test
+	@DisplayName("Queued notifications are stored and pushed once per user before shutdown completes")
+	void stop_QueuedNotifications_DrainedAndPushedPerUser() {
+		NotificationPipeline notificationPipeline = getNotificationPipeline();
+		notificationPipeline.start();
+
+		for (long i = 0; i < 30; i++) {
+			notificationPipeline.enqueue(new NotificationPipeline.PendingNotification(null, i % 3, "1",
+					"Notification " + i, NotificationType.LEAVE_REQUEST, "1"));
+		}
+		notificationPipeline.stop();
+
+		assertEquals(0, notificationPipeline.getQueueDepth());
+		assertEquals(30, notificationPipeline.getFlushedNotifications());
+		verify(jdbcTemplate, atLeastOnce()).batchUpdate(anyString(), any(Collection.class), anyInt(), any());
+		for (long userId = 0; userId < 3; userId++) {
+			verify(pushNotificationService, atLeastOnce()).sendNotifications(eq(userId),
+					argThat(notifications -> !notifications.isEmpty()));
+		}
+		verify(pushNotificationService, never()).sendNotification(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("A flush that fails to save is retried and pushed once it is stored")
+	void stop_SaveFailsOnce_RetriesAndPushes() {
+		when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(), any()))
+			.thenThrow(new DataAccessResourceFailureException("Connection lost"))
+			.thenReturn(new int[][] { { 1 } });
+
+		NotificationPipeline notificationPipeline = getNotificationPipeline();
+		notificationPipeline.start();
+		notificationPipeline.enqueue(new NotificationPipeline.PendingNotification(null, 1L, "1", "Notification",
+				NotificationType.LEAVE_REQUEST, "1"));
+		notificationPipeline.stop();
+
+		verify(jdbcTemplate, times(2)).batchUpdate(anyString(), argThat(
+				(Collection<NotificationPipeline.PendingNotification> notifications) -> notifications.size() == 1
+						&& "1".equals(notifications.iterator().next().createdBy())),
+				eq(1), any());
+		verify(pushNotificationService, times(1)).sendNotifications(eq(1L),
+				argThat(notifications -> notifications.size() == 1));
+	}
+
+	@Test
+	@DisplayName("A notification flushed on the caller thread sets its own context and restores the caller's")
+	void enqueue_PipelineStopped_FlushesUnderOwnContextAndRestoresCallerContext() {
+		when(bulkContextService.getContext()).thenReturn("caller");
+
+		NotificationPipeline notificationPipeline = getNotificationPipeline();
+		notificationPipeline.enqueue(new NotificationPipeline.PendingNotification(null, 1L, "1", "Notification",
+				NotificationType.LEAVE_REQUEST, "1"));
+
+		InOrder inOrder = inOrder(bulkContextService, jdbcTemplate);
+		inOrder.verify(bulkContextService).setContext(null);
+		inOrder.verify(jdbcTemplate).batchUpdate(anyString(), any(Collection.class), anyInt(), any());
+		inOrder.verify(bulkContextService).setContext("caller");
+	}
+
+	private NotificationPipeline getNotificationPipeline() {
+		return new NotificationPipeline(jdbcTemplate, transactionManager, pushNotificationService, bulkContextService);
+	}
+
+}
@@ -0,0 +1,92 @@
+package com.skapp.community.common.service.impl;
+
+import com.skapp.community.common.service.BulkContextService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkExecutionServiceImpl Unit Tests")
+class BulkExecutionServiceImplTest {
+
+	@Mock
+	private BulkContextService bulkContextService;
+
+	@Mock
+	private HikariDataSource dataSource;
+
+	private BulkExecutionServiceImpl bulkExecutionService;
+
+	@AfterEach
+	void tearDown() {
+		bulkExecutionService.shutdown();
+	}
+
+	@Test
+	@DisplayName("Items run within the Hikari aware concurrency cap with the caller's tenant context")
+	void execute_ManyItems_RespectsConcurrencyCapAndPropagatesContext() throws Exception {
+		when(dataSource.isWrapperFor(HikariDataSource.class)).thenReturn(true);
+		when(dataSource.unwrap(HikariDataSource.class)).thenReturn(dataSource);
+		when(dataSource.getMaximumPoolSize()).thenReturn(6);
+		when(bulkContextService.getContext()).thenReturn("tenant");
+		createService(10, false);
+
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		AtomicInteger processed = new AtomicInteger();
+		List<Integer> items = IntStream.range(0, 40).boxed().toList();
+
+		bulkExecutionService.execute("test", items, item -> {
+			processed.incrementAndGet();
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(5);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			running.decrementAndGet();
+			if (item % 10 == 0) {
+				throw new IllegalStateException("failed item");
+			}
+		});
+
+		assertTrue(maxRunning.get() <= 3);
+		assertEquals(40, processed.get());
+		verify(bulkContextService, times(40)).setContext("tenant");
+	}
+
+	@Test
+	@DisplayName("Virtual threads process every item")
+	void execute_VirtualThreads_ProcessesAllItems() {
+		createService(4, true);
+
+		AtomicInteger processed = new AtomicInteger();
+		bulkExecutionService.execute("test", List.of(1, 2, 3, 4, 5), item -> processed.incrementAndGet());
+
+		assertEquals(5, processed.get());
+	}
+
+	private void createService(int maxConcurrency, boolean useVirtualThreads) {
+		bulkExecutionService = new BulkExecutionServiceImpl(bulkContextService, dataSource);
+		ReflectionTestUtils.setField(bulkExecutionService, "maxConcurrency", maxConcurrency);
+		ReflectionTestUtils.setField(bulkExecutionService, "useVirtualThreads", useVirtualThreads);
+		bulkExecutionService.initialize();
+	}
+
+}
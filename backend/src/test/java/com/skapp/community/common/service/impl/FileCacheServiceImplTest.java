@@ -0,0 +1,48 @@
+package com.skapp.community.common.service.impl;
+
+import com.skapp.community.common.type.FileType;
+import com.skapp.community.common.util.CachedFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("FileCacheServiceImpl Unit Tests")
+class FileCacheServiceImplTest {
+
+	private static final String FILENAME = "logo.png";
+
+	private final FileCacheServiceImpl fileCacheService = new FileCacheServiceImpl(new BulkContextServiceImpl());
+
+	@Test
+	@DisplayName("Cached files are served with a content based entity tag")
+	void getCachedFile_CachedFile_ReturnsContentAndETag() {
+		CachedFile cachedFile = fileCacheService.cacheFile(FileType.ORGANIZATION_LOGOS, FILENAME, new byte[] { 1, 2 });
+		CachedFile otherFile = fileCacheService.cacheFile(FileType.ORGANIZATION_LOGOS, "other.png", new byte[] { 3 });
+
+		CachedFile servedFile = fileCacheService.getCachedFile(FileType.ORGANIZATION_LOGOS, FILENAME).orElseThrow();
+
+		assertArrayEquals(new byte[] { 1, 2 }, servedFile.content());
+		assertEquals(cachedFile.eTag(), servedFile.eTag());
+		assertNotEquals(cachedFile.eTag(), otherFile.eTag());
+		assertTrue(servedFile.eTag().startsWith("\"") && servedFile.eTag().endsWith("\""));
+		assertEquals(3, fileCacheService.getCachedBytes());
+		assertEquals(1.0, fileCacheService.getHitRatio());
+	}
+
+	@Test
+	@DisplayName("Evicted and oversized files are not served from the cache")
+	void getCachedFile_EvictedOrOversizedFile_ReturnsEmpty() {
+		fileCacheService.cacheFile(FileType.USER_IMAGE, FILENAME, new byte[] { 1 });
+		fileCacheService.evictFile(FileType.USER_IMAGE, FILENAME);
+		fileCacheService.cacheFile(FileType.ORGANIZATION_LOGOS, FILENAME, new byte[2 * 1024 * 1024]);
+
+		assertTrue(fileCacheService.getCachedFile(FileType.USER_IMAGE, FILENAME).isEmpty());
+		assertTrue(fileCacheService.getCachedFile(FileType.ORGANIZATION_LOGOS, FILENAME).isEmpty());
+		assertEquals(0, fileCacheService.getCachedBytes());
+	}
+
+}
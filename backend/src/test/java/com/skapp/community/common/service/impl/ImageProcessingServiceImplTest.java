@@ -0,0 +1,81 @@
+package com.skapp.community.common.service.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ImageProcessingServiceImpl Unit Tests")
+class ImageProcessingServiceImplTest {
+
+	private static final String THUMBNAIL_NAME = "image-thumbnail.png";
+
+	private final ImageProcessingServiceImpl imageProcessingService = new ImageProcessingServiceImpl(
+			new BulkContextServiceImpl());
+
+	@AfterEach
+	void tearDown() {
+		imageProcessingService.shutdown();
+	}
+
+	@Test
+	@DisplayName("A thumbnail is pending until its task finishes")
+	void submitThumbnail_RunningTask_IsPendingUntilFinished() throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		imageProcessingService.submitThumbnail(THUMBNAIL_NAME, () -> {
+			started.countDown();
+			awaitQuietly(release);
+		});
+
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		assertTrue(imageProcessingService.isThumbnailPending(THUMBNAIL_NAME));
+
+		release.countDown();
+		awaitProcessed(1);
+		assertFalse(imageProcessingService.isThumbnailPending(THUMBNAIL_NAME));
+		assertTrue(imageProcessingService.getAverageProcessingMillis() >= 0);
+	}
+
+	@Test
+	@DisplayName("A failing task is no longer pending and the next tasks still run")
+	void submitThumbnail_FailingTask_ContinuesWithNextTask() throws InterruptedException {
+		CountDownLatch completed = new CountDownLatch(1);
+
+		imageProcessingService.submitThumbnail(THUMBNAIL_NAME, () -> {
+			throw new IllegalStateException("Unreadable image");
+		});
+		imageProcessingService.submitThumbnail("other-thumbnail.png", completed::countDown);
+
+		assertTrue(completed.await(5, TimeUnit.SECONDS));
+		awaitProcessed(2);
+		assertFalse(imageProcessingService.isThumbnailPending(THUMBNAIL_NAME));
+		assertEquals(0, imageProcessingService.getQueueDepth());
+	}
+
+	private void awaitProcessed(long count) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (imageProcessingService.getProcessedCount() < count && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+
+		assertEquals(count, imageProcessingService.getProcessedCount());
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,55 @@
+package com.skapp.community.common.service.impl;
+
+import com.skapp.community.common.exception.ModuleException;
+import com.skapp.community.common.payload.notification.NotificationTemplate;
+import com.skapp.community.common.type.EmailBodyTemplates;
+import com.skapp.community.common.type.NotificationCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("NotificationTemplateServiceImpl Unit Tests")
+class NotificationTemplateServiceImplTest {
+
+	private NotificationTemplateServiceImpl notificationTemplateService;
+
+	@BeforeEach
+	void setUp() {
+		notificationTemplateService = new NotificationTemplateServiceImpl();
+		notificationTemplateService.reloadNotificationTemplates();
+	}
+
+	@Test
+	@DisplayName("Template is resolved by language, category and id and rendered")
+	void getNotificationTemplate_ExistingTemplate_RendersMessage() {
+		NotificationTemplate notificationTemplate = notificationTemplateService.getNotificationTemplate("en",
+				NotificationCategory.PEOPLE, EmailBodyTemplates.PEOPLE_MODULE_NEW_HOLIDAY_DECLARED);
+
+		assertEquals("New company holiday declared!", notificationTemplate.getTitle().render(Map.of()));
+		assertEquals("Skapp has declared 2025-12-25 as a company holiday for Christmas", notificationTemplate
+			.getMessage()
+			.render(Map.of("organizationName", "Skapp", "holidayDate", "2025-12-25", "holidayName", "Christmas")));
+	}
+
+	@Test
+	@DisplayName("Unknown language and category combinations are rejected")
+	void getNotificationTemplate_UnknownLanguageOrCategory_ThrowsModuleException() {
+		assertThrows(ModuleException.class, () -> notificationTemplateService.getNotificationTemplate("xx",
+				NotificationCategory.PEOPLE, EmailBodyTemplates.PEOPLE_MODULE_NEW_HOLIDAY_DECLARED));
+		assertThrows(ModuleException.class, () -> notificationTemplateService.getNotificationTemplate("en",
+				NotificationCategory.LEAVE, EmailBodyTemplates.PEOPLE_MODULE_NEW_HOLIDAY_DECLARED));
+	}
+
+	@Test
+	@DisplayName("Values without a translation are returned unchanged")
+	void getEnumTranslation_UnknownValue_ReturnsValue() {
+		assertEquals("UNKNOWN_VALUE",
+				notificationTemplateService.getEnumTranslation("en", "leaveType", "UNKNOWN_VALUE"));
+	}
+
+}
@@ -0,0 +1,52 @@
+package com.skapp.community.common.service.impl;
+
+import com.skapp.TestSkappApplication;
+import com.skapp.community.common.service.OrganizationSnapshotService;
+import com.skapp.community.common.util.OrganizationSnapshot;
+import com.skapp.community.timeplanner.repository.TimeConfigDao;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@SpringBootTest(classes = TestSkappApplication.class)
+@Transactional
+@RequiredArgsConstructor
+@DisplayName("OrganizationSnapshotServiceImpl Integration Tests")
+class OrganizationSnapshotServiceImplIntegrationTest {
+
+	private final OrganizationSnapshotService organizationSnapshotService;
+
+	private final TimeConfigDao timeConfigDao;
+
+	@Test
+	@DisplayName("The snapshot is loaded once and reused until it is invalidated")
+	void getOrganizationSnapshot_UntilInvalidated_ReturnsSameSnapshot() {
+		OrganizationSnapshot first = organizationSnapshotService.getOrganizationSnapshot();
+		OrganizationSnapshot second = organizationSnapshotService.getOrganizationSnapshot();
+
+		organizationSnapshotService.invalidateOrganizationSnapshot();
+		OrganizationSnapshot reloaded = organizationSnapshotService.getOrganizationSnapshot();
+
+		assertSame(first, second);
+		assertNotSame(first, reloaded);
+		assertEquals(timeConfigDao.count(), reloaded.getTimeConfigs().size());
+	}
+
+	@Test
+	@DisplayName("Callers receive copies of the mutable leave cycle configuration")
+	void getLeaveCycle_CallerChangesCopy_SnapshotUnchanged() {
+		OrganizationSnapshot snapshot = organizationSnapshotService.getOrganizationSnapshot();
+		int startMonth = snapshot.getLeaveCycle().getStartMonth();
+
+		snapshot.getLeaveCycle().setStartMonth(startMonth + 1);
+
+		assertEquals(startMonth, snapshot.getLeaveCycle().getStartMonth());
+	}
+
+}
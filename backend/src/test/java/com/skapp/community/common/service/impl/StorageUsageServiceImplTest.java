@@ -0,0 +1,76 @@
+package com.skapp.community.common.service.impl;
+
+import com.skapp.community.common.config.FileStorageConfig;
+import com.skapp.community.common.payload.response.FolderStorageUsageResponseDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("StorageUsageServiceImpl Unit Tests")
+class StorageUsageServiceImplTest {
+
+	private static final String FOLDER = "user-image";
+
+	@TempDir
+	private Path tempDir;
+
+	private StorageUsageServiceImpl storageUsageService;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		Files.createDirectories(tempDir.resolve(FOLDER));
+		FileStorageConfig fileStorageConfig = new FileStorageConfig();
+		fileStorageConfig.setBase(tempDir.toAbsolutePath().toString());
+		fileStorageConfig.setFolders(List.of(FOLDER, "leave-attachments"));
+		storageUsageService = new StorageUsageServiceImpl(fileStorageConfig);
+	}
+
+	@AfterEach
+	void tearDown() {
+		storageUsageService.shutdown();
+	}
+
+	@Test
+	@DisplayName("Reconciling counts stored files and skips files still being written")
+	void reconcile_StorageFolders_CountsStoredFiles() throws IOException {
+		Files.write(tempDir.resolve(FOLDER).resolve("image.png"), new byte[100]);
+		Files.write(tempDir.resolve(FOLDER).resolve("image-thumbnail.png"), new byte[20]);
+		Files.write(tempDir.resolve(FOLDER).resolve("other.png.enc.tmp"), new byte[50]);
+		Files.write(tempDir.resolve(FOLDER).resolve("other-thumbnail.png.staging"), new byte[10]);
+
+		storageUsageService.reconcile();
+
+		FolderStorageUsageResponseDto usage = storageUsageService.getFolderUsages().get(FOLDER);
+		assertEquals(120, usage.getUsedBytes());
+		assertEquals(2, usage.getFileCount());
+		assertEquals(0, storageUsageService.getFolderUsages().get("leave-attachments").getFileCount());
+	}
+
+	@Test
+	@DisplayName("Recorded uploads and deletes update the folder usage until the next reconciliation")
+	void recordFileAdded_RecordedChanges_UpdateFolderUsage() throws IOException {
+		storageUsageService.reconcile();
+
+		storageUsageService.recordFileAdded(FOLDER, 300);
+		storageUsageService.recordFileAdded(FOLDER, 200);
+		storageUsageService.recordFileRemoved(FOLDER, 300);
+
+		FolderStorageUsageResponseDto usage = storageUsageService.getFolderUsages().get(FOLDER);
+		assertEquals(200, usage.getUsedBytes());
+		assertEquals(1, usage.getFileCount());
+
+		Files.write(tempDir.resolve(FOLDER).resolve("image.png"), new byte[200]);
+		storageUsageService.reconcile();
+		assertEquals(200, storageUsageService.getFolderUsages().get(FOLDER).getUsedBytes());
+	}
+
+}
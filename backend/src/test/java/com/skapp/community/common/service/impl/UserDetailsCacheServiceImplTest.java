@@ -0,0 +1,62 @@
+package com.skapp.community.common.service.impl;
+
+import com.skapp.community.common.security.SkappUserDetails;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@DisplayName("UserDetailsCacheServiceImpl Unit Tests")
+class UserDetailsCacheServiceImplTest {
+
+	private static final String USERNAME = "user@skapp.com";
+
+	private final UserDetailsCacheServiceImpl userDetailsCacheService = new UserDetailsCacheServiceImpl();
+
+	private final AtomicInteger loadCount = new AtomicInteger();
+
+	private final Supplier<UserDetails> userDetailsLoader = () -> {
+		loadCount.incrementAndGet();
+		return SkappUserDetails.builder().username(USERNAME).enabled(true).authorities(List.of()).build();
+	};
+
+	@Test
+	@DisplayName("Cached user details are served for the same user version")
+	void getUserDetails_SameVersion_LoadsOnce() {
+		UserDetails first = userDetailsCacheService.getUserDetails(1L, "1.0.0", USERNAME, userDetailsLoader);
+		UserDetails second = userDetailsCacheService.getUserDetails(1L, "1.0.0", USERNAME, userDetailsLoader);
+
+		assertSame(first, second);
+		assertEquals(1, loadCount.get());
+		assertEquals(1, userDetailsCacheService.getHitCount());
+		assertEquals(1, userDetailsCacheService.getMissCount());
+	}
+
+	@Test
+	@DisplayName("A new user version or an invalidation reloads the user details")
+	void getUserDetails_VersionBumpedOrInvalidated_Reloads() {
+		userDetailsCacheService.getUserDetails(1L, "1.0.0", USERNAME, userDetailsLoader);
+		userDetailsCacheService.getUserDetails(1L, "2.0.0", USERNAME, userDetailsLoader);
+		userDetailsCacheService.invalidateUserDetails(1L);
+		userDetailsCacheService.getUserDetails(1L, "2.0.0", USERNAME, userDetailsLoader);
+
+		assertEquals(3, loadCount.get());
+		assertEquals(0, userDetailsCacheService.getHitCount());
+	}
+
+	@Test
+	@DisplayName("Cached user details are not served for another username")
+	void getUserDetails_DifferentUsername_Reloads() {
+		userDetailsCacheService.getUserDetails(1L, "1.0.0", USERNAME, userDetailsLoader);
+		userDetailsCacheService.getUserDetails(1L, "1.0.0", "other@skapp.com", userDetailsLoader);
+
+		assertEquals(2, loadCount.get());
+	}
+
+}
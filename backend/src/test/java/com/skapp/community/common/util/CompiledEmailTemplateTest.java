@@ -0,0 +1,56 @@
+package com.skapp.community.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("CompiledEmailTemplate Unit Tests")
+class CompiledEmailTemplateTest {
+
+	@Test
+	@DisplayName("Placeholders are replaced and unknown placeholders are kept")
+	void render_MixedPlaceholders_ReplacesKnownOnly() {
+		CompiledEmailTemplate template = CompiledEmailTemplate.compile("Hi {{name}}, {{{count}}} days {{unknown}}}}");
+
+		Map<String, String> placeholders = new HashMap<>();
+		placeholders.put("name", "Jane");
+		placeholders.put("count", null);
+
+		assertEquals("Hi Jane, {} days {{unknown}}}}", template.render(placeholders));
+	}
+
+	@Test
+	@DisplayName("Rendering every bundled email template matches the replace loop")
+	void render_BundledTemplates_MatchesReplaceLoop() throws IOException {
+		Resource[] resources = new PathMatchingResourcePatternResolver()
+			.getResources("classpath*:community/templates/email/**/*.html");
+
+		for (Resource resource : resources) {
+			String content = resource.getContentAsString(StandardCharsets.UTF_8);
+			Map<String, String> placeholders = new HashMap<>();
+			CompiledEmailTemplate template = CompiledEmailTemplate.compile(content);
+			int start = content.indexOf("{{");
+			while (start >= 0 && content.indexOf("}}", start) >= 0) {
+				String key = content.substring(start + 2, content.indexOf("}}", start));
+				placeholders.put(key, "value-" + key.length());
+				start = content.indexOf("{{", start + 2);
+			}
+
+			String expected = content;
+			for (Map.Entry<String, String> entry : placeholders.entrySet()) {
+				expected = expected.replace("{{" + entry.getKey() + "}}", entry.getValue());
+			}
+
+			assertEquals(expected, template.render(placeholders), resource.getFilename());
+		}
+	}
+
+}
@@ -0,0 +1,153 @@
+package com.skapp.community.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.AbstractResource;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("SegmentedFileCipher Unit Tests")
+class SegmentedFileCipherTest {
+
+	private static final SecretKey KEY = new SecretKeySpec(new byte[32], "AES");
+
+	private final SegmentedFileCipher segmentedFileCipher = new SegmentedFileCipher(KEY, 1024);
+
+	@TempDir
+	private Path tempDir;
+
+	@Test
+	@DisplayName("Encrypted files decrypt to the original content and byte ranges")
+	void getDecryptingResource_EncryptedFile_ReadsContentAndRanges() throws Exception {
+		byte[] content = randomBytes(5000);
+		Path encryptedFile = encrypt(content);
+
+		AbstractResource resource = segmentedFileCipher.getDecryptingResource(encryptedFile, "file.pdf");
+		assertTrue(SegmentedFileCipher.isSegmented(encryptedFile));
+		assertEquals(content.length, resource.contentLength());
+		try (InputStream in = resource.getInputStream()) {
+			assertArrayEquals(content, in.readAllBytes());
+		}
+
+		try (InputStream in = resource.getInputStream()) {
+			assertEquals(3100, in.skip(3100));
+			assertArrayEquals(Arrays.copyOfRange(content, 3100, 3300), in.readNBytes(200));
+		}
+	}
+
+	@Test
+	@DisplayName("Tampered or truncated files fail authentication")
+	void getDecryptingResource_TamperedFile_Throws() throws Exception {
+		Path encryptedFile = encrypt(randomBytes(3000));
+		byte[] encryptedBytes = Files.readAllBytes(encryptedFile);
+
+		encryptedBytes[encryptedBytes.length - 100] ^= 1;
+		Files.write(encryptedFile, encryptedBytes);
+		try (InputStream in = segmentedFileCipher.getDecryptingResource(encryptedFile, "file.pdf").getInputStream()) {
+			assertThrows(IOException.class, in::readAllBytes);
+		}
+
+		encryptedBytes[encryptedBytes.length - 100] ^= 1;
+		Files.write(encryptedFile, Arrays.copyOf(encryptedBytes, 48 + 2 * (1024 + 16)));
+		try (InputStream in = segmentedFileCipher.getDecryptingResource(encryptedFile, "file.pdf").getInputStream()) {
+			assertThrows(IOException.class, in::readAllBytes);
+		}
+	}
+
+	@Test
+	@DisplayName("Files in the single block format are not taken for segmented files")
+	void isSegmented_LegacyFile_ReturnsFalse() throws Exception {
+		Path legacyFile = encryptLegacy(randomBytes(3000));
+
+		assertFalse(SegmentedFileCipher.isSegmented(legacyFile));
+	}
+
+	@Test
+	@DisplayName("Serving a download allocates a fraction of what single block decryption does")
+	void getDecryptingResource_LargeFile_AllocatesLessThanSingleBlockDecryption() throws Exception {
+		byte[] content = randomBytes(8 * 1024 * 1024);
+		SegmentedFileCipher defaultCipher = new SegmentedFileCipher(KEY);
+		Path plainFile = tempDir.resolve("large.plain");
+		Files.write(plainFile, content);
+		Path encryptedFile = tempDir.resolve("large.pdf");
+		defaultCipher.encrypt(plainFile, encryptedFile);
+		Path legacyFile = encryptLegacy(content);
+
+		long segmentedBytes = measureAllocatedBytes(() -> {
+			try (InputStream in = defaultCipher.getDecryptingResource(encryptedFile, "large.pdf").getInputStream()) {
+				in.transferTo(OutputStream.nullOutputStream());
+			}
+		});
+		long singleBlockBytes = measureAllocatedBytes(() -> {
+			ByteBuffer fileBytes = ByteBuffer.wrap(Files.readAllBytes(legacyFile));
+			byte[] iv = new byte[12];
+			fileBytes.get(iv);
+			Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+			cipher.init(Cipher.DECRYPT_MODE, KEY, new GCMParameterSpec(128, iv));
+			OutputStream.nullOutputStream().write(cipher.doFinal(fileBytes.array(), 12, fileBytes.remaining()));
+		});
+
+		assertTrue(segmentedBytes < singleBlockBytes / 4,
+				"segmented download allocated " + segmentedBytes + " bytes, single block download " + singleBlockBytes);
+	}
+
+	private Path encrypt(byte[] content) throws Exception {
+		Path plainFile = tempDir.resolve("file.plain");
+		Files.write(plainFile, content);
+		Path encryptedFile = tempDir.resolve("file.pdf");
+		segmentedFileCipher.encrypt(plainFile, encryptedFile);
+		return encryptedFile;
+	}
+
+	private Path encryptLegacy(byte[] content) throws Exception {
+		byte[] iv = randomBytes(12);
+		Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+		cipher.init(Cipher.ENCRYPT_MODE, KEY, new GCMParameterSpec(128, iv));
+		byte[] encryptedBytes = cipher.doFinal(content);
+		Path legacyFile = tempDir.resolve("legacy.pdf");
+		Files.write(legacyFile,
+				ByteBuffer.allocate(iv.length + encryptedBytes.length).put(iv).put(encryptedBytes).array());
+		return legacyFile;
+	}
+
+	private static byte[] randomBytes(int length) {
+		byte[] bytes = new byte[length];
+		new Random(length).nextBytes(bytes);
+		return bytes;
+	}
+
+	private static long measureAllocatedBytes(DownloadAction action) throws Exception {
+		com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory
+			.getThreadMXBean();
+		long before = threadMXBean.getCurrentThreadAllocatedBytes();
+		action.run();
+		return threadMXBean.getCurrentThreadAllocatedBytes() - before;
+	}
+
+	@FunctionalInterface
+	private interface DownloadAction {
+
+		void run() throws Exception;
+
+	}
+
+}
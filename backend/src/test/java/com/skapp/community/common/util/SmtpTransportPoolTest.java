@@ -0,0 +1,166 @@
+package com.skapp.community.common.util;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("SmtpTransportPool Unit Tests")
+class SmtpTransportPoolTest {
+
+	private ServerSocket serverSocket;
+
+	private final AtomicInteger acceptedConnections = new AtomicInteger();
+
+	private final AtomicInteger deliveredMessages = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() throws IOException {
+		serverSocket = new ServerSocket(0);
+		Thread acceptThread = new Thread(this::acceptConnections, "smtp-stand-in");
+		acceptThread.setDaemon(true);
+		acceptThread.start();
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		serverSocket.close();
+	}
+
+	@Test
+	@DisplayName("Consecutive sends reuse a single SMTP connection")
+	void send_ConsecutiveMessages_ReusesConnection() throws MessagingException {
+		try (SmtpTransportPool transportPool = createTransportPool()) {
+			for (int i = 0; i < 5; i++) {
+				transportPool.send(createMessage(transportPool, "user" + i + "@example.com"));
+			}
+
+			assertEquals(5, deliveredMessages.get());
+			assertEquals(1, acceptedConnections.get());
+			assertEquals(1, transportPool.getConnectionsOpened());
+			assertEquals(4, transportPool.getConnectionsReused());
+			assertEquals(5, transportPool.getMessagesSent());
+		}
+	}
+
+	@Test
+	@DisplayName("A batch of messages is sent over one connection")
+	void send_MessageBatch_UsesOneConnection() throws MessagingException {
+		try (SmtpTransportPool transportPool = createTransportPool()) {
+			transportPool.send(List.of(createMessage(transportPool, "first@example.com"),
+					createMessage(transportPool, "second@example.com"),
+					createMessage(transportPool, "third@example.com")));
+
+			assertEquals(3, deliveredMessages.get());
+			assertEquals(1, acceptedConnections.get());
+		}
+	}
+
+	@Test
+	@DisplayName("A rejected recipient on a reused connection is not resent on a new connection")
+	void send_RejectedRecipient_IsNotRetried() throws MessagingException {
+		try (SmtpTransportPool transportPool = createTransportPool()) {
+			transportPool.send(createMessage(transportPool, "first@example.com"));
+
+			MimeMessage rejectedMessage = createMessage(transportPool, "rejected@example.com");
+			assertThrows(SendFailedException.class, () -> transportPool.send(rejectedMessage));
+
+			assertEquals(1, deliveredMessages.get());
+			assertEquals(1, acceptedConnections.get());
+			assertEquals(1, transportPool.getConnectionsOpened());
+		}
+	}
+
+	private SmtpTransportPool createTransportPool() {
+		Properties properties = new Properties();
+		properties.put("mail.smtp.auth", "false");
+		return new SmtpTransportPool(properties, "localhost", serverSocket.getLocalPort(), null, null, 2);
+	}
+
+	private static MimeMessage createMessage(SmtpTransportPool transportPool, String recipient)
+			throws MessagingException {
+		MimeMessage mimeMessage = transportPool.createMimeMessage();
+		mimeMessage.setFrom(new InternetAddress("noreply@example.com"));
+		mimeMessage.setRecipient(MimeMessage.RecipientType.TO, new InternetAddress(recipient));
+		mimeMessage.setSubject("Subject");
+		mimeMessage.setText("Body");
+		return mimeMessage;
+	}
+
+	private void acceptConnections() {
+		while (!serverSocket.isClosed()) {
+			try {
+				Socket socket = serverSocket.accept();
+				acceptedConnections.incrementAndGet();
+				Thread sessionThread = new Thread(() -> handleSession(socket), "smtp-stand-in-session");
+				sessionThread.setDaemon(true);
+				sessionThread.start();
+			}
+			catch (IOException e) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Speaks just enough SMTP for the client to deliver messages and check the
+	 * connection.
+	 */
+	private void handleSession(Socket socket) {
+		try (socket;
+				BufferedReader reader = new BufferedReader(
+						new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+				PrintWriter writer = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.US_ASCII)) {
+			reply(writer, "220 localhost ESMTP");
+
+			String line;
+			while ((line = reader.readLine()) != null) {
+				String command = line.length() < 4 ? line.toUpperCase() : line.substring(0, 4).toUpperCase();
+				switch (command) {
+					case "EHLO", "HELO" -> reply(writer, "250 localhost");
+					case "RCPT" -> reply(writer, line.contains("rejected") ? "550 Mailbox unavailable" : "250 OK");
+					case "DATA" -> {
+						reply(writer, "354 End data with <CR><LF>.<CR><LF>");
+						while ((line = reader.readLine()) != null && !line.equals(".")) {
+							// Message content is not inspected
+						}
+						deliveredMessages.incrementAndGet();
+						reply(writer, "250 OK");
+					}
+					case "QUIT" -> {
+						reply(writer, "221 Bye");
+						return;
+					}
+					default -> reply(writer, "250 OK");
+				}
+			}
+		}
+		catch (IOException e) {
+			// Client closed the connection
+		}
+	}
+
+	private static void reply(PrintWriter writer, String response) {
+		writer.print(response + "\r\n");
+		writer.flush();
+	}
+
+}
@@ -0,0 +1,91 @@
+package com.skapp.community.common.util;
+
+import com.skapp.community.peopleplanner.model.Holiday;
+import com.skapp.community.peopleplanner.type.HolidayDuration;
+import com.skapp.community.timeplanner.model.TimeConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("WorkingDayCalendar Unit Tests")
+class WorkingDayCalendarTest {
+
+	private static final LocalDate WINDOW_START = LocalDate.of(2025, 1, 1);
+
+	private static final LocalDate WINDOW_END = LocalDate.of(2025, 12, 31);
+
+	private final List<TimeConfig> timeConfigs = List.of(timeConfig(DayOfWeek.MONDAY), timeConfig(DayOfWeek.TUESDAY),
+			timeConfig(DayOfWeek.WEDNESDAY), timeConfig(DayOfWeek.THURSDAY), timeConfig(DayOfWeek.FRIDAY));
+
+	private final List<Holiday> holidays = List.of(holiday(LocalDate.of(2025, 1, 1), HolidayDuration.FULL_DAY),
+			holiday(LocalDate.of(2025, 4, 18), HolidayDuration.FULL_DAY),
+			holiday(LocalDate.of(2025, 12, 24), HolidayDuration.HALF_DAY_EVENING),
+			holiday(LocalDate.of(2025, 12, 25), HolidayDuration.FULL_DAY),
+			holiday(LocalDate.of(2025, 12, 25), HolidayDuration.HALF_DAY_MORNING));
+
+	@Test
+	@DisplayName("Working day counts match the day by day evaluation for every range")
+	void getWorkingDaysBetween_RandomRanges_MatchesDayByDayEvaluation() {
+		for (String timeZone : List.of("UTC", "America/New_York", "Asia/Colombo")) {
+			WorkingDayCalendar calendar = WorkingDayCalendar.of(WINDOW_START, WINDOW_END, timeConfigs, holidays,
+					timeZone);
+			List<LocalDate> holidayDates = holidays.stream().map(Holiday::getDate).toList();
+
+			Random random = new Random(7);
+			for (int i = 0; i < 500; i++) {
+				LocalDate startDate = WINDOW_START.minusDays(20).plusDays(random.nextInt(400));
+				LocalDate endDate = startDate.plusDays(random.nextInt(90) - 10);
+
+				assertEquals(CommonModuleUtils.getWorkingDaysBetweenTwoDates(startDate, endDate, timeConfigs,
+						holidayDates, timeZone), calendar.getWorkingDaysBetween(startDate, endDate));
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Half day holidays count as half a working day and full day holidays take precedence")
+	void getWorkingDaysIncludingHalfDaysBetween_HalfDayHoliday_CountsHalfDay() {
+		WorkingDayCalendar calendar = WorkingDayCalendar.of(WINDOW_START, WINDOW_END, timeConfigs, holidays, "UTC");
+
+		LocalDate monday = LocalDate.of(2025, 12, 22);
+		LocalDate friday = LocalDate.of(2025, 12, 26);
+
+		assertEquals(3, calendar.getWorkingDaysBetween(monday, friday));
+		assertEquals(3.5F, calendar.getWorkingDaysIncludingHalfDaysBetween(monday, friday));
+		assertEquals(3.5F, calendar.getWorkingDaysIncludingHalfDaysBetween(friday, monday));
+	}
+
+	@Test
+	@DisplayName("Dates outside the window fall back to the day by day evaluation")
+	void isWorkingDay_OutsideWindow_FallsBack() {
+		WorkingDayCalendar calendar = WorkingDayCalendar.of(WINDOW_START, WINDOW_END, timeConfigs,
+				List.of(holiday(LocalDate.of(2026, 1, 1), HolidayDuration.HALF_DAY_MORNING)), "UTC");
+
+		assertTrue(calendar.isHoliday(LocalDate.of(2026, 1, 1)));
+		assertFalse(calendar.isWorkingDay(LocalDate.of(2026, 1, 3)));
+		assertEquals(1.5F,
+				calendar.getWorkingDaysIncludingHalfDaysBetween(LocalDate.of(2025, 12, 31), LocalDate.of(2026, 1, 1)));
+	}
+
+	private static TimeConfig timeConfig(DayOfWeek day) {
+		TimeConfig timeConfig = new TimeConfig();
+		timeConfig.setDay(day);
+		return timeConfig;
+	}
+
+	private static Holiday holiday(LocalDate date, HolidayDuration holidayDuration) {
+		Holiday holiday = new Holiday();
+		holiday.setDate(date);
+		holiday.setHolidayDuration(holidayDuration);
+		return holiday;
+	}
+
+}
@@ -7,6 +7,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -19,9 +22,11 @@ class EncryptionDecryptionConverterTest {
 
 	private EncryptionDecryptionConverter converter;
 
+	private EncryptionDecryptionService encryptionDecryptionService;
+
 	@BeforeEach
 	void setUp() {
-		EncryptionDecryptionService encryptionDecryptionService = new EncryptionDecryptionServiceImpl();
+		encryptionDecryptionService = new EncryptionDecryptionServiceImpl();
 		ReflectionTestUtils.setField(encryptionDecryptionService, "encryptSecret", TEST_SECRET);
 
 		converter = new EncryptionDecryptionConverter();
@@ -102,4 +107,24 @@ class EncryptionDecryptionConverterTest {
 		assertEquals(empty, decrypted);
 	}
 
+	@Test
+	@DisplayName("Should serve repeated values from the cache when loading 10k rows")
+	void convertToEntityAttribute_repeatedRowLoads_servesRepeatedValuesFromCache() {
+		List<String> dbValues = new ArrayList<>();
+		for (int i = 0; i < 1_000; i++) {
+			dbValues.add(converter.convertToDatabaseColumn("077" + i));
+		}
+		EncryptionDecryptionServiceImpl coldService = new EncryptionDecryptionServiceImpl();
+		ReflectionTestUtils.setField(coldService, "encryptSecret", TEST_SECRET);
+		ReflectionTestUtils.setField(EncryptionDecryptionConverter.class, "encryptionDecryptionService", coldService);
+
+		for (int row = 0; row < 10_000; row++) {
+			assertEquals("077" + (row % 1_000), converter.convertToEntityAttribute(dbValues.get(row % 1_000)));
+		}
+
+		assertEquals(10_000, coldService.getDecryptCount());
+		assertEquals(9_000, coldService.getDecryptCacheHitCount());
+		assertEquals(1_000, encryptionDecryptionService.getEncryptCount());
+	}
+
 }
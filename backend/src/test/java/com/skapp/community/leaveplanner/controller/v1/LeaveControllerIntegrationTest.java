@@ -11,7 +11,10 @@ import com.skapp.community.leaveplanner.type.LeaveState;
 import com.skapp.support.MockUserFactory;
 import com.skapp.support.SecurityTestUtils;
 import com.skapp.TestSkappApplication;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -26,11 +29,15 @@ import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilde
 import org.springframework.transaction.annotation.Transactional;
 import tools.jackson.databind.json.JsonMapper;
 
+import java.time.LocalDate;
+
 import static com.skapp.support.TestConstants.MESSAGE_PATH;
 import static com.skapp.support.TestConstants.RESULTS_0_PATH;
 import static com.skapp.support.TestConstants.STATUS_PATH;
 import static com.skapp.support.TestConstants.STATUS_SUCCESSFUL;
 import static com.skapp.support.TestConstants.STATUS_UNSUCCESSFUL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -57,6 +64,8 @@ class LeaveControllerIntegrationTest {
 
 	private final MessageUtil messageUtil;
 
+	private final EntityManager entityManager;
+
 	private String authToken;
 
 	@BeforeEach
@@ -127,4 +136,42 @@ class LeaveControllerIntegrationTest {
 
 	}
 
+	@Nested
+	@DisplayName("Resource Availability Calendar Tests")
+	class ResourceAvailabilityCalendarTests {
+
+		private ResultActions performCalendarRequest(LocalDate startDate, LocalDate endDate) throws Exception {
+			return performRequest(
+					get(BASE_PATH + "/resource-availability-calender").param("startDate", startDate.toString())
+						.param("endDate", endDate.toString())
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk());
+		}
+
+		private long countCalendarQueries(Statistics statistics, LocalDate startDate, LocalDate endDate)
+				throws Exception {
+			statistics.clear();
+			performCalendarRequest(startDate, endDate);
+			return statistics.getPrepareStatementCount();
+		}
+
+		@Test
+		@DisplayName("Get resource availability calendar - Query count does not grow with the date range")
+		void getResourceAvailabilityCalendar_LongerRange_RunsSameNumberOfQueries() throws Exception {
+			performPostRequest(createFullDayLeaveRequest()).andExpect(status().isCreated());
+			LocalDate startDate = DateTimeUtils.getUtcLocalDate(DateTimeUtils.getCurrentYear(), 2, 2);
+			Statistics statistics = entityManager.getEntityManagerFactory()
+				.unwrap(SessionFactory.class)
+				.getStatistics();
+			statistics.setStatisticsEnabled(true);
+			performCalendarRequest(startDate, startDate.plusWeeks(12));
+
+			long weekQueries = countCalendarQueries(statistics, startDate, startDate.plusWeeks(1));
+			long quarterQueries = countCalendarQueries(statistics, startDate, startDate.plusWeeks(12));
+
+			assertEquals(weekQueries, quarterQueries);
+		}
+
+	}
+
 }
@@ -0,0 +1,83 @@
+package com.skapp.community.leaveplanner.repository;
+
+import com.skapp.TestSkappApplication;
+import com.skapp.community.common.repository.UserDao;
+import com.skapp.community.leaveplanner.model.LeaveEntitlement;
+import com.skapp.community.leaveplanner.model.LeaveType;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = TestSkappApplication.class)
+@Transactional
+@RequiredArgsConstructor
+@DisplayName("Leave Entitlement Repository Integration Tests")
+class LeaveEntitlementRepositoryImplIntegrationTest {
+
+	private final LeaveEntitlementDao leaveEntitlementDao;
+
+	private final LeaveTypeDao leaveTypeDao;
+
+	private final CarryForwardInfoDao carryForwardInfoDao;
+
+	private final UserDao userDao;
+
+	private final LocalDate leaveCycleEndDate = LocalDate.of(LocalDate.now().getYear(), 12, 31);
+
+	private Long casualLeaveTypeId;
+
+	private Long firstEmployeeId;
+
+	private Long secondEmployeeId;
+
+	@BeforeEach
+	void setup() {
+		casualLeaveTypeId = leaveTypeDao.findAll()
+			.stream()
+			.filter(leaveType -> leaveType.getName().equals("Casual"))
+			.map(LeaveType::getTypeId)
+			.findFirst()
+			.orElseThrow();
+		firstEmployeeId = userDao.findByEmail("user3@gmail.com").orElseThrow().getUserId();
+		secondEmployeeId = userDao.findByEmail("user4@gmail.com").orElseThrow().getUserId();
+	}
+
+	@Test
+	@DisplayName("Employees with forwarding entitlements are listed in order after the checkpoint")
+	void findEmployeeIdsWithForwardingEntitlements_AfterLastEmployee_ReturnsRemainingEmployees() {
+		List<Long> employeeIds = leaveEntitlementDao.findEmployeeIdsWithForwardingEntitlements(casualLeaveTypeId,
+				leaveCycleEndDate, null);
+		List<Long> remainingEmployeeIds = leaveEntitlementDao
+			.findEmployeeIdsWithForwardingEntitlements(casualLeaveTypeId, leaveCycleEndDate, firstEmployeeId);
+
+		assertEquals(List.of(firstEmployeeId, secondEmployeeId), employeeIds);
+		assertEquals(List.of(secondEmployeeId), remainingEmployeeIds);
+	}
+
+	@Test
+	@DisplayName("Forwarding entitlements and carry forward info of a chunk are read together")
+	void findForwardingLeaveEntitlements_EmployeeChunk_ReturnsEntitlementsOfChunk() {
+		List<Long> employeeIds = List.of(firstEmployeeId, secondEmployeeId);
+
+		List<LeaveEntitlement> leaveEntitlements = leaveEntitlementDao
+			.findForwardingLeaveEntitlements(casualLeaveTypeId, leaveCycleEndDate, employeeIds);
+
+		assertEquals(employeeIds,
+				leaveEntitlements.stream()
+					.map(leaveEntitlement -> leaveEntitlement.getEmployee().getEmployeeId())
+					.toList());
+		assertTrue(carryForwardInfoDao
+			.findByLeaveTypeIdAndCycleEndDateAndEmployeeIds(casualLeaveTypeId, leaveCycleEndDate, employeeIds)
+			.isEmpty());
+	}
+
+}
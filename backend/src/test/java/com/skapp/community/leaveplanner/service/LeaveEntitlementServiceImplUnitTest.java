@@ -0,0 +1,221 @@
+package com.skapp.community.leaveplanner.service;
+
+import com.skapp.community.common.repository.UserDao;
+import com.skapp.community.common.service.BulkContextService;
+import com.skapp.community.common.service.BulkExecutionService;
+import com.skapp.community.common.service.UserService;
+import com.skapp.community.common.util.DateTimeUtils;
+import com.skapp.community.common.util.MessageUtil;
+import com.skapp.community.common.util.transformer.PageTransformer;
+import com.skapp.community.leaveplanner.mapper.LeaveMapper;
+import com.skapp.community.leaveplanner.model.CarryForwardJob;
+import com.skapp.community.leaveplanner.model.LeaveType;
+import com.skapp.community.leaveplanner.payload.LeaveCycleDetailsDto;
+import com.skapp.community.leaveplanner.repository.CarryForwardInfoDao;
+import com.skapp.community.leaveplanner.repository.CarryForwardJobDao;
+import com.skapp.community.leaveplanner.repository.LeaveEntitlementDao;
+import com.skapp.community.leaveplanner.repository.LeaveTypeDao;
+import com.skapp.community.leaveplanner.service.impl.LeaveEntitlementServiceImpl;
+import com.skapp.community.leaveplanner.type.CarryForwardJobStatus;
+import com.skapp.community.peopleplanner.mapper.PeopleMapper;
+import com.skapp.community.peopleplanner.repository.EmployeeDao;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LeaveEntitlementServiceImpl Unit Tests")
+class LeaveEntitlementServiceImplUnitTest {
+
+	private static final String LEAVE_TYPE_IDS = "1";
+
+	private final LocalDate leaveCycleEndDate = LocalDate.of(DateTimeUtils.getCurrentYear(), 12, 31);
+
+	private final int cycleStartYear = DateTimeUtils.getCurrentYear() + 1;
+
+	private LeaveEntitlementServiceImpl leaveEntitlementService;
+
+	@Mock
+	private MessageUtil messageUtil;
+
+	@Mock
+	private EmployeeDao employeeDao;
+
+	@Mock
+	private LeaveCycleService leaveCycleService;
+
+	@Mock
+	private LeaveTypeDao leaveTypeDao;
+
+	@Mock
+	private LeaveEntitlementDao leaveEntitlementDao;
+
+	@Mock
+	private LeaveMapper leaveMapper;
+
+	@Mock
+	private PeopleMapper peopleMapper;
+
+	@Mock
+	private CarryForwardInfoDao carryForwardInfoDao;
+
+	@Mock
+	private PageTransformer pageTransformer;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private UserDao userDao;
+
+	@Mock
+	private UserService userService;
+
+	@Mock
+	private LeaveEmailService leaveEmailService;
+
+	@Mock
+	private LeaveNotificationService leaveNotificationService;
+
+	@Mock
+	private BulkExecutionService bulkExecutionService;
+
+	@Mock
+	private BulkContextService bulkContextService;
+
+	@Mock
+	private CarryForwardJobDao carryForwardJobDao;
+
+	@BeforeEach
+	void setup() {
+		leaveEntitlementService = new LeaveEntitlementServiceImpl(messageUtil, employeeDao, leaveCycleService,
+				leaveTypeDao, leaveEntitlementDao, leaveMapper, peopleMapper, carryForwardInfoDao, pageTransformer,
+				transactionManager, userDao, userService, leaveEmailService, leaveNotificationService,
+				bulkExecutionService, bulkContextService, carryForwardJobDao);
+		when(leaveCycleService.isInNextCycle(cycleStartYear)).thenReturn(true);
+	}
+
+	@AfterEach
+	void tearDown() {
+		leaveEntitlementService.shutdownCarryForwardExecutor();
+	}
+
+	@Test
+	@DisplayName("A failed job resumes after its checkpoint and checkpoints every chunk")
+	void forceCarryForwardEntitlements_FailedJob_ResumesAfterCheckpoint() {
+		CarryForwardJob carryForwardJob = getCarryForwardJob(CarryForwardJobStatus.FAILED, 150L);
+		List<String> checkpoints = new CopyOnWriteArrayList<>();
+
+		when(carryForwardJobDao.findByLeaveTypeIdsAndCycleStartYear(LEAVE_TYPE_IDS, cycleStartYear))
+			.thenReturn(Optional.of(carryForwardJob));
+		when(carryForwardJobDao.saveAndFlush(carryForwardJob)).thenAnswer(invocation -> {
+			carryForwardJob.setVersion(carryForwardJob.getVersion() + 1);
+			return carryForwardJob;
+		});
+		when(carryForwardJobDao.findById(1L)).thenReturn(Optional.of(carryForwardJob));
+		when(carryForwardJobDao.save(carryForwardJob)).thenAnswer(invocation -> {
+			checkpoints.add(carryForwardJob.getStatus() + ":" + carryForwardJob.getLastEmployeeId() + ":"
+					+ carryForwardJob.getProcessedEmployees());
+			return carryForwardJob;
+		});
+		when(leaveCycleService.getLeaveCycleConfigs()).thenReturn(getLeaveCycleDetails());
+		when(leaveTypeDao.getLeaveTypesByCarryForwardEnable(true, List.of(1L))).thenReturn(List.of(getLeaveType()));
+		when(leaveEntitlementDao.findEmployeeIdsWithForwardingEntitlements(1L, leaveCycleEndDate, 150L))
+			.thenReturn(LongStream.rangeClosed(151, 400).boxed().toList());
+
+		leaveEntitlementService.forceCarryForwardEntitlements(List.of(1L), cycleStartYear);
+
+		verify(carryForwardJobDao, timeout(5000).times(5)).save(carryForwardJob);
+		assertEquals(List.of("RUNNING:150:150", "RUNNING:250:250", "RUNNING:350:350", "RUNNING:400:400",
+				"COMPLETED:400:400"), checkpoints);
+		verify(leaveEntitlementDao, never()).findEmployeeIdsWithForwardingEntitlements(any(), any(), isNull());
+		verify(leaveEntitlementDao, times(3)).findForwardingLeaveEntitlements(eq(1L), eq(leaveCycleEndDate), anyList());
+	}
+
+	@Test
+	@DisplayName("A job queued recently by another instance is not queued again")
+	void forceCarryForwardEntitlements_RecentlyQueuedJob_ReturnsExistingJob() {
+		CarryForwardJob carryForwardJob = getCarryForwardJob(CarryForwardJobStatus.PENDING, null);
+		carryForwardJob.setLastModifiedDate(LocalDateTime.now());
+
+		when(carryForwardJobDao.findByLeaveTypeIdsAndCycleStartYear(LEAVE_TYPE_IDS, cycleStartYear))
+			.thenReturn(Optional.of(carryForwardJob));
+
+		leaveEntitlementService.forceCarryForwardEntitlements(List.of(1L), cycleStartYear);
+
+		verify(carryForwardJobDao, never()).saveAndFlush(any());
+		verify(carryForwardJobDao, never()).findById(any());
+	}
+
+	@Test
+	@DisplayName("A job claimed concurrently by another request is not run twice")
+	void forceCarryForwardEntitlements_JobClaimedConcurrently_DoesNotRunJob() {
+		CarryForwardJob carryForwardJob = getCarryForwardJob(CarryForwardJobStatus.FAILED, 150L);
+		CarryForwardJob claimedJob = getCarryForwardJob(CarryForwardJobStatus.PENDING, 150L);
+
+		when(carryForwardJobDao.findByLeaveTypeIdsAndCycleStartYear(LEAVE_TYPE_IDS, cycleStartYear))
+			.thenReturn(Optional.of(carryForwardJob))
+			.thenReturn(Optional.of(claimedJob));
+		when(carryForwardJobDao.saveAndFlush(carryForwardJob))
+			.thenThrow(new ObjectOptimisticLockingFailureException(CarryForwardJob.class, 1L));
+
+		leaveEntitlementService.forceCarryForwardEntitlements(List.of(1L), cycleStartYear);
+
+		verify(leaveMapper).carryForwardJobToCarryForwardJobResponseDto(claimedJob);
+		verify(carryForwardJobDao, never()).findById(any());
+	}
+
+	private CarryForwardJob getCarryForwardJob(CarryForwardJobStatus status, Long lastEmployeeId) {
+		CarryForwardJob carryForwardJob = new CarryForwardJob();
+		carryForwardJob.setJobId(1L);
+		carryForwardJob.setLeaveTypeIds(LEAVE_TYPE_IDS);
+		carryForwardJob.setCycleStartYear(cycleStartYear);
+		carryForwardJob.setStatus(status);
+		carryForwardJob.setVersion(3L);
+		if (lastEmployeeId != null) {
+			carryForwardJob.setLastLeaveTypeId(1L);
+			carryForwardJob.setLastEmployeeId(lastEmployeeId);
+			carryForwardJob.setProcessedEmployees(lastEmployeeId.intValue());
+			carryForwardJob.setTotalEmployees(400);
+		}
+		return carryForwardJob;
+	}
+
+	private LeaveType getLeaveType() {
+		LeaveType leaveType = new LeaveType();
+		leaveType.setTypeId(1L);
+		return leaveType;
+	}
+
+	private LeaveCycleDetailsDto getLeaveCycleDetails() {
+		LeaveCycleDetailsDto leaveCycleDetails = new LeaveCycleDetailsDto();
+		leaveCycleDetails.setStartMonth(1);
+		leaveCycleDetails.setStartDate(1);
+		return leaveCycleDetails;
+	}
+
+}
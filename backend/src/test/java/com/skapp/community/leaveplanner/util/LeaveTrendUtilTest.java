@@ -0,0 +1,102 @@
+package com.skapp.community.leaveplanner.util;
+
+import com.skapp.community.leaveplanner.repository.projection.LeaveTrendByDay;
+import com.skapp.community.leaveplanner.repository.projection.LeaveTrendByMonth;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("LeaveTrendUtil Unit Tests")
+class LeaveTrendUtilTest {
+
+	private static final List<Integer> WEEKDAYS = List.of(1, 2, 3, 4, 5);
+
+	@Test
+	@DisplayName("Overlapping requests of the same employee are counted once per day")
+	void countEmployeesAwayByDay_OverlappingRequests_CountsDistinctEmployees() {
+		LocalDate monday = LocalDate.of(2025, 3, 3);
+		List<LeaveTrendUtil.LeavePeriod> periods = List.of(
+				new LeaveTrendUtil.LeavePeriod(1L, monday, monday.plusDays(2)),
+				new LeaveTrendUtil.LeavePeriod(1L, monday.plusDays(1), monday.plusDays(3)),
+				new LeaveTrendUtil.LeavePeriod(2L, monday.plusDays(2), monday.plusDays(2)));
+
+		List<LeaveTrendByDay> result = LeaveTrendUtil.countEmployeesAwayByDay(periods, monday, monday.plusDays(6),
+				WEEKDAYS, List.of(monday.plusDays(3)));
+
+		assertEquals(4, result.size());
+		assertEquals(List.of(1, 1, 2, 0), result.stream().map(LeaveTrendByDay::getEmployeeCount).toList());
+		assertEquals(monday.plusDays(4), result.getLast().getLeaveDate());
+	}
+
+	@Test
+	@DisplayName("Employee on leave only over non-working days is not counted for the month")
+	void countEmployeesAwayByMonth_LeaveOnWeekendOnly_NotCounted() {
+		LocalDate saturday = LocalDate.of(2025, 3, 1);
+		List<LeaveTrendUtil.LeavePeriod> periods = List.of(
+				new LeaveTrendUtil.LeavePeriod(1L, saturday, saturday.plusDays(1)),
+				new LeaveTrendUtil.LeavePeriod(2L, saturday, saturday.plusDays(2)));
+
+		List<LeaveTrendByMonth> result = LeaveTrendUtil.countEmployeesAwayByMonth(periods, saturday,
+				LocalDate.of(2025, 4, 30), WEEKDAYS, List.of());
+
+		assertEquals(2, result.size());
+		assertEquals(3, result.getFirst().getKeyValue());
+		assertEquals(1, result.getFirst().getEmployeeCount());
+		assertEquals(0, result.getLast().getEmployeeCount());
+	}
+
+	@Test
+	@DisplayName("Sweep results match the per-date evaluation over a full leave cycle")
+	void countEmployeesAway_RandomLeaveCycle_MatchesPerDateEvaluation() {
+		Random random = new Random(42);
+		LocalDate startDate = LocalDate.of(2025, 1, 1);
+		LocalDate endDate = LocalDate.of(2025, 12, 31);
+		List<LocalDate> holidays = List.of(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 4, 18),
+				LocalDate.of(2025, 12, 25));
+
+		List<LeaveTrendUtil.LeavePeriod> periods = new ArrayList<>();
+		for (int i = 0; i < 3000; i++) {
+			LocalDate from = startDate.minusDays(10).plusDays(random.nextInt(385));
+			periods.add(new LeaveTrendUtil.LeavePeriod((long) random.nextInt(500), from,
+					from.plusDays(random.nextInt(10))));
+		}
+
+		Map<LocalDate, Set<Long>> expectedByDay = new TreeMap<>();
+		Map<Integer, Set<Long>> expectedByMonth = new TreeMap<>();
+		startDate.datesUntil(endDate.plusDays(1))
+			.filter(date -> WEEKDAYS.contains(date.getDayOfWeek().getValue() % 7) && !holidays.contains(date))
+			.forEach(date -> {
+				Set<Long> employees = new HashSet<>();
+				periods.stream()
+					.filter(period -> !period.startDate().isAfter(date) && !period.endDate().isBefore(date))
+					.forEach(period -> employees.add(period.employeeId()));
+				expectedByDay.put(date, employees);
+				expectedByMonth.computeIfAbsent(date.getMonthValue(), k -> new HashSet<>()).addAll(employees);
+			});
+
+		List<LeaveTrendByDay> byDay = LeaveTrendUtil.countEmployeesAwayByDay(periods, startDate, endDate, WEEKDAYS,
+				holidays);
+		assertEquals(expectedByDay.size(), byDay.size());
+		for (LeaveTrendByDay trend : byDay) {
+			assertEquals(expectedByDay.get(trend.getLeaveDate()).size(), trend.getEmployeeCount());
+		}
+
+		List<LeaveTrendByMonth> byMonth = LeaveTrendUtil.countEmployeesAwayByMonth(periods, startDate, endDate,
+				WEEKDAYS, holidays);
+		assertEquals(expectedByMonth.size(), byMonth.size());
+		for (LeaveTrendByMonth trend : byMonth) {
+			assertEquals(expectedByMonth.get(trend.getKeyValue()).size(), trend.getEmployeeCount());
+		}
+	}
+
+}
@@ -4,6 +4,8 @@ import com.skapp.community.common.security.AuthorityService;
 import com.skapp.community.common.service.JwtService;
 import com.skapp.community.common.util.DateTimeUtils;
 import com.skapp.community.common.util.MessageUtil;
+import com.skapp.community.leaveplanner.model.LeaveRequest;
+import com.skapp.community.leaveplanner.type.LeaveRequestStatus;
 import com.skapp.community.peopleplanner.constant.PeopleMessageConstant;
 import com.skapp.community.peopleplanner.payload.request.HolidayBulkRequestDto;
 import com.skapp.community.peopleplanner.payload.request.HolidayRequestDto;
@@ -11,6 +13,7 @@ import com.skapp.community.peopleplanner.payload.request.HolidaysDeleteRequestDt
 import com.skapp.support.MockUserFactory;
 import com.skapp.support.SecurityTestUtils;
 import com.skapp.TestSkappApplication;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -28,6 +31,7 @@ import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import tools.jackson.databind.json.JsonMapper;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -35,6 +39,8 @@ import static com.skapp.support.TestConstants.MESSAGE_PATH;
 import static com.skapp.support.TestConstants.RESULTS_0_PATH;
 import static com.skapp.support.TestConstants.STATUS_PATH;
 import static com.skapp.support.TestConstants.STATUS_SUCCESSFUL;
+import static com.skapp.support.TestConstants.STATUS_UNSUCCESSFUL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -65,6 +71,8 @@ class HolidayControllerIntegrationTest {
 
 	private final MessageUtil messageUtil;
 
+	private final EntityManager entityManager;
+
 	private String authToken;
 
 	@BeforeEach
@@ -171,6 +179,54 @@ class HolidayControllerIntegrationTest {
 				.andExpect(jsonPath(RESULTS_0_PATH + "['bulkStatusSummary']['failedCount']").value(0));
 		}
 
+		@Test
+		@DisplayName("Save bulk holidays over existing leaves - Cancels and shortens the leaves")
+		void saveBulkHolidays_OverExistingLeaves_UpdatesLeaves() throws Exception {
+			int currentYear = DateTimeUtils.getCurrentYear();
+			long singleDayLeaveId = insertLeaveRequest(2L, currentYear + "-11-24", currentYear + "-11-24", "PENDING",
+					1);
+			long multipleDayLeaveId = insertLeaveRequest(3L, currentYear + "-11-23", currentYear + "-11-27", "APPROVED",
+					5);
+
+			HolidayBulkRequestDto holidayBulkRequestDto = new HolidayBulkRequestDto();
+			holidayBulkRequestDto.setYear(currentYear);
+			holidayBulkRequestDto
+				.setHolidayDtoList(List.of(createHolidayDto(currentYear + "-11-24", "Thanksgiving Day"),
+						createHolidayDto(currentYear + "-11-25", "Founders Day"), createHolidayDto("invalid", "Day")));
+
+			performPostRequest(holidayBulkRequestDto).andDo(print())
+				.andExpect(status().isCreated())
+				.andExpect(jsonPath(RESULTS_0_PATH + "['bulkStatusSummary']['successCount']").value(2))
+				.andExpect(jsonPath(RESULTS_0_PATH + "['bulkStatusSummary']['failedCount']").value(1));
+
+			entityManager.flush();
+			entityManager.clear();
+			LeaveRequest singleDayLeave = entityManager.find(LeaveRequest.class, singleDayLeaveId);
+			LeaveRequest multipleDayLeave = entityManager.find(LeaveRequest.class, multipleDayLeaveId);
+			assertEquals(LeaveRequestStatus.CANCELLED, singleDayLeave.getStatus());
+			assertEquals(LeaveRequestStatus.APPROVED, multipleDayLeave.getStatus());
+			assertEquals(3, multipleDayLeave.getDurationDays());
+		}
+
+		private long insertLeaveRequest(long employeeId, String startDate, String endDate, String status,
+				int durationDays) {
+			entityManager
+				.createNativeQuery(
+						"""
+								INSERT INTO leave_request (start_date, end_date, leave_state, status, employee_id, type_id,
+								duration_days, is_viewed, is_auto_approved)
+								VALUES (?, ?, 'FULLDAY', ?, ?, (SELECT type_id FROM leave_type WHERE name = 'Study'), ?, false, false)
+								""")
+				.setParameter(1, LocalDate.parse(startDate))
+				.setParameter(2, LocalDate.parse(endDate))
+				.setParameter(3, status)
+				.setParameter(4, employeeId)
+				.setParameter(5, durationDays)
+				.executeUpdate();
+			return ((Number) entityManager.createNativeQuery("SELECT MAX(leave_req_id) FROM leave_request")
+				.getSingleResult()).longValue();
+		}
+
 	}
 
 	@Nested
@@ -191,6 +247,41 @@ class HolidayControllerIntegrationTest {
 					.value(messageUtil.getMessage(PeopleMessageConstant.PEOPLE_SUCCESS_DELETE_SELECTED_HOLIDAYS)));
 		}
 
+		@Test
+		@DisplayName("Delete selected holidays with missing holidays - Deletes the rest and reports failures")
+		void deleteSelectedHolidays_WithMissingHolidays_ReportsEachFailure() throws Exception {
+			HolidaysDeleteRequestDto holidaysDeleteRequestDto = new HolidaysDeleteRequestDto();
+			holidaysDeleteRequestDto.setHolidayIds(List.of(7L, 999L, 3L));
+
+			performDeleteRequest(holidaysDeleteRequestDto).andDo(print())
+				.andExpect(status().isOk())
+				.andExpect(jsonPath(STATUS_PATH).value(STATUS_SUCCESSFUL))
+				.andExpect(jsonPath(RESULTS_0_PATH + MESSAGE_PATH).value(messageUtil
+					.getMessage(PeopleMessageConstant.PEOPLE_SUCCESS_SELECTED_HOLIDAYS_PARTIALLY_DELETED)))
+				.andExpect(jsonPath(RESULTS_0_PATH + "['bulkStatusSummary']['successCount']").value(1))
+				.andExpect(jsonPath(RESULTS_0_PATH + "['bulkStatusSummary']['failedCount']").value(2))
+				.andExpect(jsonPath(RESULTS_0_PATH + "['bulkRecordErrorLogs'][0]['holidayId']").value(999))
+				.andExpect(jsonPath(RESULTS_0_PATH + "['bulkRecordErrorLogs'][1]['holidayId']").value(3));
+
+			assertEquals(false,
+					entityManager.createNativeQuery("SELECT is_active FROM holiday WHERE id = 7").getSingleResult());
+			assertEquals("1", entityManager.createNativeQuery("SELECT last_modified_by FROM holiday WHERE id = 7")
+				.getSingleResult());
+		}
+
+		@Test
+		@DisplayName("Delete selected holidays when none can be deleted - Returns the first error")
+		void deleteSelectedHolidays_NoneDeletable_ReturnsError() throws Exception {
+			HolidaysDeleteRequestDto holidaysDeleteRequestDto = new HolidaysDeleteRequestDto();
+			holidaysDeleteRequestDto.setHolidayIds(List.of(999L, 3L));
+
+			performDeleteRequest(holidaysDeleteRequestDto).andDo(print())
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath(STATUS_PATH).value(STATUS_UNSUCCESSFUL))
+				.andExpect(jsonPath(RESULTS_0_PATH + MESSAGE_PATH).value(messageUtil.getMessage(
+						PeopleMessageConstant.PEOPLE_ERROR_SPECIFIC_HOLIDAY_NOT_FOUND, new String[] { "999" })));
+		}
+
 		@Test
 		@DisplayName("Delete all holidays - Returns OK")
 		void deleteAllHolidays_ReturnsSuccessful() throws Exception {
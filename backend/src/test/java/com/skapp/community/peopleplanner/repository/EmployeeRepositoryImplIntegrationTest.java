@@ -0,0 +1,106 @@
+package com.skapp.community.peopleplanner.repository;
+
+import com.skapp.TestSkappApplication;
+import com.skapp.community.peopleplanner.model.Employee;
+import com.skapp.community.peopleplanner.payload.request.EmployeeExportFilterDto;
+import com.skapp.community.peopleplanner.payload.request.EmployeeFilterDto;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = TestSkappApplication.class)
+@Transactional
+@RequiredArgsConstructor
+@DisplayName("Employee Repository Integration Tests")
+class EmployeeRepositoryImplIntegrationTest {
+
+	private final EmployeeDao employeeDao;
+
+	private final EntityManager entityManager;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setup() {
+		statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+
+		entityManager.createNativeQuery("UPDATE employee_role SET pm_role = 'PM_EMPLOYEE'").executeUpdate();
+	}
+
+	@Test
+	@DisplayName("Counting the matching employees does not load them")
+	void findEmployees_FirstPage_LoadsOnlyPageRows() {
+		long totalEmployees = employeeDao
+			.findEmployees(new EmployeeFilterDto(), PageRequest.of(0, 1000, Sort.by("firstName")))
+			.getNumberOfElements();
+		entityManager.clear();
+		statistics.clear();
+
+		Page<Employee> page = employeeDao.findEmployees(new EmployeeFilterDto(),
+				PageRequest.of(0, 1, Sort.by("firstName")));
+
+		assertEquals(1, statistics.getEntityStatistics(Employee.class.getName()).getLoadCount());
+		assertTrue(totalEmployees > 1);
+		assertEquals(totalEmployees, page.getTotalElements());
+		assertEquals(1, page.getNumberOfElements());
+	}
+
+	@Test
+	@DisplayName("A page past the last row skips the page query")
+	void findEmployees_PagePastLastRow_RunsCountQueryOnly() {
+		statistics.clear();
+
+		Page<Employee> page = employeeDao.findEmployees(new EmployeeFilterDto(),
+				PageRequest.of(1000, 10, Sort.by("firstName")));
+
+		assertEquals(1, statistics.getPrepareStatementCount());
+		assertTrue(page.getContent().isEmpty());
+	}
+
+	@Test
+	@DisplayName("Streaming the export reads every employee in batches with loaded associations")
+	void streamEmployeesForExport_SmallBatches_ReadsAllEmployees() {
+		Set<Long> exportedIds = employeeDao.findEmployeesForExport(new EmployeeExportFilterDto())
+			.stream()
+			.map(Employee::getEmployeeId)
+			.collect(Collectors.toSet());
+		entityManager.clear();
+
+		Set<Long> streamedIds = new HashSet<>();
+		List<Integer> batchSizes = new ArrayList<>();
+		employeeDao.streamEmployeesForExport(new EmployeeExportFilterDto(), 2, employees -> {
+			batchSizes.add(employees.size());
+			employees.forEach(employee -> {
+				assertTrue(Hibernate.isInitialized(employee.getEmployeeManagers()));
+				assertTrue(Hibernate.isInitialized(employee.getEmployeeEmergencies()));
+				streamedIds.add(employee.getEmployeeId());
+			});
+		});
+
+		assertTrue(exportedIds.size() > 2);
+		assertEquals(exportedIds, streamedIds);
+		assertTrue(batchSizes.stream().allMatch(batchSize -> batchSize <= 2));
+		assertEquals((exportedIds.size() + 1) / 2, batchSizes.size());
+	}
+
+}
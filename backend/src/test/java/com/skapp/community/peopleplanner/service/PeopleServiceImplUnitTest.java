@@ -0,0 +1,197 @@
+package com.skapp.community.peopleplanner.service;
+
+import com.skapp.community.common.model.User;
+import com.skapp.community.common.payload.response.ResponseEntityDto;
+import com.skapp.community.common.repository.UserDao;
+import com.skapp.community.common.service.BulkExecutionService;
+import com.skapp.community.common.service.UserService;
+import com.skapp.community.common.service.impl.AsyncEmailServiceImpl;
+import com.skapp.community.common.type.LoginMethod;
+import com.skapp.community.common.util.MessageUtil;
+import com.skapp.community.peopleplanner.mapper.PeopleMapper;
+import com.skapp.community.peopleplanner.model.Employee;
+import com.skapp.community.peopleplanner.model.EmployeeRole;
+import com.skapp.community.peopleplanner.payload.request.EmployeeBulkDto;
+import com.skapp.community.peopleplanner.payload.request.EmployeeBulkPersonalInfoDto;
+import com.skapp.community.peopleplanner.payload.request.EmployeeDetailsDto;
+import com.skapp.community.peopleplanner.payload.response.EmployeeBulkErrorResponseDto;
+import com.skapp.community.peopleplanner.payload.response.EmployeeBulkResponseDto;
+import com.skapp.community.peopleplanner.repository.EmployeeDao;
+import com.skapp.community.peopleplanner.service.impl.PeopleServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PeopleServiceImpl Unit Tests")
+class PeopleServiceImplUnitTest {
+
+	@InjectMocks
+	private PeopleServiceImpl peopleService;
+
+	@Mock
+	private UserService userService;
+
+	@Mock
+	private MessageUtil messageUtil;
+
+	@Mock
+	private PeopleMapper peopleMapper;
+
+	@Mock
+	private UserDao userDao;
+
+	@Mock
+	private EmployeeDao employeeDao;
+
+	@Mock
+	private RolesService rolesService;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private BulkExecutionService bulkExecutionService;
+
+	@Mock
+	private AsyncEmailServiceImpl asyncEmailServiceImpl;
+
+	@Mock
+	private ApplicationEventPublisher applicationEventPublisher;
+
+	@Spy
+	private JsonMapper mapper = JsonMapper.builder().build();
+
+	private final AtomicLong employeeIds = new AtomicLong();
+
+	private final List<String> savedEmails = new ArrayList<>();
+
+	@BeforeEach
+	void setup() {
+		User currentUser = new User();
+		currentUser.setUserId(1L);
+		currentUser.setLoginMethod(LoginMethod.GOOGLE);
+		when(userService.getCurrentUser()).thenReturn(currentUser);
+		when(userDao.findById(1L)).thenReturn(Optional.of(currentUser));
+
+		doAnswer(invocation -> {
+			Collection<Object> items = invocation.getArgument(1);
+			Consumer<Object> task = invocation.getArgument(2);
+			items.forEach(task);
+			return null;
+		}).when(bulkExecutionService).execute(anyString(), any(), any());
+
+		lenient().when(peopleMapper.employeeBulkDtoToEmployee(any())).thenAnswer(invocation -> {
+			Employee employee = new Employee();
+			User user = new User();
+			employee.setUser(user);
+			user.setEmployee(employee);
+			return employee;
+		});
+		lenient().when(peopleMapper.employeeBulkDtoToEmployeeDetailsDto(any()))
+			.thenAnswer(invocation -> new EmployeeDetailsDto());
+		lenient().when(rolesService.setupBulkEmployeeRoles(any())).thenAnswer(invocation -> {
+			EmployeeRole employeeRole = new EmployeeRole();
+			employeeRole.setIsSuperAdmin(false);
+			return employeeRole;
+		});
+		lenient().when(userDao.save(any())).thenAnswer(invocation -> {
+			User user = invocation.getArgument(0);
+			if (user.getEmail().startsWith("failing")) {
+				throw new IllegalStateException("Unable to save " + user.getEmail());
+			}
+			user.setUserId(employeeIds.incrementAndGet());
+			savedEmails.add(user.getEmail());
+			return user;
+		});
+		lenient().when(employeeDao.findEmployeeByEmployeeIdAndUserActiveNot(anyLong(), eq(false)))
+			.thenAnswer(invocation -> {
+				Employee manager = new Employee();
+				manager.setEmployeeId(invocation.getArgument(0));
+				return Optional.of(manager);
+			});
+	}
+
+	@Test
+	@DisplayName("A failing chunk is retried row by row while the other chunks commit once")
+	void addBulkEmployees_FailingChunk_RetriesOnlyThatChunk() {
+		List<EmployeeBulkDto> employeeBulkDtoList = new ArrayList<>(IntStream.range(0, 150)
+			.mapToObj(index -> getEmployeeBulkDto("employee" + index + "@example.com", null))
+			.toList());
+		employeeBulkDtoList.set(120, getEmployeeBulkDto("failing@example.com", null));
+
+		EmployeeBulkErrorResponseDto response = getBulkResponse(peopleService.addBulkEmployees(employeeBulkDtoList));
+
+		assertEquals(149, response.getBulkStatusSummary().getSuccessCount());
+		assertEquals(1, response.getBulkStatusSummary().getFailedCount());
+		assertEquals(List.of("failing@example.com"),
+				response.getBulkRecordErrorLogs().stream().map(EmployeeBulkResponseDto::getEmail).toList());
+		verify(transactionManager, times(50)).commit(any());
+		verify(transactionManager, times(2)).rollback(any());
+	}
+
+	@Test
+	@DisplayName("An employee whose supervisor is in the same upload is imported after the supervisor")
+	void addBulkEmployees_SupervisorInSameUpload_ImportsSupervisorFirst() {
+		EmployeeBulkDto brokenSupervisor = getEmployeeBulkDto("broken@example.com", null);
+		brokenSupervisor.setLastName(null);
+		List<EmployeeBulkDto> employeeBulkDtoList = List.of(
+				getEmployeeBulkDto("member@example.com", "Lead@Example.com"),
+				getEmployeeBulkDto("lead@example.com", "head@example.com"),
+				getEmployeeBulkDto("head@example.com", null), brokenSupervisor,
+				getEmployeeBulkDto("orphan@example.com", "broken@example.com"));
+
+		EmployeeBulkErrorResponseDto response = getBulkResponse(peopleService.addBulkEmployees(employeeBulkDtoList));
+
+		assertEquals(3, response.getBulkStatusSummary().getSuccessCount());
+		assertEquals(List.of("broken@example.com", "orphan@example.com"),
+				response.getBulkRecordErrorLogs().stream().map(EmployeeBulkResponseDto::getEmail).toList());
+		assertEquals(List.of("head@example.com", "lead@example.com", "member@example.com"), savedEmails);
+		verify(employeeDao).findEmployeeByEmployeeIdAndUserActiveNot(1L, false);
+		verify(employeeDao).findEmployeeByEmployeeIdAndUserActiveNot(2L, false);
+		verify(employeeDao, never()).findEmployeeByEmployeeIdAndUserActiveNot(3L, false);
+	}
+
+	private EmployeeBulkErrorResponseDto getBulkResponse(ResponseEntityDto responseEntityDto) {
+		return (EmployeeBulkErrorResponseDto) responseEntityDto.getResults().getFirst();
+	}
+
+	private EmployeeBulkDto getEmployeeBulkDto(String workEmail, String primaryManager) {
+		EmployeeBulkDto employeeBulkDto = new EmployeeBulkDto();
+		employeeBulkDto.setWorkEmail(workEmail);
+		employeeBulkDto.setFirstName("First");
+		employeeBulkDto.setLastName("Last");
+		employeeBulkDto.setPrimaryManager(primaryManager);
+		employeeBulkDto.setEmployeePersonalInfo(new EmployeeBulkPersonalInfoDto());
+		return employeeBulkDto;
+	}
+
+}
@@ -5,11 +5,18 @@ import com.skapp.community.common.service.JwtService;
 import com.skapp.community.common.util.DateTimeUtils;
 import com.skapp.community.common.util.MessageUtil;
 import com.skapp.community.timeplanner.constant.TimeMessageConstant;
+import com.skapp.community.peopleplanner.model.EmployeeTeam;
+import com.skapp.community.peopleplanner.model.Team;
+import com.skapp.community.peopleplanner.repository.EmployeeDao;
+import com.skapp.community.peopleplanner.repository.EmployeeTeamDao;
+import com.skapp.community.peopleplanner.repository.TeamDao;
 import com.skapp.community.peopleplanner.type.RequestStatus;
 import com.skapp.community.peopleplanner.type.RequestType;
+import com.skapp.community.timeplanner.model.TimeRecord;
 import com.skapp.community.timeplanner.payload.request.AddTimeRecordDto;
 import com.skapp.community.timeplanner.payload.request.ManualEntryRequestDto;
 import com.skapp.community.timeplanner.payload.request.TimeRequestManagerPatchDto;
+import com.skapp.community.timeplanner.repository.TimeRecordDao;
 import com.skapp.community.timeplanner.type.TimeRecordActionTypes;
 import com.skapp.support.MockUserFactory;
 import com.skapp.support.SecurityTestUtils;
@@ -31,8 +38,11 @@ import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import tools.jackson.databind.json.JsonMapper;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.ZoneId;
+import java.util.List;
 
 import static com.skapp.support.TestConstants.MESSAGE_PATH;
 import static com.skapp.support.TestConstants.RESULTS_0_PATH;
@@ -40,6 +50,9 @@ import static com.skapp.support.TestConstants.RESULTS_PATH;
 import static com.skapp.support.TestConstants.STATUS_PATH;
 import static com.skapp.support.TestConstants.STATUS_SUCCESSFUL;
 import static com.skapp.support.TestConstants.STATUS_UNSUCCESSFUL;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -68,6 +81,14 @@ class TimeControllerIntegrationTest {
 
 	private final MessageUtil messageUtil;
 
+	private final TimeRecordDao timeRecordDao;
+
+	private final EmployeeDao employeeDao;
+
+	private final TeamDao teamDao;
+
+	private final EmployeeTeamDao employeeTeamDao;
+
 	private String authToken;
 
 	@BeforeEach
@@ -101,6 +122,21 @@ class TimeControllerIntegrationTest {
 			.accept(MediaType.APPLICATION_JSON));
 	}
 
+	private TimeRecord getTimeRecord(Long employeeId, LocalDate date, LocalTime clockInTime) {
+		TimeRecord timeRecord = new TimeRecord();
+		timeRecord.setEmployee(employeeDao.findById(employeeId).orElseThrow());
+		timeRecord.setDate(date);
+		timeRecord.setDay(date.getDayOfWeek());
+		timeRecord.setClockInTime(DateTimeUtils.localDateTimeToEpochMillis(date.atTime(clockInTime)));
+		return timeRecord;
+	}
+
+	private TimeRecord getTimeRecord(Long employeeId, LocalDate date, float workedHours) {
+		TimeRecord timeRecord = getTimeRecord(employeeId, date, LocalTime.of(9, 0));
+		timeRecord.setWorkedHours(workedHours);
+		return timeRecord;
+	}
+
 	@Nested
 	@DisplayName("Time Slot Tests")
 	class TimeSlotTests {
@@ -288,6 +324,88 @@ class TimeControllerIntegrationTest {
 					.value(messageUtil.getMessage(TimeMessageConstant.TIME_ERROR_START_DATE_END_DATE_NOT_VALID)));
 		}
 
+		@Test
+		@DisplayName("Team time record summary - Places each time record in its employee's row and date")
+		void managerTeamTimeRecordSummary_WithTeamMembers_PlacesRecordsByEmployeeAndDate() throws Exception {
+			int year = DateTimeUtils.getCurrentYear();
+			Team team = teamDao.findById(1L).orElseThrow();
+			EmployeeTeam employeeTeam = new EmployeeTeam();
+			employeeTeam.setTeam(team);
+			employeeTeam.setEmployee(employeeDao.findById(2L).orElseThrow());
+			employeeTeam.setIsSupervisor(false);
+			employeeTeamDao.save(employeeTeam);
+			timeRecordDao.saveAll(List.of(getTimeRecord(1L, LocalDate.of(year, 1, 20), 7.5f),
+					getTimeRecord(2L, LocalDate.of(year, 1, 8), 4f), getTimeRecord(2L, LocalDate.of(year, 1, 15), 6f)));
+
+			MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<>();
+			queryParams.add("startDate", String.valueOf(LocalDate.of(year, 1, 1)));
+			queryParams.add("endDate", String.valueOf(LocalDate.of(year, 1, 31)));
+			queryParams.add("teamId", "1");
+
+			String summariesPath = RESULTS_0_PATH + "['items']['employeeTimeRecordSummaries']";
+			String employeeOnePath = summariesPath + "[?(@.employee.employee.employeeId == 1)]";
+			String employeeTwoPath = summariesPath + "[?(@.employee.employee.employeeId == 2)]";
+
+			performGetRequestWithParams(queryParams).andDo(print())
+				.andExpect(status().isOk())
+				.andExpect(jsonPath(STATUS_PATH).value(STATUS_SUCCESSFUL))
+				.andExpect(jsonPath(summariesPath + ".length()").value(2))
+				.andExpect(jsonPath(employeeOnePath + ".timeRecords[*].date").value(contains(year + "-01-20")))
+				.andExpect(jsonPath(employeeOnePath + ".timeRecords[*].workedHours").value(contains(7.5)))
+				.andExpect(jsonPath(employeeTwoPath + ".timeRecords[*].date")
+					.value(contains(year + "-01-08", year + "-01-15")))
+				.andExpect(jsonPath(employeeTwoPath + ".timeRecords[*].workedHours").value(contains(4.0, 6.0)))
+				.andExpect(jsonPath(employeeTwoPath + ".timeRecords[0].leaveRequest").value(contains(notNullValue())))
+				.andExpect(jsonPath(employeeTwoPath + ".timeRecords[1].leaveRequest").value(contains(nullValue())));
+		}
+
+	}
+
+	@Nested
+	@DisplayName("Time Analytics Tests")
+	class TimeAnalyticsTests {
+
+		@Test
+		@DisplayName("Average hours worked trend for all teams - Returns a value for every day of the month")
+		void averageHoursWorkedTrend_WithAllTeams_ReturnsEveryDayOfMonth() throws Exception {
+			LocalDate today = DateTimeUtils.getCurrentUtcDate();
+			MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<>();
+			queryParams.add("month", today.getMonth().name());
+			queryParams.add("teams", "-1");
+
+			performRequest(get(BASE_PATH + "/analytics/average-hours-worked-trend").params(queryParams)
+				.accept(MediaType.APPLICATION_JSON)).andDo(print())
+				.andExpect(status().isOk())
+				.andExpect(jsonPath(STATUS_PATH).value(STATUS_SUCCESSFUL))
+				.andExpect(jsonPath(RESULTS_0_PATH + "['1st']").exists())
+				.andExpect(jsonPath(RESULTS_0_PATH + "['" + today.lengthOfMonth()
+						+ DateTimeUtils.getDayOfMonthSuffix(today.lengthOfMonth()) + "']")
+					.exists());
+		}
+
+		@Test
+		@DisplayName("Monthly late arrival trend for all teams - Counts late clock ins per month")
+		void lateArrivalTrend_WithAllTeams_CountsLateClockInsPerMonth() throws Exception {
+			int year = DateTimeUtils.getCurrentYear();
+			timeRecordDao.saveAll(List.of(getTimeRecord(1L, LocalDate.of(year, 1, 20), LocalTime.of(9, 0)),
+					getTimeRecord(1L, LocalDate.of(year, 1, 21), LocalTime.of(8, 0)),
+					getTimeRecord(2L, LocalDate.of(year, 1, 8), LocalTime.of(9, 0)),
+					getTimeRecord(1L, LocalDate.of(year, 3, 3), LocalTime.of(10, 0))));
+
+			MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<>();
+			queryParams.add("teams", "-1");
+			queryParams.add("trendPeriod", "MONTHLY");
+
+			performRequest(get(BASE_PATH + "/analytics/late-arrival-trend").params(queryParams)
+				.accept(MediaType.APPLICATION_JSON)).andDo(print())
+				.andExpect(status().isOk())
+				.andExpect(jsonPath(STATUS_PATH).value(STATUS_SUCCESSFUL))
+				.andExpect(jsonPath(RESULTS_0_PATH + "['Jan']").value(1))
+				.andExpect(jsonPath(RESULTS_0_PATH + "['Feb']").value(0))
+				.andExpect(jsonPath(RESULTS_0_PATH + "['Mar']").value(1))
+				.andExpect(jsonPath(RESULTS_0_PATH + "['Dec']").value(0));
+		}
+
 	}
 
 }
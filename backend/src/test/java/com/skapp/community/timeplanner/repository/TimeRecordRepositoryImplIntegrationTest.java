@@ -0,0 +1,77 @@
+package com.skapp.community.timeplanner.repository;
+
+import com.skapp.TestSkappApplication;
+import com.skapp.community.peopleplanner.model.Employee;
+import com.skapp.community.timeplanner.model.TimeRecord;
+import com.skapp.community.timeplanner.payload.projection.TimeRecordTrendDto;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(classes = TestSkappApplication.class)
+@Transactional
+@RequiredArgsConstructor
+@DisplayName("Time Record Repository Integration Tests")
+class TimeRecordRepositoryImplIntegrationTest {
+
+	private static final LocalDate DATE = LocalDate.of(2025, 3, 30);
+
+	private final TimeRecordDao timeRecordDao;
+
+	private final EntityManager entityManager;
+
+	@Test
+	@DisplayName("Clock ins around a daylight saving change are counted in local time slots")
+	void getEmployeeClockInTrend_DaylightSavingChange_UsesLocalSlots() {
+		saveTimeRecord("2025-03-30T00:45:00Z", "2025-03-30T08:10:00Z");
+		saveTimeRecord("2025-03-30T01:15:00Z", "2025-03-30T08:40:00Z");
+
+		Map<String, Integer> trend = toMap(timeRecordDao.getEmployeeClockInTrend(List.of(-1L), "Europe/London", DATE));
+
+		assertEquals(48, trend.size());
+		assertEquals(1, trend.get("00:30 - 01:00"));
+		assertEquals(0, trend.get("01:00 - 01:30"));
+		assertEquals(1, trend.get("02:00 - 02:30"));
+		assertEquals(2, trend.values().stream().mapToInt(Integer::intValue).sum());
+	}
+
+	@Test
+	@DisplayName("Clock outs in a quarter hour offset time zone are counted in local time slots")
+	void getEmployeeClockOutTrend_QuarterHourOffset_UsesLocalSlots() {
+		saveTimeRecord("2025-03-30T00:45:00Z", "2025-03-30T03:10:00Z");
+		saveTimeRecord("2025-03-30T01:15:00Z", "2025-03-30T03:20:00Z");
+
+		Map<String, Integer> trend = toMap(
+				timeRecordDao.getEmployeeClockOutTrend(List.of(-1L), "Asia/Kathmandu", DATE));
+
+		assertEquals(1, trend.get("08:30 - 09:00"));
+		assertEquals(1, trend.get("09:00 - 09:30"));
+		assertEquals(0, trend.get("23:30 - 00:00"));
+	}
+
+	private void saveTimeRecord(String clockIn, String clockOut) {
+		TimeRecord timeRecord = new TimeRecord();
+		timeRecord.setDate(DATE);
+		timeRecord.setDay(DATE.getDayOfWeek());
+		timeRecord.setClockInTime(Instant.parse(clockIn).toEpochMilli());
+		timeRecord.setClockOutTime(Instant.parse(clockOut).toEpochMilli());
+		timeRecord.setEmployee(entityManager.getReference(Employee.class, 1L));
+		timeRecordDao.saveAndFlush(timeRecord);
+	}
+
+	private Map<String, Integer> toMap(List<TimeRecordTrendDto> trend) {
+		return trend.stream().collect(Collectors.toMap(TimeRecordTrendDto::getSlot, TimeRecordTrendDto::getCount));
+	}
+
+}
@@ -0,0 +1,203 @@
+package com.skapp.community.timeplanner.service;
+
+import com.skapp.community.common.mapper.CommonMapper;
+import com.skapp.community.common.model.User;
+import com.skapp.community.common.payload.response.ResponseEntityDto;
+import com.skapp.community.common.service.OrganizationService;
+import com.skapp.community.common.service.OrganizationSnapshotService;
+import com.skapp.community.common.service.UserService;
+import com.skapp.community.common.util.DateTimeUtils;
+import com.skapp.community.common.util.OrganizationSnapshot;
+import com.skapp.community.leaveplanner.mapper.LeaveMapper;
+import com.skapp.community.leaveplanner.model.LeaveRequest;
+import com.skapp.community.leaveplanner.repository.LeaveRequestDao;
+import com.skapp.community.leaveplanner.type.LeaveRequestStatus;
+import com.skapp.community.leaveplanner.type.LeaveState;
+import com.skapp.community.peopleplanner.mapper.PeopleMapper;
+import com.skapp.community.peopleplanner.model.Employee;
+import com.skapp.community.peopleplanner.repository.EmployeeDao;
+import com.skapp.community.peopleplanner.repository.EmployeeTeamDao;
+import com.skapp.community.peopleplanner.repository.HolidayDao;
+import com.skapp.community.peopleplanner.repository.TeamDao;
+import com.skapp.community.peopleplanner.type.AccountStatus;
+import com.skapp.community.timeplanner.model.TimeConfig;
+import com.skapp.community.timeplanner.model.TimeRecord;
+import com.skapp.community.timeplanner.payload.request.ClockInSummaryFilterDto;
+import com.skapp.community.timeplanner.payload.response.ClockInSummaryResponseDto;
+import com.skapp.community.timeplanner.repository.TimeRecordDao;
+import com.skapp.community.timeplanner.service.impl.TimeAnalyticsServiceImpl;
+import com.skapp.community.timeplanner.type.AttendanceConfigType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimeAnalyticsServiceImpl Unit Tests")
+class TimeAnalyticsServiceImplUnitTest {
+
+	private TimeAnalyticsServiceImpl timeAnalyticsService;
+
+	@Mock
+	private TimeRecordDao timeRecordDao;
+
+	@Mock
+	private TeamDao teamDao;
+
+	@Mock
+	private UserService userService;
+
+	@Mock
+	private LeaveRequestDao leaveRequestDao;
+
+	@Mock
+	private EmployeeTeamDao employeeTeamDao;
+
+	@Mock
+	private EmployeeDao employeeDao;
+
+	@Mock
+	private HolidayDao holidayDao;
+
+	@Mock
+	private LeaveMapper leaveMapper;
+
+	@Mock
+	private CommonMapper commonMapper;
+
+	@Mock
+	private PeopleMapper peopleMapper;
+
+	@Mock
+	private TimeService timeService;
+
+	@Mock
+	private AttendanceConfigService attendanceConfigService;
+
+	@Mock
+	private OrganizationService organizationService;
+
+	@Mock
+	private OrganizationSnapshotService organizationSnapshotService;
+
+	@BeforeEach
+	void setup() {
+		timeAnalyticsService = new TimeAnalyticsServiceImpl(timeRecordDao, teamDao, userService, leaveRequestDao,
+				employeeTeamDao, employeeDao, holidayDao, leaveMapper, commonMapper, peopleMapper, timeService,
+				attendanceConfigService, organizationService, organizationSnapshotService);
+	}
+
+	@Test
+	@DisplayName("Clock in summary for a hundred employees loads each lookup once")
+	void clockInSummary_HundredEmployees_LoadsLookupsOnce() {
+		assertClockInSummaryLoadsLookupsOnce(100);
+	}
+
+	@Test
+	@DisplayName("Clock in summary for ten thousand employees loads each lookup once")
+	void clockInSummary_TenThousandEmployees_LoadsLookupsOnce() {
+		assertClockInSummaryLoadsLookupsOnce(10_000);
+	}
+
+	private void assertClockInSummaryLoadsLookupsOnce(int employeeCount) {
+		LocalDate date = DateTimeUtils.getCurrentUtcDate();
+		List<Employee> employees = new ArrayList<>();
+		List<TimeRecord> timeRecords = new ArrayList<>();
+		List<LeaveRequest> leaveRequests = new ArrayList<>();
+		for (long employeeId = 1; employeeId <= employeeCount; employeeId++) {
+			Employee employee = new Employee();
+			employee.setEmployeeId(employeeId);
+			employee.setAccountStatus(AccountStatus.ACTIVE);
+			employees.add(employee);
+
+			if (employeeId % 2 == 0) {
+				timeRecords.add(getTimeRecord(employee, date));
+			}
+			if (employeeId % 10 == 0) {
+				leaveRequests.add(getApprovedLeaveRequest(employee, date));
+			}
+		}
+
+		User currentUser = new User();
+		currentUser.setUserId(1L);
+		when(userService.getCurrentUser()).thenReturn(currentUser);
+		when(employeeTeamDao.getEmployeesByTeamIds(any(), anyList(), anyList(), eq(date), anyLong()))
+			.thenReturn(employees);
+		when(leaveRequestDao.findLeaveRequestsForEmployeesOnDate(anyList(), eq(date))).thenReturn(leaveRequests);
+		when(timeRecordDao.findAllByDateAndEmployeeEmployeeIdIn(eq(date), anyList())).thenReturn(timeRecords);
+		when(organizationSnapshotService.getOrganizationSnapshot())
+			.thenReturn(new OrganizationSnapshot("UTC", null, getTimeConfigs(), Map.of(), null));
+		when(attendanceConfigService.getAttendanceConfigByType(AttendanceConfigType.CLOCK_IN_ON_LEAVE_DAYS))
+			.thenReturn(false);
+		when(organizationService.getOrganizationTimeZone()).thenReturn("UTC");
+
+		ClockInSummaryFilterDto filterDto = new ClockInSummaryFilterDto();
+		filterDto.setDate(date);
+		ResponseEntityDto response = timeAnalyticsService.clockInSummary(filterDto);
+
+		List<?> results = response.getResults();
+		assertEquals(employeeCount - employeeCount / 10, results.size());
+		assertNotNull(((ClockInSummaryResponseDto) results.get(1)).getClockInTime());
+		verify(leaveRequestDao, times(1)).findLeaveRequestsForEmployeesOnDate(anyList(), eq(date));
+		verify(timeRecordDao, times(1)).findAllByDateAndEmployeeEmployeeIdIn(eq(date), anyList());
+		verify(organizationSnapshotService, times(1)).getOrganizationSnapshot();
+		verify(holidayDao, times(1)).findByIsActiveTrueAndDate(date);
+		verify(attendanceConfigService, times(1))
+			.getAttendanceConfigByType(AttendanceConfigType.CLOCK_IN_ON_LEAVE_DAYS);
+		verify(timeRecordDao, never()).findByDateAndEmployee(any(), any());
+		verify(leaveRequestDao, never()).findByEmployeeAndDate(anyLong(), any());
+	}
+
+	private TimeRecord getTimeRecord(Employee employee, LocalDate date) {
+		TimeRecord timeRecord = new TimeRecord();
+		timeRecord.setTimeRecordId(employee.getEmployeeId());
+		timeRecord.setEmployee(employee);
+		timeRecord.setDate(date);
+		timeRecord.setDay(date.getDayOfWeek());
+		timeRecord.setClockInTime(DateTimeUtils.localDateTimeToEpochMillis(date.atTime(10, 0)));
+		timeRecord.setWorkedHours(8);
+		return timeRecord;
+	}
+
+	private LeaveRequest getApprovedLeaveRequest(Employee employee, LocalDate date) {
+		LeaveRequest leaveRequest = new LeaveRequest();
+		leaveRequest.setEmployee(employee);
+		leaveRequest.setStartDate(date);
+		leaveRequest.setEndDate(date);
+		leaveRequest.setStatus(LeaveRequestStatus.APPROVED);
+		leaveRequest.setLeaveState(LeaveState.FULLDAY);
+		return leaveRequest;
+	}
+
+	private List<TimeConfig> getTimeConfigs() {
+		List<TimeConfig> timeConfigs = new ArrayList<>();
+		for (DayOfWeek day : DayOfWeek.values()) {
+			TimeConfig timeConfig = new TimeConfig();
+			timeConfig.setDay(day);
+			timeConfig.setStartHour(9);
+			timeConfig.setStartMinute(0);
+			timeConfigs.add(timeConfig);
+		}
+		return timeConfigs;
+	}
+
+}
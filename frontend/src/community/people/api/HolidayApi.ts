@@ -18,6 +18,7 @@ import {
   BulkHolidayUploadParams,
   Holiday,
   HolidayDataResponse,
+  holidayBulkDeleteResponse,
   holidayBulkUploadResponse,
   holidayIndividualAddParams
 } from "~community/people/types/HolidayTypes";
@@ -184,15 +185,15 @@ const deleteSelectHolidayRequest = async (
 };
 
 export const useDeleteSelectedHolidays = (
-  onSuccessSelected: () => void,
+  onSuccessSelected: (deleteSummary?: holidayBulkDeleteResponse) => void,
   onError: (error: string) => void
 ) => {
   const queryClient = useQueryClient();
 
   return useMutation({
     mutationFn: deleteSelectHolidayRequest,
-    onSuccess: () => {
-      onSuccessSelected();
+    onSuccess: (response) => {
+      onSuccessSelected(response?.data?.results?.[0]);
       queryClient
         .invalidateQueries({
           queryKey: holidayQueryKeys.DELETE_SELECTED_HOLIDAYS
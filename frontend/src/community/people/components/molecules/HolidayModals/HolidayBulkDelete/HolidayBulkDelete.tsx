@@ -11,7 +11,10 @@ import {
 } from "~community/people/api/HolidayApi";
 import { useHolidayMessages } from "~community/people/constants/configs";
 import { usePeopleStore } from "~community/people/store/store";
-import { HolidayDeleteType } from "~community/people/types/HolidayTypes";
+import {
+  HolidayDeleteType,
+  holidayBulkDeleteResponse
+} from "~community/people/types/HolidayTypes";
 
 interface Props {
   setIsPopupOpen: (status: boolean) => void;
@@ -52,6 +55,24 @@ const HolidayBulkDelete: FC<Props> = ({ setIsPopupOpen, type }) => {
     });
   }, [setIsPopupOpen, setToastMessage, translateText]);
 
+  const onPartialSuccess = useCallback(
+    (deleteSummary: holidayBulkDeleteResponse) => {
+      setIsPopupOpen(false);
+      setSelectedDeleteIds([]);
+      setToastMessage({
+        title: translateText(["selectedHolidayPartialDeleteTitle"]),
+        description: translateText(["selectedHolidayPartialDeleteDes"], {
+          successCount: deleteSummary.bulkStatusSummary.successCount,
+          failedCount: deleteSummary.bulkStatusSummary.failedCount
+        }),
+        isIcon: true,
+        toastType: "warn",
+        open: true
+      });
+    },
+    [setIsPopupOpen, setToastMessage, translateText]
+  );
+
   const onSuccessAll = useCallback(() => {
     setIsPopupOpen(false);
     setToastMessage({
@@ -119,10 +140,14 @@ const HolidayBulkDelete: FC<Props> = ({ setIsPopupOpen, type }) => {
     [setIsPopupOpen, setToastMessage, translateText, type]
   );
 
-  const onSuccessSelected = () => {
-    type === HolidayDeleteType.INDIVIDUAL
-      ? onSuccessIndividual()
-      : onSuccessMulti();
+  const onSuccessSelected = (deleteSummary?: holidayBulkDeleteResponse) => {
+    if (deleteSummary && deleteSummary.bulkStatusSummary?.failedCount > 0) {
+      onPartialSuccess(deleteSummary);
+    } else if (type === HolidayDeleteType.INDIVIDUAL) {
+      onSuccessIndividual();
+    } else {
+      onSuccessMulti();
+    }
   };
 
   const { mutate: deleteAllMutate } = useDeleteAllHolidays(
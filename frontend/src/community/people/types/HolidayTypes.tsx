@@ -140,6 +140,18 @@ export interface holidayBulkUploadResponse {
   bulkRecordErrorLogs: HolidayBulkRecordErrorLogType[];
 }
 
+export interface HolidayDeleteErrorLogType {
+  status: string;
+  errorMessage: string;
+  holidayId: number;
+}
+
+export interface holidayBulkDeleteResponse {
+  message: string;
+  bulkStatusSummary: bulkStatusSummary;
+  bulkRecordErrorLogs: HolidayDeleteErrorLogType[];
+}
+
 export type Holiday = {
   id: number;
   date: string;